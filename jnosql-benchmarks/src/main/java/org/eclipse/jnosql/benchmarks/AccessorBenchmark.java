@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.mapping.metadata.ClassConverter;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the field accessors of {@link FieldMetadata}, built on method handles, against plain
+ * {@link Field} reflection, reading and writing every attribute of entities with 5, 20 and 100 attributes, and the
+ * instantiation through {@link EntityMetadata#newInstance()} against {@link Constructor#newInstance(Object...)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessorBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int attributes;
+
+    private EntityMetadata metadata;
+
+    private FieldMetadata[] accessors;
+
+    private Field[] fields;
+
+    private Constructor<?> constructor;
+
+    private Object entity;
+
+    private String[] values;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Class<?> type = switch (attributes) {
+            case 5 -> Wide5.class;
+            case 20 -> Wide20.class;
+            case 100 -> Wide100.class;
+            default -> throw new IllegalArgumentException("There is no entity with " + attributes + " attributes");
+        };
+        metadata = ClassConverter.load().apply(type);
+        accessors = metadata.fields().toArray(FieldMetadata[]::new);
+        fields = new Field[accessors.length];
+        values = new String[accessors.length];
+        for (int index = 0; index < accessors.length; index++) {
+            fields[index] = type.getDeclaredField(accessors[index].fieldName());
+            fields[index].setAccessible(true);
+            values[index] = "value " + index;
+        }
+        constructor = type.getDeclaredConstructor();
+        entity = metadata.newInstance();
+        for (int index = 0; index < accessors.length; index++) {
+            accessors[index].write(entity, values[index]);
+        }
+    }
+
+    @Benchmark
+    public void readMetadata(Blackhole blackhole) {
+        for (FieldMetadata accessor : accessors) {
+            blackhole.consume(accessor.read(entity));
+        }
+    }
+
+    @Benchmark
+    public void readReflection(Blackhole blackhole) throws IllegalAccessException {
+        for (Field field : fields) {
+            blackhole.consume(field.get(entity));
+        }
+    }
+
+    @Benchmark
+    public Object writeMetadata() {
+        for (int index = 0; index < accessors.length; index++) {
+            accessors[index].write(entity, values[index]);
+        }
+        return entity;
+    }
+
+    @Benchmark
+    public Object writeReflection() throws IllegalAccessException {
+        for (int index = 0; index < fields.length; index++) {
+            fields[index].set(entity, values[index]);
+        }
+        return entity;
+    }
+
+    @Benchmark
+    public Object newInstanceMetadata() {
+        return metadata.newInstance();
+    }
+
+    @Benchmark
+    public Object newInstanceReflection() throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        return constructor.newInstance();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Compares two JSON results of {@link BenchmarkRunner}, usually the baseline of the last release against the
+ * current build, and exits with {@code 1} when a benchmark got slower, or allocates more per operation, beyond the
+ * tolerance. The throughput benchmarks regress when the score goes down, the others when it goes up.
+ * <pre>{@code
+ * java -cp target/benchmarks.jar org.eclipse.jnosql.benchmarks.BaselineComparison baseline.json jmh-result.json 10
+ * }</pre>
+ */
+public final class BaselineComparison {
+
+    private static final Logger LOGGER = Logger.getLogger(BaselineComparison.class.getName());
+
+    private static final double DEFAULT_TOLERANCE = 10D;
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    /**
+     * Compares the results.
+     *
+     * @param args the baseline file, the current file and, optionally, the tolerance in percent, 10 by default
+     * @throws IOException when a file can not be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: BaselineComparison <baseline.json> <current.json> [tolerance %]");
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+        Map<String, JsonObject> baseline = read(Path.of(args[0]));
+        Map<String, JsonObject> current = read(Path.of(args[1]));
+        int regressions = 0;
+        for (var entry : current.entrySet()) {
+            JsonObject previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                LOGGER.info(() -> "New benchmark, there is no baseline: " + entry.getKey());
+                continue;
+            }
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().getString("mode"));
+            if (regressed(entry.getKey(), "score", primary(previous), primary(entry.getValue()), higherIsBetter, tolerance)) {
+                regressions++;
+            }
+            Optional<Double> allocated = allocation(previous);
+            Optional<Double> allocating = allocation(entry.getValue());
+            if (allocated.isPresent() && allocating.isPresent()
+                    && regressed(entry.getKey(), "allocation", allocated.get(), allocating.get(), false, tolerance)) {
+                regressions++;
+            }
+        }
+        if (regressions > 0) {
+            LOGGER.severe("Regressions found: " + regressions);
+            System.exit(1);
+        }
+        LOGGER.info("There is no regression beyond " + tolerance + "%");
+    }
+
+    private static boolean regressed(String benchmark, String metric, double baseline, double current,
+                                     boolean higherIsBetter, double tolerance) {
+        double change = baseline == 0D ? (current == 0D ? 0D : 100D) : (current - baseline) / baseline * 100D;
+        boolean regressed = higherIsBetter ? change < -tolerance : change > tolerance;
+        String message = String.format(Locale.ROOT, "%s %s: %.3f -> %.3f (%+.1f%%)", benchmark, metric, baseline,
+                current, change);
+        if (regressed) {
+            LOGGER.warning(message);
+        } else {
+            LOGGER.info(message);
+        }
+        return regressed;
+    }
+
+    private static double primary(JsonObject result) {
+        return result.getJsonObject("primaryMetric").getJsonNumber("score").doubleValue();
+    }
+
+    private static Optional<Double> allocation(JsonObject result) {
+        return Optional.ofNullable(result.getJsonObject("secondaryMetrics"))
+                .map(metrics -> metrics.getJsonObject(ALLOCATION))
+                .map(metric -> metric.getJsonNumber("score"))
+                .map(JsonNumber::doubleValue);
+    }
+
+    private static Map<String, JsonObject> read(Path path) throws IOException {
+        Map<String, JsonObject> results = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(path); var json = Json.createReader(reader)) {
+            JsonArray array = json.readArray();
+            for (JsonValue value : array) {
+                JsonObject result = value.asJsonObject();
+                results.put(key(result), result);
+            }
+        }
+        return results;
+    }
+
+    private static String key(JsonObject result) {
+        String name = result.getString("benchmark") + ':' + result.getString("mode");
+        JsonObject params = result.getJsonObject("params");
+        if (params == null) {
+            return name;
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        params.forEach((param, value) -> sorted.put(param, ((JsonString) value).getString()));
+        return name + sorted;
+    }
+}
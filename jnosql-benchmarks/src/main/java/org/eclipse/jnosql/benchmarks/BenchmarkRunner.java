@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Runs the benchmarks with the JMH command line options, adding two defaults when they are not given: the
+ * {@link GCProfiler}, which reports the bytes allocated per operation as {@code gc.alloc.rate.norm}, and a JSON
+ * result at {@link #RESULT}, the baseline that {@link BaselineComparison} reads.
+ * <pre>{@code
+ * java -jar target/benchmarks.jar                          # every benchmark
+ * java -jar target/benchmarks.jar CursorExecutor -p sorts=3 # a subset
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * The default location of the JSON result.
+     */
+    static final String RESULT = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args the JMH command line options
+     * @throws CommandLineOptionException when an option is invalid
+     * @throws RunnerException            when a benchmark fails
+     * @throws IOException                when the help can not be written
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        var command = new CommandLineOptions(args);
+        if (command.shouldHelp()) {
+            command.showHelp();
+            return;
+        }
+        if (command.shouldList()) {
+            new Runner(command).list();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(command);
+        if (command.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!command.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!command.getResult().hasValue()) {
+            options.result(RESULT);
+        }
+        new Runner(options.build()).run();
+    }
+}
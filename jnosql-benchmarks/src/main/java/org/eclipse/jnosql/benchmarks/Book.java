@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+import java.time.LocalDate;
+
+/**
+ * The entity of the mapping benchmarks: a record, the default entity style, with string, numeric, temporal and
+ * enum attributes.
+ *
+ * @param isbn    the id
+ * @param title   the title
+ * @param author  the author
+ * @param edition the edition
+ * @param release the release date
+ * @param genre   the genre
+ */
+@Entity
+public record Book(@Id String isbn, @Column String title, @Column String author, @Column int edition,
+                   @Column LocalDate release, @Column Genre genre) {
+}
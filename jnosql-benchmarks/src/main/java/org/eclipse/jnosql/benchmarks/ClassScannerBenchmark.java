@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import jakarta.data.repository.DataRepository;
+import jakarta.data.repository.Repository;
+import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.Embeddable;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Projection;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the startup discovery of the mapped classes, cold, once per fork: the {@link ClassScanner} reading the
+ * class index that {@code jnosql-mapping-processor} writes while this module compiles, against the ClassGraph scan
+ * of the whole classpath that the scanner falls back to when there is no index.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ClassScannerBenchmark {
+
+    @Benchmark
+    public void classIndex(Blackhole blackhole) {
+        ClassScanner scanner = ClassScanner.load();
+        blackhole.consume(scanner.entities());
+        blackhole.consume(scanner.embeddables());
+        blackhole.consume(scanner.repositories());
+        blackhole.consume(scanner.customRepositories());
+        blackhole.consume(scanner.projections());
+    }
+
+    @Benchmark
+    public void classGraphScan(Blackhole blackhole) {
+        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
+            blackhole.consume(result.getClassesWithAnnotation(Entity.class).loadClasses());
+            blackhole.consume(result.getClassesWithAnnotation(Embeddable.class).loadClasses());
+            blackhole.consume(result.getClassesWithAnnotation(Repository.class).getInterfaces()
+                    .filter(type -> type.implementsInterface(DataRepository.class)).loadClasses());
+            blackhole.consume(result.getClassesWithAnnotation(Projection.class).getRecords().loadClasses());
+            blackhole.consume(result.getClassesImplementing(AttributeConverter.class).loadClasses());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how a {@link CriteriaCondition} tree is built, one {@code and} at a time as the query builders and the
+ * method-name queries do, or at once, and the cost of {@link CriteriaCondition#normalize()} on a redundant tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CriteriaConditionBenchmark {
+
+    @Param({"2", "8", "32"})
+    private int size;
+
+    private CriteriaCondition[] conditions;
+
+    private CriteriaCondition redundant;
+
+    @Setup
+    public void setUp() {
+        conditions = new CriteriaCondition[size];
+        for (int index = 0; index < size; index++) {
+            conditions[index] = CriteriaCondition.eq("field" + index, index);
+        }
+        CriteriaCondition alternatives = CriteriaCondition.eq("author", "Author 0");
+        for (int index = 1; index < size; index++) {
+            alternatives = alternatives.or(CriteriaCondition.eq("author", "Author " + index));
+        }
+        redundant = CriteriaCondition.and(CriteriaCondition.and(conditions), CriteriaCondition.and(conditions),
+                alternatives);
+    }
+
+    @Benchmark
+    public CriteriaCondition andChain() {
+        CriteriaCondition condition = conditions[0];
+        for (int index = 1; index < conditions.length; index++) {
+            condition = condition.and(conditions[index]);
+        }
+        return condition;
+    }
+
+    @Benchmark
+    public CriteriaCondition andAll() {
+        return CriteriaCondition.and(conditions);
+    }
+
+    @Benchmark
+    public CriteriaCondition normalize() {
+        return redundant.normalize();
+    }
+}
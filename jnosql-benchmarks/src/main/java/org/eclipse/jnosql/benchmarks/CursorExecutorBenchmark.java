@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CursorToken;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cursor pagination of {@link DatabaseManager#selectCursor(SelectQuery, PageRequest)}: the first page,
+ * the page after a cursor, which adds the keyset predicate, and the round trip of the cursor as a
+ * {@link CursorToken}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CursorExecutorBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "3"})
+    private int sorts;
+
+    private DatabaseManager manager;
+
+    private SelectQuery query;
+
+    private PageRequest next;
+
+    @Setup
+    public void setUp() {
+        manager = Fixtures.databaseManager();
+        query = sorts == 1
+                ? SelectQuery.select().from("Book").orderBy("_id").asc().build()
+                : SelectQuery.select().from("Book").orderBy("author").asc().orderBy("edition").desc()
+                .orderBy("_id").asc().build();
+        next = manager.selectCursor(query, PageRequest.ofSize(PAGE_SIZE)).nextPageRequest();
+    }
+
+    @Benchmark
+    public CursoredPage<CommunicationEntity> firstPage() {
+        return manager.selectCursor(query, PageRequest.ofSize(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public CursoredPage<CommunicationEntity> nextPage() {
+        return manager.selectCursor(query, next);
+    }
+
+    @Benchmark
+    public PageRequest.Cursor tokenRoundTrip() {
+        return CursorToken.decode(CursorToken.encode(next.cursor().orElseThrow()));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.memory.MemoryDatabaseConfiguration;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The data shared by the benchmarks, generated from an index so every run reads the same rows.
+ */
+final class Fixtures {
+
+    /**
+     * The number of rows loaded in the in-memory managers.
+     */
+    static final int ROWS = 1_000;
+
+    /**
+     * The number of distinct authors among the rows.
+     */
+    static final int AUTHORS = 50;
+
+    private static final LocalDate EPOCH = LocalDate.of(2000, 1, 1);
+
+    private Fixtures() {
+    }
+
+    static Book book(int index) {
+        return new Book(isbn(index), "Title " + index, author(index), edition(index), EPOCH.plusDays(index),
+                genre(index));
+    }
+
+    static List<Book> books() {
+        return IntStream.range(0, ROWS).mapToObj(Fixtures::book).toList();
+    }
+
+    static CommunicationEntity entity(int index) {
+        return CommunicationEntity.of("Book", List.of(
+                Element.of("_id", isbn(index)),
+                Element.of("title", "Title " + index),
+                Element.of("author", author(index)),
+                Element.of("edition", edition(index)),
+                Element.of("release", EPOCH.plusDays(index)),
+                Element.of("genre", genre(index).name())));
+    }
+
+    static DatabaseManager databaseManager() {
+        DatabaseManager manager = new MemoryDatabaseConfiguration().apply(Settings.builder().build()).apply("benchmarks");
+        manager.insert(IntStream.range(0, ROWS).mapToObj(Fixtures::entity).toList());
+        return manager;
+    }
+
+    static String isbn(int index) {
+        return "isbn-" + index;
+    }
+
+    static String author(int index) {
+        return "Author " + index % AUTHORS;
+    }
+
+    private static int edition(int index) {
+        return index % 5 + 1;
+    }
+
+    private static Genre genre(int index) {
+        return Genre.values()[index % Genre.values().length];
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Produces;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.memory.MemoryDatabaseConfiguration;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.mapping.Database;
+import org.eclipse.jnosql.mapping.DatabaseType;
+
+/**
+ * Replaces the managers that the mapping reads from the configuration with the in-memory ones, thus the templates
+ * and repositories of the benchmarks share a single {@link org.eclipse.jnosql.communication.memory.MemoryDatabaseManager}
+ * and {@link InMemoryBucketManager}.
+ */
+@ApplicationScoped
+@Alternative
+@Priority(Interceptor.Priority.APPLICATION)
+public class InMemoryProducer {
+
+    private final DatabaseManager databaseManager = new MemoryDatabaseConfiguration().apply(Settings.builder().build())
+            .apply("benchmarks");
+
+    private final BucketManager bucketManager = new InMemoryBucketManager();
+
+    @Produces
+    @Database(DatabaseType.DOCUMENT)
+    DatabaseManager databaseManager() {
+        return databaseManager;
+    }
+
+    @Produces
+    BucketManager bucketManager() {
+        return bucketManager;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link KeyValueTemplate} reading and writing entities through the in-memory bucket.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyValueTemplateBenchmark {
+
+    private static final int KEYS = 10;
+
+    private SeContainer container;
+
+    private KeyValueTemplate template;
+
+    private Book book;
+
+    private List<String> keys;
+
+    @Setup
+    public void setUp() {
+        container = SeContainerInitializer.newInstance().initialize();
+        template = container.select(KeyValueTemplate.class).get();
+        template.put(Fixtures.books());
+        book = Fixtures.book(42);
+        keys = IntStream.range(0, KEYS).mapToObj(Fixtures::isbn).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Book put() {
+        return template.put(book);
+    }
+
+    @Benchmark
+    public Optional<Book> get() {
+        return template.get(book.isbn(), Book.class);
+    }
+
+    @Benchmark
+    public Iterable<Book> getAll() {
+        return template.get(keys, Book.class);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.Param;
+import jakarta.data.repository.Query;
+import jakarta.data.repository.Repository;
+
+import java.util.List;
+
+/**
+ * The repository of the proxy dispatch benchmarks, with one method of each kind: built-in, query by method name
+ * and {@link Query}.
+ */
+@Repository
+public interface Library extends BasicRepository<Book, String> {
+
+    List<Book> findByAuthor(String author);
+
+    @Query("FROM Book WHERE edition = :edition AND genre = :genre")
+    List<Book> editions(@Param("edition") int edition, @Param("genre") Genre genre);
+}
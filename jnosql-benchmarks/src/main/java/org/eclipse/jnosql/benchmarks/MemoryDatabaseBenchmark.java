@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.memory.MemoryConfigurations;
+import org.eclipse.jnosql.communication.memory.MemoryDatabaseConfiguration;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the queries of the in-memory database with and without the secondary indexes: an equality answered by a
+ * hash index, a range answered by a sorted index, and both combined with {@code AND}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoryDatabaseBenchmark {
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private DatabaseManager manager;
+
+    private SelectQuery equality;
+
+    private SelectQuery range;
+
+    private SelectQuery combined;
+
+    @Setup
+    public void setUp() {
+        var settings = Settings.builder();
+        if (indexed) {
+            settings.put(MemoryConfigurations.HASH_INDEX, "Book.author")
+                    .put(MemoryConfigurations.SORTED_INDEX, "Book.release");
+        }
+        manager = new MemoryDatabaseConfiguration().apply(settings.build()).apply("benchmarks");
+        manager.insert(IntStream.range(0, Fixtures.ROWS).mapToObj(Fixtures::entity).toList());
+        var releases = CriteriaCondition.between("release", List.of(LocalDate.of(2000, 2, 1), LocalDate.of(2000, 2, 10)));
+        equality = SelectQuery.builder().from("Book").where(CriteriaCondition.eq("author", Fixtures.author(7))).build();
+        range = SelectQuery.builder().from("Book").where(releases).build();
+        combined = SelectQuery.builder().from("Book")
+                .where(CriteriaCondition.and(CriteriaCondition.eq("author", Fixtures.author(7)), releases)).build();
+    }
+
+    @Benchmark
+    public List<CommunicationEntity> equality() {
+        return manager.select(equality).toList();
+    }
+
+    @Benchmark
+    public List<CommunicationEntity> range() {
+        return manager.select(range).toList();
+    }
+
+    @Benchmark
+    public List<CommunicationEntity> combined() {
+        return manager.select(combined).toList();
+    }
+}
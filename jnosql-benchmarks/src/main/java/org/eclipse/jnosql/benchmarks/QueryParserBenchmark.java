@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.query.data.SelectParser;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CommunicationObserverParser;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.PreparedQuery;
+import org.eclipse.jnosql.communication.semistructured.QueryParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JDQL path: the ANTLR parse of {@link SelectParser}, the cached lookup of {@link SelectProvider}, the
+ * {@link QueryParser} prepare and the bind and execution of a prepared statement on the in-memory manager.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryParserBenchmark {
+
+    private static final String QUERY = "FROM Book WHERE edition = 2 AND author = 'Author 7' ORDER BY title ASC";
+
+    private static final String PARAMETER_QUERY = "FROM Book WHERE edition = :edition AND author = :author ORDER BY title ASC";
+
+    private final QueryParser parser = new QueryParser();
+
+    private DatabaseManager manager;
+
+    private PreparedQuery prepared;
+
+    @Setup
+    public void setUp() {
+        manager = Fixtures.databaseManager();
+        prepared = parser.prepare(PARAMETER_QUERY, null, CommunicationObserverParser.EMPTY);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return new SelectParser().apply(QUERY, null);
+    }
+
+    @Benchmark
+    public Object cachedSelect() {
+        return SelectProvider.INSTANCE.apply(QUERY, null);
+    }
+
+    @Benchmark
+    public PreparedQuery prepare() {
+        return parser.prepare(PARAMETER_QUERY, null, CommunicationObserverParser.EMPTY);
+    }
+
+    @Benchmark
+    public List<CommunicationEntity> query() {
+        return parser.query(QUERY, null, manager, CommunicationObserverParser.EMPTY).toList();
+    }
+
+    @Benchmark
+    public List<CommunicationEntity> preparedStatement() {
+        return prepared.statement(manager)
+                .bind("edition", 2)
+                .bind("author", "Author 7")
+                .result()
+                .toList();
+    }
+}
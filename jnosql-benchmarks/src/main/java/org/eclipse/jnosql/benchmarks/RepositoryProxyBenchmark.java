@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import org.eclipse.jnosql.mapping.DatabaseQualifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a call through the repository proxy, from the dispatch of
+ * {@code AbstractRepositoryInvocationHandler} down to the in-memory manager, for a built-in method, a query by
+ * method name and a {@code @Query} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryProxyBenchmark {
+
+    private SeContainer container;
+
+    private Library library;
+
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        container = SeContainerInitializer.newInstance().initialize();
+        library = container.select(Library.class, DatabaseQualifier.ofDocument()).get();
+        library.saveAll(Fixtures.books());
+        book = Fixtures.book(42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Optional<Book> findById() {
+        return library.findById(book.isbn());
+    }
+
+    @Benchmark
+    public List<Book> findByAuthor() {
+        return library.findByAuthor(book.author());
+    }
+
+    @Benchmark
+    public List<Book> query() {
+        return library.editions(book.edition(), book.genre());
+    }
+
+    @Benchmark
+    public Book save() {
+        return library.save(book);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueReaderDecorator;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the value conversions of every read and write: {@link ValueReaderDecorator} reading a type from its
+ * stored form and {@link ValueUtil#convertToList(Value)} writing a list that mixes temporal, enum, optional and
+ * nested values, which goes through a different writer for each element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueBenchmark {
+
+    private final ValueReaderDecorator reader = ValueReaderDecorator.getInstance();
+
+    @Param({"10", "100"})
+    private int size;
+
+    private Value mixed;
+
+    @Setup
+    public void setUp() {
+        List<Object> values = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            values.add(switch (index % 6) {
+                case 0 -> LocalDate.of(2026, 1, 1).plusDays(index);
+                case 1 -> Instant.ofEpochSecond(index);
+                case 2 -> Genre.values()[index % Genre.values().length];
+                case 3 -> Optional.of("value " + index);
+                case 4 -> Value.of(index);
+                default -> "text " + index;
+            });
+        }
+        mixed = Value.of(values);
+    }
+
+    @Benchmark
+    public Integer readInteger() {
+        return reader.read(Integer.class, "42");
+    }
+
+    @Benchmark
+    public BigDecimal readBigDecimal() {
+        return reader.read(BigDecimal.class, 42.5D);
+    }
+
+    @Benchmark
+    public LocalDate readLocalDate() {
+        return reader.read(LocalDate.class, "2026-01-01");
+    }
+
+    @Benchmark
+    public Genre readEnum() {
+        return reader.read(Genre.class, "POETRY");
+    }
+
+    @Benchmark
+    public List<Object> convertToList() {
+        return ValueUtil.convertToList(mixed);
+    }
+}
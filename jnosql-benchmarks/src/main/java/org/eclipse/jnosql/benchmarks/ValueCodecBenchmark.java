@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueCodec;
+import org.eclipse.jnosql.mapping.keyvalue.KeyValueEntityConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link KeyValueCodec} binary value of an entity with its JSON-B document, the form that most bucket
+ * drivers store: {@link KeyValueEntityConverter} encoding and decoding {@link EncodedBook} against {@link Jsonb}
+ * writing and reading the same attributes as UTF-8 bytes. The decoding reads a heap buffer as well, the value that a
+ * driver hands over without copying it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueCodecBenchmark {
+
+    private SeContainer container;
+
+    private KeyValueEntityConverter converter;
+
+    private Jsonb jsonb;
+
+    private Book book;
+
+    private EncodedBook encoded;
+
+    private KeyValueEntity binary;
+
+    private KeyValueEntity buffer;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        container = SeContainerInitializer.newInstance().initialize();
+        converter = container.select(KeyValueEntityConverter.class).get();
+        jsonb = JsonbBuilder.create();
+        book = Fixtures.book(42);
+        encoded = EncodedBook.of(book);
+        binary = converter.toKeyValue(encoded);
+        buffer = KeyValueEntity.of(binary.key(), ByteBuffer.wrap((byte[]) binary.value()));
+        json = jsonb.toJson(book).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+        container.close();
+    }
+
+    @Benchmark
+    public Object encodeBinary() {
+        return converter.toKeyValue(encoded).value();
+    }
+
+    @Benchmark
+    public EncodedBook decodeBinary() {
+        return converter.toEntity(EncodedBook.class, binary);
+    }
+
+    @Benchmark
+    public EncodedBook decodeBuffer() {
+        return converter.toEntity(EncodedBook.class, buffer);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return jsonb.toJson(book).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Book decodeJson() {
+        return jsonb.fromJson(new String(json, StandardCharsets.UTF_8), Book.class);
+    }
+}
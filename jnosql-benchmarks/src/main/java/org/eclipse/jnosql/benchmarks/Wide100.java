@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+/**
+ * An entity with 100 attributes, used to measure the field accessors as the entity grows.
+ */
+@Entity
+@SuppressWarnings("unused")
+public class Wide100 {
+
+    @Id
+    private String id;
+
+    @Column
+    private String field1;
+
+    @Column
+    private String field2;
+
+    @Column
+    private String field3;
+
+    @Column
+    private String field4;
+
+    @Column
+    private String field5;
+
+    @Column
+    private String field6;
+
+    @Column
+    private String field7;
+
+    @Column
+    private String field8;
+
+    @Column
+    private String field9;
+
+    @Column
+    private String field10;
+
+    @Column
+    private String field11;
+
+    @Column
+    private String field12;
+
+    @Column
+    private String field13;
+
+    @Column
+    private String field14;
+
+    @Column
+    private String field15;
+
+    @Column
+    private String field16;
+
+    @Column
+    private String field17;
+
+    @Column
+    private String field18;
+
+    @Column
+    private String field19;
+
+    @Column
+    private String field20;
+
+    @Column
+    private String field21;
+
+    @Column
+    private String field22;
+
+    @Column
+    private String field23;
+
+    @Column
+    private String field24;
+
+    @Column
+    private String field25;
+
+    @Column
+    private String field26;
+
+    @Column
+    private String field27;
+
+    @Column
+    private String field28;
+
+    @Column
+    private String field29;
+
+    @Column
+    private String field30;
+
+    @Column
+    private String field31;
+
+    @Column
+    private String field32;
+
+    @Column
+    private String field33;
+
+    @Column
+    private String field34;
+
+    @Column
+    private String field35;
+
+    @Column
+    private String field36;
+
+    @Column
+    private String field37;
+
+    @Column
+    private String field38;
+
+    @Column
+    private String field39;
+
+    @Column
+    private String field40;
+
+    @Column
+    private String field41;
+
+    @Column
+    private String field42;
+
+    @Column
+    private String field43;
+
+    @Column
+    private String field44;
+
+    @Column
+    private String field45;
+
+    @Column
+    private String field46;
+
+    @Column
+    private String field47;
+
+    @Column
+    private String field48;
+
+    @Column
+    private String field49;
+
+    @Column
+    private String field50;
+
+    @Column
+    private String field51;
+
+    @Column
+    private String field52;
+
+    @Column
+    private String field53;
+
+    @Column
+    private String field54;
+
+    @Column
+    private String field55;
+
+    @Column
+    private String field56;
+
+    @Column
+    private String field57;
+
+    @Column
+    private String field58;
+
+    @Column
+    private String field59;
+
+    @Column
+    private String field60;
+
+    @Column
+    private String field61;
+
+    @Column
+    private String field62;
+
+    @Column
+    private String field63;
+
+    @Column
+    private String field64;
+
+    @Column
+    private String field65;
+
+    @Column
+    private String field66;
+
+    @Column
+    private String field67;
+
+    @Column
+    private String field68;
+
+    @Column
+    private String field69;
+
+    @Column
+    private String field70;
+
+    @Column
+    private String field71;
+
+    @Column
+    private String field72;
+
+    @Column
+    private String field73;
+
+    @Column
+    private String field74;
+
+    @Column
+    private String field75;
+
+    @Column
+    private String field76;
+
+    @Column
+    private String field77;
+
+    @Column
+    private String field78;
+
+    @Column
+    private String field79;
+
+    @Column
+    private String field80;
+
+    @Column
+    private String field81;
+
+    @Column
+    private String field82;
+
+    @Column
+    private String field83;
+
+    @Column
+    private String field84;
+
+    @Column
+    private String field85;
+
+    @Column
+    private String field86;
+
+    @Column
+    private String field87;
+
+    @Column
+    private String field88;
+
+    @Column
+    private String field89;
+
+    @Column
+    private String field90;
+
+    @Column
+    private String field91;
+
+    @Column
+    private String field92;
+
+    @Column
+    private String field93;
+
+    @Column
+    private String field94;
+
+    @Column
+    private String field95;
+
+    @Column
+    private String field96;
+
+    @Column
+    private String field97;
+
+    @Column
+    private String field98;
+
+    @Column
+    private String field99;
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.benchmarks;
+
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+
+/**
+ * An entity with 5 attributes, used to measure the field accessors as the entity grows.
+ */
+@Entity
+@SuppressWarnings("unused")
+public class Wide5 {
+
+    @Id
+    private String id;
+
+    @Column
+    private String field1;
+
+    @Column
+    private String field2;
+
+    @Column
+    private String field3;
+
+    @Column
+    private String field4;
+}
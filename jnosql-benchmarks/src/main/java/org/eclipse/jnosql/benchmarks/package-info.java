@@ -0,0 +1,20 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+/**
+ * The JMH benchmarks of the communication and mapping hot paths. They run against the jnosql-communication-memory
+ * database and the in-memory bucket of this package, so they measure JNoSQL instead of a driver; see
+ * {@link org.eclipse.jnosql.benchmarks.BenchmarkRunner}.
+ */
+package org.eclipse.jnosql.benchmarks;
@@ -0,0 +1,69 @@
+/*
+ *
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * An optional extension of a manager, such as the {@code DatabaseManager} or the {@code BucketManager}, whose driver
+ * has its own asynchronous execution, for example, the event loop or the thread pool of its client.
+ * The asynchronous operations, such as the repository methods that return a {@link CompletionStage}, run on
+ * {@link #executor()}. When a manager does not implement this interface, they run on virtual threads instead,
+ * see {@link #executor(Object)}.
+ */
+public interface AsyncManager {
+
+    /**
+     * Returns the executor that runs the operations of this manager asynchronously.
+     *
+     * @return the executor
+     */
+    Executor executor();
+
+    /**
+     * Runs the operation asynchronously on {@link #executor()}.
+     *
+     * @param operation the blocking operation
+     * @param <T>       the result type
+     * @return the stage completed with the operation result or its failure
+     * @throws NullPointerException when the operation is null
+     */
+    default <T> CompletionStage<T> supplyAsync(Supplier<T> operation) {
+        Objects.requireNonNull(operation, "operation is required");
+        return CompletableFuture.supplyAsync(operation, executor());
+    }
+
+    /**
+     * Returns the executor of the manager when it is an {@link AsyncManager}; otherwise, an executor that starts a
+     * virtual thread per task, thus a blocking driver call does not hold a platform thread.
+     *
+     * @param manager the manager
+     * @return the executor
+     */
+    static Executor executor(Object manager) {
+        if (manager instanceof AsyncManager asyncManager) {
+            return asyncManager.executor();
+        }
+        return VirtualThreadExecutor.INSTANCE;
+    }
+
+}
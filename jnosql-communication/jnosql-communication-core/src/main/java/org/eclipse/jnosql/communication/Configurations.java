@@ -77,7 +77,22 @@ public enum Configurations implements Supplier<String> {
      * explicitly manage multi-field sorting during cursor-based pagination.</p>
      * <p>To enable, set: <code>org.eclipse.jnosql.pagination.cursor=true</code></p>
      */
-    CURSOR_PAGINATION_MULTIPLE_SORTING("org.eclipse.jnosql.pagination.cursor");
+    CURSOR_PAGINATION_MULTIPLE_SORTING("org.eclipse.jnosql.pagination.cursor"),
+
+    /**
+     * Configuration for the maximum number of entities sent to the database in a single call on bulk operations.
+     * <p>This property sizes the chunks of the operations that work on many entities at once, such as the Iterable
+     * insert, update and delete of the templates and the default update by query of a semistructured database.
+     * The templates read it through MicroProfile Config, while the update by query, which runs below the mapping
+     * layer, reads it from the system properties. By default, it is {@value #DEFAULT_BATCH_SIZE}.</p>
+     * <p>Example: <code>jnosql.batch.size=500</code></p>
+     */
+    BATCH_SIZE("jnosql.batch.size");
+
+    /**
+     * The number of entities sent to the database in a single call when {@link #BATCH_SIZE} is not defined.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
 
     private final String configuration;
 
@@ -31,6 +31,22 @@ public final class ParamValue implements Value {
         this.value = value;
     }
 
+    /**
+     * Creates a parameter already bound to the value, used when a query template is bound to its arguments
+     * without changing the parameters of the template.
+     *
+     * @param name  the parameter name
+     * @param value the value, null when the parameter is not bound yet
+     * @return a new {@link ParamValue}
+     * @throws NullPointerException when the name is null
+     */
+    public static ParamValue of(String name, Object value) {
+        Objects.requireNonNull(name, "name is required");
+        ParamValue param = new ParamValue(name);
+        param.setValue(value);
+        return param;
+    }
+
     @Override
     public Object get() {
         validValue();
@@ -17,9 +17,13 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Decorators of all {@link TypeReferenceReader}
@@ -32,6 +36,8 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    private final Map<Type, Optional<TypeReferenceReader>> cache = new ConcurrentHashMap<>();
+
     {
         readers.addAll(ServiceLoader.load(TypeReferenceReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -49,17 +55,25 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public boolean test(TypeSupplier type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return getReader(type).isPresent();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.test(typeReference)).findFirst().
-                orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
+        TypeReferenceReader valueReader = getReader(typeReference)
+                .orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
         return valueReader.convert(typeReference, value);
     }
 
+    private Optional<TypeReferenceReader> getReader(TypeSupplier<?> typeReference) {
+        Type type = typeReference.get();
+        if (type == null) {
+            return readers.stream().filter(r -> r.test(typeReference)).findFirst();
+        }
+        return cache.computeIfAbsent(type, t -> readers.stream().filter(r -> r.test(typeReference)).findFirst());
+    }
+
     @Override
     public String toString() {
         return "TypeReferenceReaderDecorator{" + "readers=" + readers +
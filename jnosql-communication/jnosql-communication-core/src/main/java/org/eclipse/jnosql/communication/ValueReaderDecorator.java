@@ -32,7 +32,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class ValueReaderDecorator implements ValueReader {
 
     private static final ValueReaderDecorator INSTANCE = new ValueReaderDecorator();
-    private final Map<Class<?>, ValueReader> cache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<ValueReader>> cache = new ConcurrentHashMap<>();
 
     private final List<ValueReader> readers = new ArrayList<>();
 
@@ -53,7 +53,7 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return getReader(type).isPresent();
     }
 
     @Override
@@ -68,9 +68,7 @@ public final class ValueReaderDecorator implements ValueReader {
     }
 
     private Optional<ValueReader> getReader(Class<?> type) {
-        return Optional.ofNullable(cache.computeIfAbsent(type, t ->
-                readers.stream().filter(r -> r.test(t)).findFirst().orElse(null)
-        ));
+        return cache.computeIfAbsent(type, t -> readers.stream().filter(r -> r.test(t)).findFirst());
     }
 
 
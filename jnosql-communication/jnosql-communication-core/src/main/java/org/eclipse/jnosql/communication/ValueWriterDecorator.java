@@ -20,7 +20,10 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Decorators of all {@link ValueWriter} supported by Diana
@@ -35,6 +38,8 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     private final List<ValueWriter> writers = new ArrayList<>();
 
+    private final Map<Class<?>, Optional<ValueWriter>> cache = new ConcurrentHashMap<>();
+
     {
         ServiceLoader.load(ValueWriter.class).forEach(writers::add);
     }
@@ -53,17 +58,21 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     @Override
     public boolean test(Class<?> type) {
-        return writers.stream().anyMatch(writerField -> writerField.test(type));
+        return getWriter(type).isPresent();
     }
 
     @Override
     public Object write(Object object) {
         Class<?> type = object.getClass();
-        ValueWriter valueWriter = writers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
+        ValueWriter valueWriter = getWriter(type).orElseThrow(
                 () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
         return valueWriter.write(object);
     }
 
+    private Optional<ValueWriter> getWriter(Class<?> type) {
+        return cache.computeIfAbsent(type, t -> writers.stream().filter(w -> w.test(t)).findFirst());
+    }
+
     @Override
     public String toString() {
         return "ValueWriterDecorator{" + "writers=" + writers +
@@ -0,0 +1,33 @@
+/*
+ *
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+
+import java.util.concurrent.Executor;
+
+/**
+ * Starts a new virtual thread for each task, the fallback executor of {@link AsyncManager#executor(Object)}.
+ */
+enum VirtualThreadExecutor implements Executor {
+
+    INSTANCE;
+
+    @Override
+    public void execute(Runnable command) {
+        Thread.startVirtualThread(command);
+    }
+}
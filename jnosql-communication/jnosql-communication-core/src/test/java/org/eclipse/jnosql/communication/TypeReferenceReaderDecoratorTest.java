@@ -20,10 +20,40 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TypeReferenceReaderDecoratorTest {
 
+    private final TypeReferenceReaderDecorator reader = TypeReferenceReaderDecorator.getInstance();
+
+    @Test
+    @DisplayName("Should convert with the cached reader on repeated calls")
+    void shouldConvertOnRepeatedCalls() {
+        List<Integer> first = reader.convert(new TypeReference<List<Integer>>() {
+        }, List.of("1", "2"));
+        List<Integer> second = reader.convert(new TypeReference<List<Integer>>() {
+        }, List.of("3"));
+
+        assertThat(first).containsExactly(1, 2);
+        assertThat(second).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("Should keep rejecting a type without reader")
+    void shouldRejectUnsupportedTypeOnRepeatedCalls() {
+        TypeReference<Optional<List<String>>> type = new TypeReference<>() {
+        };
+
+        assertThat(reader.test(type)).isFalse();
+        assertThat(reader.test(type)).isFalse();
+        assertThatThrownBy(() -> reader.convert(type, "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Nested
     @DisplayName("When the decorator is described")
     class WhenTheDecoratorIsDescribed {
@@ -71,6 +71,16 @@ class ValueWriterDecoratorTest {
                 .hasMessage("The type class java.util.Collections$EmptyList is not supported yet");
     }
 
+    @Test
+    @DisplayName("Should keep the same answer when the type is checked again")
+    @SuppressWarnings("unchecked")
+    void shouldReturnSameResultOnRepeatedCalls() {
+        assertThat(valueWriter.test(Boolean.class)).isFalse();
+        assertThat(valueWriter.test(Boolean.class)).isFalse();
+        assertThat(valueWriter.write(Optional.of("diana"))).isEqualTo("diana");
+        assertThat(valueWriter.write(Optional.of("jnosql"))).isEqualTo("jnosql");
+    }
+
     @Test
     void shouldTestToString() {
         assertThat(valueWriter.toString()).isNotNull().isNotEmpty();
@@ -16,5 +16,6 @@ module org.eclipse.jnosql.communication.key.value {
     requires jakarta.data;
     opens org.eclipse.jnosql.communication.keyvalue;
     uses org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
+    uses org.eclipse.jnosql.communication.keyvalue.ValueCodecProvider;
 
 }
\ No newline at end of file
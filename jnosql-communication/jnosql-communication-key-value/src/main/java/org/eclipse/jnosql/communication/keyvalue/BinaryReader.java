@@ -0,0 +1,285 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Reads the binary format written by {@link BinaryWriter} straight from a {@link ByteBuffer}, heap or direct.
+ * It never copies the source: the texts are decoded from the buffer, and {@link #readSlice()} and
+ * {@link #readNested()} return views over it. Only {@link #readBytes()} copies, since it returns an array.
+ * A malformed or truncated input is reported as a {@link CommunicationException}. It is not thread-safe.
+ *
+ * @see ValueCodec
+ */
+public final class BinaryReader {
+
+    private final ByteBuffer buffer;
+
+    private BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Checks whether there are bytes left to read.
+     *
+     * @return {@code true} when there is something left
+     */
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Returns the number of bytes left to read.
+     *
+     * @return the remaining bytes
+     */
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Reads a field tag; use {@link WireType#fieldId(int)} and {@link WireType#of(int)} to split it.
+     *
+     * @return the tag
+     */
+    public int readTag() {
+        return readVarInt();
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return the byte, from 0 to 255
+     */
+    public int readByte() {
+        try {
+            return buffer.get() & 0xFF;
+        } catch (BufferUnderflowException exception) {
+            throw truncated(exception);
+        }
+    }
+
+    /**
+     * Reads an unsigned varint as an int.
+     *
+     * @return the value
+     */
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    /**
+     * Reads an unsigned varint as a long.
+     *
+     * @return the value
+     */
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int current = readByte();
+            result |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new CommunicationException("The varint is longer than ten bytes at the position " + buffer.position());
+    }
+
+    /**
+     * Reads a zig-zag varint.
+     *
+     * @return the signed value
+     */
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads four bytes in little-endian order.
+     *
+     * @return the value
+     */
+    public int readFixed32() {
+        return readByte() | readByte() << 8 | readByte() << 16 | readByte() << 24;
+    }
+
+    /**
+     * Reads eight bytes in little-endian order.
+     *
+     * @return the value
+     */
+    public long readFixed64() {
+        return (readFixed32() & 0xFFFFFFFFL) | ((long) readFixed32() << 32);
+    }
+
+    /**
+     * Reads a float.
+     *
+     * @return the value
+     */
+    public float readFloat() {
+        return Float.intBitsToFloat(readFixed32());
+    }
+
+    /**
+     * Reads a double.
+     *
+     * @return the value
+     */
+    public double readDouble() {
+        return Double.longBitsToDouble(readFixed64());
+    }
+
+    /**
+     * Reads a UTF-8 text, decoded from the buffer itself.
+     *
+     * @return the text
+     */
+    public String readString() {
+        int length = readLength();
+        if (buffer.hasArray()) {
+            int position = buffer.position();
+            String value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+            buffer.position(position + length);
+            return value;
+        }
+        return StandardCharsets.UTF_8.decode(readView(length)).toString();
+    }
+
+    /**
+     * Reads length-delimited bytes into a new array.
+     *
+     * @return the bytes
+     */
+    public byte[] readBytes() {
+        byte[] value = new byte[readLength()];
+        buffer.get(value);
+        return value;
+    }
+
+    /**
+     * Reads length-delimited bytes as a read-only view over the source.
+     *
+     * @return the view
+     */
+    public ByteBuffer readSlice() {
+        return readView(readLength()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Reads the next bytes, without a length before them, as a read-only view over the source.
+     *
+     * @param length the number of bytes
+     * @return the view
+     * @throws CommunicationException when there are not enough bytes
+     */
+    public ByteBuffer readSlice(int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw truncated(null);
+        }
+        return readView(length).asReadOnlyBuffer();
+    }
+
+    /**
+     * Reads a nested value, returning a reader over its bytes.
+     *
+     * @return the reader of the nested value
+     */
+    public BinaryReader readNested() {
+        return new BinaryReader(readView(readLength()));
+    }
+
+    /**
+     * Skips the value of a field, used for the fields that the reader does not know.
+     *
+     * @param wireType the wire type of the field
+     * @throws NullPointerException when the wire type is null
+     */
+    public void skip(WireType wireType) {
+        Objects.requireNonNull(wireType, "wireType is required");
+        switch (wireType) {
+            case VARINT -> readVarLong();
+            case FIXED64 -> advance(Long.BYTES);
+            case FIXED32 -> advance(Integer.BYTES);
+            case LENGTH_DELIMITED -> advance(readLength());
+        }
+    }
+
+    private int readLength() {
+        int length = readVarInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new CommunicationException("The length " + length + " at the position " + buffer.position()
+                    + " is beyond the " + buffer.remaining() + " remaining bytes");
+        }
+        return length;
+    }
+
+    private ByteBuffer readView(int length) {
+        int position = buffer.position();
+        ByteBuffer view = buffer.slice(position, length);
+        buffer.position(position + length);
+        return view;
+    }
+
+    private void advance(int length) {
+        if (length > buffer.remaining()) {
+            throw truncated(null);
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    private CommunicationException truncated(Throwable cause) {
+        return new CommunicationException("The binary value is truncated at the position " + buffer.position(), cause);
+    }
+
+    /**
+     * Creates a reader over the remaining bytes of the buffer; the position of the given buffer does not change.
+     *
+     * @param buffer the buffer, heap or direct
+     * @return the reader
+     * @throws NullPointerException when the buffer is null
+     */
+    public static BinaryReader of(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is required");
+        return new BinaryReader(buffer.slice());
+    }
+
+    /**
+     * Creates a reader over the bytes.
+     *
+     * @param value the bytes
+     * @return the reader
+     * @throws NullPointerException when the value is null
+     */
+    public static BinaryReader of(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        return new BinaryReader(ByteBuffer.wrap(value));
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryReader{" +
+                "position=" + buffer.position() +
+                ", remaining=" + buffer.remaining() +
+                '}';
+    }
+}
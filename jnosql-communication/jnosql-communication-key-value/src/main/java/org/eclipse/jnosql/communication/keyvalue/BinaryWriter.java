@@ -0,0 +1,303 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Writes the compact binary format read by {@link BinaryReader}: unsigned varints, zig-zag varints for the signed
+ * values, little-endian fixed numbers, and length-delimited texts, bytes and nested values.
+ * Each field starts with a tag made of its id and its {@link WireType}. It is not thread-safe.
+ *
+ * @see ValueCodec
+ */
+public final class BinaryWriter {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private byte[] buffer;
+
+    private int size;
+
+    /**
+     * Creates a writer with the default initial capacity.
+     */
+    public BinaryWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param capacity the initial capacity in bytes
+     * @throws IllegalArgumentException when the capacity is negative
+     */
+    public BinaryWriter(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+        }
+        this.buffer = new byte[capacity];
+    }
+
+    /**
+     * Writes the tag of a field.
+     *
+     * @param fieldId  the field id, greater than zero
+     * @param wireType the wire type of the value that follows
+     * @return this writer
+     * @throws NullPointerException when the wire type is null
+     */
+    public BinaryWriter writeTag(int fieldId, WireType wireType) {
+        Objects.requireNonNull(wireType, "wireType is required");
+        return writeVarInt(wireType.tag(fieldId));
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value the byte, only the lower eight bits are written
+     * @return this writer
+     */
+    public BinaryWriter writeByte(int value) {
+        ensure(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Writes an int as an unsigned varint; a negative value takes five bytes.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public BinaryWriter writeVarInt(int value) {
+        ensure(5);
+        int current = value;
+        while ((current & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((current & 0x7F) | 0x80);
+            current >>>= 7;
+        }
+        buffer[size++] = (byte) current;
+        return this;
+    }
+
+    /**
+     * Writes a long as an unsigned varint; a negative value takes ten bytes.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public BinaryWriter writeVarLong(long value) {
+        ensure(10);
+        long current = value;
+        while ((current & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((current & 0x7F) | 0x80);
+            current >>>= 7;
+        }
+        buffer[size++] = (byte) current;
+        return this;
+    }
+
+    /**
+     * Writes a signed long as a zig-zag varint, thus the small negative values take few bytes as well.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public BinaryWriter writeSignedVarLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes four bytes in little-endian order.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public BinaryWriter writeFixed32(int value) {
+        ensure(4);
+        buffer[size++] = (byte) value;
+        buffer[size++] = (byte) (value >>> 8);
+        buffer[size++] = (byte) (value >>> 16);
+        buffer[size++] = (byte) (value >>> 24);
+        return this;
+    }
+
+    /**
+     * Writes eight bytes in little-endian order.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public BinaryWriter writeFixed64(long value) {
+        writeFixed32((int) value);
+        return writeFixed32((int) (value >>> 32));
+    }
+
+    /**
+     * Writes a float as four bytes.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public BinaryWriter writeFloat(float value) {
+        return writeFixed32(Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Writes a double as eight bytes.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public BinaryWriter writeDouble(double value) {
+        return writeFixed64(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Writes a text as its UTF-8 length followed by its UTF-8 bytes.
+     *
+     * @param value the text
+     * @return this writer
+     * @throws NullPointerException when the value is null
+     */
+    public BinaryWriter writeString(String value) {
+        Objects.requireNonNull(value, "value is required");
+        int length = value.length();
+        for (int index = 0; index < length; index++) {
+            if (value.charAt(index) >= 0x80) {
+                return writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        writeVarInt(length);
+        ensure(length);
+        for (int index = 0; index < length; index++) {
+            buffer[size++] = (byte) value.charAt(index);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the bytes as their length followed by them.
+     *
+     * @param value the bytes
+     * @return this writer
+     * @throws NullPointerException when the value is null
+     */
+    public BinaryWriter writeBytes(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        return writeBytes(value, 0, value.length);
+    }
+
+    /**
+     * Writes a range of the bytes as its length followed by it.
+     *
+     * @param value  the bytes
+     * @param offset the first byte
+     * @param length the number of bytes
+     * @return this writer
+     * @throws NullPointerException      when the value is null
+     * @throws IndexOutOfBoundsException when the range is outside the bytes
+     */
+    public BinaryWriter writeBytes(byte[] value, int offset, int length) {
+        Objects.requireNonNull(value, "value is required");
+        Objects.checkFromIndexSize(offset, length, value.length);
+        writeVarInt(length);
+        return writeRaw(value, offset, length);
+    }
+
+    /**
+     * Writes what another writer holds as its length followed by its bytes, the way a nested value is written.
+     *
+     * @param nested the nested writer
+     * @return this writer
+     * @throws NullPointerException when the nested writer is null
+     */
+    public BinaryWriter writeNested(BinaryWriter nested) {
+        Objects.requireNonNull(nested, "nested is required");
+        return writeBytes(nested.buffer, 0, nested.size);
+    }
+
+    /**
+     * Writes the bytes as they are, without their length.
+     *
+     * @param value  the bytes
+     * @param offset the first byte
+     * @param length the number of bytes
+     * @return this writer
+     * @throws NullPointerException      when the value is null
+     * @throws IndexOutOfBoundsException when the range is outside the bytes
+     */
+    public BinaryWriter writeRaw(byte[] value, int offset, int length) {
+        Objects.requireNonNull(value, "value is required");
+        Objects.checkFromIndexSize(offset, length, value.length);
+        ensure(length);
+        System.arraycopy(value, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discards the bytes written, keeping the buffer to be reused.
+     */
+    public void reset() {
+        this.size = 0;
+    }
+
+    /**
+     * Returns a copy of the bytes written.
+     *
+     * @return the bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Returns a read-only view over the bytes written, without copying them; it is only valid until the next write
+     * or {@link #reset()}.
+     *
+     * @return the buffer
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, size).slice().asReadOnlyBuffer();
+    }
+
+    private void ensure(int length) {
+        if (buffer.length - size < length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryWriter{" +
+                "size=" + size +
+                ", capacity=" + buffer.length +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The compression that a {@link ValueCodec} may apply to the encoded value.
+ * A codec may store the ordinal to tell how a value was compressed, thus new constants are only added at the end.
+ */
+public enum Compression {
+
+    /**
+     * Keeps the bytes as they are.
+     */
+    NONE {
+        @Override
+        public byte[] compress(byte[] value, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, value.length);
+            return Arrays.copyOfRange(value, offset, offset + length);
+        }
+
+        @Override
+        public byte[] decompress(ByteBuffer value, int length) {
+            if (value.remaining() != length) {
+                throw new CommunicationException("Expected " + length + " bytes, but there are " + value.remaining());
+            }
+            byte[] result = new byte[length];
+            value.duplicate().get(result);
+            return result;
+        }
+    },
+    /**
+     * The raw DEFLATE format of {@link Deflater}, without the zlib header.
+     */
+    DEFLATE {
+        @Override
+        public byte[] compress(byte[] value, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, value.length);
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                deflater.setInput(value, offset, length);
+                deflater.finish();
+                byte[] result = new byte[Math.max(length, 16)];
+                int size = 0;
+                while (!deflater.finished()) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, result.length << 1);
+                    }
+                    size += deflater.deflate(result, size, result.length - size);
+                }
+                return Arrays.copyOf(result, size);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public byte[] decompress(ByteBuffer value, int length) {
+            if (length < 0 || length > (long) value.remaining() * MAXIMUM_RATIO) {
+                throw new CommunicationException("The length " + length + " cannot come from " + value.remaining()
+                        + " compressed bytes");
+            }
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(value.duplicate());
+                byte[] result = new byte[length];
+                int size = 0;
+                while (size < length && !inflater.finished()) {
+                    int read = inflater.inflate(result, size, length - size);
+                    if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    size += read;
+                }
+                if (size != length) {
+                    throw new CommunicationException("Expected " + length + " bytes, but the compressed value has "
+                            + size);
+                }
+                return result;
+            } catch (DataFormatException exception) {
+                throw new CommunicationException("The compressed value is malformed", exception);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    /**
+     * The highest ratio that DEFLATE reaches, thus a length above the compressed size times it is not trusted.
+     */
+    private static final int MAXIMUM_RATIO = 1032;
+
+    /**
+     * Compresses a range of the bytes.
+     *
+     * @param value  the bytes
+     * @param offset the first byte
+     * @param length the number of bytes
+     * @return the compressed bytes
+     * @throws NullPointerException      when the value is null
+     * @throws IndexOutOfBoundsException when the range is outside the bytes
+     */
+    public abstract byte[] compress(byte[] value, int offset, int length);
+
+    /**
+     * Decompresses the remaining bytes of the buffer, heap or direct, without changing its position.
+     *
+     * @param value  the compressed bytes
+     * @param length the length of the decompressed bytes
+     * @return the decompressed bytes
+     * @throws NullPointerException   when the value is null
+     * @throws CommunicationException when the value is malformed, does not have the length, or the length is negative
+     *                                or larger than the value could hold, checked before allocating it
+     */
+    public abstract byte[] decompress(ByteBuffer value, int length);
+}
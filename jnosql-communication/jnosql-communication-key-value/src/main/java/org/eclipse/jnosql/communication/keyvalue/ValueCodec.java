@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Encodes a value into bytes before it is handed to the {@link BucketManager}, and decodes it back.
+ * The bucket then stores a {@code byte[]} instead of an object that each driver serializes in its own way.
+ * The implementations must be thread-safe.
+ *
+ * @param <T> the value type
+ * @see ValueCodecProvider
+ * @see BinaryWriter
+ * @see BinaryReader
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Encodes the value.
+     *
+     * @param value the value
+     * @return the bytes
+     * @throws NullPointerException when the value is null
+     */
+    byte[] encode(T value);
+
+    /**
+     * Decodes the remaining bytes of the buffer, heap or direct, without changing its position.
+     *
+     * @param value the bytes
+     * @return the value
+     * @throws NullPointerException when the value is null
+     */
+    T decode(ByteBuffer value);
+
+    /**
+     * Decodes the bytes.
+     *
+     * @param value the bytes
+     * @return the value
+     * @throws NullPointerException when the value is null
+     */
+    default T decode(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        return decode(ByteBuffer.wrap(value));
+    }
+}
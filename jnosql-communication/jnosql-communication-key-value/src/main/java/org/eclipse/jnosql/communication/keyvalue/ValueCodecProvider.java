@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * The SPI that creates the {@link ValueCodec} of a type, loaded from {@link ServiceLoader} and selected by its
+ * {@link #name()}.
+ */
+public interface ValueCodecProvider {
+
+    List<ValueCodecProvider> PROVIDERS = ServiceLoader.load(ValueCodecProvider.class).stream()
+            .map(ServiceLoader.Provider::get)
+            .toList();
+
+    /**
+     * The name that selects this provider.
+     *
+     * @return the name
+     */
+    String name();
+
+    /**
+     * Creates the codec of the type.
+     *
+     * @param type the value type
+     * @param <T>  the value type
+     * @return the codec
+     * @throws NullPointerException when the type is null
+     */
+    <T> ValueCodec<T> apply(Class<T> type);
+
+    /**
+     * Finds the provider from {@link ServiceLoader} by name.
+     *
+     * @param name the name
+     * @return the provider otherwise {@link Optional#empty()}
+     * @throws NullPointerException when the name is null
+     */
+    static Optional<ValueCodecProvider> find(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return PROVIDERS.stream()
+                .filter(provider -> name.equals(provider.name()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+/**
+ * The wire type of a field written by {@link BinaryWriter}, stored in the lower three bits of the field tag.
+ * It tells the {@link BinaryReader} how many bytes the value takes, thus a field that the reader does not know
+ * can be skipped.
+ */
+public enum WireType {
+
+    /**
+     * A variable-length integer, used by the integral types, booleans, chars and enums.
+     */
+    VARINT(0),
+    /**
+     * Eight bytes, used by the doubles.
+     */
+    FIXED64(1),
+    /**
+     * A varint length followed by that many bytes, used by texts, bytes, nested values and sequences.
+     */
+    LENGTH_DELIMITED(2),
+    /**
+     * Four bytes, used by the floats.
+     */
+    FIXED32(5);
+
+    private static final int BITS = 3;
+
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final int code;
+
+    WireType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Creates the tag of a field.
+     *
+     * @param fieldId the field id, greater than zero
+     * @return the tag
+     * @throws IllegalArgumentException when the field id is not positive
+     */
+    public int tag(int fieldId) {
+        if (fieldId <= 0) {
+            throw new IllegalArgumentException("The field id must be greater than zero: " + fieldId);
+        }
+        return (fieldId << BITS) | code;
+    }
+
+    /**
+     * Returns the field id of a tag.
+     *
+     * @param tag the tag
+     * @return the field id
+     */
+    public static int fieldId(int tag) {
+        return tag >>> BITS;
+    }
+
+    /**
+     * Returns the wire type of a tag.
+     *
+     * @param tag the tag
+     * @return the wire type
+     * @throws CommunicationException when the tag does not have a known wire type
+     */
+    public static WireType of(int tag) {
+        return switch (tag & MASK) {
+            case 0 -> VARINT;
+            case 1 -> FIXED64;
+            case 2 -> LENGTH_DELIMITED;
+            case 5 -> FIXED32;
+            default -> throw new CommunicationException("There is no wire type to the tag " + tag);
+        };
+    }
+}
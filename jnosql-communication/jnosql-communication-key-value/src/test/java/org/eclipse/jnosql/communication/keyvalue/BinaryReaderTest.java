@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Binary reader and writer")
+class BinaryReaderTest {
+
+    @Nested
+    @DisplayName("When reading what the writer wrote")
+    class WhenReadingWhatTheWriterWrote {
+
+        @ParameterizedTest
+        @ValueSource(longs = {0L, 1L, -1L, 127L, 128L, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE})
+        @DisplayName("Should read the variable length numbers")
+        void shouldReadVarLong(long value) {
+            BinaryReader reader = BinaryReader.of(new BinaryWriter()
+                    .writeVarLong(value)
+                    .writeSignedVarLong(value)
+                    .toByteArray());
+
+            assertSoftly(softly -> {
+                softly.assertThat(reader.readVarLong()).isEqualTo(value);
+                softly.assertThat(reader.readSignedVarLong()).isEqualTo(value);
+                softly.assertThat(reader.hasRemaining()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Should write the small signed numbers in one byte")
+        void shouldWriteSmallSignedNumbersInOneByte() {
+            assertThat(new BinaryWriter().writeSignedVarLong(-64L).size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should read the fixed length numbers")
+        void shouldReadFixedNumbers() {
+            BinaryReader reader = BinaryReader.of(new BinaryWriter()
+                    .writeFixed32(-42)
+                    .writeFixed64(Long.MIN_VALUE)
+                    .writeFloat(1.5F)
+                    .writeDouble(Math.PI)
+                    .toByteArray());
+
+            assertSoftly(softly -> {
+                softly.assertThat(reader.readFixed32()).isEqualTo(-42);
+                softly.assertThat(reader.readFixed64()).isEqualTo(Long.MIN_VALUE);
+                softly.assertThat(reader.readFloat()).isEqualTo(1.5F);
+                softly.assertThat(reader.readDouble()).isEqualTo(Math.PI);
+            });
+        }
+
+        @Test
+        @DisplayName("Should read the texts from heap and direct buffers")
+        void shouldReadTexts() {
+            byte[] value = new BinaryWriter().writeString("jnosql").writeString("ação ✓").toByteArray();
+            ByteBuffer direct = ByteBuffer.allocateDirect(value.length).put(value).flip();
+
+            BinaryReader heap = BinaryReader.of(value);
+            BinaryReader offHeap = BinaryReader.of(direct);
+
+            assertSoftly(softly -> {
+                softly.assertThat(heap.readString()).isEqualTo("jnosql");
+                softly.assertThat(heap.readString()).isEqualTo("ação ✓");
+                softly.assertThat(offHeap.readString()).isEqualTo("jnosql");
+                softly.assertThat(offHeap.readString()).isEqualTo("ação ✓");
+                softly.assertThat(direct.position()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("Should read the bytes as a view over the source")
+        void shouldReadSlice() {
+            byte[] value = new BinaryWriter().writeBytes(new byte[]{1, 2, 3}).toByteArray();
+
+            ByteBuffer slice = BinaryReader.of(value).readSlice();
+
+            assertSoftly(softly -> {
+                softly.assertThat(slice.remaining()).isEqualTo(3);
+                softly.assertThat(slice.isReadOnly()).isTrue();
+                softly.assertThat(slice.get(2)).isEqualTo((byte) 3);
+            });
+        }
+
+        @Test
+        @DisplayName("Should read the nested values")
+        void shouldReadNested() {
+            BinaryWriter nested = new BinaryWriter().writeTag(1, WireType.VARINT).writeVarInt(10);
+            BinaryReader reader = BinaryReader.of(new BinaryWriter()
+                    .writeTag(1, WireType.LENGTH_DELIMITED)
+                    .writeNested(nested)
+                    .writeTag(2, WireType.VARINT)
+                    .writeVarInt(20)
+                    .toByteArray());
+
+            assertSoftly(softly -> {
+                softly.assertThat(WireType.fieldId(reader.readTag())).isEqualTo(1);
+                BinaryReader inner = reader.readNested();
+                softly.assertThat(WireType.of(inner.readTag())).isEqualTo(WireType.VARINT);
+                softly.assertThat(inner.readVarInt()).isEqualTo(10);
+                softly.assertThat(inner.hasRemaining()).isFalse();
+                softly.assertThat(WireType.fieldId(reader.readTag())).isEqualTo(2);
+                softly.assertThat(reader.readVarInt()).isEqualTo(20);
+            });
+        }
+
+        @Test
+        @DisplayName("Should skip the unknown fields")
+        void shouldSkipUnknownFields() {
+            BinaryReader reader = BinaryReader.of(new BinaryWriter()
+                    .writeTag(1, WireType.VARINT).writeVarLong(Long.MAX_VALUE)
+                    .writeTag(2, WireType.FIXED64).writeDouble(1D)
+                    .writeTag(3, WireType.FIXED32).writeFloat(1F)
+                    .writeTag(4, WireType.LENGTH_DELIMITED).writeString("skipped")
+                    .writeTag(5, WireType.VARINT).writeVarInt(5)
+                    .toByteArray());
+
+            for (int index = 0; index < 4; index++) {
+                reader.skip(WireType.of(reader.readTag()));
+            }
+
+            assertSoftly(softly -> {
+                softly.assertThat(WireType.fieldId(reader.readTag())).isEqualTo(5);
+                softly.assertThat(reader.readVarInt()).isEqualTo(5);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("When the value is not valid")
+    class WhenTheValueIsNotValid {
+
+        @Test
+        @DisplayName("Should reject a truncated value")
+        void shouldRejectTruncatedValue() {
+            byte[] value = new BinaryWriter().writeString("jnosql").writeFixed64(1L).toByteArray();
+            BinaryReader reader = BinaryReader.of(Arrays.copyOf(value, value.length - 1));
+            reader.readString();
+
+            assertThatExceptionOfType(CommunicationException.class).isThrownBy(reader::readFixed64);
+        }
+
+        @Test
+        @DisplayName("Should reject a length beyond the value")
+        void shouldRejectLengthBeyondValue() {
+            BinaryReader reader = BinaryReader.of(new BinaryWriter().writeVarInt(100).writeByte(1).toByteArray());
+
+            assertThatExceptionOfType(CommunicationException.class).isThrownBy(reader::readBytes);
+        }
+
+        @Test
+        @DisplayName("Should reject a variable length number that is too long")
+        void shouldRejectLongVarLong() {
+            byte[] value = new byte[11];
+            Arrays.fill(value, (byte) 0x80);
+
+            assertThatExceptionOfType(CommunicationException.class).isThrownBy(() -> BinaryReader.of(value).readVarLong());
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown wire type")
+        void shouldRejectUnknownWireType() {
+            assertThatExceptionOfType(CommunicationException.class).isThrownBy(() -> WireType.of(1 << 3 | 3));
+        }
+
+        @Test
+        @DisplayName("Should reject a field id that is not positive")
+        void shouldRejectInvalidFieldId() {
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> WireType.VARINT.tag(0));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Compression")
+class CompressionTest {
+
+    private static final byte[] VALUE = "jnosql ".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    @DisplayName("Should decompress what was compressed")
+    void shouldDecompress(Compression compression) {
+        byte[] compressed = compression.compress(VALUE, 7, VALUE.length - 7);
+
+        assertThat(compression.decompress(ByteBuffer.wrap(compressed), VALUE.length - 7))
+                .isEqualTo(Arrays.copyOfRange(VALUE, 7, VALUE.length));
+    }
+
+    @Test
+    @DisplayName("Should shrink a repetitive value")
+    void shouldShrink() {
+        assertThat(Compression.DEFLATE.compress(VALUE, 0, VALUE.length)).hasSizeLessThan(VALUE.length / 10);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    @DisplayName("Should reject a length that does not match")
+    void shouldRejectWrongLength(Compression compression) {
+        byte[] compressed = compression.compress(VALUE, 0, VALUE.length);
+
+        assertThatExceptionOfType(CommunicationException.class)
+                .isThrownBy(() -> compression.decompress(ByteBuffer.wrap(compressed), VALUE.length + 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    @DisplayName("Should reject a negative length")
+    void shouldRejectNegativeLength(Compression compression) {
+        byte[] compressed = compression.compress(VALUE, 0, VALUE.length);
+
+        assertThatExceptionOfType(CommunicationException.class)
+                .isThrownBy(() -> compression.decompress(ByteBuffer.wrap(compressed), -1));
+    }
+
+    @Test
+    @DisplayName("Should reject a length that the compressed value cannot hold")
+    void shouldRejectUntrustedLength() {
+        byte[] compressed = Compression.DEFLATE.compress(VALUE, 0, VALUE.length);
+
+        assertThatExceptionOfType(CommunicationException.class)
+                .isThrownBy(() -> Compression.DEFLATE.decompress(ByteBuffer.wrap(compressed), Integer.MAX_VALUE))
+                .withMessageContaining("cannot come from");
+    }
+
+    @Test
+    @DisplayName("Should reject a corrupted value")
+    void shouldRejectCorruptedValue() {
+        byte[] corrupted = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+
+        assertThatExceptionOfType(CommunicationException.class)
+                .isThrownBy(() -> Compression.DEFLATE.decompress(ByteBuffer.wrap(corrupted), VALUE.length));
+    }
+}
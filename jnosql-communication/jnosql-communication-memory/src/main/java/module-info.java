@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+/**
+ * This module contains an embedded, in-memory implementation of the semistructured communication API.
+ */
+module org.eclipse.jnosql.communication.memory {
+    requires org.eclipse.jnosql.communication.core;
+    requires org.eclipse.jnosql.communication.semistructured;
+    requires jakarta.data;
+    exports org.eclipse.jnosql.communication.memory;
+    provides org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration
+            with org.eclipse.jnosql.communication.memory.MemoryDatabaseConfiguration;
+}
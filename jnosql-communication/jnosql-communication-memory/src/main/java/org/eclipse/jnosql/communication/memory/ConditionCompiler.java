@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Turns a {@link CriteriaCondition} into a {@link Predicate} over the stored entities. The tree is walked once per
+ * query, so the work that does not depend on the entity, such as reading the expected values or compiling the
+ * {@code LIKE} patterns, is not repeated for every row.
+ * <p>A field the entity does not have matches none of the conditions, except through {@code NOT}. Inside
+ * {@code IGNORE_CASE} the strings and the enum names are compared in lower case.</p>
+ */
+final class ConditionCompiler {
+
+    private ConditionCompiler() {
+    }
+
+    static Predicate<CommunicationEntity> compile(CriteriaCondition condition) {
+        return compile(condition, false);
+    }
+
+    private static Predicate<CommunicationEntity> compile(CriteriaCondition condition, boolean ignoreCase) {
+        Element element = condition.element();
+        String name = element.name();
+        return switch (condition.condition()) {
+            case EQUALS -> {
+                Object expected = fold(element.get(), ignoreCase);
+                yield entity -> ValueComparator.equal(value(entity, name, ignoreCase), expected);
+            }
+            case GREATER_THAN -> range(name, element.get(), ignoreCase, result -> result > 0);
+            case GREATER_EQUALS_THAN -> range(name, element.get(), ignoreCase, result -> result >= 0);
+            case LESSER_THAN -> range(name, element.get(), ignoreCase, result -> result < 0);
+            case LESSER_EQUALS_THAN -> range(name, element.get(), ignoreCase, result -> result <= 0);
+            case IN -> {
+                List<Object> expected = values(element, ignoreCase);
+                yield entity -> {
+                    Object value = value(entity, name, ignoreCase);
+                    return expected.stream().anyMatch(item -> ValueComparator.equal(value, item));
+                };
+            }
+            case BETWEEN -> {
+                List<Object> bounds = values(element, ignoreCase);
+                Object lower = bounds.get(0);
+                Object upper = bounds.get(1);
+                yield entity -> {
+                    Object value = value(entity, name, ignoreCase);
+                    return value != null && ValueComparator.INSTANCE.compare(value, lower) >= 0
+                            && ValueComparator.INSTANCE.compare(value, upper) <= 0;
+                };
+            }
+            case LIKE -> {
+                Pattern pattern = like(String.valueOf(ValueComparator.normalize(element.get())), ignoreCase);
+                yield entity -> {
+                    Object value = ValueComparator.normalize(Fields.value(entity, name));
+                    return value != null && pattern.matcher(value.toString()).matches();
+                };
+            }
+            case CONTAINS -> {
+                Object expected = fold(element.get(), ignoreCase);
+                yield entity -> contains(Fields.value(entity, name), expected, ignoreCase);
+            }
+            case STARTS_WITH -> text(name, element.get(), ignoreCase, String::startsWith);
+            case ENDS_WITH -> text(name, element.get(), ignoreCase, String::endsWith);
+            case AND -> {
+                List<Predicate<CommunicationEntity>> predicates = conditions(element, ignoreCase);
+                yield entity -> predicates.stream().allMatch(predicate -> predicate.test(entity));
+            }
+            case OR -> {
+                List<Predicate<CommunicationEntity>> predicates = conditions(element, ignoreCase);
+                yield entity -> predicates.stream().anyMatch(predicate -> predicate.test(entity));
+            }
+            case NOT -> compile((CriteriaCondition) element.get(), ignoreCase).negate();
+            case IGNORE_CASE -> compile((CriteriaCondition) element.get(), true);
+        };
+    }
+
+    /**
+     * Translates a SQL {@code LIKE} pattern, where {@code %} matches any sequence and {@code _} a single character,
+     * into a regular expression; every other character is taken literally.
+     */
+    static Pattern like(String pattern, boolean ignoreCase) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == '%' || character == '_') {
+                appendLiteral(regex, literal);
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        appendLiteral(regex, literal);
+        int flags = ignoreCase ? Pattern.DOTALL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : Pattern.DOTALL;
+        return Pattern.compile(regex.toString(), flags);
+    }
+
+    private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private static Predicate<CommunicationEntity> range(String name, Object expected, boolean ignoreCase,
+                                                        IntPredicate predicate) {
+        Object other = fold(expected, ignoreCase);
+        return entity -> {
+            Object value = value(entity, name, ignoreCase);
+            return value != null && predicate.test(ValueComparator.INSTANCE.compare(value, other));
+        };
+    }
+
+    private static Predicate<CommunicationEntity> text(String name, Object expected, boolean ignoreCase,
+                                                       BiPredicate<String, String> predicate) {
+        String other = String.valueOf(fold(expected, ignoreCase));
+        return entity -> {
+            Object value = value(entity, name, ignoreCase);
+            return value != null && predicate.test(value.toString(), other);
+        };
+    }
+
+    private static boolean contains(Object value, Object expected, boolean ignoreCase) {
+        if (value instanceof Iterable<?> items) {
+            for (Object item : items) {
+                if (ValueComparator.equal(fold(item, ignoreCase), expected)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Object text = fold(value, ignoreCase);
+        return text instanceof CharSequence sequence && sequence.toString().contains(String.valueOf(expected));
+    }
+
+    private static List<Predicate<CommunicationEntity>> conditions(Element element, boolean ignoreCase) {
+        List<Predicate<CommunicationEntity>> predicates = new ArrayList<>();
+        for (Object item : (Iterable<?>) element.get()) {
+            predicates.add(compile((CriteriaCondition) item, ignoreCase));
+        }
+        return predicates;
+    }
+
+    private static List<Object> values(Element element, boolean ignoreCase) {
+        List<Object> values = new ArrayList<>();
+        for (Object item : (Iterable<?>) element.get()) {
+            values.add(fold(item, ignoreCase));
+        }
+        return values;
+    }
+
+    private static Object value(CommunicationEntity entity, String name, boolean ignoreCase) {
+        return fold(Fields.value(entity, name), ignoreCase);
+    }
+
+    private static Object fold(Object value, boolean ignoreCase) {
+        return ignoreCase ? ValueComparator.fold(value) : ValueComparator.normalize(value);
+    }
+}
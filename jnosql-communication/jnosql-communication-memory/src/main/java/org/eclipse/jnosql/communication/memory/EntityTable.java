@@ -0,0 +1,267 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The rows of one entity name, keyed by the normalized id, together with their secondary indexes.
+ * <p>A stored entity is never changed in place: every write replaces the row, so the entities handed out by
+ * {@link #select(Optional)} can be copied after the read lock is released. The rows with a TTL are dropped from the
+ * reads once they expire and purged on the next write.</p>
+ */
+final class EntityTable {
+
+    static final long NEVER = Long.MAX_VALUE;
+
+    private final Map<Object, Row> rows = new LinkedHashMap<>();
+
+    private final Map<String, SecondaryIndex> indexes = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Clock clock;
+
+    private int expiring;
+
+    EntityTable(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Stores the entity under the key, replacing the previous row; {@code expiresAt} is an epoch milli or
+     * {@link #NEVER}.
+     */
+    void put(Object key, CommunicationEntity entity, long expiresAt) {
+        write(() -> {
+            purge();
+            store(key, entity, expiresAt);
+        });
+    }
+
+    /**
+     * Stores the entity under the key, keeping the expiration of the row it replaces.
+     */
+    void update(Object key, CommunicationEntity entity) {
+        write(() -> {
+            purge();
+            Row previous = rows.get(key);
+            store(key, entity, previous == null ? NEVER : previous.expiresAt());
+        });
+    }
+
+    /**
+     * Returns the live entities that match the condition, or all of them without one. The entities are the stored
+     * instances, which the caller must copy before handing them out.
+     */
+    List<CommunicationEntity> select(Optional<CriteriaCondition> condition) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            List<CommunicationEntity> result = new ArrayList<>();
+            long now = clock.millis();
+            for (Row row : matches(condition)) {
+                if (row.expiresAt() > now) {
+                    result.add(row.entity());
+                }
+            }
+            return result;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Removes the rows that match the condition and returns how many there were.
+     */
+    long delete(Optional<CriteriaCondition> condition) {
+        return write(() -> {
+            purge();
+            List<Row> matches = matches(condition);
+            matches.forEach(this::remove);
+            return (long) matches.size();
+        });
+    }
+
+    /**
+     * Removes the columns from the rows that match the condition and returns how many rows there were.
+     */
+    long delete(Optional<CriteriaCondition> condition, List<String> columns) {
+        return write(() -> {
+            purge();
+            List<Row> matches = matches(condition);
+            for (Row row : matches) {
+                CommunicationEntity entity = row.entity().copy();
+                columns.forEach(entity::remove);
+                store(row.key(), entity, row.expiresAt());
+            }
+            return (long) matches.size();
+        });
+    }
+
+    long count() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            if (expiring == 0) {
+                return rows.size();
+            }
+            long now = clock.millis();
+            return rows.values().stream().filter(row -> row.expiresAt() > now).count();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Declares an index of the field, built from the rows already stored. Declaring the same field again with
+     * another type replaces the index.
+     */
+    void index(String field, IndexType type) {
+        write(() -> {
+            SecondaryIndex index = SecondaryIndex.of(type);
+            for (Row row : rows.values()) {
+                index.add(Fields.value(row.entity(), field), row.key());
+            }
+            indexes.put(field, index);
+        });
+    }
+
+    private List<Row> matches(Optional<CriteriaCondition> condition) {
+        if (condition.isEmpty()) {
+            return new ArrayList<>(rows.values());
+        }
+        Predicate<CommunicationEntity> predicate = ConditionCompiler.compile(condition.get());
+        Collection<Row> candidates = candidates(condition.get())
+                .<Collection<Row>>map(keys -> keys.stream().map(rows::get).toList())
+                .orElseGet(rows::values);
+        List<Row> result = new ArrayList<>();
+        for (Row row : candidates) {
+            if (predicate.test(row.entity())) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Plans the query on the indexes: a condition on an indexed field is answered by its index, an {@code AND} by
+     * the intersection of the children the indexes answer, and an {@code OR} by the union when the indexes answer
+     * every child. Any other condition falls back to the full scan.
+     */
+    private Optional<Set<Object>> candidates(CriteriaCondition condition) {
+        return switch (condition.condition()) {
+            case AND -> {
+                List<Set<Object>> sets = new ArrayList<>();
+                for (Object item : (Iterable<?>) condition.element().get()) {
+                    candidates((CriteriaCondition) item).ifPresent(sets::add);
+                }
+                if (sets.isEmpty()) {
+                    yield Optional.empty();
+                }
+                sets.sort(Comparator.comparingInt(Set::size));
+                Set<Object> keys = new HashSet<>(sets.getFirst());
+                sets.subList(1, sets.size()).forEach(keys::retainAll);
+                yield Optional.of(keys);
+            }
+            case OR -> {
+                Set<Object> keys = new HashSet<>();
+                for (Object item : (Iterable<?>) condition.element().get()) {
+                    Optional<Set<Object>> child = candidates((CriteriaCondition) item);
+                    if (child.isEmpty()) {
+                        yield Optional.empty();
+                    }
+                    keys.addAll(child.get());
+                }
+                yield Optional.of(keys);
+            }
+            case EQUALS, IN, GREATER_THAN, GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN, BETWEEN -> {
+                SecondaryIndex index = indexes.get(condition.element().name());
+                if (index == null || ValueComparator.normalize(condition.element().get()) == null) {
+                    yield Optional.empty();
+                }
+                yield index.lookup(condition);
+            }
+            default -> Optional.empty();
+        };
+    }
+
+    private void store(Object key, CommunicationEntity entity, long expiresAt) {
+        Row previous = rows.get(key);
+        if (previous != null) {
+            remove(previous);
+        }
+        Row row = new Row(key, entity, expiresAt);
+        rows.put(key, row);
+        indexes.forEach((field, index) -> index.add(Fields.value(entity, field), key));
+        if (expiresAt != NEVER) {
+            expiring++;
+        }
+    }
+
+    private void remove(Row row) {
+        rows.remove(row.key());
+        indexes.forEach((field, index) -> index.remove(Fields.value(row.entity(), field), row.key()));
+        if (row.expiresAt() != NEVER) {
+            expiring--;
+        }
+    }
+
+    private void purge() {
+        if (expiring == 0) {
+            return;
+        }
+        long now = clock.millis();
+        for (Row row : new ArrayList<>(rows.values())) {
+            if (row.expiresAt() <= now) {
+                remove(row);
+            }
+        }
+    }
+
+    private void write(Runnable action) {
+        write(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T write(Supplier<T> action) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            return action.get();
+        } finally {
+            write.unlock();
+        }
+    }
+
+    private record Row(Object key, CommunicationEntity entity, long expiresAt) {
+    }
+}
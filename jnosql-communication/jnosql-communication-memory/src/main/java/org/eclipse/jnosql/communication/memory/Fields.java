@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.Map;
+
+/**
+ * Reads the value of a field from an entity. A name that the entity does not hold is read as a path through the
+ * sub-entities, so {@code address.city} finds the {@code city} element of the {@code address} one.
+ */
+final class Fields {
+
+    private Fields() {
+    }
+
+    /**
+     * Returns the value of the field, or {@code null} when the entity does not have it.
+     */
+    static Object value(CommunicationEntity entity, String name) {
+        var element = entity.find(name);
+        if (element.isPresent()) {
+            return element.get().get();
+        }
+        int dot = name.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        Object parent = entity.find(name.substring(0, dot)).map(Element::get).orElse(null);
+        return child(parent, name.substring(dot + 1));
+    }
+
+    private static Object child(Object parent, String path) {
+        Object current = parent;
+        String remaining = path;
+        while (current != null) {
+            Object value = find(current, remaining);
+            if (value != null) {
+                return value;
+            }
+            int dot = remaining.indexOf('.');
+            if (dot < 0) {
+                return null;
+            }
+            current = find(current, remaining.substring(0, dot));
+            remaining = remaining.substring(dot + 1);
+        }
+        return null;
+    }
+
+    private static Object find(Object parent, String name) {
+        if (parent instanceof CommunicationEntity entity) {
+            return entity.find(name).map(Element::get).orElse(null);
+        }
+        if (parent instanceof Map<?, ?> map) {
+            return map.get(name);
+        }
+        if (parent instanceof Iterable<?> elements) {
+            for (Object item : elements) {
+                if (item instanceof Element element && element.name().equals(name)) {
+                    return element.get();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link SecondaryIndex} that hashes the values, thus it answers {@code EQUALS} and {@code IN}.
+ */
+final class HashIndex implements SecondaryIndex {
+
+    private final Map<Object, Set<Object>> entries = new HashMap<>();
+
+    @Override
+    public void add(Object value, Object key) {
+        if (value != null) {
+            entries.computeIfAbsent(ValueComparator.key(value), k -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    @Override
+    public void remove(Object value, Object key) {
+        if (value == null) {
+            return;
+        }
+        Object hash = ValueComparator.key(value);
+        Set<Object> keys = entries.get(hash);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            entries.remove(hash);
+        }
+    }
+
+    @Override
+    public Optional<Set<Object>> lookup(CriteriaCondition condition) {
+        Object value = condition.element().get();
+        return switch (condition.condition()) {
+            case EQUALS -> Optional.of(keys(value));
+            case IN -> {
+                Set<Object> keys = new HashSet<>();
+                for (Object item : (Iterable<?>) value) {
+                    if (ValueComparator.normalize(item) == null) {
+                        yield Optional.empty();
+                    }
+                    keys.addAll(keys(item));
+                }
+                yield Optional.of(keys);
+            }
+            default -> Optional.empty();
+        };
+    }
+
+    private Set<Object> keys(Object value) {
+        return entries.getOrDefault(ValueComparator.key(value), Set.of());
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+/**
+ * The kinds of secondary index that a {@link MemoryDatabaseManager} can keep for a field.
+ */
+public enum IndexType {
+
+    /**
+     * A hash index, which answers {@link org.eclipse.jnosql.communication.Condition#EQUALS} and
+     * {@link org.eclipse.jnosql.communication.Condition#IN} in constant time.
+     */
+    HASH,
+
+    /**
+     * A sorted index, which answers the equality conditions as well as the ranges:
+     * {@link org.eclipse.jnosql.communication.Condition#GREATER_THAN},
+     * {@link org.eclipse.jnosql.communication.Condition#GREATER_EQUALS_THAN},
+     * {@link org.eclipse.jnosql.communication.Condition#LESSER_THAN},
+     * {@link org.eclipse.jnosql.communication.Condition#LESSER_EQUALS_THAN} and
+     * {@link org.eclipse.jnosql.communication.Condition#BETWEEN}.
+     */
+    SORTED
+}
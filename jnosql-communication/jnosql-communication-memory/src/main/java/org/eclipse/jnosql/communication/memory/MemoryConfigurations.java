@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import java.util.function.Supplier;
+
+/**
+ * The settings read by {@link MemoryDatabaseConfiguration}. Each index setting takes the fields to index as
+ * {@code Entity.field} pairs separated by commas, and like {@link org.eclipse.jnosql.communication.Configurations#HOST}
+ * it can be repeated with a numbered suffix.
+ * <p>Example: <code>jnosql.memory.index.hash=Book.author,Book.genre</code>,
+ * <code>jnosql.memory.index.sorted-1=Book.edition</code></p>
+ */
+public enum MemoryConfigurations implements Supplier<String> {
+
+    /**
+     * The fields that keep a hash index, which answers equality and {@code IN} conditions.
+     */
+    HASH_INDEX("jnosql.memory.index.hash"),
+
+    /**
+     * The fields that keep a sorted index, which answers equality, range and {@code BETWEEN} conditions.
+     */
+    SORTED_INDEX("jnosql.memory.index.sorted");
+
+    private final String configuration;
+
+    MemoryConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+}
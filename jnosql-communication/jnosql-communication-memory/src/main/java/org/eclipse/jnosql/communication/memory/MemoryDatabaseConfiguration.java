@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@link DatabaseConfiguration} of the in-memory database. It needs no connection settings; the only ones it
+ * reads are the index declarations of {@link MemoryConfigurations}.
+ * <pre>{@code
+ * Settings settings = Settings.builder()
+ *         .put(MemoryConfigurations.HASH_INDEX, "Book.author")
+ *         .put(MemoryConfigurations.SORTED_INDEX, "Book.edition")
+ *         .build();
+ * DatabaseManager manager = new MemoryDatabaseConfiguration().apply(settings).apply("library");
+ * }</pre>
+ */
+public class MemoryDatabaseConfiguration implements DatabaseConfiguration {
+
+    @Override
+    public MemoryDatabaseManagerFactory apply(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        List<MemoryDatabaseManagerFactory.IndexDefinition> indexes = new ArrayList<>();
+        indexes(settings, MemoryConfigurations.HASH_INDEX, IndexType.HASH, indexes);
+        indexes(settings, MemoryConfigurations.SORTED_INDEX, IndexType.SORTED, indexes);
+        return new MemoryDatabaseManagerFactory(List.copyOf(indexes), Clock.systemUTC());
+    }
+
+    private static void indexes(Settings settings, MemoryConfigurations configuration, IndexType type,
+                                List<MemoryDatabaseManagerFactory.IndexDefinition> indexes) {
+        for (Object value : settings.prefix(configuration)) {
+            for (String declaration : value.toString().split(",")) {
+                String index = declaration.trim();
+                int dot = index.indexOf('.');
+                if (dot <= 0 || dot == index.length() - 1) {
+                    throw new CommunicationException("The index " + index + " of " + configuration.get()
+                            + " must be declared as Entity.field");
+                }
+                indexes.add(new MemoryDatabaseManagerFactory.IndexDefinition(index.substring(0, dot),
+                        index.substring(dot + 1), type));
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link DatabaseManager} that keeps the entities in memory. Each entity name is a table whose rows are keyed by
+ * the {@code _id} element; an entity inserted without one receives a random {@link UUID}. The manager evaluates every
+ * {@link org.eclipse.jnosql.communication.Condition}, sorts, skips and limits on its own, and the cursor pagination
+ * works through {@link DatabaseManager#selectCursor(SelectQuery, jakarta.data.page.PageRequest)}.
+ * <p>A field declared with {@link #index(String, String, IndexType)} keeps a secondary index, which the queries use
+ * to narrow the rows they scan. The entities are copied on the way in and on the way out, and each table is guarded
+ * by a read-write lock, so a manager can be shared across threads.</p>
+ * <p>The data belongs to the {@link MemoryDatabaseManagerFactory} that created the manager: closing the manager
+ * keeps it, and closing the factory drops it.</p>
+ */
+public final class MemoryDatabaseManager implements DatabaseManager {
+
+    static final String ID = "_id";
+
+    private final String name;
+
+    private final Clock clock;
+
+    private final Map<String, EntityTable> tables = new ConcurrentHashMap<>();
+
+    MemoryDatabaseManager(String name, Clock clock) {
+        this.name = name;
+        this.clock = clock;
+    }
+
+    /**
+     * Declares a secondary index of a field of an entity, built right away from the rows already stored. A field
+     * of a sub-entity is given by its path, such as {@code address.city}.
+     *
+     * @param entity the entity name
+     * @param field  the field name
+     * @param type   the index type
+     * @throws NullPointerException when any parameter is null
+     */
+    public void index(String entity, String field, IndexType type) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(field, "field is required");
+        Objects.requireNonNull(type, "type is required");
+        table(entity).index(field, type);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return store(entity, EntityTable.NEVER);
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        long now = clock.millis();
+        long millis = ttl.toMillis();
+        return store(entity, millis >= EntityTable.NEVER - now ? EntityTable.NEVER - 1 : now + millis);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return stream(entities).map(this::insert).toList();
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return stream(entities).map(entity -> insert(entity, ttl)).toList();
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        table(entity.name()).update(key(entity), entity.copy());
+        return entity;
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return stream(entities).map(this::update).toList();
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        deleteAndCount(query);
+    }
+
+    @Override
+    public long deleteAndCount(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        EntityTable table = tables.get(query.name());
+        if (table == null) {
+            return 0L;
+        }
+        if (query.columns().isEmpty()) {
+            return table.delete(query.condition());
+        }
+        return table.delete(query.condition(), query.columns());
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        EntityTable table = tables.get(query.name());
+        if (table == null) {
+            return Stream.empty();
+        }
+        List<CommunicationEntity> entities = table.select(query.condition());
+        if (!query.sorts().isEmpty()) {
+            entities.sort(comparator(query.sorts()));
+        }
+        int from = (int) Math.min(query.skip(), entities.size());
+        int to = query.limit() > 0 ? (int) Math.min(from + query.limit(), entities.size()) : entities.size();
+        List<String> columns = query.columns();
+        return entities.subList(from, to).stream().map(entity -> project(entity, columns));
+    }
+
+    @Override
+    public long count(String entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        EntityTable table = tables.get(entity);
+        return table == null ? 0L : table.count();
+    }
+
+    @Override
+    public Optional<String> defaultIdFieldName() {
+        return Optional.of(ID);
+    }
+
+    @Override
+    public void close() {
+        // the data lives as long as the factory, so a closed manager can be obtained again with the same content
+    }
+
+    void drop() {
+        tables.clear();
+    }
+
+    private CommunicationEntity store(CommunicationEntity entity, long expiresAt) {
+        if (entity.find(ID).map(Element::get).isEmpty()) {
+            entity.add(ID, UUID.randomUUID().toString());
+        }
+        table(entity.name()).put(key(entity), entity.copy(), expiresAt);
+        return entity;
+    }
+
+    private EntityTable table(String entity) {
+        return tables.computeIfAbsent(entity, k -> new EntityTable(clock));
+    }
+
+    private static Object key(CommunicationEntity entity) {
+        return entity.find(ID).map(Element::get).map(ValueComparator::key)
+                .orElseThrow(() -> new IllegalArgumentException("The entity " + entity.name()
+                        + " does not have the id element " + ID));
+    }
+
+    private static CommunicationEntity project(CommunicationEntity entity, List<String> columns) {
+        if (columns.isEmpty()) {
+            return entity.copy();
+        }
+        List<Element> elements = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            var element = entity.find(column);
+            if (element.isPresent()) {
+                elements.add(element.get());
+            } else if (column.indexOf('.') > 0) {
+                Object value = Fields.value(entity, column);
+                if (value != null) {
+                    addPath(elements, column, value);
+                }
+            }
+        }
+        return CommunicationEntity.of(entity.name(), elements);
+    }
+
+    /**
+     * Adds the value of a path such as {@code address.city} as a {@code city} element within an {@code address} one,
+     * sharing the sub-entity with the other projected paths of the same prefix.
+     */
+    @SuppressWarnings("unchecked")
+    private static void addPath(List<Element> elements, String path, Object value) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            elements.add(Element.of(path, value));
+            return;
+        }
+        String name = path.substring(0, dot);
+        List<Element> children = null;
+        for (Element element : elements) {
+            if (element.name().equals(name) && element.get() instanceof List<?> list) {
+                children = (List<Element>) list;
+            }
+        }
+        if (children == null) {
+            children = new ArrayList<>();
+            elements.add(Element.of(name, children));
+        }
+        addPath(children, path.substring(dot + 1), value);
+    }
+
+    private static Comparator<CommunicationEntity> comparator(List<Sort<?>> sorts) {
+        Comparator<CommunicationEntity> comparator = null;
+        for (Sort<?> sort : sorts) {
+            String property = sort.property();
+            boolean ignoreCase = sort.ignoreCase();
+            Comparator<CommunicationEntity> next = Comparator.comparing(entity -> {
+                Object value = Fields.value(entity, property);
+                return ignoreCase ? ValueComparator.fold(value) : value;
+            }, ValueComparator.INSTANCE);
+            next = sort.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static <T> Stream<T> stream(Iterable<T> iterable) {
+        return StreamSupport.stream(iterable.spliterator(), false);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link DatabaseManagerFactory} that holds the in-memory databases. Asking twice for the same database name
+ * returns the same {@link MemoryDatabaseManager}, thus the data is shared until the factory is closed. Every
+ * database starts with the indexes declared in the configuration.
+ */
+public final class MemoryDatabaseManagerFactory implements DatabaseManagerFactory {
+
+    private final Map<String, MemoryDatabaseManager> databases = new ConcurrentHashMap<>();
+
+    private final List<IndexDefinition> indexes;
+
+    private final Clock clock;
+
+    MemoryDatabaseManagerFactory(List<IndexDefinition> indexes, Clock clock) {
+        this.indexes = indexes;
+        this.clock = clock;
+    }
+
+    @Override
+    public MemoryDatabaseManager apply(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return databases.computeIfAbsent(database, name -> {
+            var manager = new MemoryDatabaseManager(name, clock);
+            indexes.forEach(index -> manager.index(index.entity(), index.field(), index.type()));
+            return manager;
+        });
+    }
+
+    @Override
+    public void close() {
+        databases.values().forEach(MemoryDatabaseManager::drop);
+        databases.clear();
+    }
+
+    /**
+     * An index declared in the configuration.
+     */
+    record IndexDefinition(String entity, String field, IndexType type) {
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A secondary index of one field of an {@link EntityTable}, which maps the field values to the keys of the rows
+ * that hold them. The rows without the field are not indexed. The index is guarded by the lock of its table.
+ */
+sealed interface SecondaryIndex permits HashIndex, SortedIndex {
+
+    /**
+     * Records that the row with the given key holds the value.
+     */
+    void add(Object value, Object key);
+
+    /**
+     * Forgets that the row with the given key holds the value.
+     */
+    void remove(Object value, Object key);
+
+    /**
+     * Returns the keys of the rows that may match the condition on the indexed field, or {@link Optional#empty()}
+     * when this index cannot answer the condition. The rows still have to be checked against the whole query.
+     */
+    Optional<Set<Object>> lookup(CriteriaCondition condition);
+
+    /**
+     * Creates an empty index of the given type.
+     */
+    static SecondaryIndex of(IndexType type) {
+        return switch (type) {
+            case HASH -> new HashIndex();
+            case SORTED -> new SortedIndex();
+        };
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A {@link SecondaryIndex} that keeps the values ordered by the {@link ValueComparator}, thus besides the equality
+ * conditions it answers the ranges and {@code BETWEEN} with a sub-map of the tree.
+ */
+final class SortedIndex implements SecondaryIndex {
+
+    private final NavigableMap<Object, Set<Object>> entries = new TreeMap<>(ValueComparator.INSTANCE);
+
+    @Override
+    public void add(Object value, Object key) {
+        if (value != null) {
+            entries.computeIfAbsent(ValueComparator.normalize(value), k -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    @Override
+    public void remove(Object value, Object key) {
+        if (value == null) {
+            return;
+        }
+        Object normalized = ValueComparator.normalize(value);
+        Set<Object> keys = entries.get(normalized);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            entries.remove(normalized);
+        }
+    }
+
+    @Override
+    public Optional<Set<Object>> lookup(CriteriaCondition condition) {
+        Object value = ValueComparator.normalize(condition.element().get());
+        return switch (condition.condition()) {
+            case EQUALS -> Optional.of(entries.getOrDefault(value, Set.of()));
+            case IN -> {
+                Set<Object> keys = new HashSet<>();
+                for (Object item : (Iterable<?>) value) {
+                    if (ValueComparator.normalize(item) == null) {
+                        yield Optional.empty();
+                    }
+                    keys.addAll(entries.getOrDefault(ValueComparator.normalize(item), Set.of()));
+                }
+                yield Optional.of(keys);
+            }
+            case GREATER_THAN -> Optional.of(union(entries.tailMap(value, false)));
+            case GREATER_EQUALS_THAN -> Optional.of(union(entries.tailMap(value, true)));
+            case LESSER_THAN -> Optional.of(union(entries.headMap(value, false)));
+            case LESSER_EQUALS_THAN -> Optional.of(union(entries.headMap(value, true)));
+            case BETWEEN -> {
+                Iterator<?> bounds = ((Iterable<?>) value).iterator();
+                Object lower = ValueComparator.normalize(bounds.next());
+                Object upper = ValueComparator.normalize(bounds.next());
+                if (ValueComparator.INSTANCE.compare(lower, upper) > 0) {
+                    yield Optional.of(Set.of());
+                }
+                yield Optional.of(union(entries.subMap(lower, true, upper, true)));
+            }
+            default -> Optional.empty();
+        };
+    }
+
+    private static Set<Object> union(Map<Object, Set<Object>> range) {
+        Set<Object> keys = new HashSet<>();
+        for (Collection<Object> values : range.values()) {
+            keys.addAll(values);
+        }
+        return keys;
+    }
+}
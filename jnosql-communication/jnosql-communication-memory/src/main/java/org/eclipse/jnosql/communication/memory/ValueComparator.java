@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The ordering and equality the in-memory engine uses for the element values. Numbers compare by their numeric
+ * value whatever their type, enums compare by their name, so they match the strings the queries carry, and the
+ * values that cannot be compared to each other are ordered by their type name, which keeps the order total for the
+ * sorted indexes. {@code null} comes first.
+ */
+enum ValueComparator implements Comparator<Object> {
+
+    INSTANCE;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public int compare(Object first, Object second) {
+        Object value = normalize(first);
+        Object other = normalize(second);
+        if (value == null || other == null) {
+            return value == null ? (other == null ? 0 : -1) : 1;
+        }
+        if (value instanceof Number number && other instanceof Number otherNumber) {
+            return compareNumbers(number, otherNumber);
+        }
+        if (value instanceof Comparable comparable && value.getClass().isInstance(other)) {
+            return comparable.compareTo(other);
+        }
+        if (value instanceof CharSequence && other instanceof CharSequence) {
+            return value.toString().compareTo(other.toString());
+        }
+        int type = value.getClass().getName().compareTo(other.getClass().getName());
+        return type == 0 ? value.toString().compareTo(other.toString()) : type;
+    }
+
+    /**
+     * Checks whether two element values are equal under the rules of this comparator.
+     */
+    static boolean equal(Object first, Object second) {
+        Object value = normalize(first);
+        Object other = normalize(second);
+        if (value instanceof Number number && other instanceof Number otherNumber) {
+            return compareNumbers(number, otherNumber) == 0;
+        }
+        return Objects.equals(value, other);
+    }
+
+    /**
+     * Returns the value that represents the given one as a hash key, so values that are {@link #equal(Object, Object)}
+     * share the same key: the finite numbers become a {@link BigDecimal} without trailing zeros.
+     */
+    static Object key(Object value) {
+        Object normalized = normalize(value);
+        if (normalized instanceof Number number && isFinite(number)) {
+            return decimal(number).stripTrailingZeros();
+        }
+        return normalized;
+    }
+
+    /**
+     * Returns the value in the form the case-insensitive conditions compare: strings and enum names in lower case.
+     */
+    static Object fold(Object value) {
+        Object normalized = normalize(value);
+        if (normalized instanceof CharSequence text) {
+            return text.toString().toLowerCase(Locale.ROOT);
+        }
+        return normalized;
+    }
+
+    static Object normalize(Object value) {
+        Object unwrapped = value instanceof Value wrapper ? wrapper.get() : value;
+        return unwrapped instanceof Enum<?> constant ? constant.name() : unwrapped;
+    }
+
+    private static int compareNumbers(Number number, Number other) {
+        if (isIntegral(number) && isIntegral(other)) {
+            return Long.compare(number.longValue(), other.longValue());
+        }
+        if (!isFinite(number) || !isFinite(other)
+                || isFloating(number) && !isDecimal(other) || isFloating(other) && !isDecimal(number)) {
+            return Double.compare(number.doubleValue(), other.doubleValue());
+        }
+        return decimal(number).compareTo(decimal(other));
+    }
+
+    private static BigDecimal decimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return new BigDecimal(number.toString());
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean isFloating(Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    private static boolean isDecimal(Number number) {
+        return number instanceof BigDecimal || number instanceof BigInteger;
+    }
+
+    private static boolean isFinite(Number number) {
+        return !isFloating(number) || Double.isFinite(number.doubleValue());
+    }
+}
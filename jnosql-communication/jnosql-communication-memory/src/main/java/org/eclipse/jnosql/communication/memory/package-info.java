@@ -0,0 +1,21 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+
+/**
+ * An embedded, in-memory implementation of the semistructured communication API. It keeps the entities in the JVM
+ * heap and evaluates every {@link org.eclipse.jnosql.communication.Condition} on its own, which makes it a fit for a
+ * hot local tier, for reference data, and as a fast backend for integration tests.
+ * <p>The entry point is {@link org.eclipse.jnosql.communication.memory.MemoryDatabaseConfiguration}, which is also
+ * registered for the {@link java.util.ServiceLoader}. Hash and sorted secondary indexes can be declared through
+ * {@link org.eclipse.jnosql.communication.memory.MemoryConfigurations} or
+ * {@link org.eclipse.jnosql.communication.memory.MemoryDatabaseManager#index(String, String, IndexType)}.</p>
+ */
+package org.eclipse.jnosql.communication.memory;
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionCompilerTest {
+
+    @ParameterizedTest(name = "{0} matches {1}: {2}")
+    @CsvSource({
+            "Ada%, Ada Lovelace, true",
+            "%Lovelace, Ada Lovelace, true",
+            "A_a%, Ada Lovelace, true",
+            "Ada, Ada Lovelace, false",
+            "a.b, axb, false",
+            "a.b, a.b, true",
+            "100%, 100 percent, true",
+            "(x)%, (x) y, true"
+    })
+    void shouldTranslateLike(String pattern, String value, boolean matches) {
+        assertThat(ConditionCompiler.like(pattern, false).matcher(value).matches()).isEqualTo(matches);
+    }
+
+    @ParameterizedTest(name = "{0} matches {1} ignoring the case: {2}")
+    @CsvSource({
+            "ada%, ADA Lovelace, true",
+            "%LOVELACE, Ada Lovelace, true",
+            "grace%, Ada Lovelace, false"
+    })
+    void shouldTranslateLikeIgnoringCase(String pattern, String value, boolean matches) {
+        assertThat(ConditionCompiler.like(pattern, true).matcher(value).matches()).isEqualTo(matches);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryDatabaseConfigurationTest {
+
+    @Test
+    @DisplayName("Should be found by the service loader")
+    void shouldLoadConfiguration() {
+        DatabaseConfiguration configuration = DatabaseConfiguration.getConfiguration(MemoryDatabaseConfiguration.class);
+
+        assertThat(configuration).isInstanceOf(MemoryDatabaseConfiguration.class);
+    }
+
+    @Test
+    @DisplayName("Should share the database by name until the factory is closed")
+    void shouldShareDatabase() {
+        var factory = new MemoryDatabaseConfiguration().apply(Settings.builder().build());
+        var entity = CommunicationEntity.of("Book");
+        entity.add("_id", "1");
+        factory.apply("library").insert(entity);
+
+        assertThat(factory.apply("library").count("Book")).isEqualTo(1L);
+        assertThat(factory.apply("archive").count("Book")).isZero();
+
+        factory.close();
+
+        assertThat(factory.apply("library").count("Book")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should declare the indexes of the settings")
+    void shouldDeclareIndexes() {
+        var settings = Settings.builder()
+                .put(MemoryConfigurations.HASH_INDEX, "Book.author, Book.genre")
+                .put(MemoryConfigurations.SORTED_INDEX.get() + "-1", "Book.year")
+                .build();
+        var manager = new MemoryDatabaseConfiguration().apply(settings).apply("library");
+        var entity = CommunicationEntity.of("Book");
+        entity.add("_id", "1");
+        entity.add("author", "Tolkien");
+        entity.add("year", 1937);
+        manager.insert(entity);
+
+        var query = SelectQuery.select().from("Book").where("author").eq("Tolkien").and("year").lt(1950).build();
+
+        assertThat(manager.select(query)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed index")
+    void shouldRejectMalformedIndex() {
+        var settings = Settings.builder().put(MemoryConfigurations.HASH_INDEX, "author").build();
+        var configuration = new MemoryDatabaseConfiguration();
+
+        assertThatThrownBy(() -> configuration.apply(settings)).isInstanceOf(CommunicationException.class);
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.memory;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.and;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.between;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.eq;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.gte;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.ignoreCase;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.in;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.like;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.lt;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.not;
+import static org.eclipse.jnosql.communication.semistructured.CriteriaCondition.or;
+
+class MemoryDatabaseManagerTest {
+
+    private MutableClock clock;
+
+    private MemoryDatabaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        manager = new MemoryDatabaseManagerFactory(List.of(), clock).apply("library");
+        manager.insert(List.of(
+                book("1", "The Hobbit", "Tolkien", 1937, "FANTASY"),
+                book("2", "The Silmarillion", "Tolkien", 1977, "FANTASY"),
+                book("3", "Dune", "Herbert", 1965, "SCIENCE"),
+                book("4", "Foundation", "Asimov", 1951, "SCIENCE"),
+                book("5", "Neuromancer", "Gibson", 1984, "SCIENCE")));
+    }
+
+    @Nested
+    @DisplayName("When entities are written")
+    class WhenEntitiesAreWritten {
+
+        @Test
+        @DisplayName("Should generate the id of an entity without one")
+        void shouldGenerateId() {
+            var entity = CommunicationEntity.of("Book");
+            entity.add("title", "Emma");
+
+            manager.insert(entity);
+
+            assertThat(entity.find("_id")).isPresent();
+            assertThat(manager.count("Book")).isEqualTo(6L);
+        }
+
+        @Test
+        @DisplayName("Should store a copy of the entity")
+        void shouldStoreCopy() {
+            var entity = book("6", "Emma", "Austen", 1815, "ROMANCE");
+            manager.insert(entity);
+
+            entity.add("title", "Changed");
+
+            assertThat(titles(select(eq("_id", "6")))).containsExactly("Emma");
+        }
+
+        @Test
+        @DisplayName("Should replace the entity with the same id on update")
+        void shouldUpdate() {
+            manager.update(book("3", "Dune Messiah", "Herbert", 1969, "SCIENCE"));
+
+            assertThat(titles(select(eq("author", "Herbert")))).containsExactly("Dune Messiah");
+            assertThat(manager.count("Book")).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("Should match the id by its numeric value")
+        void shouldMatchNumericId() {
+            var entity = CommunicationEntity.of("Counter");
+            entity.add("_id", 10);
+            entity.add("value", 1);
+            manager.insert(entity);
+
+            var updated = CommunicationEntity.of("Counter");
+            updated.add("_id", 10L);
+            updated.add("value", 2);
+            manager.update(updated);
+
+            assertThat(manager.count("Counter")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should reject an update without id")
+        void shouldRejectUpdateWithoutId() {
+            assertThatThrownBy(() -> manager.update(CommunicationEntity.of("Book")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should delete the matching entities")
+        void shouldDelete() {
+            var query = DeleteQuery.delete().from("Book").where("author").eq("Tolkien").build();
+
+            assertThat(manager.deleteAndCount(query)).isEqualTo(2L);
+            assertThat(manager.count("Book")).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("Should delete the columns of the matching entities")
+        void shouldDeleteColumns() {
+            manager.delete(DeleteQuery.delete("genre").from("Book").where("author").eq("Tolkien").build());
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(manager.count("Book")).isEqualTo(5L);
+                soft.assertThat(select(eq("author", "Tolkien")))
+                        .allSatisfy(entity -> assertThat(entity.find("genre")).isEmpty());
+                soft.assertThat(select(eq("genre", "FANTASY"))).isEmpty();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("When entities are selected")
+    class WhenEntitiesAreSelected {
+
+        @Test
+        @DisplayName("Should return nothing for an unknown entity")
+        void shouldReturnEmpty() {
+            assertThat(manager.select(SelectQuery.select().from("Unknown").build())).isEmpty();
+            assertThat(manager.count("Unknown")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should evaluate the comparisons")
+        void shouldCompare() {
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(titles(select(gt("year", 1970)))).containsExactlyInAnyOrder("The Silmarillion",
+                        "Neuromancer");
+                soft.assertThat(titles(select(gte("year", 1977L)))).containsExactlyInAnyOrder("The Silmarillion",
+                        "Neuromancer");
+                soft.assertThat(titles(select(lt("year", 1950.5)))).containsExactly("The Hobbit");
+                soft.assertThat(titles(select(between("year", List.of(1950, 1970))))).containsExactlyInAnyOrder(
+                        "Dune", "Foundation");
+            });
+        }
+
+        @Test
+        @DisplayName("Should evaluate the nested AND, OR and NOT")
+        void shouldEvaluateNestedConditions() {
+            var condition = or(and(eq("author", "Tolkien"), not(eq("year", 1937))),
+                    in("author", List.of("Gibson", "Asimov")));
+
+            assertThat(titles(select(condition))).containsExactlyInAnyOrder("The Silmarillion", "Foundation",
+                    "Neuromancer");
+        }
+
+        @Test
+        @DisplayName("Should evaluate the text conditions")
+        void shouldEvaluateText() {
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(titles(select(like("title", "The %")))).containsExactlyInAnyOrder("The Hobbit",
+                        "The Silmarillion");
+                soft.assertThat(titles(select(like("title", "Dun_")))).containsExactly("Dune");
+                soft.assertThat(titles(select(CriteriaCondition.contains(Element.of("title", "man")))))
+                        .containsExactly("Neuromancer");
+                soft.assertThat(titles(select(CriteriaCondition.startsWith(Element.of("title", "Found")))))
+                        .containsExactly("Foundation");
+                soft.assertThat(titles(select(CriteriaCondition.endsWith(Element.of("title", "ion")))))
+                        .containsExactlyInAnyOrder("The Silmarillion", "Foundation");
+            });
+        }
+
+        @Test
+        @DisplayName("Should ignore the case")
+        void shouldIgnoreCase() {
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(titles(select(ignoreCase(eq("author", "tolkien"))))).hasSize(2);
+                soft.assertThat(titles(select(ignoreCase(like("title", "the h%"))))).containsExactly("The Hobbit");
+                soft.assertThat(titles(select(ignoreCase(in("genre", List.of("fantasy")))))).hasSize(2);
+                soft.assertThat(titles(select(eq("author", "tolkien")))).isEmpty();
+            });
+        }
+
+        @Test
+        @DisplayName("Should match an element of a collection with CONTAINS")
+        void shouldContainItem() {
+            var entity = book("6", "Emma", "Austen", 1815, "ROMANCE");
+            entity.add("tags", List.of("classic", "novel"));
+            manager.insert(entity);
+
+            assertThat(titles(select(CriteriaCondition.contains(Element.of("tags", "novel"))))).containsExactly("Emma");
+        }
+
+        @Test
+        @DisplayName("Should read the field of a sub-entity by its path")
+        void shouldReadPath() {
+            var entity = book("6", "Emma", "Austen", 1815, "ROMANCE");
+            entity.add("publisher", List.of(Element.of("name", "Egerton"), Element.of("city", "London")));
+            manager.insert(entity);
+
+            assertThat(titles(select(eq("publisher.city", "London")))).containsExactly("Emma");
+        }
+
+        @Test
+        @DisplayName("Should sort, skip and limit")
+        void shouldSortSkipAndLimit() {
+            var query = SelectQuery.select().from("Book").orderBy("year").desc().skip(1).limit(2).build();
+
+            assertThat(titles(manager.select(query))).containsExactly("The Silmarillion", "Dune");
+        }
+
+        @Test
+        @DisplayName("Should sort by several fields")
+        void shouldSortBySeveralFields() {
+            var query = SelectQuery.select().from("Book").orderBy("genre").asc().orderBy("title").desc().build();
+
+            assertThat(titles(manager.select(query))).containsExactly("The Silmarillion", "The Hobbit",
+                    "Neuromancer", "Foundation", "Dune");
+        }
+
+        @Test
+        @DisplayName("Should project the columns")
+        void shouldProject() {
+            var query = SelectQuery.select("title").from("Book").where("_id").eq("1").build();
+
+            assertThat(manager.select(query).findFirst().orElseThrow().elementNames()).containsExactly("title");
+        }
+
+        @Test
+        @DisplayName("Should project the fields of a sub-entity by their path")
+        void shouldProjectPath() {
+            var entity = book("6", "Emma", "Austen", 1815, "ROMANCE");
+            entity.add("publisher", List.of(Element.of("name", "Egerton"), Element.of("city", "London"),
+                    Element.of("country", "England")));
+            manager.insert(entity);
+            var query = SelectQuery.select("title", "publisher.city", "publisher.country").from("Book")
+                    .where("_id").eq("6").build();
+
+            CommunicationEntity projected = manager.select(query).findFirst().orElseThrow();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(projected.elementNames()).containsExactly("title", "publisher");
+                soft.assertThat(projected.find("publisher").orElseThrow().get())
+                        .isEqualTo(List.of(Element.of("city", "London"), Element.of("country", "England")));
+            });
+        }
+
+        @Test
+        @DisplayName("Should paginate with a cursor")
+        void shouldPaginateWithCursor() {
+            var query = SelectQuery.select().from("Book").orderBy("year").asc().build();
+
+            CursoredPage<CommunicationEntity> first = manager.selectCursor(query, PageRequest.ofSize(2));
+            CursoredPage<CommunicationEntity> second = manager.selectCursor(query, first.nextPageRequest());
+
+            assertThat(titles(first.content().stream())).containsExactly("The Hobbit", "Foundation");
+            assertThat(titles(second.content().stream())).containsExactly("Dune", "The Silmarillion");
+        }
+    }
+
+    @Nested
+    @DisplayName("When the fields are indexed")
+    class WhenTheFieldsAreIndexed {
+
+        @BeforeEach
+        void setUp() {
+            manager.index("Book", "author", IndexType.HASH);
+            manager.index("Book", "year", IndexType.SORTED);
+        }
+
+        @Test
+        @DisplayName("Should answer the same as the full scan")
+        void shouldAnswerAsFullScan() {
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(titles(select(eq("author", "Tolkien")))).containsExactlyInAnyOrder("The Hobbit",
+                        "The Silmarillion");
+                soft.assertThat(titles(select(in("author", List.of("Asimov", "Gibson"))))).containsExactlyInAnyOrder(
+                        "Foundation", "Neuromancer");
+                soft.assertThat(titles(select(between("year", List.of(1951L, 1965L))))).containsExactlyInAnyOrder(
+                        "Foundation", "Dune");
+                soft.assertThat(titles(select(and(eq("author", "Tolkien"), gt("year", 1950)))))
+                        .containsExactly("The Silmarillion");
+                soft.assertThat(titles(select(or(eq("author", "Herbert"), lt("year", 1940)))))
+                        .containsExactlyInAnyOrder("Dune", "The Hobbit");
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep the index up to date on writes")
+        void shouldMaintainIndex() {
+            manager.update(book("1", "The Hobbit", "J. R. R. Tolkien", 1937, "FANTASY"));
+            manager.delete(DeleteQuery.delete().from("Book").where("_id").eq("2").build());
+            manager.insert(book("6", "Farmer Giles of Ham", "Tolkien", 1949, "FANTASY"));
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(titles(select(eq("author", "Tolkien")))).containsExactly("Farmer Giles of Ham");
+                soft.assertThat(titles(select(gte("year", 1977)))).containsExactly("Neuromancer");
+            });
+        }
+
+        @Test
+        @DisplayName("Should not use the index for a missing value")
+        void shouldNotUseIndexForNull() {
+            var entity = CommunicationEntity.of("Book");
+            entity.add("_id", "6");
+            entity.add("title", "Beowulf");
+            manager.insert(entity);
+
+            assertThat(titles(select(not(eq("author", "Tolkien"))))).contains("Beowulf");
+        }
+    }
+
+    @Nested
+    @DisplayName("When the entities have a TTL")
+    class WhenTheEntitiesHaveTTL {
+
+        @Test
+        @DisplayName("Should expire the entity")
+        void shouldExpire() {
+            manager.insert(book("6", "Emma", "Austen", 1815, "ROMANCE"), Duration.ofSeconds(10));
+            assertThat(manager.count("Book")).isEqualTo(6L);
+
+            clock.advance(Duration.ofSeconds(10));
+
+            assertThat(manager.count("Book")).isEqualTo(5L);
+            assertThat(select(eq("_id", "6"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should keep the TTL on update")
+        void shouldKeepTTLOnUpdate() {
+            manager.insert(book("6", "Emma", "Austen", 1815, "ROMANCE"), Duration.ofSeconds(10));
+            manager.update(book("6", "Emma", "Jane Austen", 1815, "ROMANCE"));
+
+            clock.advance(Duration.ofSeconds(10));
+
+            assertThat(select(eq("_id", "6"))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should use _id as the default id field name")
+    void shouldReturnDefaultIdFieldName() {
+        assertThat(manager.defaultIdFieldName()).contains("_id");
+    }
+
+    private List<CommunicationEntity> select(CriteriaCondition condition) {
+        return manager.select(SelectQuery.builder().from("Book").where(condition).build()).toList();
+    }
+
+    private static List<String> titles(List<CommunicationEntity> entities) {
+        return titles(entities.stream());
+    }
+
+    private static List<String> titles(Stream<CommunicationEntity> entities) {
+        return entities.map(entity -> entity.find("title", String.class).orElseThrow()).toList();
+    }
+
+    private static CommunicationEntity book(String id, String title, String author, int year, String genre) {
+        var entity = CommunicationEntity.of("Book");
+        entity.add("_id", id);
+        entity.add("title", title);
+        entity.add("author", author);
+        entity.add("year", year);
+        entity.add("genre", genre);
+        return entity;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -2,7 +2,7 @@ grammar JDQL;
 
 statement : select_statement | update_statement | delete_statement;
 
-select_statement : select_clause? from_clause? where_clause? orderby_clause?;
+select_statement : select_clause? from_clause? where_clause? groupby_clause? orderby_clause?;
 update_statement : UPDATE entity_name set_clause where_clause?;
 delete_statement : DELETE from_clause where_clause?;
 
@@ -15,10 +15,14 @@ update_item : state_field_path_expression EQ (scalar_expression | NULL);
 
 select_clause : SELECT select_list;
 select_list
-    : state_field_path_expression (COMMA state_field_path_expression)*
+    : select_item (COMMA select_item)*
     | aggregate_expression
     ;
+select_item : aggregate_function | state_field_path_expression;
 aggregate_expression : COUNT '(' THIS ')';
+aggregate_function : (COUNT | SUM | AVG | MIN | MAX) '(' state_field_path_expression ')';
+
+groupby_clause : GROUP BY state_field_path_expression (COMMA state_field_path_expression)*;
 
 orderby_clause : ORDER BY orderby_item (COMMA orderby_item)*;
 orderby_item : state_field_path_expression (ASC | DESC)?;
@@ -81,13 +85,13 @@ special_expression
 
 state_field_path_expression : identifier (DOT identifier)* | FULLY_QUALIFIED_IDENTIFIER | FUNCTION_ID;
 
-identifier : IDENTIFIER | ABS | LENGTH | LOWER | UPPER | LEFT | RIGHT;
+identifier : IDENTIFIER | ABS | LENGTH | LOWER | UPPER | LEFT | RIGHT | SUM | AVG | MIN | MAX | GROUP;
 
 entity_name : identifier; // no ambiguity
 
 enum_literal : IDENTIFIER (DOT IDENTIFIER)* | FULLY_QUALIFIED_IDENTIFIER; // ambiguity with state_field_path_expression resolvable semantically
 
-input_parameter : COLON IDENTIFIER | QUESTION INTEGER;
+input_parameter : COLON identifier | QUESTION INTEGER;
 
 literal : STRING | INTEGER | DOUBLE;
 
@@ -105,6 +109,11 @@ IN              : [iI][nN];
 IS              : [iI][sS];
 NULL            : [nN][uU][lL][lL];
 COUNT           : [cC][oO][uU][nN][tT];
+SUM             : [sS][uU][mM];
+AVG             : [aA][vV][gG];
+MIN             : [mM][iI][nN];
+MAX             : [mM][aA][xX];
+GROUP           : [gG][rR][oO][uU][pP];
 TRUE            : [tT][rR][uU][eE];
 FALSE           : [fF][aA][lL][sS][eE];
 ASC             : [aA][sS][cC];
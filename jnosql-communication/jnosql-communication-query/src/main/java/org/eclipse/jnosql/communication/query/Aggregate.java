@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * An aggregate function applied to a field in the select clause, such as {@code SUM(price)}.
+ *
+ * @param function the aggregate function
+ * @param field    the field the function is applied to
+ */
+public record Aggregate(AggregateFunction function, String field) {
+
+    /**
+     * Creates an aggregate.
+     *
+     * @throws NullPointerException when either the function or the field is null
+     */
+    public Aggregate {
+        Objects.requireNonNull(function, "function is required");
+        Objects.requireNonNull(field, "field is required");
+    }
+
+    /**
+     * Returns the name of the result of this aggregate, the function in lower case followed by the field
+     * between parentheses, for example, {@code sum(price)}.
+     *
+     * @return the name of the result
+     */
+    public String alias() {
+        return function.name().toLowerCase(Locale.US) + '(' + field + ')';
+    }
+
+    @Override
+    public String toString() {
+        return function.name() + '(' + field + ')';
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+/**
+ * The aggregate functions of a select query, computed over the entities of each group.
+ * Except for {@link #COUNT}, the result of a function over a group without values is null.
+ *
+ * @see Aggregate
+ */
+public enum AggregateFunction {
+
+    /**
+     * The number of non-null values.
+     */
+    COUNT,
+    /**
+     * The sum of the numeric values.
+     */
+    SUM,
+    /**
+     * The arithmetic mean of the numeric values.
+     */
+    AVG,
+    /**
+     * The lowest value.
+     */
+    MIN,
+    /**
+     * The highest value.
+     */
+    MAX
+}
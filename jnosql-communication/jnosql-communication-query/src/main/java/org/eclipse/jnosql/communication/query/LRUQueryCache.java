@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A {@link QueryCache} bounded by size that evicts the least recently used queries.
+ * A hit only reads a {@link ConcurrentHashMap} and stamps the query with a counter, thus it never waits for a lock.
+ * Once the maximum size is passed, the thread that added the query evicts the least recently used sixteenth of the
+ * cache at once, so the cost of finding them is shared by the next misses.
+ * The parsing happens outside any lock, thus two threads may parse the same query at once; the first result is kept.
+ */
+public final class LRUQueryCache implements QueryCache {
+
+    private static final int EVICTION_BATCH = 16;
+
+    private final int maximumSize;
+
+    private final Map<String, Entry> queries = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache that holds up to the maximum size of queries.
+     *
+     * @param maximumSize the maximum number of cached queries
+     * @throws IllegalArgumentException when the maximum size is negative
+     */
+    public LRUQueryCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size cannot be negative: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(String key, Supplier<T> loader) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(loader, "loader is required");
+        Entry entry = queries.get(key);
+        if (entry != null) {
+            hits.increment();
+            touch(entry);
+            return (T) entry.query;
+        }
+        misses.increment();
+        T query = loader.get();
+        if (query == null || maximumSize == 0) {
+            return query;
+        }
+        Entry current = queries.putIfAbsent(key, new Entry(query, clock.incrementAndGet()));
+        if (current != null) {
+            return (T) current.query;
+        }
+        evict();
+        return query;
+    }
+
+    @Override
+    public int size() {
+        return queries.size();
+    }
+
+    @Override
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public QueryCacheStatistics statistics() {
+        return new QueryCacheStatistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    @Override
+    public void clear() {
+        queries.clear();
+    }
+
+    private void touch(Entry entry) {
+        if (entry.accessed != clock.get()) {
+            entry.accessed = clock.incrementAndGet();
+        }
+    }
+
+    private void evict() {
+        if (queries.size() <= maximumSize) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            if (queries.size() <= maximumSize) {
+                return;
+            }
+            int excess = queries.size() - maximumSize + maximumSize / EVICTION_BATCH;
+            long[] stamps = queries.values().stream().mapToLong(entry -> entry.accessed).toArray();
+            Arrays.sort(stamps);
+            long threshold = stamps[Math.min(excess, stamps.length) - 1];
+            queries.forEach((key, entry) -> {
+                if (entry.accessed <= threshold && queries.remove(key, entry)) {
+                    evictions.increment();
+                }
+            });
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LRUQueryCache{" +
+                "maximumSize=" + maximumSize +
+                ", statistics=" + statistics() +
+                '}';
+    }
+
+    private static final class Entry {
+
+        private final Object query;
+
+        private volatile long accessed;
+
+        private Entry(Object query, long accessed) {
+            this.query = query;
+            this.accessed = accessed;
+        }
+    }
+}
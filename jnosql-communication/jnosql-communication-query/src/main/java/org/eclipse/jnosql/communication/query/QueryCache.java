@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.query;
+
+import java.util.function.Supplier;
+
+/**
+ * The cache of the parsed queries, shared by the JDQL and the method name query providers.
+ * The keys are namespaced by the provider, thus a single cache can hold the select, update and delete queries.
+ * Use {@link QueryCaches#set(QueryCache)} to plug in another implementation.
+ *
+ * @see LRUQueryCache
+ * @see QueryCaches
+ */
+public interface QueryCache {
+
+    /**
+     * Returns the query cached to the key, or parses it with the loader and caches the result.
+     *
+     * @param key    the cache key
+     * @param loader the loader that parses the query when it is not cached
+     * @param <T>    the query type
+     * @return the cached or the parsed query
+     * @throws NullPointerException when either key or loader are null
+     */
+    <T> T get(String key, Supplier<T> loader);
+
+    /**
+     * Returns the number of queries currently cached.
+     *
+     * @return the number of cached queries
+     */
+    int size();
+
+    /**
+     * Returns the maximum number of queries this cache holds before it evicts the entries.
+     *
+     * @return the maximum size
+     */
+    int maximumSize();
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     *
+     * @return the cache statistics
+     */
+    QueryCacheStatistics statistics();
+
+    /**
+     * Removes all the cached queries; the counters are kept.
+     */
+    void clear();
+}
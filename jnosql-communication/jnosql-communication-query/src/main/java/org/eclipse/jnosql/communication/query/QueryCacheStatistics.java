@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.query;
+
+/**
+ * A snapshot of the counters of a {@link QueryCache}.
+ *
+ * @param hits      the number of lookups that found a cached query
+ * @param misses    the number of lookups that had to parse the query
+ * @param evictions the number of queries removed to honor the maximum size
+ */
+public record QueryCacheStatistics(long hits, long misses, long evictions) {
+
+    /**
+     * Returns the ratio of the lookups that found a cached query, or {@code 1.0} when there was no lookup.
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
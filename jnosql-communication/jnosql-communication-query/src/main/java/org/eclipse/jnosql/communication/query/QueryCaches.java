@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Holds the {@link QueryCache} used by the query providers.
+ * By default, it is a {@link LRUQueryCache} whose size comes from the {@value #SIZE} system property,
+ * or {@value #DEFAULT_SIZE} when the property is absent.
+ */
+public final class QueryCaches {
+
+    /**
+     * The property that defines the maximum number of parsed queries kept in the cache.
+     */
+    public static final String SIZE = "jnosql.query.cache.size";
+
+    /**
+     * The maximum number of parsed queries kept when the size is not defined.
+     */
+    public static final int DEFAULT_SIZE = 1_000;
+
+    private static final Logger LOGGER = Logger.getLogger(QueryCaches.class.getName());
+
+    private static volatile QueryCache cache = new LRUQueryCache(defaultSize());
+
+    private QueryCaches() {
+    }
+
+    /**
+     * Returns the current query cache.
+     *
+     * @return the query cache
+     */
+    public static QueryCache get() {
+        return cache;
+    }
+
+    /**
+     * Replaces the query cache; the queries cached so far are dropped.
+     *
+     * @param queryCache the new query cache
+     * @throws NullPointerException when the query cache is null
+     */
+    public static void set(QueryCache queryCache) {
+        Objects.requireNonNull(queryCache, "queryCache is required");
+        cache = queryCache;
+    }
+
+    /**
+     * Replaces the query cache with a {@link LRUQueryCache} of the given size, unless the current one already has it.
+     *
+     * @param maximumSize the maximum number of cached queries
+     * @throws IllegalArgumentException when the maximum size is negative
+     */
+    public static void resize(int maximumSize) {
+        if (cache.maximumSize() != maximumSize) {
+            set(new LRUQueryCache(maximumSize));
+        }
+    }
+
+    private static int defaultSize() {
+        String size = System.getProperty(SIZE);
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(size.trim()));
+        } catch (NumberFormatException exception) {
+            LOGGER.warning("The property " + SIZE + " is not a number: " + size + ", using " + DEFAULT_SIZE);
+            return DEFAULT_SIZE;
+        }
+    }
+}
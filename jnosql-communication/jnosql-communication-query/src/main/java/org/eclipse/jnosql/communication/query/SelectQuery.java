@@ -84,4 +84,23 @@ public interface SelectQuery extends Query {
      *         retrieve the entities
      */
     boolean isCount();
+
+    /**
+     * Retrieves the aggregate functions in the select clause, such as {@code SUM(price)}.
+     * They are computed for each group of {@link #groupBy()}, or over all the entities when there is no group.
+     *
+     * @return the aggregate functions; never null but may be empty
+     */
+    default List<Aggregate> aggregates() {
+        return List.of();
+    }
+
+    /**
+     * Retrieves the fields of the group by clause, whose distinct values define the groups of the aggregate functions.
+     *
+     * @return the group by fields; never null but may be empty
+     */
+    default List<String> groupBy() {
+        return List.of();
+    }
 }
@@ -12,10 +12,9 @@
 package org.eclipse.jnosql.communication.query.data;
 
 import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.QueryCaches;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -24,12 +23,10 @@ import java.util.function.Function;
 public enum DeleteProvider implements Function<String, DeleteQuery> {
     INSTANCE;
 
-    private final Map<String, DeleteQuery> cache = new ConcurrentHashMap<>();
-
     @Override
     public DeleteQuery apply(String query) {
         Objects.requireNonNull(query, " query is required");
-        return cache.computeIfAbsent(query, k -> {
+        return QueryCaches.get().get("delete::" + query, () -> {
             var deleteParser = new DeleteParser();
             return deleteParser.apply(query);
         });
@@ -13,11 +13,14 @@ package org.eclipse.jnosql.communication.query.data;
 
 import jakarta.data.Sort;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.query.grammar.data.JDQLParser;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.BiFunction;
 
@@ -33,6 +36,10 @@ public final class SelectParser extends AbstractWhere implements BiFunction<Stri
 
     private final List<String> fields = new ArrayList<>();
 
+    private final List<Aggregate> aggregates = new ArrayList<>();
+
+    private final List<String> groupBy = new ArrayList<>();
+
     private boolean count = false;
 
     @Override
@@ -43,7 +50,8 @@ public final class SelectParser extends AbstractWhere implements BiFunction<Stri
         if(this.entity == null) {
             throw new IllegalArgumentException("The entity is required in the query");
         }
-        return new JDQLSelectQuery(fields, this.entity, sorts, where, count);
+        checkGroupBy();
+        return new JDQLSelectQuery(fields, this.entity, sorts, where, count, aggregates, groupBy);
     }
 
     @Override
@@ -64,13 +72,44 @@ public final class SelectParser extends AbstractWhere implements BiFunction<Stri
 
     @Override
     public void exitSelect_list(JDQLParser.Select_listContext ctx) {
-        var stateField = ctx.state_field_path_expression();
-        var aggregate = ctx.aggregate_expression();
+        if (ctx.aggregate_expression() != null) {
+            this.count = true;
+            return;
+        }
+        for (var item : ctx.select_item()) {
+            var function = item.aggregate_function();
+            if (function != null) {
+                var name = AggregateFunction.valueOf(function.getChild(0).getText().toUpperCase(Locale.US));
+                aggregates.add(new Aggregate(name, function.state_field_path_expression().getText()));
+            } else {
+                fields.add(item.state_field_path_expression().getText());
+            }
+        }
+    }
 
-        if (stateField != null) {
-            stateField.stream().map(ParseTree::getText).forEach(fields::add);
-        } else if (aggregate != null) {
-           this.count = true;
+    @Override
+    public void exitGroupby_clause(JDQLParser.Groupby_clauseContext ctx) {
+        ctx.state_field_path_expression().stream().map(ParseTree::getText).forEach(groupBy::add);
+    }
+
+    private void checkGroupBy() {
+        if (aggregates.isEmpty() && groupBy.isEmpty()) {
+            return;
+        }
+        if (count) {
+            throw new IllegalArgumentException("COUNT(THIS) cannot be combined with GROUP BY, use COUNT of a field instead");
+        }
+        for (String field : fields) {
+            if (!groupBy.contains(field)) {
+                throw new IllegalArgumentException("The field " + field
+                        + " must be in the GROUP BY clause to be selected with an aggregate function");
+            }
+        }
+        for (Sort<?> sort : sorts) {
+            if (!groupBy.contains(sort.property())) {
+                throw new IllegalArgumentException("The field " + sort.property()
+                        + " must be in the GROUP BY clause to be ordered with an aggregate function");
+            }
         }
     }
 
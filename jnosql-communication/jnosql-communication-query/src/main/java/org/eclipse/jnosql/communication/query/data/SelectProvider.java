@@ -11,16 +11,15 @@
  */
 package org.eclipse.jnosql.communication.query.data;
 
+import org.eclipse.jnosql.communication.query.QueryCaches;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
- * A provider for creating and caching {@link SelectQuery} instances based on a query string and an entity name. This
- * implementation uses a concurrent map to cache the queries for performance optimization. The queries are parsed using
+ * A provider for creating and caching {@link SelectQuery} instances based on a query string and an entity name. The queries
+ * are cached in the shared {@link QueryCaches#get() query cache}. The queries are parsed using
  * the {@link SelectParser}.
  *
  * @see SelectParser
@@ -29,15 +28,12 @@ public enum SelectProvider implements BiFunction<String, String, SelectQuery> {
 
     INSTANCE;
 
-    private final Map<String, SelectQuery> cache = new ConcurrentHashMap<>();
-
-
     @Override
     public SelectQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
 
-        String key = query + "::" + (entity == null ? "<null>" : entity);
-        return cache.computeIfAbsent(key, k -> {
+        String key = "select::" + query + "::" + (entity == null ? "<null>" : entity);
+        return QueryCaches.get().get(key, () -> {
             var selectParser = new SelectParser();
             return selectParser.apply(query, entity);
         });
@@ -11,16 +11,15 @@
  */
 package org.eclipse.jnosql.communication.query.data;
 
+import org.eclipse.jnosql.communication.query.QueryCaches;
 import org.eclipse.jnosql.communication.query.UpdateQuery;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
- * A provider for creating and caching {@link UpdateQuery} instances based on a query string. This implementation uses a
- * concurrent map to cache the queries for performance optimization. The queries are parsed using the {@link UpdateParser}.
+ * A provider for creating and caching {@link UpdateQuery} instances based on a query string. The queries are cached
+ * in the shared {@link QueryCaches#get() query cache}. The queries are parsed using the {@link UpdateParser}.
  *
  * @see UpdateParser
  */
@@ -28,13 +27,10 @@ public enum UpdateProvider implements Function<String, UpdateQuery> {
 
     INSTANCE;
 
-    private final Map<String, UpdateQuery> cache = new ConcurrentHashMap<>();
-
-
     @Override
     public UpdateQuery apply(String query) {
         Objects.requireNonNull(query, " query is required");
-        return cache.computeIfAbsent(query, k -> {
+        return QueryCaches.get().get("update::" + query, () -> {
             var updateParser = new UpdateParser();
             return updateParser.apply(query);
         });
@@ -12,12 +12,11 @@
 package org.eclipse.jnosql.communication.query.method;
 
 
+import org.eclipse.jnosql.communication.query.QueryCaches;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 
 import java.lang.reflect.Method;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
@@ -27,9 +26,6 @@ public enum SelectMethodProvider implements BiFunction<Method, String, SelectQue
 
     INSTANCE;
 
-    private final Map<String, SelectQuery> cache = new ConcurrentHashMap<>();
-
-
     @Override
     public SelectQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
@@ -47,9 +43,9 @@ public enum SelectMethodProvider implements BiFunction<Method, String, SelectQue
     public SelectQuery apply(String methodName, String entity) {
         Objects.requireNonNull(methodName, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        var key = methodName + "::" + entity;
+        var key = "select-method::" + methodName + "::" + entity;
 
-        return cache.computeIfAbsent(key, k -> {
+        return QueryCaches.get().get(key, () -> {
             SelectMethodQueryParser provider = new SelectMethodQueryParser();
             return provider.apply(methodName, entity);
         });
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("LRUQueryCache")
+class LRUQueryCacheTest {
+
+    @Test
+    @DisplayName("should load once and count the hits and misses")
+    void shouldCountHitsAndMisses() {
+        var cache = new LRUQueryCache(10);
+        var loads = new AtomicInteger();
+
+        String first = cache.get("key", () -> "query-" + loads.incrementAndGet());
+        String second = cache.get("key", () -> "query-" + loads.incrementAndGet());
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).isEqualTo("query-1");
+            softly.assertThat(second).isEqualTo("query-1");
+            softly.assertThat(cache.size()).isEqualTo(1);
+            softly.assertThat(cache.statistics()).isEqualTo(new QueryCacheStatistics(1, 1, 0));
+            softly.assertThat(cache.statistics().hitRatio()).isEqualTo(0.5);
+        });
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used query")
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new LRUQueryCache(2);
+        cache.get("a", () -> "a");
+        cache.get("b", () -> "b");
+        cache.get("a", () -> "a");
+        cache.get("c", () -> "c");
+
+        String reloaded = cache.get("b", () -> "b-reloaded");
+
+        assertSoftly(softly -> {
+            softly.assertThat(reloaded).isEqualTo("b-reloaded");
+            softly.assertThat(cache.size()).isEqualTo(2);
+            softly.assertThat(cache.statistics().evictions()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used queries in a batch")
+    void shouldEvictInBatch() {
+        var cache = new LRUQueryCache(32);
+        IntStream.range(0, 32).forEach(index -> cache.get("q" + index, () -> "q" + index));
+        cache.get("q0", () -> "q0");
+        cache.get("q32", () -> "q32");
+
+        String recent = cache.get("q0", () -> "q0-reloaded");
+
+        assertSoftly(softly -> {
+            softly.assertThat(recent).isEqualTo("q0");
+            softly.assertThat(cache.size()).isEqualTo(30);
+            softly.assertThat(cache.statistics().evictions()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("should not keep the queries when the size is zero")
+    void shouldNotCacheWhenSizeIsZero() {
+        var cache = new LRUQueryCache(0);
+        cache.get("a", () -> "a");
+        cache.get("a", () -> "a");
+
+        assertSoftly(softly -> {
+            softly.assertThat(cache.size()).isZero();
+            softly.assertThat(cache.statistics().misses()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("should clear the queries")
+    void shouldClear() {
+        var cache = new LRUQueryCache(10);
+        cache.get("a", () -> "a");
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject a negative size")
+    void shouldRejectNegativeSize() {
+        assertThatThrownBy(() -> new LRUQueryCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should share the cache with the query providers")
+    void shouldShareCacheWithProviders() {
+        QueryCache previous = QueryCaches.get();
+        try {
+            var cache = new LRUQueryCache(10);
+            QueryCaches.set(cache);
+            var query = SelectProvider.INSTANCE.apply("FROM Person WHERE age > 10", null);
+
+            assertSoftly(softly -> {
+                softly.assertThat(SelectProvider.INSTANCE.apply("FROM Person WHERE age > 10", null)).isSameAs(query);
+                softly.assertThat(cache.statistics()).isEqualTo(new QueryCacheStatistics(1, 1, 0));
+            });
+        } finally {
+            QueryCaches.set(previous);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class SelectJakartaDataQueryAggregateTest {
+
+    private SelectParser selectParser;
+
+    @BeforeEach
+    void setUp() {
+        selectParser = new SelectParser();
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @DisplayName("Should parse the aggregate functions")
+    @ValueSource(strings = {"SELECT count(name), sum(price), avg(price), min(age), max(age) FROM Product"})
+    void shouldParseFunctions(String query) {
+        var selectQuery = selectParser.apply(query, null);
+
+        assertSoftly(soft -> {
+            soft.assertThat(selectQuery.entity()).isEqualTo("Product");
+            soft.assertThat(selectQuery.fields()).isEmpty();
+            soft.assertThat(selectQuery.isCount()).isFalse();
+            soft.assertThat(selectQuery.groupBy()).isEmpty();
+            soft.assertThat(selectQuery.aggregates()).containsExactly(
+                    new Aggregate(AggregateFunction.COUNT, "name"),
+                    new Aggregate(AggregateFunction.SUM, "price"),
+                    new Aggregate(AggregateFunction.AVG, "price"),
+                    new Aggregate(AggregateFunction.MIN, "age"),
+                    new Aggregate(AggregateFunction.MAX, "age"));
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @DisplayName("Should parse the group by clause")
+    @ValueSource(strings = {"SELECT category, SUM(price) FROM Product WHERE active = true GROUP BY category ORDER BY category"})
+    void shouldParseGroupBy(String query) {
+        var selectQuery = selectParser.apply(query, null);
+
+        assertSoftly(soft -> {
+            soft.assertThat(selectQuery.fields()).containsExactly("category");
+            soft.assertThat(selectQuery.aggregates()).containsExactly(new Aggregate(AggregateFunction.SUM, "price"));
+            soft.assertThat(selectQuery.groupBy()).containsExactly("category");
+            soft.assertThat(selectQuery.orderBy()).hasSize(1);
+            soft.assertThat(selectQuery.where().orElseThrow().condition().condition()).isEqualTo(Condition.EQUALS);
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep min and max as parameter names")
+    void shouldKeepFunctionNamesAsParameters() {
+        var selectQuery = selectParser.apply("FROM Product WHERE price BETWEEN :min AND :max", null);
+
+        assertSoftly(soft -> {
+            soft.assertThat(selectQuery.aggregates()).isEmpty();
+            soft.assertThat(selectQuery.where().orElseThrow().condition().condition()).isEqualTo(Condition.BETWEEN);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject a selected field out of the group by clause")
+    void shouldRejectFieldOutOfGroupBy() {
+        assertThatThrownBy(() -> selectParser.apply("SELECT name, SUM(price) FROM Product GROUP BY category", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name");
+    }
+
+    @Test
+    @DisplayName("Should reject an ordered field out of the group by clause")
+    void shouldRejectOrderOutOfGroupBy() {
+        assertThatThrownBy(() -> selectParser.apply("SELECT category, SUM(price) FROM Product GROUP BY category ORDER BY name", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name");
+        assertThatThrownBy(() -> selectParser.apply("SELECT SUM(price) FROM Product ORDER BY name", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject count this with group by")
+    void shouldRejectCountThisWithGroupBy() {
+        assertThatThrownBy(() -> selectParser.apply("SELECT COUNT(THIS) FROM Product GROUP BY category", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -20,5 +20,6 @@ module org.eclipse.jnosql.communication.semistructured {
     requires jakarta.json.bind;
     requires jakarta.json;
     requires jakarta.data;
+    exports org.eclipse.jnosql.communication.semistructured;
     opens org.eclipse.jnosql.communication.semistructured;
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
+import static org.eclipse.jnosql.communication.Configurations.DEFAULT_BATCH_SIZE;
+
+/**
+ * The default {@link DatabaseManager#updateAndCount(UpdateQuery)}: it streams the matching entities, applies the
+ * assignments and writes them in chunks through {@link DatabaseManager#update(Iterable)}, thus a query that matches
+ * N entities takes N / batch size writes instead of N, and only one chunk is held in memory.
+ * <p>The chunk size is the {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE} system property,
+ * read on every update, or {@value org.eclipse.jnosql.communication.Configurations#DEFAULT_BATCH_SIZE} when it is
+ * absent.</p>
+ */
+enum BulkUpdater {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = Logger.getLogger(BulkUpdater.class.getName());
+
+    /**
+     * Updates the entities that match the query in chunks of the configured batch size.
+     *
+     * @param manager the manager
+     * @param query   the query
+     * @return the number of entities updated
+     */
+    long update(DatabaseManager manager, UpdateQuery query) {
+        return update(manager, query, batchSize());
+    }
+
+    long update(DatabaseManager manager, UpdateQuery query, int batchSize) {
+        List<Element> sets = query.sets();
+        long updated = 0;
+        List<CommunicationEntity> batch = new ArrayList<>();
+        try (Stream<CommunicationEntity> entities = manager.select(query.toSelectQuery())) {
+            Iterator<CommunicationEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                CommunicationEntity entity = iterator.next();
+                entity.addAll(sets);
+                batch.add(entity);
+                if (batch.size() == batchSize) {
+                    manager.update(batch);
+                    updated += batch.size();
+                    batch = new ArrayList<>();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            manager.update(batch);
+            updated += batch.size();
+        }
+        return updated;
+    }
+
+    static int batchSize() {
+        String size = System.getProperty(BATCH_SIZE.get());
+        if (size == null) {
+            return DEFAULT_BATCH_SIZE;
+        }
+        try {
+            int batchSize = Integer.parseInt(size.trim());
+            return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        } catch (NumberFormatException exception) {
+            LOGGER.warning("The property " + BATCH_SIZE.get() + " is not a number: " + size + ", using " + DEFAULT_BATCH_SIZE);
+            return DEFAULT_BATCH_SIZE;
+        }
+    }
+}
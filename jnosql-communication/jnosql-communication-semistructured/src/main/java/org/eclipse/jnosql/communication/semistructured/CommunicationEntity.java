@@ -39,7 +39,11 @@ import static java.util.stream.Collectors.toList;
  * <p>{@code CommunicationEntity} provides methods to manipulate and retrieve data in a semistructured manner,
  * allowing for flexible handling of data that does not strictly adhere to a predefined schema.</p>
  *
+ * <p>When many rows of the same entity are created, such as the result of a query, an {@link EntityShape} creates
+ * them with the values stored by slot instead of by name.</p>
+ *
  * @see Element
+ * @see EntityShape
  * @see CommunicationEntity#elements()
  * @see CommunicationEntity#name()
  */
@@ -281,17 +285,26 @@ public class CommunicationEntity {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof CommunicationEntity that)) {
             return false;
         }
-        CommunicationEntity that = (CommunicationEntity) o;
-        return Objects.equals(elements, that.elements) &&
+        return Objects.equals(elementMap(), that.elementMap()) &&
                 Objects.equals(name, that.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(elements, name);
+        return Objects.hash(elementMap(), name);
+    }
+
+    /**
+     * Returns the elements by name that {@link #equals(Object)} and {@link #hashCode()} compare, thus an entity is
+     * equal to another one with the same name and elements, however they are stored.
+     *
+     * @return the elements by name
+     */
+    Map<String, Element> elementMap() {
+        return elements;
     }
 
     @Override
@@ -327,7 +340,7 @@ public class CommunicationEntity {
         return communicationEntity;
     }
 
-    private Object convert(Object value) {
+    static Object convert(Object value) {
         if (value instanceof Element element) {
             return Collections.singletonMap(element.name(), convert(element.get()));
         } else if (value instanceof Iterable<?> iterable) {
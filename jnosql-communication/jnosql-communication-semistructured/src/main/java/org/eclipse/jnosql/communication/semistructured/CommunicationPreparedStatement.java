@@ -15,6 +15,7 @@ import jakarta.data.exceptions.NonUniqueResultException;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -24,45 +25,25 @@ import java.util.stream.Stream;
 
 
 /**
- * Represents a precompiled query statement.
+ * Represents a single execution of a {@link PreparedQuery}: it holds the values bound to the parameter positions
+ * of the shared, immutable query. A statement is meant to be used by one thread; to run the same query
+ * concurrently, take a statement per execution.
  */
 public final class CommunicationPreparedStatement {
 
     private static final UnaryOperator<SelectQuery> SELECT_MAPPER_DEFAULT = s -> s;
 
-    private final SelectQuery selectQuery;
+    private final PreparedQuery preparedQuery;
 
-    private final DeleteQuery deleteQuery;
-
-    private final UpdateQuery updateQuery;
-
-    private final PreparedStatementType type;
-
-    private final Params params;
-
-    private final String query;
-
-    private final List<String> paramsLeft;
+    private final Object[] values;
 
     private final DatabaseManager manager;
 
     private UnaryOperator<SelectQuery> selectMapper = SELECT_MAPPER_DEFAULT;
 
-    private CommunicationPreparedStatement(SelectQuery selectQuery,
-                                           DeleteQuery deleteQuery,
-                                           UpdateQuery updateQuery,
-                                           PreparedStatementType type,
-                                           Params params,
-                                           String query,
-                                           List<String> paramsLeft,
-                                           DatabaseManager manager) {
-        this.selectQuery = selectQuery;
-        this.deleteQuery = deleteQuery;
-        this.updateQuery = updateQuery;
-        this.type = type;
-        this.params = params;
-        this.query = query;
-        this.paramsLeft = paramsLeft;
+    CommunicationPreparedStatement(PreparedQuery preparedQuery, DatabaseManager manager) {
+        this.preparedQuery = preparedQuery;
+        this.values = new Object[preparedQuery.size()];
         this.manager = manager;
     }
 
@@ -78,8 +59,12 @@ public final class CommunicationPreparedStatement {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int slot = preparedQuery.slot(name);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            bindPrefix(name, value);
+        }
         return this;
     }
 
@@ -99,10 +84,7 @@ public final class CommunicationPreparedStatement {
             throw new IllegalArgumentException("The index should be greater than zero");
         }
 
-        var name = "?" + index;
-        paramsLeft.remove("?" + index);
-        params.bind(name, value);
-        return this;
+        return bind("?" + index, value);
     }
 
     /**
@@ -111,7 +93,7 @@ public final class CommunicationPreparedStatement {
      * @return the prepared statement type
      */
     public PreparedStatementType getType() {
-        return type;
+        return preparedQuery.type();
     }
 
     /**
@@ -120,7 +102,7 @@ public final class CommunicationPreparedStatement {
      * @return the select query
      */
     public Optional<SelectQuery> select() {
-        return Optional.ofNullable(selectQuery);
+        return Optional.ofNullable(preparedQuery.select(values));
     }
 
     /**
@@ -130,19 +112,19 @@ public final class CommunicationPreparedStatement {
      * @throws QueryException if there are parameters left to bind
      */
     public Stream<CommunicationEntity> result() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        checkParamsLeft();
+        var type = preparedQuery.type();
         switch (type) {
             case SELECT -> {
-                return manager.select(operator().apply(selectQuery));
+                var query = operator().apply(preparedQuery.select(values));
+                return query.isAggregate() ? manager.aggregate(query) : manager.select(query);
             }
             case DELETE -> {
-                manager.delete(deleteQuery);
+                manager.delete(preparedQuery.delete(values));
                 return Stream.empty();
             }
             case UPDATE -> {
-                manager.update(updateQuery);
+                manager.update(preparedQuery.update(values));
                 return Stream.empty();
             }
             default -> throw new UnsupportedOperationException("there is not support to operation type: " + type);
@@ -169,21 +151,21 @@ public final class CommunicationPreparedStatement {
     }
 
     /**
-     * Returns the number of elements in a count result or the number of entities deleted by a delete statement.
+     * Returns the number of elements in a count result or the number of entities deleted or updated by a delete
+     * or an update statement.
      *
      * @return the number of elements
      * @throws QueryException if there are parameters left to bind
-     * @throws IllegalArgumentException if the operation is neither a count nor a delete operation
+     * @throws IllegalArgumentException if the operation is a plain select operation
      */
     public long count(){
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
-        return switch (type) {
-            case COUNT -> manager.count(selectQuery);
-            case DELETE -> manager.deleteAndCount(deleteQuery);
+        checkParamsLeft();
+        return switch (preparedQuery.type()) {
+            case COUNT -> manager.count(preparedQuery.select(values));
+            case DELETE -> manager.deleteAndCount(preparedQuery.delete(values));
+            case UPDATE -> manager.updateAndCount(preparedQuery.update(values));
             default -> throw new IllegalArgumentException(
-                    "The count operation is only allowed for COUNT and DELETE queries");
+                    "The count operation is only allowed for COUNT, DELETE and UPDATE queries");
         };
 
     }
@@ -208,7 +190,7 @@ public final class CommunicationPreparedStatement {
             return Optional.of(next);
         }
 
-        throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
+        throw new NonUniqueResultException("The select returns more than one entity, select: " + preparedQuery.query());
     }
 
     public enum PreparedStatementType {
@@ -218,47 +200,45 @@ public final class CommunicationPreparedStatement {
 
     @Override
     public String toString() {
-        return query;
+        return preparedQuery.query();
     }
 
-    static CommunicationPreparedStatement select(
-            SelectQuery selectQuery,
-            Params params,
-            String query,
-            DatabaseManager manager) {
-        if (selectQuery.isCount()) {
-            return new CommunicationPreparedStatement(selectQuery,
-                    null, null, PreparedStatementType.COUNT, params, query,
-                    params.getParametersNames(), manager);
-        } else {
-            return new CommunicationPreparedStatement(selectQuery,
-                    null, null, PreparedStatementType.SELECT, params, query,
-                    params.getParametersNames(), manager);
+    private void bindPrefix(String name, Object value) {
+        List<String> names = preparedQuery.names();
+        for (int index = 0; index < names.size(); index++) {
+            if (names.get(index).startsWith(name)) {
+                values[index] = value;
+            }
         }
+    }
 
+    private void checkParamsLeft() {
+        List<String> paramsLeft = null;
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] == null) {
+                if (paramsLeft == null) {
+                    paramsLeft = new ArrayList<>();
+                }
+                paramsLeft.add(preparedQuery.names().get(index));
+            }
+        }
+        if (paramsLeft != null) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
     }
 
-    static CommunicationPreparedStatement delete(DeleteQuery deleteQuery,
-                                                 Params params,
-                                                 String query,
+    static CommunicationPreparedStatement select(SelectQuery selectQuery, Params params, String query,
                                                  DatabaseManager manager) {
-
-        return new CommunicationPreparedStatement(null,
-                deleteQuery, null, PreparedStatementType.DELETE, params,
-                query,
-                params.getParametersNames(),
-                manager);
-
+        return PreparedQuery.select(selectQuery, params, query).statement(manager);
     }
 
-    static CommunicationPreparedStatement update(UpdateQuery updateQuery,
-                                                 Params params,
-                                                 String query,
+    static CommunicationPreparedStatement delete(DeleteQuery deleteQuery, Params params, String query,
                                                  DatabaseManager manager) {
-        return new CommunicationPreparedStatement(null, null,
-                updateQuery,
-                PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(),  manager);
+        return PreparedQuery.delete(deleteQuery, params, query).statement(manager);
+    }
 
+    static CommunicationPreparedStatement update(UpdateQuery updateQuery, Params params, String query,
+                                                 DatabaseManager manager) {
+        return PreparedQuery.update(updateQuery, params, query).statement(manager);
     }
 }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The immutable operands of an {@link org.eclipse.jnosql.communication.Condition#AND} or
+ * {@link org.eclipse.jnosql.communication.Condition#OR} condition.
+ * Appending to the last list created from a buffer writes in place and shares the buffer, thus a chain of
+ * {@link CriteriaCondition#and(CriteriaCondition)} calls costs amortized constant time per operand instead of a
+ * copy of the whole list. Appending to any other list, such as an older version of the chain, copies it.
+ */
+final class ConditionList extends AbstractList<CriteriaCondition> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 4;
+
+    private final Buffer buffer;
+
+    private final int size;
+
+    private ConditionList(Buffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    @Override
+    public CriteriaCondition get(int index) {
+        Objects.checkIndex(index, size);
+        return buffer.items[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a list with the condition appended, this list remains unchanged.
+     *
+     * @param condition the condition to append
+     * @return the new list
+     */
+    ConditionList append(CriteriaCondition condition) {
+        synchronized (buffer) {
+            if (buffer.used == size) {
+                if (size == buffer.items.length) {
+                    buffer.items = Arrays.copyOf(buffer.items, Math.max(MIN_CAPACITY, size * 2));
+                }
+                buffer.items[size] = condition;
+                buffer.used = size + 1;
+                return new ConditionList(buffer, size + 1);
+            }
+        }
+        CriteriaCondition[] items = new CriteriaCondition[Math.max(MIN_CAPACITY, (size + 1) * 2)];
+        System.arraycopy(buffer.items, 0, items, 0, size);
+        items[size] = condition;
+        return new ConditionList(new Buffer(items, size + 1), size + 1);
+    }
+
+    /**
+     * Creates a list from the conditions, the array is copied.
+     *
+     * @param conditions the conditions
+     * @return the new list
+     */
+    static ConditionList of(CriteriaCondition... conditions) {
+        CriteriaCondition[] items = Arrays.copyOf(conditions, Math.max(MIN_CAPACITY, conditions.length));
+        return new ConditionList(new Buffer(items, conditions.length), conditions.length);
+    }
+
+    /**
+     * Creates a list from the conditions, the iterable is copied.
+     *
+     * @param conditions the conditions
+     * @return the new list
+     */
+    static ConditionList of(Iterable<CriteriaCondition> conditions) {
+        if (conditions instanceof ConditionList list) {
+            return list;
+        }
+        ConditionList list = of();
+        for (CriteriaCondition condition : conditions) {
+            list = list.append(condition);
+        }
+        return list;
+    }
+
+    private static final class Buffer {
+
+        private volatile CriteriaCondition[] items;
+
+        private int used;
+
+        private Buffer(CriteriaCondition[] items, int used) {
+            this.items = items;
+            this.used = used;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * The rewriting behind {@link CriteriaCondition#normalize()}. It walks the tree once, bottom-up, and returns the
+ * same instance for every subtree that does not change, thus a canonical condition is returned as it is, without
+ * allocating a copy of its operands.
+ */
+enum ConditionNormalizer implements UnaryOperator<CriteriaCondition> {
+
+    INSTANCE;
+
+    private static final int SMALL = 8;
+
+    @Override
+    public CriteriaCondition apply(CriteriaCondition condition) {
+        return switch (condition.condition()) {
+            case AND, OR -> conjunction(condition);
+            case NOT -> negation(condition);
+            case IGNORE_CASE -> {
+                Element element = condition.element();
+                CriteriaCondition inner = element.get(CriteriaCondition.class);
+                CriteriaCondition normalized = apply(inner);
+                yield normalized == inner ? condition
+                        : CriteriaCondition.of(Element.of(element.name(), normalized), Condition.IGNORE_CASE);
+            }
+            default -> condition;
+        };
+    }
+
+    private CriteriaCondition negation(CriteriaCondition condition) {
+        CriteriaCondition inner = condition.element().get(CriteriaCondition.class);
+        CriteriaCondition normalized = apply(inner);
+        if (Condition.NOT.equals(normalized.condition())) {
+            return normalized.element().get(CriteriaCondition.class);
+        }
+        return normalized == inner ? condition
+                : CriteriaCondition.of(Element.of(Condition.NOT.getNameField(), normalized), Condition.NOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CriteriaCondition conjunction(CriteriaCondition condition) {
+        Condition operator = condition.condition();
+        List<CriteriaCondition> operands = (List<CriteriaCondition>) condition.element().get();
+        if (operands.isEmpty()) {
+            return condition;
+        }
+        CriteriaCondition[] normalized = new CriteriaCondition[operands.size()];
+        boolean canonical = normalized.length > 1;
+        for (int index = 0; index < normalized.length; index++) {
+            CriteriaCondition operand = operands.get(index);
+            normalized[index] = apply(operand);
+            canonical = canonical && normalized[index] == operand && !operator.equals(operand.condition());
+        }
+        if (canonical && isDistinct(normalized)) {
+            return condition;
+        }
+        Set<CriteriaCondition> flattened = new LinkedHashSet<>();
+        for (CriteriaCondition operand : normalized) {
+            if (operator.equals(operand.condition())) {
+                flattened.addAll((List<CriteriaCondition>) operand.element().get());
+            } else {
+                flattened.add(operand);
+            }
+        }
+        if (flattened.size() == 1) {
+            return flattened.iterator().next();
+        }
+        Element element = Element.of(operator.getNameField(), ConditionList.of(new ArrayList<>(flattened)));
+        return CriteriaCondition.of(element, operator);
+    }
+
+    private static boolean isDistinct(CriteriaCondition[] operands) {
+        if (operands.length > SMALL) {
+            return new HashSet<>(Arrays.asList(operands)).size() == operands.length;
+        }
+        for (int index = 1; index < operands.length; index++) {
+            for (int other = 0; other < index; other++) {
+                if (operands[index].equals(operands[other])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.ParamValue;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable {@link CriteriaCondition} with parameters, as parsed from a query, whose parameter names are resolved
+ * once to positional slots. Each {@link #bind(Object[])} creates a new condition with the values of the slots,
+ * leaving the template untouched, thus a single template serves concurrent executions.
+ */
+public final class ConditionTemplate {
+
+    private final CriteriaCondition condition;
+
+    private final List<String> names;
+
+    private final Map<String, Integer> slots;
+
+    private ConditionTemplate(CriteriaCondition condition, List<String> names, Map<String, Integer> slots) {
+        this.condition = condition;
+        this.names = names;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns the parameter names, where the index is the slot of the parameter.
+     * A name repeated in the query has a single slot.
+     *
+     * @return the parameter names
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the slot of the parameter.
+     *
+     * @param name the parameter name
+     * @return the slot, or -1 when there is no parameter with this name
+     * @throws NullPointerException when the name is null
+     */
+    public int slot(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return slots.getOrDefault(name, -1);
+    }
+
+    /**
+     * Creates the condition with the parameters bound to the values.
+     *
+     * @param values the values indexed by slot; a null value keeps the parameter unbound
+     * @return the bound condition or {@link Optional#empty()} when the template has no condition
+     * @throws NullPointerException     when values is null
+     * @throws IllegalArgumentException when the number of values does not match the number of slots
+     */
+    public Optional<CriteriaCondition> bind(Object[] values) {
+        Objects.requireNonNull(values, "values is required");
+        if (values.length != names.size()) {
+            throw new IllegalArgumentException("The template has " + names.size() + " parameters, but there are "
+                    + values.length + " values");
+        }
+        if (condition == null || names.isEmpty()) {
+            return Optional.ofNullable(condition);
+        }
+        return Optional.of(bind(condition, values));
+    }
+
+    /**
+     * Creates the element with its parameters bound to the values, such as the assignments of an update query,
+     * which share the slots of this template.
+     *
+     * @param element the element with parameters
+     * @param values  the values indexed by slot; a null value keeps the parameter unbound
+     * @return the bound element, or the same element when it has no parameter
+     * @throws NullPointerException when either element or values is null
+     */
+    public Element bind(Element element, Object[] values) {
+        Objects.requireNonNull(element, "element is required");
+        Objects.requireNonNull(values, "values is required");
+        Value value = element.value();
+        Value bound = bind(value, values);
+        return bound == value ? element : Element.of(element.name(), bound);
+    }
+
+    @Override
+    public String toString() {
+        return "ConditionTemplate{" +
+                "condition=" + condition +
+                ", names=" + names +
+                '}';
+    }
+
+    /**
+     * Creates a template from a condition and the parameters found when it was parsed.
+     *
+     * @param condition the condition, it might be null when the query has no condition
+     * @param params    the parameters of the condition
+     * @return a new {@link ConditionTemplate}
+     * @throws NullPointerException when params is null
+     */
+    public static ConditionTemplate of(CriteriaCondition condition, Params params) {
+        Objects.requireNonNull(params, "params is required");
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> slots = new HashMap<>();
+        for (String name : params.getParametersNames()) {
+            if (!slots.containsKey(name)) {
+                slots.put(name, names.size());
+                names.add(name);
+            }
+        }
+        return new ConditionTemplate(condition, Collections.unmodifiableList(names), Collections.unmodifiableMap(slots));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CriteriaCondition bind(CriteriaCondition template, Object[] values) {
+        Element element = template.element();
+        return switch (template.condition()) {
+            case AND, OR -> {
+                List<CriteriaCondition> conditions = (List<CriteriaCondition>) element.get();
+                List<CriteriaCondition> bound = new ArrayList<>(conditions.size());
+                boolean changed = false;
+                for (CriteriaCondition condition : conditions) {
+                    CriteriaCondition boundCondition = bind(condition, values);
+                    changed = changed || boundCondition != condition;
+                    bound.add(boundCondition);
+                }
+                yield changed ? CriteriaCondition.of(Element.of(element.name(), bound), template.condition()) : template;
+            }
+            case NOT, IGNORE_CASE -> {
+                CriteriaCondition condition = element.get(CriteriaCondition.class);
+                CriteriaCondition bound = bind(condition, values);
+                yield bound == condition ? template
+                        : CriteriaCondition.of(Element.of(element.name(), bound), template.condition());
+            }
+            default -> {
+                Value value = element.value();
+                Value bound = bind(value, values);
+                yield bound == value ? template : CriteriaCondition.of(Element.of(element.name(), bound), template.condition());
+            }
+        };
+    }
+
+    private Value bind(Value value, Object[] values) {
+        if (value instanceof ParamValue param) {
+            return bind(param, values);
+        }
+        if (value.get() instanceof List<?> items && items.stream().anyMatch(ParamValue.class::isInstance)) {
+            List<Object> bound = new ArrayList<>(items.size());
+            for (Object item : items) {
+                bound.add(item instanceof ParamValue param ? bind(param, values) : item);
+            }
+            return Value.of(bound);
+        }
+        return value;
+    }
+
+    private ParamValue bind(ParamValue param, Object[] values) {
+        Integer slot = slots.get(param.getName());
+        return slot == null ? param : ParamValue.of(param.getName(), values[slot]);
+    }
+}
@@ -12,12 +12,8 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import org.eclipse.jnosql.communication.Condition;
-import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 import java.util.stream.StreamSupport;
 
@@ -118,11 +114,29 @@ public final class CriteriaCondition {
         return or(this, condition);
     }
 
+    /**
+     * Creates the canonical form of this condition, which drivers can translate directly and which works as a
+     * cache key, since two equivalent conditions written in different ways have the same canonical form.
+     * <ul>
+     *     <li>Nested {@link Condition#AND} and {@link Condition#OR} conditions are flattened into their parent
+     *     when they share the same operator, and a conjunction with a single operand is replaced by the operand.</li>
+     *     <li>Duplicated operands of a conjunction are removed, keeping the first occurrence.</li>
+     *     <li>A {@link Condition#NOT} of a {@link Condition#NOT} is replaced by the inner condition.</li>
+     * </ul>
+     * The operands keep their relative order and no operator is replaced by another one, thus a driver receives only
+     * the operators that the query used. The select, delete and update queries normalize their condition when they
+     * are created.
+     *
+     * @return the canonical condition, or this instance when it is already canonical
+     */
+    public CriteriaCondition normalize() {
+        return ConditionNormalizer.INSTANCE.apply(this);
+    }
+
+    @SuppressWarnings("unchecked")
     private Element getConditions(CriteriaCondition criteriaCondition, Condition condition) {
-        var conditions = new ArrayList<>(element.get(new TypeReference<List<CriteriaCondition>>() {
-        }));
-        conditions.add(criteriaCondition);
-        return Element.of(condition.getNameField(), conditions);
+        var conditions = ConditionList.of((Iterable<CriteriaCondition>) element.get());
+        return Element.of(condition.getNameField(), conditions.append(criteriaCondition));
     }
 
     private void validateReadOnly() {
@@ -146,7 +160,7 @@ public final class CriteriaCondition {
 
     @Override
     public int hashCode() {
-        return Objects.hash(element, condition, readOnly);
+        return Objects.hash(element, condition);
     }
 
     @Override
@@ -437,7 +451,7 @@ public final class CriteriaCondition {
      */
     public static CriteriaCondition and(CriteriaCondition... conditions) {
         Objects.requireNonNull(conditions, "Condition is required");
-        Element element = Element.of(Condition.AND.getNameField(), Arrays.asList(conditions));
+        Element element = Element.of(Condition.AND.getNameField(), ConditionList.of(conditions));
         return of(element, Condition.AND);
     }
 
@@ -459,7 +473,7 @@ public final class CriteriaCondition {
      */
     public static CriteriaCondition or(CriteriaCondition... conditions) {
         Objects.requireNonNull(conditions, "Condition is required");
-        Element element = Element.of(Condition.OR.getNameField(), Arrays.asList(conditions));
+        Element element = Element.of(Condition.OR.getNameField(), ConditionList.of(conditions));
         return of(element, Condition.OR);
     }
 
@@ -18,8 +18,6 @@ import jakarta.data.Sort;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
 import jakarta.data.page.impl.CursoredPageRecord;
-import org.eclipse.jnosql.communication.CommunicationException;
-import org.eclipse.jnosql.communication.TypeReference;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -40,7 +38,7 @@ enum CursorExecutor {
                 return new CursoredPageRecord<>(entities, Collections.emptyList(), -1, pageRequest,
                         null, null);
             } else {
-                PageRequest.Cursor cursor = getCursor(query.sorts(), last);
+                PageRequest.Cursor cursor = KeysetPlan.of(query.sorts()).cursor(last);
                 PageRequest afterCursor = PageRequest.ofSize(pageRequest.size()).afterCursor(cursor);
 
                 return new CursoredPageRecord<>(entities, List.of(cursor), -1, pageRequest, afterCursor, null);
@@ -53,7 +51,8 @@ enum CursorExecutor {
         public CursoredPage<CommunicationEntity> cursor(SelectQuery query, PageRequest pageRequest, DatabaseManager template) {
 
             var cursor = pageRequest.cursor().orElseThrow();
-            var condition = condition(query, cursor, true);
+            var plan = KeysetPlan.of(query.sorts());
+            var condition = plan.condition(cursor, true);
 
             var select = updateQuery(pageRequest.size(), query, condition, query.sorts());
 
@@ -62,8 +61,8 @@ enum CursorExecutor {
                 return new CursoredPageRecord<>(entities, Collections.emptyList(), -1, pageRequest,
                         null, null);
             } else {
-                var firstCursor = getCursor(query.sorts(), entities.getFirst());
-                var nextCursor = getCursor(query.sorts(), entities.getLast());
+                var firstCursor = plan.cursor(entities.getFirst());
+                var nextCursor = plan.cursor(entities.getLast());
                 var afterCursor = PageRequest.ofSize(pageRequest.size()).afterCursor(nextCursor);
                 var beforeCursor = PageRequest.ofSize(pageRequest.size()).beforeCursor(firstCursor);
                 return new CursoredPageRecord<>(entities, List.of(cursor, nextCursor), -1,
@@ -75,9 +74,10 @@ enum CursorExecutor {
         @Override
         public CursoredPage<CommunicationEntity> cursor(SelectQuery query, PageRequest pageRequest, DatabaseManager template) {
             var cursor = pageRequest.cursor().orElseThrow();
-            var condition = condition(query, cursor, false);
+            var plan = KeysetPlan.of(query.sorts());
+            var condition = plan.condition(cursor, false);
 
-            var select = updateQuery(pageRequest.size(), query, condition, invert(query.sorts()));
+            var select = updateQuery(pageRequest.size(), query, condition, plan.inverted());
 
             var entities = new ArrayList<>(template.select(select).toList());
             Collections.reverse(entities);
@@ -85,8 +85,8 @@ enum CursorExecutor {
                 return new CursoredPageRecord<>(entities, Collections.emptyList(), -1, pageRequest,
                         null, null);
             } else {
-                var beforeCursor = getCursor(query.sorts(), entities.getFirst());
-                var nextCursor = getCursor(query.sorts(), entities.getLast());
+                var beforeCursor = plan.cursor(entities.getFirst());
+                var nextCursor = plan.cursor(entities.getLast());
                 var beforeRequest = PageRequest.ofSize(pageRequest.size()).beforeCursor(beforeCursor);
                 var nextRequest = PageRequest.ofSize(pageRequest.size()).afterCursor(nextCursor);
 
@@ -114,80 +114,10 @@ enum CursorExecutor {
 
     }
 
-    private static PageRequest.Cursor getCursor(List<Sort<?>> sorts, CommunicationEntity entity) {
-        List<Object> keys = new ArrayList<>(sorts.size());
-        for (Sort<?> sort : sorts) {
-            String[] names = sort.property().split("\\.");
-            keys.add(value(names, entity));
-        }
-        return PageRequest.Cursor.forKey(keys.toArray());
-    }
-
-    private static Object value(String[] names, CommunicationEntity entity) {
-        Element element = entity.find(names[0])
-                .orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: " + names[0]));
-        return value(names, element, 0);
-
-    }
-
-    private static Object value(String[] names, Element element, int index) {
-        if (names.length == 1) {
-            return element.get();
-        }
-        List<Element> elements = element.get(new TypeReference<>() {});
-        Element subElement = elements.stream().filter(e -> e.name().equals(names[index + 1]))
-                .findFirst().orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: " + names[index]));
-        if (names.length == index + 2) {
-            return subElement.get();
-        } else {
-            return value(names, subElement, index + 1);
-        }
-    }
-
-    private static CriteriaCondition condition(SelectQuery query, PageRequest.Cursor cursor, boolean after) {
-        CriteriaCondition condition = null;
-        CriteriaCondition equalities = null;
-        List<Sort<?>> sorts = query.sorts();
-        checkCursorKeySizes(cursor, sorts);
-        for (int index = 0; index < sorts.size(); index++) {
-            Sort<?> sort = sorts.get(index);
-            Object key = cursor.get(index);
-            CriteriaCondition comparison = comparison(sort, key, after);
-            CriteriaCondition current = equalities == null ? comparison : equalities.and(comparison);
-            condition = condition == null ? current : condition.or(current);
-            CriteriaCondition equality = CriteriaCondition.eq(sort.property(), key);
-            equalities = equalities == null ? equality : equalities.and(equality);
-        }
-        return condition;
-    }
-
-    private static CriteriaCondition comparison(Sort<?> sort, Object key, boolean after) {
-        boolean greaterThan = sort.isAscending() == after;
-        return greaterThan ? CriteriaCondition.gt(sort.property(), key) : CriteriaCondition.lt(sort.property(), key);
-    }
-
-    private static List<Sort<?>> invert(List<Sort<?>> sorts) {
-        return sorts.stream().map(CursorExecutor::invert).toList();
-    }
-
-    private static Sort<?> invert(Sort<?> sort) {
-        if (sort.isAscending()) {
-            return sort.ignoreCase() ? Sort.descIgnoreCase(sort.property()) : Sort.desc(sort.property());
-        }
-        return sort.ignoreCase() ? Sort.ascIgnoreCase(sort.property()) : Sort.asc(sort.property());
-    }
-
     private static DefaultSelectQuery updateQuery(int limit, SelectQuery query, CriteriaCondition condition,
                                                    List<Sort<?>> sorts) {
         return new DefaultSelectQuery(limit, 0, query.name(), query.columns(), sorts,
                 query.condition().map(c -> CriteriaCondition.and(c, condition))
                         .orElse(condition), false);
     }
-
-    private static void checkCursorKeySizes(PageRequest.Cursor cursor, List<Sort<?>> sorts) {
-        if (sorts.size() != cursor.size()) {
-            throw new IllegalArgumentException("The cursor size is different from the sort size. Cursor: "
-                    + cursor.size() + " Sort: " + sorts.size());
-        }
-    }
 }
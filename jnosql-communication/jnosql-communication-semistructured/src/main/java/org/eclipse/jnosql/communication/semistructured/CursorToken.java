@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.page.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Converts a {@link PageRequest.Cursor} to an opaque, URL-safe token and back, thus a stateless HTTP endpoint can
+ * return the cursor of the next page to the client and receive it on the following request.
+ * The keys are written in a compact binary form, one type tag followed by the value, and encoded as Base64 without
+ * padding; a text is written as its UTF-8 bytes after their length, thus it has no size limit.
+ *
+ * <p>The supported key types are {@link String}, the primitive wrappers, {@link BigDecimal}, {@link BigInteger},
+ * {@link UUID}, {@link Instant}, {@link LocalDate}, {@link LocalDateTime}, {@link LocalTime} and {@link Enum},
+ * which is written by name and read back as a {@link String}.</p>
+ * <pre>{@code
+ * String token = CursorToken.encode(page.nextPageRequest().cursor().orElseThrow());
+ * PageRequest next = PageRequest.afterCursor(CursorToken.decode(token), page + 1, size, false);
+ * }</pre>
+ */
+public final class CursorToken {
+
+    private static final byte VERSION = 1;
+
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte CHARACTER = 9;
+    private static final byte BIG_DECIMAL = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte UUID_TYPE = 12;
+    private static final byte INSTANT = 13;
+    private static final byte LOCAL_DATE = 14;
+    private static final byte LOCAL_DATE_TIME = 15;
+    private static final byte LOCAL_TIME = 16;
+
+    private static final int MAXIMUM_KEYS = 0xFFFF;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorToken() {
+    }
+
+    /**
+     * Encodes the cursor as a token.
+     *
+     * @param cursor the cursor
+     * @return the URL-safe token
+     * @throws NullPointerException     when the cursor or one of its keys is null
+     * @throws IllegalArgumentException when a key type is not supported or the cursor has more than 65535 keys
+     */
+    public static String encode(PageRequest.Cursor cursor) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        if (cursor.size() > MAXIMUM_KEYS) {
+            throw new IllegalArgumentException("The cursor has more keys than a token supports: " + cursor.size());
+        }
+        var bytes = new ByteArrayOutputStream(16 * cursor.size());
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeShort(cursor.size());
+            for (int index = 0; index < cursor.size(); index++) {
+                write(output, Objects.requireNonNull(cursor.get(index), "The cursor keys are required"));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return ENCODER.encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a token created by {@link #encode(PageRequest.Cursor)}.
+     *
+     * @param token the token
+     * @return the cursor
+     * @throws NullPointerException     when the token is null
+     * @throws IllegalArgumentException when the token is malformed
+     */
+    public static PageRequest.Cursor decode(String token) {
+        Objects.requireNonNull(token, "token is required");
+        try (var input = new DataInputStream(new ByteArrayInputStream(DECODER.decode(token)))) {
+            byte version = input.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("The cursor token version is not supported: " + version);
+            }
+            Object[] keys = new Object[input.readUnsignedShort()];
+            for (int index = 0; index < keys.length; index++) {
+                keys[index] = read(input);
+            }
+            if (input.available() > 0) {
+                throw new IllegalArgumentException("The cursor token has trailing data: " + token);
+            }
+            return PageRequest.Cursor.forKey(keys);
+        } catch (IOException | DateTimeException | NumberFormatException exception) {
+            throw new IllegalArgumentException("The cursor token is malformed: " + token, exception);
+        }
+    }
+
+    private static void write(DataOutputStream output, Object key) throws IOException {
+        switch (key) {
+            case String value -> {
+                output.writeByte(STRING);
+                writeString(output, value);
+            }
+            case Integer value -> {
+                output.writeByte(INTEGER);
+                output.writeInt(value);
+            }
+            case Long value -> {
+                output.writeByte(LONG);
+                output.writeLong(value);
+            }
+            case Double value -> {
+                output.writeByte(DOUBLE);
+                output.writeDouble(value);
+            }
+            case Float value -> {
+                output.writeByte(FLOAT);
+                output.writeFloat(value);
+            }
+            case Short value -> {
+                output.writeByte(SHORT);
+                output.writeShort(value);
+            }
+            case Byte value -> {
+                output.writeByte(BYTE);
+                output.writeByte(value);
+            }
+            case Boolean value -> {
+                output.writeByte(BOOLEAN);
+                output.writeBoolean(value);
+            }
+            case Character value -> {
+                output.writeByte(CHARACTER);
+                output.writeChar(value);
+            }
+            case BigDecimal value -> {
+                output.writeByte(BIG_DECIMAL);
+                writeString(output, value.toString());
+            }
+            case BigInteger value -> {
+                output.writeByte(BIG_INTEGER);
+                writeString(output, value.toString());
+            }
+            case UUID value -> {
+                output.writeByte(UUID_TYPE);
+                output.writeLong(value.getMostSignificantBits());
+                output.writeLong(value.getLeastSignificantBits());
+            }
+            case Instant value -> {
+                output.writeByte(INSTANT);
+                output.writeLong(value.getEpochSecond());
+                output.writeInt(value.getNano());
+            }
+            case LocalDate value -> {
+                output.writeByte(LOCAL_DATE);
+                output.writeLong(value.toEpochDay());
+            }
+            case LocalDateTime value -> {
+                output.writeByte(LOCAL_DATE_TIME);
+                output.writeLong(value.toLocalDate().toEpochDay());
+                output.writeLong(value.toLocalTime().toNanoOfDay());
+            }
+            case LocalTime value -> {
+                output.writeByte(LOCAL_TIME);
+                output.writeLong(value.toNanoOfDay());
+            }
+            case Enum<?> value -> {
+                output.writeByte(STRING);
+                writeString(output, value.name());
+            }
+            default -> throw new IllegalArgumentException("The cursor key type is not supported: "
+                    + key.getClass().getName());
+        }
+    }
+
+    private static Object read(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        return switch (type) {
+            case STRING -> readString(input);
+            case INTEGER -> input.readInt();
+            case LONG -> input.readLong();
+            case DOUBLE -> input.readDouble();
+            case FLOAT -> input.readFloat();
+            case SHORT -> input.readShort();
+            case BYTE -> input.readByte();
+            case BOOLEAN -> input.readBoolean();
+            case CHARACTER -> input.readChar();
+            case BIG_DECIMAL -> new BigDecimal(readString(input));
+            case BIG_INTEGER -> new BigInteger(readString(input));
+            case UUID_TYPE -> new UUID(input.readLong(), input.readLong());
+            case INSTANT -> Instant.ofEpochSecond(input.readLong(), input.readInt());
+            case LOCAL_DATE -> LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()),
+                    LocalTime.ofNanoOfDay(input.readLong()));
+            case LOCAL_TIME -> LocalTime.ofNanoOfDay(input.readLong());
+            default -> throw new IllegalArgumentException("The cursor token has an unknown key type: " + type);
+        };
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > input.available()) {
+            throw new IllegalArgumentException("The cursor token has an invalid text length: " + length);
+        }
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
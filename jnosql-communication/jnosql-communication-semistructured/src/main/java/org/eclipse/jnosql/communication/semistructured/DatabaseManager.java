@@ -14,6 +14,7 @@ package org.eclipse.jnosql.communication.semistructured;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.query.QueryCaches;
 
 import java.time.Duration;
 import java.util.Iterator;
@@ -155,29 +156,13 @@ public interface DatabaseManager extends IdFieldNameSupplier, AutoCloseable {
     /**
      * Modifies existing entities in the database based on the specified query.
      *
-     * <p>This default implementation executes the update operation in memory.
-     * It first selects the matching entities, applies the requested changes
-     * to each entity instance, and then persists the updated entities
-     * individually. This approach is intentionally generic and portable,
-     * but may result in multiple read and write operations.</p>
-     *
-     * <p>Because this method performs updates by materializing entities
-     * before persisting them, the overall execution time and the visibility
-     * of changes may vary depending on the underlying database and its
-     * consistency model. In databases with eventual consistency or
-     * asynchronous write behavior, updates performed by this method may
-     * not be immediately observable after the method returns.</p>
-     *
-     * <p>To improve performance and reduce latency, database drivers are
-     * strongly encouraged to override this method and execute update
-     * operations directly at the database level whenever possible.
-     * Provider-specific implementations may leverage native update
-     * mechanisms, batch operations, or server-side execution strategies.</p>
+     * <p>This default implementation delegates to {@link #updateAndCount(UpdateQuery)} and ignores the count,
+     * thus a driver that overrides {@link #updateAndCount(UpdateQuery)} with a native update also serves
+     * this method. A driver that overrides only this method keeps its native update here, while
+     * {@link #updateAndCount(UpdateQuery)} still runs the default in-memory update.</p>
      *
-     * <p>For databases that use an append-only storage model or follow
-     * BASE principles, and where direct update semantics are not available,
-     * this method behaves similarly to repeated insert operations when
-     * not overridden.</p>
+     * <p>In databases with eventual consistency or asynchronous write behavior, updates performed by this method
+     * may not be immediately observable after the method returns.</p>
      *
      * <p>Entities that do not match the selection criteria are ignored
      * and do not result in an error.</p>
@@ -187,11 +172,37 @@ public interface DatabaseManager extends IdFieldNameSupplier, AutoCloseable {
      */
     default void update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is required");
-        Stream<CommunicationEntity> entities = select(query.toSelectQuery());
-        entities.forEach(entity -> {
-                    entity.addAll(query.sets());
-                    update(entity);
-        });
+        updateAndCount(query);
+    }
+
+    /**
+     * Modifies existing entities in the database based on the specified query and returns the number of
+     * entities updated.
+     *
+     * <p>Database drivers with a native update by query must override this method, execute the update at the
+     * database level and report the count that the database returns. Overriding this method alone serves
+     * {@link #update(UpdateQuery)} as well. An override must not call {@link #update(UpdateQuery)} unless it
+     * overrides that method too, since its default implementation calls this one. Proxies, decorators, and other
+     * manager wrappers need to override and delegate this method too.</p>
+     *
+     * <p>This default implementation never calls {@link #update(UpdateQuery)}; it executes the update operation
+     * in memory. It streams the matching entities, applies the requested changes to each entity instance, and
+     * persists them in chunks through {@link #update(Iterable)}; the chunk size is
+     * {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE} system property. This approach is intentionally generic
+     * and portable, but it still reads every matching entity and is not atomic.</p>
+     *
+     * <p>For databases that use an append-only storage model or follow
+     * BASE principles, and where direct update semantics are not available,
+     * this method behaves similarly to repeated insert operations when
+     * not overridden.</p>
+     *
+     * @param query the query used to select entities to update
+     * @return the number of entities updated by this operation
+     * @throws NullPointerException if {@code query} is {@code null}
+     */
+    default long updateAndCount(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return BulkUpdater.INSTANCE.update(this, query);
     }
 
     /**
@@ -261,6 +272,28 @@ public interface DatabaseManager extends IdFieldNameSupplier, AutoCloseable {
         return this.select(DefaultSelectQuery.existsBy(query)).findAny().isPresent();
     }
 
+    /**
+     * Executes an aggregate query, one that has {@link SelectQuery#aggregates()} or {@link SelectQuery#groupBy()},
+     * and returns one entity per group. Each entity holds the group fields and one element per aggregate,
+     * named by {@link org.eclipse.jnosql.communication.query.Aggregate#alias()}, such as {@code sum(price)}.
+     * Without group fields, the result is a single entity.
+     * <p>
+     * A driver whose database aggregates natively should override this method to push the query down.
+     * The default implementation streams {@link #select(SelectQuery)}, reading only the group and aggregated fields,
+     * and accumulates the result incrementally, thus it holds one accumulator per group rather than the entities.
+     * The skip and the limit of the query apply to the groups.
+     * </p>
+     *
+     * @param query the aggregate query
+     * @return the stream of the groups
+     * @throws NullPointerException     when the query is null
+     * @throws IllegalArgumentException when the query sorts by a field that is not in {@link SelectQuery#groupBy()}
+     */
+    default Stream<CommunicationEntity> aggregate(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamAggregator.INSTANCE.apply(this, query);
+    }
+
     /**
      * Executes a query and returns the result. If the query is an insert, update, or select command,
      * it returns the result of the operation. If the query is a delete command, it returns an empty collection.
@@ -304,7 +337,8 @@ public interface DatabaseManager extends IdFieldNameSupplier, AutoCloseable {
     }
 
     /**
-     * Prepares a query for execution.
+     * Prepares a query for execution. The parsed query is kept in the {@link QueryCaches query cache} as an
+     * immutable {@link PreparedQuery}, so each call only creates a new statement to hold the bound values.
      *
      * @param query  the query as a string
      * @param entity the entity name
@@ -314,8 +348,9 @@ public interface DatabaseManager extends IdFieldNameSupplier, AutoCloseable {
      */
     default CommunicationPreparedStatement prepare(String query, String entity) {
         Objects.requireNonNull(query, "query is required");
-        QueryParser parser = new QueryParser();
-        return parser.prepare(query, entity,this, CommunicationObserverParser.EMPTY);
+        PreparedQuery preparedQuery = QueryCaches.get().get("prepare::" + entity + "::" + query,
+                () -> QueryParser.INSTANCE.prepare(query, entity, CommunicationObserverParser.EMPTY));
+        return preparedQuery.statement(this);
     }
 
     /**
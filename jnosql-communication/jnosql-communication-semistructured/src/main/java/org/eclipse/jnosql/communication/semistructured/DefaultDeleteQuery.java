@@ -30,6 +30,9 @@ import static java.util.Optional.ofNullable;
 public record DefaultDeleteQuery(String name, CriteriaCondition criteriaCondition, List<String> columns)
         implements DeleteQuery {
 
+    public DefaultDeleteQuery {
+        criteriaCondition = criteriaCondition == null ? null : criteriaCondition.normalize();
+    }
 
     @Override
     public Optional<CriteriaCondition> condition() {
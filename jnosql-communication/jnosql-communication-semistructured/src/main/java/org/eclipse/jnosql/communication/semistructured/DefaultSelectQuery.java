@@ -13,6 +13,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.Aggregate;
 
 import java.util.Collections;
 import java.util.List;
@@ -25,15 +26,37 @@ import static java.util.Optional.ofNullable;
 /**
  * A record implementation of the {@link SelectQuery} interface that represents
  * a select query with defined behavior and constraints. It supports field-level
- * properties such as limit, offset, column selection, sorting, conditions, and
- * count flag.
+ * properties such as limit, offset, column selection, sorting, conditions,
+ * count flag, aggregate functions and group by columns.
  * The {@code DefaultSelectQuery} is immutable and ensures safe handling of query
  * data with unmodifiable collections and optional conditions.
  */
 public record DefaultSelectQuery(long limit, long skip, String name,
-                          List<String> columns, List<Sort<?>> sorts, CriteriaCondition criteriaCondition, boolean count)
+                          List<String> columns, List<Sort<?>> sorts, CriteriaCondition criteriaCondition, boolean count,
+                          List<Aggregate> aggregates, List<String> groupBy)
         implements SelectQuery {
 
+    public DefaultSelectQuery {
+        criteriaCondition = criteriaCondition == null ? null : criteriaCondition.normalize();
+        aggregates = aggregates == null ? Collections.emptyList() : unmodifiableList(aggregates);
+        groupBy = groupBy == null ? Collections.emptyList() : unmodifiableList(groupBy);
+    }
+
+    /**
+     * Creates a select query without aggregate functions.
+     *
+     * @param limit             the maximum number of results
+     * @param skip              the position of the first result
+     * @param name              the entity name
+     * @param columns           the columns to return
+     * @param sorts             the sorts
+     * @param criteriaCondition the condition, it might be null
+     * @param count             true if it is a count query
+     */
+    public DefaultSelectQuery(long limit, long skip, String name, List<String> columns, List<Sort<?>> sorts,
+                              CriteriaCondition criteriaCondition, boolean count) {
+        this(limit, skip, name, columns, sorts, criteriaCondition, count, Collections.emptyList(), Collections.emptyList());
+    }
 
     @Override
     public Optional<CriteriaCondition> condition() {
@@ -63,7 +86,9 @@ public record DefaultSelectQuery(long limit, long skip, String name,
                 Objects.equals(name, that.name()) &&
                 Objects.equals(columns, that.columns()) &&
                 Objects.equals(sorts, that.sorts()) &&
-                Objects.equals(criteriaCondition, that.condition().orElse(null));
+                Objects.equals(criteriaCondition, that.condition().orElse(null)) &&
+                Objects.equals(aggregates, that.aggregates()) &&
+                Objects.equals(groupBy, that.groupBy());
     }
 
     @Override
@@ -73,7 +98,7 @@ public record DefaultSelectQuery(long limit, long skip, String name,
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, name, columns, sorts, criteriaCondition);
+        return Objects.hash(limit, skip, name, columns, sorts, criteriaCondition, aggregates, groupBy);
     }
 
 
@@ -29,6 +29,10 @@ import static java.util.Collections.emptyList;
  */
 public record DefaultUpdateQuery(String name, List<Element> sets, CriteriaCondition criteriaCondition) implements UpdateQuery {
 
+    public DefaultUpdateQuery {
+        criteriaCondition = criteriaCondition == null ? null : criteriaCondition.normalize();
+    }
+
     @Override
     public Optional<CriteriaCondition> where() {
         return Optional.ofNullable(criteriaCondition);
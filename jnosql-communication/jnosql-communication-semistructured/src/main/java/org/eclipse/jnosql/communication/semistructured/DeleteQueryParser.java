@@ -40,9 +40,13 @@ public final class DeleteQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     CommunicationPreparedStatement prepare(String query, DatabaseManager manager,
                                            CommunicationObserverParser observer) {
+        return prepare(query, observer).statement(manager);
+    }
+
+    PreparedQuery prepare(String query, CommunicationObserverParser observer) {
         Params params = Params.newParams();
         DeleteQuery deleteQuery = getQuery(query, params, observer);
-        return CommunicationPreparedStatement.delete(deleteQuery, params, query, manager);
+        return PreparedQuery.delete(deleteQuery, params, query);
     }
 
 
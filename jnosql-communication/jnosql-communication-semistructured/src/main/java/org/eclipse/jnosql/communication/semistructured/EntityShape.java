@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The immutable layout shared by the rows of an entity: its name and the slot of each known attribute.
+ * The entities created by a shape keep their values in an array indexed by slot, instead of a map of
+ * {@link Element}, and the mapping layer reads them by slot as well.
+ *
+ * <p>A driver that reads many rows of the same entity creates the shape once and fills each row by slot:</p>
+ * <pre>{@code
+ * EntityShape shape = EntityShape.of("Person", List.of("_id", "name", "age"));
+ * int name = shape.slot("name");
+ * ShapedCommunicationEntity entity = shape.newEntity();
+ * entity.set(name, "Ada");
+ * }</pre>
+ * Attributes out of the shape can still be added by name, thus a shape describes the common attributes and
+ * does not restrict the entity.
+ *
+ * @see ShapedCommunicationEntity
+ */
+public final class EntityShape {
+
+    private final String name;
+
+    private final List<String> attributes;
+
+    private final Map<String, Integer> slots;
+
+    private EntityShape(String name, List<String> attributes, Map<String, Integer> slots) {
+        this.name = name;
+        this.attributes = attributes;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns the entity name of the rows created by this shape.
+     *
+     * @return the entity name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the attribute names indexed by slot.
+     *
+     * @return the attribute names
+     */
+    public List<String> attributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        return attributes.size();
+    }
+
+    /**
+     * Returns the slot of the attribute.
+     *
+     * @param attribute the attribute name
+     * @return the slot, or -1 when the attribute is not part of this shape
+     * @throws NullPointerException when the attribute is null
+     */
+    public int slot(String attribute) {
+        Objects.requireNonNull(attribute, "attribute is required");
+        Integer slot = slots.get(attribute);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Creates an empty entity with this shape.
+     *
+     * @return a new entity
+     */
+    public ShapedCommunicationEntity newEntity() {
+        return new ShapedCommunicationEntity(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EntityShape that)) {
+            return false;
+        }
+        return name.equals(that.name) && attributes.equals(that.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, attributes);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityShape{" +
+                "name='" + name + '\'' +
+                ", attributes=" + attributes +
+                '}';
+    }
+
+    /**
+     * Creates a shape with the attributes in the given order.
+     *
+     * @param name       the entity name
+     * @param attributes the attribute names
+     * @return a new {@link EntityShape}
+     * @throws NullPointerException     when either the name, the attributes or one of the attributes is null
+     * @throws IllegalArgumentException when an attribute is repeated
+     */
+    public static EntityShape of(String name, List<String> attributes) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(attributes, "attributes is required");
+        List<String> names = List.copyOf(attributes);
+        Map<String, Integer> slots = new HashMap<>(names.size() * 2);
+        for (int index = 0; index < names.size(); index++) {
+            if (slots.putIfAbsent(names.get(index), index) != null) {
+                throw new IllegalArgumentException("The attribute " + names.get(index) + " is repeated in the shape of "
+                        + name);
+            }
+        }
+        return new EntityShape(name, names, Map.copyOf(slots));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+/**
+ * The sort list of a cursor-paginated query compiled once: the path of each sort property, already split, and the
+ * comparison that each key takes when moving after or before the cursor. {@link CursorExecutor} reuses it on every
+ * page to read the cursor keys from an entity and to build the keyset predicate
+ * {@code (a > ?) OR (a = ? AND b > ?) OR ...}.
+ */
+final class KeysetPlan {
+
+    private static final int MAX_PLANS = 1_000;
+
+    private static final Map<List<Sort<?>>, KeysetPlan> PLANS = new ConcurrentHashMap<>();
+
+    private static final Queue<List<Sort<?>>> ORDER = new ConcurrentLinkedQueue<>();
+
+    private static final Pattern DOT = Pattern.compile("\\.");
+
+    private final List<Sort<?>> inverted;
+
+    private final String[] properties;
+
+    private final String[][] paths;
+
+    private final Condition[] after;
+
+    private final Condition[] before;
+
+    private KeysetPlan(List<Sort<?>> sorts) {
+        int size = sorts.size();
+        this.inverted = sorts.stream().map(KeysetPlan::invert).toList();
+        this.properties = new String[size];
+        this.paths = new String[size][];
+        this.after = new Condition[size];
+        this.before = new Condition[size];
+        for (int index = 0; index < size; index++) {
+            Sort<?> sort = sorts.get(index);
+            properties[index] = sort.property();
+            paths[index] = DOT.split(sort.property());
+            after[index] = sort.isAscending() ? Condition.GREATER_THAN : Condition.LESSER_THAN;
+            before[index] = sort.isAscending() ? Condition.LESSER_THAN : Condition.GREATER_THAN;
+        }
+    }
+
+    /**
+     * Returns the sorts in the opposite direction, which select the page before the cursor.
+     */
+    List<Sort<?>> inverted() {
+        return inverted;
+    }
+
+    /**
+     * Reads the cursor keys of the entity, one per sort.
+     */
+    PageRequest.Cursor cursor(CommunicationEntity entity) {
+        Object[] keys = new Object[paths.length];
+        for (int index = 0; index < paths.length; index++) {
+            keys[index] = value(paths[index], entity);
+        }
+        return PageRequest.Cursor.forKey(keys);
+    }
+
+    /**
+     * Creates the keyset predicate that selects the entities after, or before, the cursor.
+     */
+    CriteriaCondition condition(PageRequest.Cursor cursor, boolean after) {
+        if (properties.length != cursor.size()) {
+            throw new IllegalArgumentException("The cursor size is different from the sort size. Cursor: "
+                    + cursor.size() + " Sort: " + properties.length);
+        }
+        Condition[] comparisons = after ? this.after : this.before;
+        CriteriaCondition[] equalities = new CriteriaCondition[properties.length];
+        CriteriaCondition[] branches = new CriteriaCondition[properties.length];
+        for (int index = 0; index < properties.length; index++) {
+            Object key = Objects.requireNonNull(cursor.get(index), "Value is required");
+            Element element = Element.of(properties[index], key);
+            CriteriaCondition comparison = CriteriaCondition.of(element, comparisons[index]);
+            if (index == 0) {
+                branches[index] = comparison;
+            } else {
+                CriteriaCondition[] operands = Arrays.copyOf(equalities, index + 1);
+                operands[index] = comparison;
+                branches[index] = CriteriaCondition.and(operands);
+            }
+            equalities[index] = CriteriaCondition.eq(element);
+        }
+        return branches.length == 1 ? branches[0] : CriteriaCondition.or(branches);
+    }
+
+    /**
+     * Returns the plan of the sorts, compiled on the first use. Past {@value #MAX_PLANS} plans, the oldest ones are
+     * evicted, thus sorts built from request parameters cannot grow the cache without limit.
+     */
+    static KeysetPlan of(List<Sort<?>> sorts) {
+        KeysetPlan plan = PLANS.get(sorts);
+        if (plan != null) {
+            return plan;
+        }
+        List<Sort<?>> key = List.copyOf(sorts);
+        plan = new KeysetPlan(key);
+        KeysetPlan previous = PLANS.putIfAbsent(key, plan);
+        if (previous != null) {
+            return previous;
+        }
+        ORDER.add(key);
+        while (PLANS.size() > MAX_PLANS) {
+            List<Sort<?>> eldest = ORDER.poll();
+            if (eldest == null) {
+                break;
+            }
+            PLANS.remove(eldest);
+        }
+        return plan;
+    }
+
+    static int size() {
+        return PLANS.size();
+    }
+
+    private static Object value(String[] names, CommunicationEntity entity) {
+        Element element = entity.find(names[0])
+                .orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: " + names[0]));
+        for (int index = 1; index < names.length; index++) {
+            element = subElement(element, names[index - 1], names[index]);
+        }
+        return element.get();
+    }
+
+    private static Element subElement(Element element, String parent, String name) {
+        if (element.get() instanceof Iterable<?> items) {
+            boolean elements = true;
+            for (Object item : items) {
+                if (!(item instanceof Element subElement)) {
+                    elements = false;
+                    break;
+                }
+                if (subElement.name().equals(name)) {
+                    return subElement;
+                }
+            }
+            if (elements) {
+                throw new CommunicationException("The sort name does not exist in the entity: " + parent);
+            }
+        }
+        return element.get(new TypeReference<List<Element>>() {}).stream()
+                .filter(subElement -> subElement.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new CommunicationException("The sort name does not exist in the entity: " + parent));
+    }
+
+    private static Sort<?> invert(Sort<?> sort) {
+        if (sort.isAscending()) {
+            return sort.ignoreCase() ? Sort.descIgnoreCase(sort.property()) : Sort.desc(sort.property());
+        }
+        return sort.ignoreCase() ? Sort.ascIgnoreCase(sort.property()) : Sort.asc(sort.property());
+    }
+}
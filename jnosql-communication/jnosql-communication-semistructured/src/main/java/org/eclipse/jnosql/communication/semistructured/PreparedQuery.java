@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement.PreparedStatementType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable, parsed query with its parameters resolved to positional slots. It is created once per query
+ * text and shared by any number of threads; each execution takes a new {@link CommunicationPreparedStatement}
+ * from {@link #statement(DatabaseManager)}, which holds only the array of bound values.
+ */
+public final class PreparedQuery {
+
+    private final SelectQuery selectQuery;
+
+    private final DeleteQuery deleteQuery;
+
+    private final UpdateQuery updateQuery;
+
+    private final PreparedStatementType type;
+
+    private final ConditionTemplate template;
+
+    private final String query;
+
+    private PreparedQuery(SelectQuery selectQuery, DeleteQuery deleteQuery, UpdateQuery updateQuery,
+                          PreparedStatementType type, ConditionTemplate template, String query) {
+        this.selectQuery = selectQuery;
+        this.deleteQuery = deleteQuery;
+        this.updateQuery = updateQuery;
+        this.type = type;
+        this.template = template;
+        this.query = query;
+    }
+
+    /**
+     * Returns the prepared statement type.
+     *
+     * @return the prepared statement type
+     */
+    public PreparedStatementType type() {
+        return type;
+    }
+
+    /**
+     * Returns the parameter names, where the index is the position of the parameter value.
+     *
+     * @return the parameter names
+     */
+    public List<String> names() {
+        return template.names();
+    }
+
+    /**
+     * Returns the position of the parameter value.
+     *
+     * @param name the parameter name
+     * @return the position, or -1 when there is no parameter with this name
+     * @throws NullPointerException when the name is null
+     */
+    public int slot(String name) {
+        return template.slot(name);
+    }
+
+    /**
+     * Creates a new statement to bind and execute this query once.
+     *
+     * @param manager the manager that executes the statement
+     * @return a new {@link CommunicationPreparedStatement}
+     * @throws NullPointerException when the manager is null
+     */
+    public CommunicationPreparedStatement statement(DatabaseManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new CommunicationPreparedStatement(this, manager);
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    String query() {
+        return query;
+    }
+
+    int size() {
+        return template.size();
+    }
+
+    SelectQuery select(Object[] values) {
+        if (selectQuery == null || template.size() == 0) {
+            return selectQuery;
+        }
+        var condition = template.bind(values).orElse(null);
+        return new DefaultSelectQuery(selectQuery.limit(), selectQuery.skip(), selectQuery.name(), selectQuery.columns(),
+                selectQuery.sorts(), condition, selectQuery.isCount(), selectQuery.aggregates(), selectQuery.groupBy());
+    }
+
+    DeleteQuery delete(Object[] values) {
+        if (template.size() == 0) {
+            return deleteQuery;
+        }
+        var condition = template.bind(values).orElse(null);
+        return new DefaultDeleteQuery(deleteQuery.name(), condition, deleteQuery.columns());
+    }
+
+    UpdateQuery update(Object[] values) {
+        if (template.size() == 0) {
+            return updateQuery;
+        }
+        List<Element> sets = new ArrayList<>(updateQuery.sets().size());
+        for (Element element : updateQuery.sets()) {
+            sets.add(template.bind(element, values));
+        }
+        var condition = template.bind(values).orElse(null);
+        return new DefaultUpdateQuery(updateQuery.name(), sets, condition);
+    }
+
+    static PreparedQuery select(SelectQuery selectQuery, Params params, String query) {
+        var type = selectQuery.isCount() ? PreparedStatementType.COUNT : PreparedStatementType.SELECT;
+        var template = ConditionTemplate.of(selectQuery.condition().orElse(null), params);
+        return new PreparedQuery(selectQuery, null, null, type, template, query);
+    }
+
+    static PreparedQuery delete(DeleteQuery deleteQuery, Params params, String query) {
+        var template = ConditionTemplate.of(deleteQuery.condition().orElse(null), params);
+        return new PreparedQuery(null, deleteQuery, null, PreparedStatementType.DELETE, template, query);
+    }
+
+    static PreparedQuery update(UpdateQuery updateQuery, Params params, String query) {
+        var template = ConditionTemplate.of(updateQuery.where().orElse(null), params);
+        return new PreparedQuery(null, null, updateQuery, PreparedStatementType.UPDATE, template, query);
+    }
+}
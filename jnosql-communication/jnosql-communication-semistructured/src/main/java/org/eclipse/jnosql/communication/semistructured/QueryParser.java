@@ -63,11 +63,28 @@ public final class QueryParser {
      */
     public CommunicationPreparedStatement prepare(String query, String entity, DatabaseManager manager, CommunicationObserverParser observer) {
         validation(query, manager, observer);
+        return prepare(query, entity, observer).statement(manager);
+    }
+
+    /**
+     * Parses a query into a {@link PreparedQuery}, an immutable template that can be cached and shared by
+     * concurrent executions, each one taking its own statement from {@link PreparedQuery#statement(DatabaseManager)}.
+     *
+     * @param query    the query as {@link String}
+     * @param entity   the entity name, it might be null when the query defines it
+     * @param observer the observer
+     * @return a {@link PreparedQuery} instance
+     * @throws NullPointerException when either query or observer is null
+     * @throws QueryException       when there is error in the syntax
+     */
+    public PreparedQuery prepare(String query, String entity, CommunicationObserverParser observer) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(observer, "observer is required");
         var command = QueryType.parse(query);
         return switch (command) {
-            case DELETE -> delete.prepare(query, manager, observer);
-            case UPDATE -> update.prepare(query, manager, observer);
-            default -> select.prepare(query, entity, manager, observer);
+            case DELETE -> delete.prepare(query, observer);
+            case UPDATE -> update.prepare(query, observer);
+            default -> select.prepare(query, entity, observer);
         };
     }
 
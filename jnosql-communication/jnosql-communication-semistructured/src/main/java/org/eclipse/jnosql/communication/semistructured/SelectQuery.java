@@ -12,6 +12,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.Aggregate;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -87,6 +88,37 @@ public interface SelectQuery {
         return false;
     }
 
+    /**
+     * Returns the aggregate functions in the select clause, such as {@code SUM(price)}, computed for each group of
+     * {@link #groupBy()}, or over all the entities when there is no group.
+     *
+     * @return the aggregate functions
+     * @see DatabaseManager#aggregate(SelectQuery)
+     */
+    default List<Aggregate> aggregates() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the columns of the group by clause, whose distinct values define the groups of the aggregate functions.
+     *
+     * @return the group by columns
+     * @see DatabaseManager#aggregate(SelectQuery)
+     */
+    default List<String> groupBy() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns true if the query has aggregate functions or a group by clause, thus it runs with
+     * {@link DatabaseManager#aggregate(SelectQuery)} instead of {@link DatabaseManager#select(SelectQuery)}.
+     *
+     * @return true if the query is an aggregate query
+     */
+    default boolean isAggregate() {
+        return !aggregates().isEmpty() || !groupBy().isEmpty();
+    }
+
     /**
      * Starts the first step of {@link SelectElements} creation using a fluent API.
      * This step informs the fields to return to the query, similar to "select field, fieldB from database" in a database query.
@@ -15,6 +15,7 @@ import jakarta.data.Direction;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.Aggregate;
 import org.eclipse.jnosql.communication.query.data.SelectProvider;
 
 import java.util.List;
@@ -34,17 +35,21 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
     Stream<CommunicationEntity> query(String query, String entity, DatabaseManager manager, CommunicationObserverParser observer) {
 
         var selectQuery = query(query, entity, observer);
-        return manager.select(selectQuery);
+        return selectQuery.isAggregate() ? manager.aggregate(selectQuery) : manager.select(selectQuery);
     }
 
 
     CommunicationPreparedStatement prepare(String query, String entity, DatabaseManager manager, CommunicationObserverParser observer) {
+        return prepare(query, entity, observer).statement(manager);
+    }
+
+    PreparedQuery prepare(String query, String entity, CommunicationObserverParser observer) {
 
         Params params = Params.newParams();
         var selectQuery = SelectProvider.INSTANCE.apply(query, entity);
 
         var prepareQuery = query(params, selectQuery, observer);
-        return CommunicationPreparedStatement.select(prepareQuery, params, query, manager);
+        return PreparedQuery.select(prepareQuery, params, query);
     }
 
 
@@ -78,7 +83,8 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
         boolean count = selectQuery.isCount();
-        return new DefaultSelectQuery(limit, skip, entityName, columns, sorts, condition, count);
+        return new DefaultSelectQuery(limit, skip, entityName, columns, sorts, condition, count,
+                aggregates(selectQuery, observer, entityName), groupBy(selectQuery, observer, entityName));
     }
 
     private SelectQuery query(Params params, org.eclipse.jnosql.communication.query.SelectQuery selectQuery, CommunicationObserverParser observer) {
@@ -97,7 +103,22 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
 
         boolean count = selectQuery.isCount();
 
-        return new DefaultSelectQuery(limit, skip, entity, columns, sorts, condition, count);
+        return new DefaultSelectQuery(limit, skip, entity, columns, sorts, condition, count,
+                aggregates(selectQuery, observer, entity), groupBy(selectQuery, observer, entity));
+    }
+
+    private List<Aggregate> aggregates(org.eclipse.jnosql.communication.query.SelectQuery selectQuery,
+                                       CommunicationObserverParser observer, String entity) {
+        return selectQuery.aggregates().stream()
+                .map(a -> new Aggregate(a.function(), observer.fireSelectField(entity, a.field())))
+                .toList();
+    }
+
+    private List<String> groupBy(org.eclipse.jnosql.communication.query.SelectQuery selectQuery,
+                                 CommunicationObserverParser observer, String entity) {
+        return selectQuery.groupBy().stream()
+                .map(f -> observer.fireSelectField(entity, f))
+                .toList();
     }
 
     private Sort<?> toSort(Sort<?> sort, CommunicationObserverParser observer, String entity) {
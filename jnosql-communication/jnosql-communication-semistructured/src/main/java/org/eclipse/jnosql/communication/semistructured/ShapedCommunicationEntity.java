@@ -0,0 +1,306 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link CommunicationEntity} created by an {@link EntityShape}, which keeps the values of the shape attributes
+ * in an array indexed by slot. The attributes out of the shape are kept by name, as in any other
+ * {@link CommunicationEntity}. The {@link Element} instances are created only when an attribute is read by name,
+ * whereas {@link #value(int)} and {@link #set(int, Object)} read and write the slots directly, which is how the
+ * mapping layer reads an entity when it has no attribute out of the shape.
+ *
+ * <p>It is equal to a {@link CommunicationEntity} with the same name and elements.</p>
+ *
+ * @see EntityShape
+ */
+public final class ShapedCommunicationEntity extends CommunicationEntity {
+
+    private static final Object ABSENT = new Object();
+
+    private final EntityShape shape;
+
+    private final Object[] values;
+
+    private int present;
+
+    ShapedCommunicationEntity(EntityShape shape) {
+        super(shape.name());
+        this.shape = shape;
+        this.values = new Object[shape.size()];
+        Arrays.fill(values, ABSENT);
+    }
+
+    /**
+     * Returns the shape of this entity.
+     *
+     * @return the shape
+     */
+    public EntityShape shape() {
+        return shape;
+    }
+
+    /**
+     * Sets the value of a slot, replacing the previous one.
+     *
+     * @param slot  the slot of the attribute
+     * @param value the value, either the raw value or a {@link Value}; null means a null value
+     * @throws IndexOutOfBoundsException when the slot is out of the shape
+     */
+    public void set(int slot, Object value) {
+        if (values[slot] == ABSENT) {
+            present++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Returns the value of a slot.
+     *
+     * @param slot the slot of the attribute
+     * @return the value, or null when the slot has no value
+     * @throws IndexOutOfBoundsException when the slot is out of the shape
+     */
+    public Value value(int slot) {
+        Object value = values[slot];
+        return value == ABSENT ? null : wrap(value);
+    }
+
+    /**
+     * Checks whether a slot has a value, including a null value.
+     *
+     * @param slot the slot of the attribute
+     * @return {@code true} when the slot was set
+     * @throws IndexOutOfBoundsException when the slot is out of the shape
+     */
+    public boolean isSet(int slot) {
+        return values[slot] != ABSENT;
+    }
+
+    /**
+     * Checks whether every attribute of this entity is part of its shape, thus the slots hold the whole entity.
+     *
+     * @return {@code true} when there is no attribute out of the shape
+     */
+    public boolean isShapeOnly() {
+        return super.isEmpty();
+    }
+
+    @Override
+    public void add(Element element) {
+        requireNonNull(element, "Column is required");
+        int slot = shape.slot(element.name());
+        if (slot < 0) {
+            super.add(element);
+        } else {
+            set(slot, element.value());
+        }
+    }
+
+    @Override
+    public void add(String name, Object value) {
+        requireNonNull(name, "name is required");
+        int slot = shape.slot(name);
+        if (slot < 0) {
+            super.add(name, value);
+        } else {
+            set(slot, value);
+        }
+    }
+
+    @Override
+    public void add(String name, Value value) {
+        requireNonNull(name, "name is required");
+        int slot = shape.slot(name);
+        if (slot < 0) {
+            super.add(name, value);
+        } else {
+            set(slot, value);
+        }
+    }
+
+    @Override
+    public void addNull(String name) {
+        requireNonNull(name, "name is required");
+        int slot = shape.slot(name);
+        if (slot < 0) {
+            super.addNull(name);
+        } else {
+            set(slot, Value.ofNull());
+        }
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>(super.toMap());
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != ABSENT) {
+                map.put(shape.attributes().get(slot), convert(wrap(values[slot]).get()));
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public List<Element> elements() {
+        List<Element> elements = new ArrayList<>(size());
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != ABSENT) {
+                elements.add(element(slot));
+            }
+        }
+        elements.addAll(super.elements());
+        return Collections.unmodifiableList(elements);
+    }
+
+    @Override
+    public boolean remove(String name) {
+        requireNonNull(name, "name is required");
+        int slot = shape.slot(name);
+        if (slot < 0) {
+            return super.remove(name);
+        }
+        if (values[slot] == ABSENT) {
+            return false;
+        }
+        values[slot] = ABSENT;
+        present--;
+        return true;
+    }
+
+    @Override
+    public Optional<Element> find(String columnName) {
+        requireNonNull(columnName, "columnName is required");
+        int slot = shape.slot(columnName);
+        if (slot < 0) {
+            return super.find(columnName);
+        }
+        return values[slot] == ABSENT ? Optional.empty() : Optional.of(element(slot));
+    }
+
+    @Override
+    public <T> Optional<T> find(String elementName, Class<T> type) {
+        requireNonNull(elementName, "elementName is required");
+        requireNonNull(type, "type is required");
+        int slot = shape.slot(elementName);
+        if (slot < 0) {
+            return super.find(elementName, type);
+        }
+        return Optional.ofNullable(value(slot)).map(v -> v.get(type));
+    }
+
+    @Override
+    public <T> Optional<T> find(String elementName, TypeSupplier<T> type) {
+        requireNonNull(elementName, "elementName is required");
+        requireNonNull(type, "type is required");
+        int slot = shape.slot(elementName);
+        if (slot < 0) {
+            return super.find(elementName, type);
+        }
+        return Optional.ofNullable(value(slot)).map(v -> v.get(type));
+    }
+
+    @Override
+    public int size() {
+        return present + super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return present == 0 && super.isEmpty();
+    }
+
+    @Override
+    public ShapedCommunicationEntity copy() {
+        ShapedCommunicationEntity copy = new ShapedCommunicationEntity(shape);
+        System.arraycopy(values, 0, copy.values, 0, values.length);
+        copy.present = present;
+        super.elements().forEach(copy::add);
+        return copy;
+    }
+
+    @Override
+    public Set<String> elementNames() {
+        Set<String> names = new LinkedHashSet<>();
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != ABSENT) {
+                names.add(shape.attributes().get(slot));
+            }
+        }
+        names.addAll(super.elementNames());
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public Collection<Value> values() {
+        List<Value> result = new ArrayList<>(size());
+        for (Object value : values) {
+            if (value != ABSENT) {
+                result.add(wrap(value));
+            }
+        }
+        result.addAll(super.values());
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public boolean contains(String name) {
+        requireNonNull(name, "name is required");
+        int slot = shape.slot(name);
+        return slot < 0 ? super.contains(name) : values[slot] != ABSENT;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, ABSENT);
+        present = 0;
+        super.clear();
+    }
+
+    @Override
+    Map<String, Element> elementMap() {
+        Map<String, Element> elements = new LinkedHashMap<>(super.elementMap());
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != ABSENT) {
+                elements.put(shape.attributes().get(slot), element(slot));
+            }
+        }
+        return elements;
+    }
+
+    private Element element(int slot) {
+        return Element.of(shape.attributes().get(slot), wrap(values[slot]));
+    }
+
+    private static Value wrap(Object value) {
+        return value instanceof Value wrapped ? wrapped : Value.of(value);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * The fallback of {@link DatabaseManager#aggregate(SelectQuery)} for the drivers that do not aggregate natively.
+ * It selects only the group and the aggregated fields and folds the stream into one accumulator per group,
+ * keeping the groups in the order they first appear, thus a sort on the group fields is honored.
+ */
+enum StreamAggregator implements BiFunction<DatabaseManager, SelectQuery, Stream<CommunicationEntity>> {
+
+    INSTANCE;
+
+    @Override
+    public Stream<CommunicationEntity> apply(DatabaseManager manager, SelectQuery query) {
+        List<String> groupBy = query.groupBy();
+        List<Aggregate> aggregates = query.aggregates();
+
+        Set<String> columns = new LinkedHashSet<>(groupBy);
+        aggregates.forEach(aggregate -> columns.add(aggregate.field()));
+        for (Sort<?> sort : query.sorts()) {
+            if (!groupBy.contains(sort.property())) {
+                throw new IllegalArgumentException("The field " + sort.property()
+                        + " must be in the GROUP BY clause to be ordered with an aggregate function");
+            }
+        }
+        var select = new DefaultSelectQuery(0, 0, query.name(), new ArrayList<>(columns), query.sorts(),
+                query.condition().orElse(null), false);
+
+        Map<List<Object>, Accumulator[]> groups = new LinkedHashMap<>();
+        try (Stream<CommunicationEntity> entities = manager.select(select)) {
+            entities.forEach(entity -> {
+                List<Object> key = groupBy.stream().map(field -> value(entity, field)).toList();
+                Accumulator[] accumulators = groups.computeIfAbsent(key, k -> accumulators(aggregates));
+                for (int index = 0; index < accumulators.length; index++) {
+                    accumulators[index].accept(value(entity, aggregates.get(index).field()));
+                }
+            });
+        }
+        if (groups.isEmpty() && groupBy.isEmpty()) {
+            groups.put(List.of(), accumulators(aggregates));
+        }
+
+        Stream<CommunicationEntity> result = groups.entrySet().stream()
+                .map(group -> toEntity(query, group.getKey(), group.getValue()));
+        if (query.skip() > 0) {
+            result = result.skip(query.skip());
+        }
+        if (query.limit() > 0) {
+            result = result.limit(query.limit());
+        }
+        return result;
+    }
+
+    private static CommunicationEntity toEntity(SelectQuery query, List<Object> key, Accumulator[] accumulators) {
+        var entity = CommunicationEntity.of(query.name());
+        List<String> groupBy = query.groupBy();
+        for (int index = 0; index < groupBy.size(); index++) {
+            add(entity, groupBy.get(index), key.get(index));
+        }
+        List<Aggregate> aggregates = query.aggregates();
+        for (int index = 0; index < accumulators.length; index++) {
+            add(entity, aggregates.get(index).alias(), accumulators[index].result());
+        }
+        return entity;
+    }
+
+    private static void add(CommunicationEntity entity, String name, Object value) {
+        if (value == null) {
+            entity.addNull(name);
+        } else {
+            entity.add(name, value);
+        }
+    }
+
+    private static Object value(CommunicationEntity entity, String field) {
+        return entity.find(field).map(Element::get).orElse(null);
+    }
+
+    private static Accumulator[] accumulators(List<Aggregate> aggregates) {
+        return aggregates.stream().map(aggregate -> new Accumulator(aggregate.function())).toArray(Accumulator[]::new);
+    }
+
+    /**
+     * The running state of one aggregate function over one group. The null values are ignored, as in SQL.
+     */
+    static final class Accumulator {
+
+        private final AggregateFunction function;
+
+        private long count;
+
+        private long longSum;
+
+        private BigDecimal decimalSum;
+
+        private double doubleSum;
+
+        private boolean floating;
+
+        private Object extreme;
+
+        Accumulator(AggregateFunction function) {
+            this.function = function;
+        }
+
+        void accept(Object value) {
+            if (value == null) {
+                return;
+            }
+            count++;
+            switch (function) {
+                case SUM, AVG -> add(value);
+                case MIN -> extreme = extreme == null || compare(value, extreme) < 0 ? value : extreme;
+                case MAX -> extreme = extreme == null || compare(value, extreme) > 0 ? value : extreme;
+                default -> {
+                    // COUNT only counts the non-null values
+                }
+            }
+        }
+
+        Object result() {
+            return switch (function) {
+                case COUNT -> count;
+                case SUM -> count == 0 ? null : sum();
+                case AVG -> count == 0 ? null : average();
+                case MIN, MAX -> extreme;
+            };
+        }
+
+        private void add(Object value) {
+            if (value instanceof Double || value instanceof Float) {
+                floating = true;
+                doubleSum += ((Number) value).doubleValue();
+            } else if (decimalSum == null && isIntegral(value)) {
+                long number = ((Number) value).longValue();
+                try {
+                    longSum = Math.addExact(longSum, number);
+                } catch (ArithmeticException exception) {
+                    decimalSum = BigDecimal.valueOf(longSum).add(BigDecimal.valueOf(number));
+                }
+            } else {
+                if (decimalSum == null) {
+                    decimalSum = BigDecimal.valueOf(longSum);
+                }
+                decimalSum = decimalSum.add(decimal(value));
+            }
+        }
+
+        private Object sum() {
+            if (floating) {
+                return doubleSum + exactSum().doubleValue();
+            }
+            return decimalSum == null ? (Object) longSum : decimalSum;
+        }
+
+        private double average() {
+            return (doubleSum + exactSum().doubleValue()) / count;
+        }
+
+        private BigDecimal exactSum() {
+            return decimalSum == null ? BigDecimal.valueOf(longSum) : decimalSum;
+        }
+
+        private static boolean isIntegral(Object value) {
+            return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+        }
+
+        private static BigDecimal decimal(Object value) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal;
+            } else if (value instanceof BigInteger integer) {
+                return new BigDecimal(integer);
+            } else if (isIntegral(value)) {
+                return BigDecimal.valueOf(((Number) value).longValue());
+            } else if (value instanceof Number number) {
+                return new BigDecimal(number.toString());
+            }
+            return Value.of(value).get(BigDecimal.class);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static int compare(Object value, Object other) {
+            if (value instanceof Number && other instanceof Number && !value.getClass().equals(other.getClass())) {
+                return decimal(value).compareTo(decimal(other));
+            }
+            if (value instanceof Comparable comparable) {
+                return comparable.compareTo(other);
+            }
+            throw new UnsupportedOperationException("The MIN and MAX functions require comparable values, but the value "
+                    + value + " is " + value.getClass().getName());
+        }
+    }
+}
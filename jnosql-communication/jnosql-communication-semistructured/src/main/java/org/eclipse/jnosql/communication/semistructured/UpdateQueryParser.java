@@ -37,10 +37,13 @@ public final class UpdateQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     CommunicationPreparedStatement prepare(String query, DatabaseManager manager,
                                            CommunicationObserverParser observer) {
+        return prepare(query, observer).statement(manager);
+    }
 
+    PreparedQuery prepare(String query, CommunicationObserverParser observer) {
         Params params = Params.newParams();
         var updateQuery = getQuery(query, params, observer);
-        return CommunicationPreparedStatement.update(updateQuery, params, query, manager);
+        return PreparedQuery.update(updateQuery, params, query);
     }
 
 
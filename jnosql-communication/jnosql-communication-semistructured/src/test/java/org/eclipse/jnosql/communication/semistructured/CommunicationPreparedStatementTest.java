@@ -439,22 +439,26 @@ class CommunicationPreparedStatementTest {
             // When / Then
             assertThatThrownBy(statement::count)
                     .isInstanceOf(IllegalArgumentException.class)
-                    .hasMessage("The count operation is only allowed for COUNT and DELETE queries");
+                    .hasMessage("The count operation is only allowed for COUNT, DELETE and UPDATE queries");
             verifyNoInteractions(manager);
         }
 
         @Test
-        @DisplayName("Should reject count for an update")
-        void shouldRejectUpdate() {
+        @DisplayName("Should return the number of entities updated by an update")
+        void shouldCountUpdate() {
 
             // Given
-            var statement = CommunicationPreparedStatement.update(mock(UpdateQuery.class), Params.newParams(), QUERY, manager);
+            var updateQuery = mock(UpdateQuery.class);
+            when(manager.updateAndCount(updateQuery)).thenReturn(4L);
+            var statement = CommunicationPreparedStatement.update(updateQuery, Params.newParams(), QUERY, manager);
 
-            // When / Then
-            assertThatThrownBy(statement::count)
-                    .isInstanceOf(IllegalArgumentException.class)
-                    .hasMessage("The count operation is only allowed for COUNT and DELETE queries");
-            verifyNoInteractions(manager);
+            // When
+            long result = statement.count();
+
+            // Then
+            assertThat(result).isEqualTo(4L);
+            verify(manager).updateAndCount(updateQuery);
+            verify(manager, never()).update(any(UpdateQuery.class));
         }
 
         @Test
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.ParamValue;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ConditionTemplateTest {
+
+    @Nested
+    @DisplayName("When the condition template is used")
+    class WhenTheConditionTemplateIsUsed {
+
+        @Test
+        @DisplayName("Should resolve each parameter name to a single slot")
+        void shouldResolveSlots() {
+            Params params = Params.newParams();
+            CriteriaCondition condition = CriteriaCondition.eq(Element.of("name", params.add("name")))
+                    .and(CriteriaCondition.gt(Element.of("age", params.add("age"))))
+                    .or(CriteriaCondition.eq(Element.of("nickname", params.add("name"))));
+
+            ConditionTemplate template = ConditionTemplate.of(condition, params);
+
+            assertSoftly(softly -> {
+                softly.assertThat(template.names()).containsExactly("name", "age");
+                softly.assertThat(template.size()).isEqualTo(2);
+                softly.assertThat(template.slot("name")).isZero();
+                softly.assertThat(template.slot("age")).isEqualTo(1);
+                softly.assertThat(template.slot("unknown")).isEqualTo(-1);
+            });
+        }
+
+        @Test
+        @DisplayName("Should bind values without changing the template")
+        void shouldBindWithoutChangingTemplate() {
+            Params params = Params.newParams();
+            Value name = params.add("name");
+            CriteriaCondition condition = CriteriaCondition.eq(Element.of("name", name))
+                    .and(CriteriaCondition.gt(Element.of("age", 10)));
+            ConditionTemplate template = ConditionTemplate.of(condition, params);
+
+            CriteriaCondition ada = template.bind(new Object[]{"Ada"}).orElseThrow();
+            CriteriaCondition grace = template.bind(new Object[]{"Grace"}).orElseThrow();
+
+            assertSoftly(softly -> {
+                softly.assertThat(value(ada, 0)).isEqualTo("Ada");
+                softly.assertThat(value(grace, 0)).isEqualTo("Grace");
+                softly.assertThat(value(ada, 1)).isEqualTo(10);
+                softly.assertThat(conditions(ada).get(1)).isSameAs(conditions(condition).get(1));
+                softly.assertThatThrownBy(name::get).isInstanceOf(QueryException.class);
+            });
+        }
+
+        @Test
+        @DisplayName("Should bind parameters inside not and in conditions")
+        void shouldBindNestedConditions() {
+            Params params = Params.newParams();
+            CriteriaCondition condition = CriteriaCondition.in(Element.of("age", List.of(params.add("first"), 3)))
+                    .negate();
+            ConditionTemplate template = ConditionTemplate.of(condition, params);
+
+            CriteriaCondition bound = template.bind(new Object[]{1}).orElseThrow();
+
+            CriteriaCondition in = bound.element().get(CriteriaCondition.class);
+            List<?> values = (List<?>) in.element().get();
+            assertSoftly(softly -> {
+                softly.assertThat(bound.condition()).isEqualTo(Condition.NOT);
+                softly.assertThat(values).hasSize(2);
+                softly.assertThat(((ParamValue) values.get(0)).get()).isEqualTo(1);
+                softly.assertThat(values.get(1)).isEqualTo(3);
+            });
+        }
+
+        @Test
+        @DisplayName("Should return empty when there is no condition")
+        void shouldReturnEmptyWithoutCondition() {
+            ConditionTemplate template = ConditionTemplate.of(null, Params.newParams());
+            assertThat(template.bind(new Object[0])).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject values that do not match the slots")
+        void shouldRejectWrongNumberOfValues() {
+            Params params = Params.newParams();
+            CriteriaCondition condition = CriteriaCondition.eq(Element.of("name", params.add("name")));
+            ConditionTemplate template = ConditionTemplate.of(condition, params);
+
+            assertThatThrownBy(() -> template.bind(new Object[0])).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> template.bind(null)).isInstanceOf(NullPointerException.class);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<CriteriaCondition> conditions(CriteriaCondition condition) {
+            return (List<CriteriaCondition>) condition.element().get();
+        }
+
+        private Object value(CriteriaCondition condition, int index) {
+            return conditions(condition).get(index).element().get();
+        }
+    }
+}
@@ -12,10 +12,12 @@ package org.eclipse.jnosql.communication.semistructured;
 
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -183,13 +185,13 @@ class CriteriaConditionTest {
         }
 
         @Test
-        @DisplayName("Should demonstrate equals/hashCode contract issue due to readOnly in hashCode")
-        void shouldShowEqualsHashCodeContractIssue() {
+        @DisplayName("Should keep the equals/hashCode contract between read-only and mutable conditions")
+        void shouldKeepEqualsHashCodeContract() {
             var base = CriteriaCondition.eq(el("x", 1));
             var ro = CriteriaCondition.readOnly(base);
 
             assertThat(ro).isEqualTo(base);
-            assertThat(ro.hashCode()).isNotEqualTo(base.hashCode()); // contract violation
+            assertThat(ro.hashCode()).isEqualTo(base.hashCode());
         }
 
         @Test
@@ -214,4 +216,125 @@ class CriteriaConditionTest {
         }
     }
 
+    @Nested
+    @DisplayName("When the criteria condition is normalized")
+    class WhenNormalized {
+
+        @Test
+        @DisplayName("Should append to a long chain without changing the previous conditions")
+        void shouldAppendWithoutChangingPrevious() {
+            var condition = CriteriaCondition.eq("field", 0);
+            var conditions = new ArrayList<CriteriaCondition>();
+            for (int index = 1; index < 1_000; index++) {
+                conditions.add(condition);
+                condition = condition.and(CriteriaCondition.eq("field", index));
+            }
+            var chain = condition;
+            var first = conditions.get(1);
+            var branch = first.and(CriteriaCondition.eq("branch", true));
+
+            assertSoftly(soft -> {
+                soft.assertThat(chain.element().get(new TypeReference<List<CriteriaCondition>>() {})).hasSize(1_000);
+                soft.assertThat(first.element().get(new TypeReference<List<CriteriaCondition>>() {}))
+                        .containsExactly(CriteriaCondition.eq("field", 0), CriteriaCondition.eq("field", 1));
+                soft.assertThat(branch.element().get(new TypeReference<List<CriteriaCondition>>() {}))
+                        .containsExactly(CriteriaCondition.eq("field", 0), CriteriaCondition.eq("field", 1),
+                                CriteriaCondition.eq("branch", true));
+            });
+        }
+
+        @Test
+        @DisplayName("Should flatten nested conjunctions and remove duplicates")
+        void shouldFlattenAndRemoveDuplicates() {
+            var name = CriteriaCondition.eq("name", "Ada");
+            var age = CriteriaCondition.gt("age", 10);
+            var active = CriteriaCondition.eq("active", true);
+            var condition = CriteriaCondition.and(name, CriteriaCondition.and(age, CriteriaCondition.and(active, name)));
+
+            var normalized = condition.normalize();
+
+            assertSoftly(soft -> {
+                soft.assertThat(normalized.condition()).isEqualTo(Condition.AND);
+                soft.assertThat(normalized.element().get(new TypeReference<List<CriteriaCondition>>() {}))
+                        .containsExactly(name, age, active);
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep the equalities of a disjunction on the same field")
+        void shouldKeepEqualsOfDisjunction() {
+            var condition = CriteriaCondition.or(CriteriaCondition.eq("name", "Ada"), CriteriaCondition.gt("age", 10),
+                    CriteriaCondition.eq("name", "Linus"));
+
+            assertThat(condition.normalize()).isSameAs(condition);
+        }
+
+        @Test
+        @DisplayName("Should replace a conjunction of a single operand by the operand")
+        void shouldCollapseSingleOperand() {
+            var name = CriteriaCondition.eq("name", "Ada");
+
+            assertThat(CriteriaCondition.and(name).normalize()).isEqualTo(name);
+        }
+
+        @Test
+        @DisplayName("Should fold the double negation")
+        void shouldFoldDoubleNegation() {
+            var name = CriteriaCondition.eq("name", "Ada");
+            var not = CriteriaCondition.of(Element.of(Condition.NOT.getNameField(), name), Condition.NOT);
+            var condition = CriteriaCondition.of(Element.of(Condition.NOT.getNameField(), not), Condition.NOT);
+
+            assertThat(condition.normalize()).isEqualTo(name);
+        }
+
+        @Test
+        @DisplayName("Should not merge the parameters that are not bound")
+        void shouldNotMergeUnboundParameters() {
+            var params = Params.newParams();
+            var condition = CriteriaCondition.eq(Element.of("name", params.add("first")))
+                    .or(CriteriaCondition.eq(Element.of("name", params.add("second"))));
+
+            assertThat(condition.normalize()).isSameAs(condition);
+        }
+
+        @Test
+        @DisplayName("Should return the same instance when the condition is canonical")
+        void shouldReturnSameInstance() {
+            var condition = CriteriaCondition.eq("name", "Ada").and(CriteriaCondition.gt("age", 10));
+
+            assertThat(condition.normalize()).isSameAs(condition);
+        }
+
+        @Test
+        @DisplayName("Should give the same canonical form to equivalent conditions")
+        void shouldGiveSameCanonicalForm() {
+            var first = CriteriaCondition.eq("name", "Ada").or(CriteriaCondition.eq("name", "Grace"))
+                    .and(CriteriaCondition.gt("age", 10));
+            var second = CriteriaCondition.and(CriteriaCondition.of(Element.of(Condition.AND.getNameField(),
+                    List.of(CriteriaCondition.or(CriteriaCondition.eq("name", "Ada"), CriteriaCondition.eq("name", "Grace")))),
+                    Condition.AND), CriteriaCondition.gt("age", 10));
+
+            assertSoftly(soft -> {
+                soft.assertThat(first.normalize()).isEqualTo(second.normalize());
+                soft.assertThat(first.normalize().hashCode()).isEqualTo(second.normalize().hashCode());
+            });
+        }
+
+        @Test
+        @DisplayName("Should normalize the condition of a query when it is created")
+        void shouldNormalizeQueryCondition() {
+            var name = CriteriaCondition.eq("name", "Ada");
+            var age = CriteriaCondition.gt("age", 10);
+            var condition = CriteriaCondition.and(name, CriteriaCondition.and(age, name));
+
+            var select = SelectQuery.builder().from("Person").where(condition).build();
+            var delete = DeleteQuery.builder().from("Person").where(condition).build();
+
+            assertSoftly(soft -> {
+                soft.assertThat(select.condition()).contains(CriteriaCondition.and(name, age));
+                soft.assertThat(delete.condition()).contains(CriteriaCondition.and(name, age));
+            });
+        }
+    }
+
 }
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.page.PageRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTokenTest {
+
+    @Test
+    @DisplayName("Should encode and decode every supported key type")
+    void shouldRoundTrip() {
+        var id = UUID.randomUUID();
+        var cursor = PageRequest.Cursor.forKey("Ada", 36, 10L, 1.5D, 2.5F, (short) 3, (byte) 4, true, 'A',
+                new BigDecimal("12.50"), id, Instant.ofEpochSecond(1_000, 42), LocalDate.of(2026, Month.MARCH, 1),
+                LocalDateTime.of(2026, Month.MARCH, 1, 10, 30, 15, 7));
+
+        var token = CursorToken.encode(cursor);
+
+        assertThat(token).doesNotContain("+", "/", "=");
+        assertThat(CursorToken.decode(token).elements()).containsExactlyElementsOf(cursor.elements());
+    }
+
+    @Test
+    @DisplayName("Should write an enum by name")
+    void shouldWriteEnumByName() {
+        var token = CursorToken.encode(PageRequest.Cursor.forKey(Month.MAY));
+
+        assertThat(CursorToken.decode(token).get(0)).isEqualTo("MAY");
+    }
+
+    @Test
+    @DisplayName("Should reject an unsupported key type")
+    void shouldRejectUnsupportedKey() {
+        assertThatThrownBy(() -> CursorToken.encode(PageRequest.Cursor.forKey(new Object())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed token")
+    void shouldRejectMalformedToken() {
+        var token = CursorToken.encode(PageRequest.Cursor.forKey("Ada", 36));
+
+        assertThatThrownBy(() -> CursorToken.decode(token.substring(0, token.length() - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorToken.decode("AAAA"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorToken.decode("not a token!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should encode a text longer than 64KB")
+    void shouldEncodeLongText() {
+        var text = "á".repeat(70_000);
+
+        var token = CursorToken.encode(PageRequest.Cursor.forKey(text, new BigDecimal("1." + "5".repeat(70_000))));
+
+        assertThat(CursorToken.decode(token).elements())
+                .containsExactly(text, new BigDecimal("1." + "5".repeat(70_000)));
+    }
+
+    @Test
+    @DisplayName("Should reject a text length beyond the token")
+    void shouldRejectInvalidTextLength() {
+        byte[] bytes = {1, 0, 1, 1, 0x7F, 0, 0, 0, 'A'};
+        var token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThatThrownBy(() -> CursorToken.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("length");
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor with more keys than a token supports")
+    void shouldRejectTooManyKeys() {
+        var keys = new Object[70_000];
+        Arrays.fill(keys, 1);
+
+        assertThatThrownBy(() -> CursorToken.encode(PageRequest.Cursor.forKey(keys)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -768,10 +768,12 @@ class DatabaseManagerTest {
 
             databaseManager.update(updateQuery);
 
-            ArgumentCaptor<CommunicationEntity> captor = ArgumentCaptor.forClass(CommunicationEntity.class);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
             Mockito.verify(databaseManager).update(captor.capture());
+            Mockito.verify(databaseManager, Mockito.never()).update(Mockito.any(CommunicationEntity.class));
 
-            CommunicationEntity communication = captor.getValue();
+            CommunicationEntity communication = captor.getValue().iterator().next();
 
             SoftAssertions.assertSoftly(soft ->{
                 soft.assertThat(communication.find("name").orElseThrow().get()).isEqualTo("Ada");
@@ -780,6 +782,68 @@ class DatabaseManagerTest {
             });
         }
 
+        @DisplayName("Should Update In Chunks And Return The Count")
+        @Test
+        void shouldUpdateInChunks() {
+            var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("name", "Ada")), null);
+            List<CommunicationEntity> entities = new ArrayList<>();
+            for (int index = 0; index < 5; index++) {
+                var entity = CommunicationEntity.of("person");
+                entity.add("id", index);
+                entities.add(entity);
+            }
+            Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(entities.stream());
+            List<Integer> chunks = new ArrayList<>();
+            Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> {
+                List<CommunicationEntity> chunk = invocation.getArgument(0);
+                chunks.add(chunk.size());
+                return chunk;
+            });
+
+            long updated = BulkUpdater.INSTANCE.update(databaseManager, updateQuery, 2);
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(updated).isEqualTo(5L);
+                soft.assertThat(chunks).containsExactly(2, 2, 1);
+                soft.assertThat(entities).allMatch(e -> "Ada".equals(e.find("name").orElseThrow().get()));
+            });
+        }
+
+        @DisplayName("Should Return Zero When No Entity Matches The Update")
+        @Test
+        void shouldReturnZeroWhenNoEntityMatchesTheUpdate() {
+            var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("name", "Ada")), null);
+            Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.empty());
+
+            assertThat(databaseManager.updateAndCount(updateQuery)).isZero();
+            Mockito.verify(databaseManager, Mockito.never()).update(Mockito.<Iterable<CommunicationEntity>>any());
+        }
+
+        @DisplayName("Should Count In Memory Without Calling The Update By Query")
+        @Test
+        void shouldCountInMemoryWithoutCallingTheUpdateByQuery() {
+            var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("name", "Ada")), null);
+            var entity = CommunicationEntity.of("person");
+            entity.add("id", 1);
+            Mockito.when(databaseManager.select(Mockito.any(SelectQuery.class))).thenReturn(Stream.of(entity));
+            Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            assertThat(databaseManager.updateAndCount(updateQuery)).isEqualTo(1L);
+            Mockito.verify(databaseManager, Mockito.never()).update(Mockito.any(UpdateQuery.class));
+        }
+
+        @DisplayName("Should Update Through The Native Update And Count")
+        @Test
+        void shouldUpdateThroughTheNativeUpdateAndCount() {
+            var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("name", "Ada")), null);
+            Mockito.doReturn(3L).when(databaseManager).updateAndCount(updateQuery);
+
+            databaseManager.update(updateQuery);
+
+            Mockito.verify(databaseManager).updateAndCount(updateQuery);
+            Mockito.verify(databaseManager, Mockito.never()).select(Mockito.any(SelectQuery.class));
+        }
+
         @DisplayName("Should Return Empty Ate Default Id Field Name")
         @Test
         void shouldReturnEmptyAteDefaultIdFieldName() {
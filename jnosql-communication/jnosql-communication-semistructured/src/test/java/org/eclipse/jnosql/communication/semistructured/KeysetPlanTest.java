@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetPlanTest {
+
+    @Test
+    @DisplayName("Should reuse the plan of the same sorts")
+    void shouldReusePlan() {
+        List<Sort<?>> sorts = List.of(Sort.asc("name"), Sort.desc("age"));
+
+        assertThat(KeysetPlan.of(sorts)).isSameAs(KeysetPlan.of(List.of(Sort.asc("name"), Sort.desc("age"))));
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest plans past the limit")
+    void shouldEvictOldestPlans() {
+        List<Sort<?>> first = List.of(Sort.asc("evicted"));
+        KeysetPlan plan = KeysetPlan.of(first);
+
+        for (int index = 0; index < 2_000; index++) {
+            KeysetPlan.of(List.of(Sort.asc("property" + index)));
+        }
+
+        assertThat(KeysetPlan.size()).isLessThanOrEqualTo(1_000);
+        assertThat(KeysetPlan.of(first)).isNotSameAs(plan);
+    }
+}
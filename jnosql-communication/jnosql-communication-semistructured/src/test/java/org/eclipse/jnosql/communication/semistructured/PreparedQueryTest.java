@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Prepared query")
+class PreparedQueryTest {
+
+    private final DatabaseManager manager = mock(DatabaseManager.class);
+
+    @Nested
+    @DisplayName("When sharing a prepared query")
+    class WhenSharing {
+
+        @Test
+        @DisplayName("Should resolve the parameters to positions")
+        void shouldResolvePositions() {
+            var prepared = QueryParser.INSTANCE.prepare("FROM God WHERE age > :age AND name = :name OR nickname = :name",
+                    null, CommunicationObserverParser.EMPTY);
+
+            assertSoftly(softly -> {
+                softly.assertThat(prepared.type()).isEqualTo(CommunicationPreparedStatement.PreparedStatementType.SELECT);
+                softly.assertThat(prepared.names()).containsExactly("age", "name");
+                softly.assertThat(prepared.slot("name")).isEqualTo(1);
+                softly.assertThat(prepared.slot("unknown")).isEqualTo(-1);
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep the values of each statement apart")
+        void shouldKeepStatementsApart() {
+            var prepared = QueryParser.INSTANCE.prepare("FROM God WHERE age = :age", null,
+                    CommunicationObserverParser.EMPTY);
+
+            var first = prepared.statement(manager).bind("age", 10);
+            var second = prepared.statement(manager).bind("age", 20);
+            first.result().toList();
+            second.result().toList();
+
+            var captor = ArgumentCaptor.forClass(SelectQuery.class);
+            verify(manager, times(2)).select(captor.capture());
+            var values = captor.getAllValues().stream()
+                    .map(q -> q.condition().orElseThrow().element().get())
+                    .toList();
+            assertThat(values).containsExactly(10, 20);
+        }
+
+        @Test
+        @DisplayName("Should require the values of a new statement")
+        void shouldRequireValuesOfNewStatement() {
+            var prepared = QueryParser.INSTANCE.prepare("FROM God WHERE age = :age", null,
+                    CommunicationObserverParser.EMPTY);
+            prepared.statement(manager).bind("age", 10);
+
+            assertThatThrownBy(() -> prepared.statement(manager).result())
+                    .hasMessageContaining("age");
+        }
+
+        @Test
+        @DisplayName("Should bind a positional parameter only to its own position")
+        void shouldBindExactPosition() {
+            var prepared = QueryParser.INSTANCE.prepare("FROM God WHERE age = ?1 AND power = ?10", null,
+                    CommunicationObserverParser.EMPTY);
+
+            var statement = prepared.statement(manager).bind(1, 10).bind(10, 100);
+            statement.result().toList();
+
+            var captor = ArgumentCaptor.forClass(SelectQuery.class);
+            verify(manager).select(captor.capture());
+            @SuppressWarnings("unchecked")
+            var conditions = (List<CriteriaCondition>) captor.getValue().condition().orElseThrow().element().get();
+            assertThat(conditions).extracting(c -> c.element().get()).containsExactly(10, 100);
+        }
+
+        @Test
+        @DisplayName("Should bind the assignments and the condition of an update")
+        void shouldBindUpdate() {
+            var prepared = QueryParser.INSTANCE.prepare("UPDATE God SET name = :name WHERE age = :age", null,
+                    CommunicationObserverParser.EMPTY);
+
+            prepared.statement(manager).bind("name", "Zeus").bind("age", 10).result();
+
+            var captor = ArgumentCaptor.forClass(UpdateQuery.class);
+            verify(manager).update(captor.capture());
+            var query = captor.getValue();
+            assertSoftly(softly -> {
+                softly.assertThat(query.sets()).extracting(Element::get).containsExactly("Zeus");
+                softly.assertThat(query.where().orElseThrow().condition()).isEqualTo(Condition.EQUALS);
+                softly.assertThat(query.where().orElseThrow().element().get()).isEqualTo(10);
+            });
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ShapedCommunicationEntityTest {
+
+    private final EntityShape shape = EntityShape.of("Person", List.of("_id", "name", "age"));
+
+    @Nested
+    @DisplayName("When the shape is created")
+    class WhenShape {
+
+        @Test
+        @DisplayName("Should index the attributes by slot")
+        void shouldIndexAttributes() {
+            assertSoftly(softly -> {
+                softly.assertThat(shape.name()).isEqualTo("Person");
+                softly.assertThat(shape.size()).isEqualTo(3);
+                softly.assertThat(shape.slot("name")).isEqualTo(1);
+                softly.assertThat(shape.slot("unknown")).isEqualTo(-1);
+                softly.assertThat(shape.attributes()).containsExactly("_id", "name", "age");
+            });
+        }
+
+        @Test
+        @DisplayName("Should reject a repeated attribute")
+        void shouldRejectRepeatedAttribute() {
+            assertThatThrownBy(() -> EntityShape.of("Person", List.of("name", "name")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("When the entity is read and written")
+    class WhenEntity {
+
+        @Test
+        @DisplayName("Should write by slot and read by name")
+        void shouldWriteBySlot() {
+            var entity = shape.newEntity();
+            entity.set(shape.slot("name"), "Ada");
+            entity.set(shape.slot("age"), Value.of(36));
+
+            assertSoftly(softly -> {
+                softly.assertThat(entity.name()).isEqualTo("Person");
+                softly.assertThat(entity.size()).isEqualTo(2);
+                softly.assertThat(entity.find("name", String.class)).contains("Ada");
+                softly.assertThat(entity.find("age")).contains(Element.of("age", 36));
+                softly.assertThat(entity.value(shape.slot("age"))).isEqualTo(Value.of(36));
+                softly.assertThat(entity.value(shape.slot("_id"))).isNull();
+                softly.assertThat(entity.isSet(shape.slot("_id"))).isFalse();
+                softly.assertThat(entity.isShapeOnly()).isTrue();
+                softly.assertThat(entity.contains("_id")).isFalse();
+                softly.assertThat(entity.elementNames()).containsExactly("name", "age");
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep the attributes out of the shape")
+        void shouldKeepExtraAttributes() {
+            var entity = shape.newEntity();
+            entity.add("name", "Ada");
+            entity.add(Element.of("nickname", "Countess"));
+            entity.addNull("age");
+
+            assertSoftly(softly -> {
+                softly.assertThat(entity.size()).isEqualTo(3);
+                softly.assertThat(entity.isShapeOnly()).isFalse();
+                softly.assertThat(entity.elements()).containsExactly(Element.of("name", "Ada"),
+                        Element.of("age", Value.ofNull()), Element.of("nickname", "Countess"));
+                softly.assertThat(entity.toMap()).containsEntry("nickname", "Countess").containsEntry("name", "Ada");
+                softly.assertThat(entity.find("nickname", String.class)).contains("Countess");
+            });
+        }
+
+        @Test
+        @DisplayName("Should remove and clear the attributes")
+        void shouldRemove() {
+            var entity = shape.newEntity();
+            entity.add("name", "Ada");
+            entity.add("nickname", "Countess");
+
+            assertSoftly(softly -> {
+                softly.assertThat(entity.remove("name")).isTrue();
+                softly.assertThat(entity.remove("name")).isFalse();
+                softly.assertThat(entity.remove("nickname")).isTrue();
+                softly.assertThat(entity.isEmpty()).isTrue();
+                softly.assertThat(entity.isShapeOnly()).isTrue();
+            });
+
+            entity.add("age", 36);
+            entity.clear();
+            assertThat(entity.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should copy without sharing the values")
+        void shouldCopy() {
+            var entity = shape.newEntity();
+            entity.add("name", "Ada");
+            entity.add("nickname", "Countess");
+            var copy = entity.copy();
+            copy.add("name", "Grace");
+            copy.remove("nickname");
+
+            assertSoftly(softly -> {
+                softly.assertThat(entity.find("name", String.class)).contains("Ada");
+                softly.assertThat(entity.find("nickname", String.class)).contains("Countess");
+                softly.assertThat(copy.find("name", String.class)).contains("Grace");
+                softly.assertThat(copy.contains("nickname")).isFalse();
+                softly.assertThat(copy.shape()).isSameAs(shape);
+            });
+        }
+
+        @Test
+        @DisplayName("Should be equal to a communication entity with the same elements")
+        void shouldBeEqualToCommunicationEntity() {
+            var entity = shape.newEntity();
+            entity.add("name", "Ada");
+            entity.add("nickname", "Countess");
+            var communication = CommunicationEntity.of("Person",
+                    List.of(Element.of("nickname", "Countess"), Element.of("name", "Ada")));
+
+            assertSoftly(softly -> {
+                softly.assertThat(entity).isEqualTo(communication);
+                softly.assertThat(communication).isEqualTo(entity);
+                softly.assertThat(entity.hashCode()).isEqualTo(communication.hashCode());
+                softly.assertThat(entity.toMap()).isEqualTo(Map.of("name", "Ada", "nickname", "Countess"));
+            });
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Database manager aggregate fallback")
+class StreamAggregatorTest {
+
+    private final DatabaseManager manager = Mockito.mock(DatabaseManager.class, Mockito.CALLS_REAL_METHODS);
+
+    @Nested
+    @DisplayName("When aggregating without groups")
+    class WhenNoGroup {
+
+        @Test
+        @DisplayName("Should compute every aggregate function over the stream")
+        void shouldAggregate() {
+            when(manager.select(any(SelectQuery.class))).thenReturn(Stream.of(
+                    product("book", 10, 2), product("book", 20, null), product("game", 30, 5)));
+
+            var result = manager.query("SELECT COUNT(stock), SUM(price), AVG(price), MIN(price), MAX(stock) FROM Product")
+                    .toList();
+
+            assertThat(result).hasSize(1);
+            var row = result.getFirst().toMap();
+            assertSoftly(softly -> {
+                softly.assertThat(row).containsEntry("count(stock)", 2L);
+                softly.assertThat(row).containsEntry("sum(price)", 60L);
+                softly.assertThat(row).containsEntry("avg(price)", 20D);
+                softly.assertThat(row).containsEntry("min(price)", 10);
+                softly.assertThat(row).containsEntry("max(stock)", 5);
+            });
+        }
+
+        @Test
+        @DisplayName("Should return one row when there is no entity")
+        void shouldReturnEmptyRow() {
+            when(manager.select(any(SelectQuery.class))).thenReturn(Stream.empty());
+
+            var result = manager.query("SELECT COUNT(price), SUM(price) FROM Product").toList();
+
+            assertThat(result).hasSize(1);
+            assertSoftly(softly -> {
+                softly.assertThat(result.getFirst().find("count(price)").orElseThrow().get()).isEqualTo(0L);
+                softly.assertThat(result.getFirst().find("sum(price)").orElseThrow().get()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("Should sum as decimal when the long sum overflows")
+        void shouldSumOverflow() {
+            when(manager.select(any(SelectQuery.class))).thenReturn(Stream.of(
+                    product("book", Long.MAX_VALUE, 1), product("book", 1L, 1)));
+
+            var result = manager.query("SELECT SUM(price) FROM Product").toList();
+
+            assertThat(result.getFirst().find("sum(price)").orElseThrow().get())
+                    .isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE));
+        }
+    }
+
+    @Nested
+    @DisplayName("When aggregating by groups")
+    class WhenGroup {
+
+        @Test
+        @DisplayName("Should select only the group and the aggregated fields")
+        void shouldSelectRequiredFields() {
+            when(manager.select(any(SelectQuery.class))).thenReturn(Stream.empty());
+
+            manager.query("SELECT category, SUM(price) FROM Product WHERE stock > 1 GROUP BY category").toList();
+
+            var captor = ArgumentCaptor.forClass(SelectQuery.class);
+            verify(manager).select(captor.capture());
+            var select = captor.getValue();
+            assertSoftly(softly -> {
+                softly.assertThat(select.columns()).containsExactly("category", "price");
+                softly.assertThat(select.isAggregate()).isFalse();
+                softly.assertThat(select.condition()).isPresent();
+                softly.assertThat(select.limit()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("Should return one row per group in order of appearance")
+        void shouldGroup() {
+            when(manager.select(any(SelectQuery.class))).thenReturn(Stream.of(
+                    product("book", 10, 1), product("game", 30, 1), product("book", 20, 1)));
+
+            var result = manager.query("SELECT category, SUM(price), COUNT(price) FROM Product GROUP BY category")
+                    .map(CommunicationEntity::toMap)
+                    .toList();
+
+            assertThat(result).containsExactly(
+                    Map.of("category", "book", "sum(price)", 30L, "count(price)", 2L),
+                    Map.of("category", "game", "sum(price)", 30L, "count(price)", 1L));
+        }
+
+        @Test
+        @DisplayName("Should apply the skip and the limit to the groups")
+        void shouldPaginateGroups() {
+            when(manager.select(any(SelectQuery.class))).thenReturn(Stream.of(
+                    product("book", 10, 1), product("game", 30, 1), product("music", 20, 1)));
+            var query = new DefaultSelectQuery(1, 1, "Product", List.of("category"), List.of(), null, false,
+                    List.of(new Aggregate(AggregateFunction.MAX, "price")), List.of("category"));
+
+            var result = manager.aggregate(query).toList();
+
+            assertThat(result).extracting(e -> e.find("category").orElseThrow().get()).containsExactly("game");
+        }
+
+        @Test
+        @DisplayName("Should reject a sort on a field out of the groups")
+        void shouldRejectSortOutOfGroups() {
+            var query = new DefaultSelectQuery(0, 0, "Product", List.of("category"), List.of(Sort.asc("price")), null, false,
+                    List.of(new Aggregate(AggregateFunction.MAX, "price")), List.of("category"));
+
+            assertThatThrownBy(() -> manager.aggregate(query))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("price");
+        }
+    }
+
+    private static CommunicationEntity product(String category, Object price, Object stock) {
+        var entity = CommunicationEntity.of("Product");
+        entity.add("category", category);
+        entity.add("price", price);
+        if (stock == null) {
+            entity.addNull("stock");
+        } else {
+            entity.add("stock", stock);
+        }
+        return entity;
+    }
+}
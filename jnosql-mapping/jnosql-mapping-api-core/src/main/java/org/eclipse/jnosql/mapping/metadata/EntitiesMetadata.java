@@ -47,6 +47,19 @@ public interface EntitiesMetadata {
      */
     Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent);
 
+    /**
+     * Returns the {@link InheritanceGroup} of the parent: the {@link InheritanceMetadata} grouped by the
+     * {@link jakarta.nosql.DiscriminatorValue} and the discriminator column they share.
+     * The implementations are expected to keep the groups ready, thus it is cheap enough to call for every entity read.
+     *
+     * @param parent the parent
+     * @return the {@link InheritanceGroup}, empty when there is no entity extending the parent
+     * @throws NullPointerException when parent is null
+     */
+    default InheritanceGroup inheritanceGroup(Class<?> parent) {
+        return InheritanceGroup.of(parent, findByParentGroupByDiscriminatorValue(parent).values());
+    }
+
     /**
      * Returns the {@link EntityMetadata} instance from {@link EntityMetadata#name()} in ignore case
      *
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The discriminator table of a {@link jakarta.nosql.Inheritance} hierarchy: every {@link InheritanceMetadata}
+ * whose parent is the given class, keyed by the {@link InheritanceMetadata#discriminatorValue()}, together with
+ * the discriminator column they share. It is immutable, thus it is built once with the entities metadata and reading
+ * a polymorphic entity takes a single lookup.
+ *
+ * @param parent              the parent class
+ * @param discriminatorColumn the {@link InheritanceMetadata#discriminatorColumn()}, or {@code null} when the group
+ *                            is empty
+ * @param entities            the inheritance metadata grouped by the discriminator value
+ */
+public record InheritanceGroup(Class<?> parent, String discriminatorColumn, Map<String, InheritanceMetadata> entities) {
+
+    /**
+     * Creates the group.
+     *
+     * @throws NullPointerException when the parent or the entities are null
+     */
+    public InheritanceGroup {
+        Objects.requireNonNull(parent, "parent is required");
+        entities = Map.copyOf(Objects.requireNonNull(entities, "entities is required"));
+    }
+
+    /**
+     * Checks whether there is no entity in this hierarchy.
+     *
+     * @return {@code true} when the group is empty
+     */
+    public boolean isEmpty() {
+        return entities.isEmpty();
+    }
+
+    /**
+     * Finds the inheritance metadata from the discriminator value.
+     *
+     * @param discriminatorValue the discriminator value
+     * @return the {@link InheritanceMetadata} otherwise {@link Optional#empty()}
+     * @throws NullPointerException when the discriminator value is null
+     */
+    public Optional<InheritanceMetadata> find(String discriminatorValue) {
+        Objects.requireNonNull(discriminatorValue, "discriminatorValue is required");
+        return Optional.ofNullable(entities.get(discriminatorValue));
+    }
+
+    /**
+     * Creates the group of the parent from the inheritance metadata, ignoring the ones that belong to
+     * another parent.
+     *
+     * @param parent       the parent class
+     * @param inheritances the inheritance metadata
+     * @return the group
+     * @throws NullPointerException  when any parameter is null
+     * @throws IllegalStateException when two entities of the parent share a discriminator value
+     */
+    public static InheritanceGroup of(Class<?> parent, Collection<InheritanceMetadata> inheritances) {
+        Objects.requireNonNull(parent, "parent is required");
+        Objects.requireNonNull(inheritances, "inheritances is required");
+        Map<String, InheritanceMetadata> entities = new HashMap<>();
+        String column = null;
+        for (InheritanceMetadata inheritance : inheritances) {
+            if (inheritance.isParent(parent)) {
+                InheritanceMetadata duplicate = entities.putIfAbsent(inheritance.discriminatorValue(), inheritance);
+                if (duplicate != null && !duplicate.equals(inheritance)) {
+                    throw new IllegalStateException(String.format("Duplicate key %s (attempted merging values %s and %s)",
+                            inheritance.discriminatorValue(), duplicate, inheritance));
+                }
+                column = inheritance.discriminatorColumn();
+            }
+        }
+        return new InheritanceGroup(parent, column, entities);
+    }
+}
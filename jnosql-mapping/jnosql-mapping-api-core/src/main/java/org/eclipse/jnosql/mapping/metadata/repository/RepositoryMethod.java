@@ -93,6 +93,24 @@ public interface RepositoryMethod {
      */
     Optional<Class<?>> elementType();
 
+    /**
+     * Returns the asynchronous type that wraps the result of this method, either
+     * {@link java.util.concurrent.CompletionStage} or {@link java.util.concurrent.Flow.Publisher}.
+     * When it is present, {@link #returnType()} and {@link #elementType()} describe the wrapped result:
+     * <ul>
+     *   <li>If the method returns {@code CompletionStage<List<Person>>}, the return type is {@code List.class}
+     *   and the element type is {@code Person.class}.</li>
+     *   <li>If the method returns {@code CompletionStage<Void>}, the return type is {@code void.class}.</li>
+     *   <li>If the method returns {@code Flow.Publisher<Person>}, the return type is {@code Stream.class}
+     *   and the element type is {@code Person.class}.</li>
+     * </ul>
+     *
+     * @return an {@link Optional} containing the asynchronous type, or empty if the method is blocking.
+     */
+    default Optional<Class<?>> asyncType() {
+        return Optional.empty();
+    }
+
     /**
      * The representation of the {@link jakarta.data.repository.Select} annotations at the method.
      * @return the attributes at the select annotation
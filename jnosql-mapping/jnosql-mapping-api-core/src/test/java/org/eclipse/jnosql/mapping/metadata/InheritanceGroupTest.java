@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class InheritanceGroupTest {
+
+    private final InheritanceMetadata email = new InheritanceMetadata("Email", "type", Number.class, Integer.class);
+
+    private final InheritanceMetadata sms = new InheritanceMetadata("SMS", "type", Number.class, Long.class);
+
+    private final InheritanceMetadata other = new InheritanceMetadata("Other", "kind", CharSequence.class, String.class);
+
+    @Nested
+    @DisplayName("When the group is created from the inheritance metadata")
+    class WhenTheGroupIsCreated {
+
+        @Test
+        @DisplayName("Should keep the entities of the parent only")
+        void shouldKeepParentEntities() {
+            InheritanceGroup group = InheritanceGroup.of(Number.class, List.of(email, sms, other));
+
+            assertSoftly(softly -> {
+                softly.assertThat(group.parent()).isEqualTo(Number.class);
+                softly.assertThat(group.discriminatorColumn()).isEqualTo("type");
+                softly.assertThat(group.entities()).containsOnlyKeys("Email", "SMS");
+                softly.assertThat(group.isEmpty()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Should be empty when no entity extends the parent")
+        void shouldBeEmpty() {
+            InheritanceGroup group = InheritanceGroup.of(Double.class, List.of(email, sms, other));
+
+            assertSoftly(softly -> {
+                softly.assertThat(group.isEmpty()).isTrue();
+                softly.assertThat(group.discriminatorColumn()).isNull();
+                softly.assertThat(group.entities()).isEmpty();
+            });
+        }
+
+        @Test
+        @DisplayName("Should reject two entities with the same discriminator value")
+        void shouldRejectDuplicateDiscriminatorValue() {
+            InheritanceMetadata duplicate = new InheritanceMetadata("Email", "type", Number.class, Double.class);
+
+            assertThatThrownBy(() -> InheritanceGroup.of(Number.class, List.of(email, duplicate)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Email");
+        }
+
+        @Test
+        @DisplayName("Should be immutable")
+        void shouldBeImmutable() {
+            InheritanceGroup group = new InheritanceGroup(Number.class, "type", Map.of("Email", email));
+
+            assertThatThrownBy(() -> group.entities().put("SMS", sms))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject null parameters")
+        void shouldRejectNull() {
+            assertSoftly(softly -> {
+                softly.assertThatThrownBy(() -> InheritanceGroup.of(null, List.of()))
+                        .isInstanceOf(NullPointerException.class);
+                softly.assertThatThrownBy(() -> InheritanceGroup.of(Number.class, null))
+                        .isInstanceOf(NullPointerException.class);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("When the entity is found by the discriminator value")
+    class WhenFindingByDiscriminatorValue {
+
+        private final InheritanceGroup group = InheritanceGroup.of(Number.class, List.of(email, sms));
+
+        @Test
+        @DisplayName("Should find the inheritance metadata")
+        void shouldFind() {
+            assertThat(group.find("SMS")).contains(sms);
+        }
+
+        @Test
+        @DisplayName("Should return empty when the value is unknown")
+        void shouldReturnEmpty() {
+            assertThat(group.find("Push")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a null value")
+        void shouldRejectNull() {
+            assertThatNullPointerException().isThrownBy(() -> group.find(null));
+        }
+    }
+}
@@ -59,7 +59,44 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define the maximum number of parsed queries, from both JDQL and method names, kept in the query cache.
+     * By default, it is 1000; zero disables the cache.
+     */
+    QUERY_CACHE_SIZE("jnosql.query.cache.size"),
+    /**
+     * Define the entities whose {@code find} by id is cached by the semistructured templates, as entity names or
+     * class names separated by commas; the entities annotated with {@code @Cacheable} are cached as well.
+     */
+    CACHE_ENTITIES("jnosql.cache.entities"),
+    /**
+     * Define the maximum number of entities of each type kept by the cache of {@link #CACHE_ENTITIES}.
+     * By default, it is 10000.
+     */
+    CACHE_MAXIMUM_SIZE("jnosql.cache.maximum.size"),
+    /**
+     * Define how many seconds an entity is kept by the cache of {@link #CACHE_ENTITIES} after it is written to the
+     * cache, which happens when it is loaded from the database, since a write to the database evicts it; reading a
+     * cached entity does not extend it. By default, it is zero, which keeps the entity until it is evicted.
+     */
+    CACHE_EXPIRE_AFTER_WRITE("jnosql.cache.expire.after.write"),
+    /**
+     * Define the entities whose values the key-value templates keep in a near cache in front of the bucket, as entity
+     * names or class names separated by commas; the entities annotated with {@code @NearCache} are cached as well.
+     */
+    NEAR_CACHE_ENTITIES("jnosql.keyvalue.near.cache.entities"),
+    /**
+     * Define the maximum number of values of each type kept by the near cache of {@link #NEAR_CACHE_ENTITIES}.
+     * By default, it is 10000.
+     */
+    NEAR_CACHE_MAXIMUM_SIZE("jnosql.keyvalue.near.cache.maximum.size"),
+    /**
+     * Define how many seconds a value is kept by the near cache of {@link #NEAR_CACHE_ENTITIES} after it is loaded from
+     * the bucket or written; reading a cached value does not extend it. By default, it is zero, which keeps the value
+     * until it is evicted or its TTL in the bucket ends.
+     */
+    NEAR_CACHE_EXPIRE_AFTER_WRITE("jnosql.keyvalue.near.cache.expire.after.write");
 
 
     private final String value;
@@ -18,6 +18,7 @@ import jakarta.data.repository.BasicRepository;
 import jakarta.data.repository.CrudRepository;
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.nosql.Template;
+import org.eclipse.jnosql.communication.AsyncManager;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -26,14 +27,25 @@ import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMetadata;
 import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethod;
 import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethodType;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
+import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryOperation;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * An abstract implementation of the {@link InvocationHandler} specifically designed for repository-related proxy
@@ -49,8 +61,12 @@ public abstract class AbstractRepositoryInvocationHandler<T, K> implements Invoc
             .or(Predicate.isEqual(BasicRepository.class))
             .or(Predicate.isEqual(NoSQLRepository.class));
     private static final Object[] EMPTY = new Object[0];
+    private static final Logger LOGGER = Logger.getLogger(AbstractRepositoryInvocationHandler.class.getName());
+    private static final List<Method> OBJECT_METHODS = objectMethods();
 
-    protected final Map<Method, RepositoryMethodDescriptor> methodRepositoryTypeMap = new HashMap<>();
+    protected final Map<Method, RepositoryMethodDescriptor> methodRepositoryTypeMap = new ConcurrentHashMap<>();
+
+    private volatile Map<Method, MethodInvoker> invokers;
 
     /**
      * Returns the repository instance associated with this proxy.
@@ -113,10 +129,86 @@ public abstract class AbstractRepositoryInvocationHandler<T, K> implements Invoc
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] params) throws Throwable {
+        Map<Method, MethodInvoker> table = this.invokers;
+        if (table == null) {
+            table = resolveMethods();
+        }
+        MethodInvoker invoker = table.get(method);
+        if (invoker == null) {
+            invoker = invoker(method, resolveMethodDescriptor(method));
+        }
+        return invoker.invoke(proxy, params);
+    }
+
+    /**
+     * Resolves every method of the repository interface, and the {@link Object} methods that a proxy dispatches, into
+     * an immutable table of invokers, thus a call is a single lookup followed by a direct call to the operation.
+     * The proxy factory should call it once the handler is created; otherwise, the first invocation does.
+     * Concurrent first invocations might each build a table, but they are equivalent and immutable.
+     * A method that fails to resolve is left out of the table; it is resolved again at its invocation,
+     * which reports the failure.
+     *
+     * @return the table of invokers by method
+     */
+    protected final Map<Method, MethodInvoker> resolveMethods() {
+        Map<Method, MethodInvoker> table = new HashMap<>();
+        OBJECT_METHODS.forEach(method -> resolve(table, method));
+        Class<?> repositoryType = repositoryMetadata().type();
+        if (repositoryType != null) {
+            for (Method method : repositoryType.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    resolve(table, method);
+                }
+            }
+        }
+        Map<Method, MethodInvoker> resolved = Map.copyOf(table);
+        this.invokers = resolved;
+        return resolved;
+    }
+
+    private void resolve(Map<Method, MethodInvoker> table, Method method) {
+        try {
+            table.put(method, invoker(method, resolveMethodDescriptor(method)));
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.FINE, exception, () -> "The repository method " + method + " will be resolved at its invocation");
+        }
+    }
 
-        RepositoryMethodDescriptor methodDescriptor = resolveMethodDescriptor(method);
+    /**
+     * Returns the executor of the repository methods that return a {@link CompletionStage} or a
+     * {@link Flow.Publisher}. It is the executor of the template when it is an {@link AsyncManager},
+     * which is the case when the driver manager is one; otherwise, each method runs on a new virtual thread.
+     *
+     * @return the executor of the asynchronous repository methods
+     */
+    protected Executor asyncExecutor() {
+        return AsyncManager.executor(template());
+    }
 
-        return dispatchRepositoryMethod(proxy, method, params, methodDescriptor);
+    /**
+     * Runs a repository method whose metadata declares an {@link RepositoryMethod#asyncType()}.
+     * The blocking dispatch produces the wrapped result, for example, the {@code List} of a
+     * {@code CompletionStage<List<T>>}, on {@link #asyncExecutor()}.
+     *
+     * @param asyncType the asynchronous type, either {@link CompletionStage} or {@link Flow.Publisher}
+     * @param dispatch  the blocking dispatch of the method
+     * @return a {@link CompletableFuture} or a cold {@link Flow.Publisher} of the result
+     */
+    @SuppressWarnings("unchecked")
+    protected Object dispatchAsync(Class<?> asyncType, ThrowingSupplier<Object> dispatch) {
+        Executor executor = asyncExecutor();
+        if (Flow.Publisher.class.equals(asyncType)) {
+            return new StreamPublisher<>(executor, () -> (Stream<Object>) dispatch.get());
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(dispatch.get());
+            } catch (Throwable exception) {
+                future.completeExceptionally(exception);
+            }
+        });
+        return future;
     }
 
     /**
@@ -128,7 +220,8 @@ public abstract class AbstractRepositoryInvocationHandler<T, K> implements Invoc
      * described by the provided {@link RepositoryMethodDescriptor}. The dispatch
      * mechanism ensures that built-in methods, default interface methods,
      * object methods, and repository operations are executed using their
-     * corresponding execution strategies.
+     * corresponding execution strategies. The {@link #invoke(Object, Method, Object[])} method uses the same
+     * invokers, resolved once per method by {@link #resolveMethods()}.
      *
      * @param proxy the proxy instance that received the invocation
      * @param method the method being invoked
@@ -140,98 +233,122 @@ public abstract class AbstractRepositoryInvocationHandler<T, K> implements Invoc
      */
     protected Object dispatchRepositoryMethod(Object proxy, Method method, Object[] params,
                                       RepositoryMethodDescriptor methodDescriptor) throws Throwable {
-        switch (methodDescriptor.type()) {
+        return blockingInvoker(method, methodDescriptor).invoke(proxy, params);
+    }
+
+    private MethodInvoker invoker(Method method, RepositoryMethodDescriptor methodDescriptor) {
+        MethodInvoker invoker = blockingInvoker(method, methodDescriptor);
+        Class<?> asyncType = asyncType(methodDescriptor);
+        if (asyncType == null) {
+            return invoker;
+        }
+        return (proxy, params) -> dispatchAsync(asyncType, () -> invoker.invoke(proxy, params));
+    }
+
+    private MethodInvoker blockingInvoker(Method method, RepositoryMethodDescriptor methodDescriptor) {
+        if (methodDescriptor == null) {
+            return unsupported(method);
+        }
+        var infrastructure = infrastructureOperatorProvider();
+        var operations = repositoryOperationProvider();
+        return switch (methodDescriptor.type()) {
             case BUILT_IN_METHOD -> {
-                return executeAndUnwrapInvocationException(() -> infrastructureOperatorProvider().buildInMethodOperator().invokeDefault(repository(), method, params));
+                var operator = infrastructure.buildInMethodOperator();
+                var repository = repository();
+                yield (proxy, params) -> {
+                    try {
+                        return operator.invokeDefault(repository, method, params);
+                    } catch (InvocationTargetException exception) {
+                        throw unwrap(exception);
+                    }
+                };
             }
             case DEFAULT_METHOD -> {
-                return executeAndUnwrapInvocationException(() -> infrastructureOperatorProvider().defaultMethodOperator().invokeDefault(proxy, method, params));
+                var operator = infrastructure.defaultMethodOperator();
+                yield (proxy, params) -> {
+                    try {
+                        return operator.invokeDefault(proxy, method, params);
+                    } catch (InvocationTargetException exception) {
+                        throw unwrap(exception);
+                    }
+                };
             }
             case OBJECT_METHOD -> {
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        infrastructureOperatorProvider().objectMethodOperator().invokeObjectMethod(this, method, params)));
+                var operator = infrastructure.objectMethodOperator();
+                yield (proxy, params) -> {
+                    try {
+                        return operator.invokeObjectMethod(this, method, params);
+                    } catch (InvocationTargetException exception) {
+                        throw unwrap(exception);
+                    }
+                };
             }
             case CUSTOM_REPOSITORY -> {
-                return executeAndUnwrapInvocationException(() ->
-                        infrastructureOperatorProvider().customRepositoryMethodOperator().invokeCustomRepository(method, params));
+                var operator = infrastructure.customRepositoryMethodOperator();
+                yield (proxy, params) -> {
+                    try {
+                        return operator.invokeCustomRepository(method, params);
+                    } catch (InvocationTargetException exception) {
+                        throw unwrap(exception);
+                    }
+                };
             }
-            case INSERT -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().insertOperation().execute(context)));
-            }
-            case UPDATE -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().updateOperation().execute(context)));
-            }
-            case DELETE -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().deleteOperation().execute(context)));
-            }
-            case SAVE -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().saveOperation().execute(context)));
-            }
-            case DELETE_BY -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().deleteByOperation().execute(context)));
-            }
-            case FIND_BY -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().findByOperation().execute(context)));
-            }
-            case COUNT_ALL -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().countAllOperation().execute(context)));
-            }
-            case COUNT_BY -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().countByOperation().execute(context)));
-            }
-            case CURSOR_PAGINATION -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().cursorPaginationOperation().execute(context)));
-            }
-            case PARAMETER_BASED -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().parameterBasedOperation().execute(context)));
-            }
-            case EXISTS_BY -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().existsByOperation().execute(context)));
-            }
-            case FIND_ALL -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().findAllOperation().execute(context)));
-            }
-            case QUERY -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().queryOperation().execute(context)));
-            } case PROVIDER_OPERATION -> {
-                var context = createInvocationContext(params, methodDescriptor);
-                return executeAndUnwrapInvocationException(() -> executeAndUnwrapInvocationException(() ->
-                        repositoryOperationProvider().providerOperation().execute(context)));
+            case INSERT -> operation(methodDescriptor, operations.insertOperation());
+            case UPDATE -> operation(methodDescriptor, operations.updateOperation());
+            case DELETE -> operation(methodDescriptor, operations.deleteOperation());
+            case SAVE -> operation(methodDescriptor, operations.saveOperation());
+            case DELETE_BY -> operation(methodDescriptor, operations.deleteByOperation());
+            case FIND_BY -> operation(methodDescriptor, operations.findByOperation());
+            case COUNT_ALL -> operation(methodDescriptor, operations.countAllOperation());
+            case COUNT_BY -> operation(methodDescriptor, operations.countByOperation());
+            case CURSOR_PAGINATION -> operation(methodDescriptor, operations.cursorPaginationOperation());
+            case PARAMETER_BASED -> operation(methodDescriptor, operations.parameterBasedOperation());
+            case EXISTS_BY -> operation(methodDescriptor, operations.existsByOperation());
+            case FIND_ALL -> operation(methodDescriptor, operations.findAllOperation());
+            case QUERY -> operation(methodDescriptor, operations.queryOperation());
+            case PROVIDER_OPERATION -> operation(methodDescriptor, operations.providerOperation());
+            default -> unsupported(method);
+        };
+    }
+
+    private MethodInvoker operation(RepositoryMethodDescriptor methodDescriptor, RepositoryOperation operation) {
+        var repositoryMethod = methodDescriptor.method();
+        var repositoryMetadata = repositoryMetadata();
+        var entityMetadata = entityMetadata();
+        var template = template();
+        // a method without parameters shares one context, the other fields are the same for every call
+        var withoutParams = new RepositoryInvocationContext(repositoryMethod, repositoryMetadata, entityMetadata,
+                template, EMPTY);
+        return (proxy, params) -> {
+            var context = params == null || params.length == 0 ? withoutParams
+                    : new RepositoryInvocationContext(repositoryMethod, repositoryMetadata, entityMetadata, template, params);
+            try {
+                return operation.execute(context);
+            } catch (Throwable exception) {
+                throw unwrap(exception);
             }
-            default -> throw new UnsupportedOperationException("Method not supported: " + method);
+        };
+    }
+
+    private static MethodInvoker unsupported(Method method) {
+        return (proxy, params) -> {
+            throw new UnsupportedOperationException("Method not supported: " + method);
+        };
+    }
+
+    private static Throwable unwrap(Throwable exception) {
+        Throwable cause = exception;
+        while (cause instanceof InvocationTargetException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
 
-    private RepositoryInvocationContext createInvocationContext(Object[] params, RepositoryMethodDescriptor methodDescriptor) {
-        return new RepositoryInvocationContext(methodDescriptor.method(),
-                repositoryMetadata(), entityMetadata(),
-                template(), params == null ? EMPTY : params);
+    private static Class<?> asyncType(RepositoryMethodDescriptor methodDescriptor) {
+        if (methodDescriptor == null || methodDescriptor.method() == null) {
+            return null;
+        }
+        return methodDescriptor.method().asyncType().orElse(null);
     }
 
     /**
@@ -272,7 +389,9 @@ public abstract class AbstractRepositoryInvocationHandler<T, K> implements Invoc
         }
 
         var repositoryMethodType = resolveUnknownMethodType(method);
-        this.methodRepositoryTypeMap.put(method, repositoryMethodType);
+        if (repositoryMethodType != null) {
+            this.methodRepositoryTypeMap.put(method, repositoryMethodType);
+        }
         return repositoryMethodType;
     }
 
@@ -338,4 +457,31 @@ public abstract class AbstractRepositoryInvocationHandler<T, K> implements Invoc
     private boolean isCdiManagedComponent(Class<?> type) {
         return CDI.current().select(type).isResolvable();
     }
+
+    private static List<Method> objectMethods() {
+        try {
+            return List.of(Object.class.getMethod("equals", Object.class),
+                    Object.class.getMethod("hashCode"),
+                    Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /**
+     * The resolved execution of a repository method.
+     */
+    @FunctionalInterface
+    protected interface MethodInvoker {
+
+        /**
+         * Invokes the method.
+         *
+         * @param proxy  the proxy instance that received the invocation
+         * @param params the arguments supplied to the method invocation, it might be null
+         * @return the result of the method
+         * @throws Throwable if the underlying operation throws an exception
+         */
+        Object invoke(Object proxy, Object[] params) throws Throwable;
+    }
 }
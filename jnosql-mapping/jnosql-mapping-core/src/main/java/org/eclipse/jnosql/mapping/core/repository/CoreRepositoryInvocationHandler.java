@@ -101,7 +101,7 @@ public class CoreRepositoryInvocationHandler<T, K>  extends AbstractRepositoryIn
     /**
      * Creates a new {@code CoreRepositoryInvocationHandler} with the components
      * required to resolve and execute Jakarta Data repository methods through the
-     * Core engine.
+     * Core engine. Every method of the repository interface is resolved here, before the proxy serves any call.
      *
      * @param repository                       the repository implementation that provides CRUD semantics
      * @param entityMetadata                   metadata describing the entity type managed by the repository
@@ -119,7 +119,7 @@ public class CoreRepositoryInvocationHandler<T, K>  extends AbstractRepositoryIn
             RepositoryOperationProvider repositoryOperationProvider,
             Template template
     ) {
-        return new CoreRepositoryInvocationHandler<>(
+        var handler = new CoreRepositoryInvocationHandler<>(
                 repository,
                 entityMetadata,
                 repositoryMetadata,
@@ -127,5 +127,7 @@ public class CoreRepositoryInvocationHandler<T, K>  extends AbstractRepositoryIn
                 repositoryOperationProvider,
                 template
         );
+        handler.resolveMethods();
+        return handler;
     }
 }
\ No newline at end of file
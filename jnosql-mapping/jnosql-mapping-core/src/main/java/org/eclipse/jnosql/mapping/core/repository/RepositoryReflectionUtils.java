@@ -25,6 +25,7 @@ import org.eclipse.jnosql.communication.Condition;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -44,6 +45,19 @@ public enum RepositoryReflectionUtils {
      */
     public Map<String, Object> getParams(Method method, Object[] args) {
         Map<String, Object> params = new HashMap<>();
+        getParamIndexes(method).forEach((name, index) -> params.put(name, args[index]));
+        return params;
+    }
+
+    /**
+     * Returns the query parameter names of the method with the position of their argument, the same names of
+     * {@link #getParams(Method, Object[])}, thus a caller can resolve them once and read the arguments of each call.
+     *
+     * @param method the method that has the {@link Param} info
+     * @return the {@link Map} from the parameter names to the argument positions
+     */
+    public Map<String, Integer> getParamIndexes(Method method) {
+        Map<String, Integer> indexes = new LinkedHashMap<>();
 
         Parameter[] parameters = method.getParameters();
         int queryIndex = 1;
@@ -52,15 +66,15 @@ public enum RepositoryReflectionUtils {
             boolean isNotSpecialParameter = SpecialParameters.isNotSpecialParameter(parameter.getType());
             Param param = parameter.getAnnotation(Param.class);
             if (Objects.nonNull(param)) {
-                params.put(param.value(), args[index]);
+                indexes.put(param.value(), index);
             } else if (isNotSpecialParameter) {
                 if (parameter.isNamePresent()) {
-                    params.put(parameter.getName(), args[index]);
+                    indexes.put(parameter.getName(), index);
                 }
-                params.put("?" + queryIndex++, args[index]);
+                indexes.put("?" + queryIndex++, index);
             }
         }
-        return params;
+        return indexes;
     }
 
     /**
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * A cold {@link Flow.Publisher} of a repository result. Each subscription runs the repository method on the executor
+ * at its first request, and then emits the elements of the resulting stream on the executor as the subscriber
+ * requests them; a cancellation closes the stream.
+ *
+ * @param <T> the element type
+ */
+final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final Executor executor;
+
+    private final ThrowingSupplier<Stream<T>> source;
+
+    StreamPublisher(Executor executor, ThrowingSupplier<Stream<T>> source) {
+        this.executor = executor;
+        this.source = source;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        subscriber.onSubscribe(new StreamSubscription<>(subscriber, executor, source));
+    }
+
+    private static final class StreamSubscription<T> implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Executor executor;
+
+        private final ThrowingSupplier<Stream<T>> source;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        // the fields below are accessed only by run, which never overlaps with itself
+        private Stream<T> stream;
+
+        private Iterator<T> iterator;
+
+        private boolean done;
+
+        private StreamSubscription(Flow.Subscriber<? super T> subscriber, Executor executor,
+                                   ThrowingSupplier<Stream<T>> source) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+            this.source = source;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("The request must be positive, but it was " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                close();
+                return;
+            }
+            if (invalidRequest != null) {
+                fail(invalidRequest);
+                return;
+            }
+            try {
+                if (iterator == null) {
+                    stream = source.get();
+                    iterator = stream.iterator();
+                }
+                while (demand.get() > 0) {
+                    if (cancelled) {
+                        close();
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        complete();
+                        return;
+                    }
+                    subscriber.onNext(iterator.next());
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                }
+                if (!cancelled && !iterator.hasNext()) {
+                    complete();
+                }
+            } catch (InvocationTargetException exception) {
+                fail(exception.getCause());
+            } catch (Throwable exception) {
+                fail(exception);
+            }
+        }
+
+        private void complete() {
+            close();
+            subscriber.onComplete();
+        }
+
+        private void fail(Throwable exception) {
+            close();
+            subscriber.onError(exception);
+        }
+
+        private void close() {
+            done = true;
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
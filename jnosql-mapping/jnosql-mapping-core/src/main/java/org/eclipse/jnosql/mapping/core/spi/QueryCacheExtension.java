@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.spi;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.Extension;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.query.QueryCaches;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.logging.Logger;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.QUERY_CACHE_SIZE;
+
+/**
+ * CDI extension that sizes the shared query cache from the
+ * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#QUERY_CACHE_SIZE} property.
+ */
+public class QueryCacheExtension implements Extension {
+
+    private static final Logger LOGGER = Logger.getLogger(QueryCacheExtension.class.getName());
+
+    void onBeforeBeanDiscovery(@Observes final BeforeBeanDiscovery beforeBeanDiscovery) {
+        configure(MicroProfileSettings.INSTANCE);
+    }
+
+    static void configure(Settings settings) {
+        settings.get(QUERY_CACHE_SIZE, Integer.class).ifPresent(size -> {
+            LOGGER.fine(() -> "Defining the query cache size to " + size);
+            QueryCaches.resize(size);
+        });
+    }
+}
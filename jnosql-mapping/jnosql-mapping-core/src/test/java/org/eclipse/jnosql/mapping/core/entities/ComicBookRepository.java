@@ -27,6 +27,7 @@ import org.eclipse.jnosql.mapping.core.repository.operations.NoVendorSampleQuery
 import org.eclipse.jnosql.mapping.core.repository.operations.SampleQueryProvider;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 @Repository
@@ -47,6 +48,9 @@ public interface ComicBookRepository extends NoSQLRepository<ComicBook, String>,
     @Insert
     ComicBook[] insert(ComicBook[] books);
 
+    @Insert
+    CompletionStage<ComicBook> insertAsync(ComicBook book);
+
     @Update
     void invalidUpdate();
 
@@ -90,6 +90,21 @@ class RepositoryReflectionUtilsTest {
                     .containsEntry("name", "Ada");
         }
 
+        @DisplayName("Should get the argument positions without special params")
+        @Test
+        void shouldGetParamIndexesWithoutSpecialParams() {
+            Method method = Arrays.stream(PersonRepository.class.getDeclaredMethods())
+                    .filter(m -> m.getName().equals("query"))
+                    .findFirst()
+                    .orElseThrow();
+
+            Map<String, Integer> indexes = RepositoryReflectionUtils.INSTANCE.getParamIndexes(method);
+
+            assertThat(indexes)
+                    .hasSize(1)
+                    .containsEntry("name", 0);
+        }
+
         @DisplayName("Should query")
         @Test
         void shouldQuery() {
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class StreamPublisherTest {
+
+    private final Executor executor = Runnable::run;
+
+    @Nested
+    @DisplayName("When the stream publisher is subscribed")
+    class WhenSubscribed {
+
+        @Test
+        @DisplayName("Should run the source only when the subscriber requests")
+        void shouldBeCold() {
+            AtomicInteger calls = new AtomicInteger();
+            var publisher = new StreamPublisher<>(executor, () -> {
+                calls.incrementAndGet();
+                return Stream.of("Ada", "Grace");
+            });
+            var subscriber = new RecordingSubscriber<String>();
+
+            publisher.subscribe(subscriber);
+            int callsBeforeRequest = calls.get();
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            assertSoftly(softly -> {
+                softly.assertThat(callsBeforeRequest).isZero();
+                softly.assertThat(calls.get()).isOne();
+                softly.assertThat(subscriber.items).containsExactly("Ada", "Grace");
+                softly.assertThat(subscriber.completed).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("Should emit no more elements than requested")
+        void shouldHonorDemand() {
+            var publisher = new StreamPublisher<>(executor, () -> Stream.of(1, 2, 3));
+            var subscriber = new RecordingSubscriber<Integer>();
+            publisher.subscribe(subscriber);
+
+            subscriber.subscription.request(2);
+            List<Integer> firstItems = List.copyOf(subscriber.items);
+            boolean completedEarly = subscriber.completed;
+            subscriber.subscription.request(5);
+
+            assertSoftly(softly -> {
+                softly.assertThat(firstItems).containsExactly(1, 2);
+                softly.assertThat(completedEarly).isFalse();
+                softly.assertThat(subscriber.items).containsExactly(1, 2, 3);
+                softly.assertThat(subscriber.completed).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("Should close the stream when the subscriber cancels")
+        void shouldCloseOnCancel() {
+            AtomicBoolean closed = new AtomicBoolean();
+            var publisher = new StreamPublisher<>(executor, () -> Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+            var subscriber = new RecordingSubscriber<Integer>();
+            publisher.subscribe(subscriber);
+
+            subscriber.subscription.request(1);
+            subscriber.subscription.cancel();
+            subscriber.subscription.request(1);
+
+            assertSoftly(softly -> {
+                softly.assertThat(subscriber.items).containsExactly(1);
+                softly.assertThat(closed).isTrue();
+                softly.assertThat(subscriber.completed).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Should signal the failure of the source")
+        void shouldSignalError() {
+            var publisher = new StreamPublisher<String>(executor, () -> {
+                throw new IllegalStateException("database is down");
+            });
+            var subscriber = new RecordingSubscriber<String>();
+            publisher.subscribe(subscriber);
+
+            subscriber.subscription.request(1);
+
+            assertSoftly(softly -> {
+                softly.assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+                softly.assertThat(subscriber.items).isEmpty();
+            });
+        }
+
+        @Test
+        @DisplayName("Should signal an error when the request is not positive")
+        void shouldRejectInvalidRequest() {
+            var publisher = new StreamPublisher<>(executor, () -> Stream.of(1));
+            var subscriber = new RecordingSubscriber<Integer>();
+            publisher.subscribe(subscriber);
+
+            subscriber.subscription.request(0);
+
+            assertSoftly(softly -> {
+                softly.assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+                softly.assertThat(subscriber.items).isEmpty();
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+
+        private boolean completed;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
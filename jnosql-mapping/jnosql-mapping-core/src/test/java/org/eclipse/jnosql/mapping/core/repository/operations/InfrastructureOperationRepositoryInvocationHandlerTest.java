@@ -37,8 +37,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -208,6 +215,38 @@ class InfrastructureOperationRepositoryInvocationHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("When invoking the repository from many threads")
+    class WhenInvokeConcurrently {
+
+        @DisplayName("Should dispatch every call to the resolved method")
+        @Test
+        void shouldDispatchConcurrently() throws Exception {
+            ComicBook book = new ComicBook("123421", "Book Comic");
+            when(template.find(ComicBook.class, "123421")).thenReturn(Optional.empty());
+            when(template.insert(book)).thenReturn(book);
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                List<Future<Object>> results = new ArrayList<>();
+                for (int index = 0; index < threads; index++) {
+                    boolean save = index % 2 == 0;
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return save ? comicBookRepository.save(book) : comicBookRepository.defaultMethod();
+                    }));
+                }
+                start.countDown();
+
+                for (int index = 0; index < threads; index++) {
+                    Object expected = index % 2 == 0 ? book : "defaultMethod";
+                    assertThat(results.get(index).get(10, TimeUnit.SECONDS)).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
     @Nested
     @DisplayName("When invoking repository component methods")
     class WhenInvokeComponentMethods {
@@ -39,6 +39,8 @@ import org.mockito.InOrder;
 
 import java.lang.reflect.Proxy;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -228,4 +230,39 @@ class InsertOperationRepositoryInvocationHandlerTest {
                     .containsExactly(book);
         }
     }
+
+    @Nested
+    @DisplayName("When inserting asynchronously")
+    class WhenInsertAsync {
+
+        @DisplayName("Should complete the stage with the inserted entity")
+        @Test
+        void shouldCompleteWithInsertedEntity() {
+            ComicBook book = new ComicBook("1234", "Book");
+            when(template.insert(any(ComicBook.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            CompletionStage<ComicBook> stage = comicBookRepository.insertAsync(book);
+
+            assertThat(stage.toCompletableFuture().join()).isEqualTo(book);
+            InOrder ordered = inOrder(lifecycleEventHandler, template);
+            ordered.verify(lifecycleEventHandler).preInsert(book);
+            ordered.verify(template).insert(book);
+            ordered.verify(lifecycleEventHandler).postInsert(book);
+        }
+
+        @DisplayName("Should complete the stage exceptionally when the insert fails")
+        @Test
+        void shouldCompleteExceptionally() {
+            ComicBook book = new ComicBook("1234", "Book");
+            when(template.insert(any(ComicBook.class)))
+                    .thenThrow(new IllegalStateException("database is down"));
+
+            CompletionStage<ComicBook> stage = comicBookRepository.insertAsync(book);
+
+            assertThatThrownBy(() -> stage.toCompletableFuture().join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.spi;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.query.QueryCache;
+import org.eclipse.jnosql.communication.query.QueryCaches;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.QUERY_CACHE_SIZE;
+
+class QueryCacheExtensionTest {
+
+    private QueryCache previous;
+
+    @BeforeEach
+    void setUp() {
+        this.previous = QueryCaches.get();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCaches.set(previous);
+    }
+
+    @Test
+    void shouldResizeQueryCache() {
+        QueryCacheExtension.configure(Settings.builder().put(QUERY_CACHE_SIZE, 42).build());
+        assertThat(QueryCaches.get().maximumSize()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldKeepQueryCacheWhenThereIsNoSize() {
+        QueryCacheExtension.configure(Settings.builder().build());
+        assertThat(QueryCaches.get()).isSameAs(previous);
+    }
+}
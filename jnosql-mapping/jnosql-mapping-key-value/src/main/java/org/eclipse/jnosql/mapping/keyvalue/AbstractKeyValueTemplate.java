@@ -18,30 +18,40 @@ package org.eclipse.jnosql.mapping.keyvalue;
 import jakarta.nosql.Query;
 import jakarta.nosql.QueryMapper;
 import jakarta.nosql.TypedQuery;
+import org.eclipse.jnosql.communication.AsyncManager;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.communication.query.data.QueryType;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
+import static org.eclipse.jnosql.communication.Configurations.DEFAULT_BATCH_SIZE;
 
 /**
  * This class provides a skeletal implementation of the {@link KeyValueTemplate} interface,
  * to minimize the effort required to implement this interface.
+ * It is an {@link AsyncManager} with the executor of its {@link BucketManager}.
  */
-public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
+public abstract class AbstractKeyValueTemplate implements KeyValueTemplate, AsyncManager {
+
+    private final BucketNearCache nearCache = new BucketNearCache();
 
     protected abstract KeyValueEntityConverter getConverter();
 
@@ -49,17 +59,28 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
     protected abstract KeyValueEventPersistManager getEventManager();
 
+    @Override
+    public Executor executor() {
+        return AsyncManager.executor(getManager());
+    }
+
     @Override
     public <T> T put(T entity) {
         requireNonNull(entity, "entity is required");
-        return persist(entity, (keyValueEntity) -> getManager().put(keyValueEntity));
+        return persist(entity, (keyValueEntity) -> {
+            getManager().put(keyValueEntity);
+            nearCache.put(entity.getClass(), getConverter(), keyValueEntity, Duration.ZERO);
+        });
     }
 
     @Override
     public <T> T put(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl class is required");
-        return persist(entity, (keyValueEntity) -> getManager().put(keyValueEntity, ttl));
+        return persist(entity, (keyValueEntity) -> {
+            getManager().put(keyValueEntity, ttl);
+            nearCache.put(entity.getClass(), getConverter(), keyValueEntity, ttl);
+        });
     }
 
     @Override
@@ -97,7 +118,9 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         requireNonNull(key, "key is required");
         requireNonNull(type, "entity class is required");
 
-        Optional<Value> value = getManager().get(key);
+        Optional<NearCacheRegion> region = nearCache.region(type, getConverter().getEntities());
+        Optional<Value> value = region.isEmpty() ? getManager().get(key)
+                : region.orElseThrow().get(getConverter().toKey(type, key), () -> getManager().get(key));
         return value.map(v -> getConverter().toEntity(type, KeyValueEntity.of(key, v)))
                 .filter(Objects::nonNull).map(e -> {
                     getEventManager().firePostEntity(e);
@@ -109,12 +132,21 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type) {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(type, e.get()))
-                .collect(Collectors.toList());
+        int batchSize = batchSize();
+        List<T> entities = new ArrayList<>();
+        List<K> batch = new ArrayList<>();
+        for (K key : keys) {
+            requireNonNull(key, "key is required");
+            batch.add(key);
+            if (batch.size() == batchSize) {
+                getAll(batch, type, entities);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            getAll(batch, type, entities);
+        }
+        return entities;
     }
 
 
@@ -122,12 +154,17 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K> void deleteByKey(K key) {
         requireNonNull(key, "key is required");
         getManager().delete(key);
+        nearCache.evict(getConverter(), key);
     }
 
     @Override
     public <K> void deleteByKeys(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
         getManager().delete(keys);
+        if (nearCache.isActive()) {
+            KeyValueEntityConverter converter = getConverter();
+            keys.forEach(key -> nearCache.evict(converter, key));
+        }
     }
 
     @Override
@@ -148,6 +185,18 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         FieldMetadata idAttribute = entityMetadata.id().orElseThrow(() -> new IllegalArgumentException("The entity does not have an attribute with jakarta.nosql.Id annotation"));
         Object key = idAttribute.read(entity);
         getManager().delete(key);
+        nearCache.evict(getConverter(), key);
+    }
+
+    @Override
+    public <T> Optional<NearCacheStatistics> nearCacheStatistics(Class<T> type) {
+        requireNonNull(type, "type is required");
+        return nearCache.statistics(getManager().name(), type);
+    }
+
+    @Override
+    public Optional<NearCacheStatistics> nearCacheStatistics() {
+        return nearCache.isActive() ? Optional.of(nearCache.statistics(getManager().name())) : Optional.empty();
     }
 
     @Override
@@ -206,6 +255,47 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
                 .orElseThrow();
     }
 
+    private <K, T> void getAll(List<K> keys, Class<T> type, List<T> entities) {
+        Optional<NearCacheRegion> region = nearCache.region(type, getConverter().getEntities());
+        List<Value> values = region.isEmpty() ? values(keys, type)
+                : region.orElseThrow().get(keys.stream().map(key -> getConverter().toKey(type, key)).toList(),
+                missing -> values(missing, type));
+        for (int index = 0; index < keys.size(); index++) {
+            Value value = values.get(index);
+            if (value != null && !value.isNull()) {
+                load(getConverter().toEntity(type, KeyValueEntity.of(keys.get(index), value)), entities);
+            }
+        }
+    }
+
+    private <K, T> List<Value> values(List<K> keys, Class<T> type) {
+        KeyValueEntityConverter converter = getConverter();
+        Map<Object, Value> found = new HashMap<>();
+        for (Value value : getManager().get(keys)) {
+            if (value != null && !value.isNull()) {
+                converter.keyOf(type, value).ifPresent(key -> found.putIfAbsent(key, value));
+            }
+        }
+        List<Value> matched = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            matched.add(found.get(converter.toKey(type, key)));
+        }
+        return matched;
+    }
+
+    private <T> void load(T entity, List<T> entities) {
+        if (entity != null) {
+            getEventManager().firePostEntity(entity);
+            entities.add(entity);
+        }
+    }
+
+    private static int batchSize() {
+        int batchSize = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class)
+                .orElse(DEFAULT_BATCH_SIZE);
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.MappingException;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.keyvalue.BinaryReader;
+import org.eclipse.jnosql.communication.keyvalue.BinaryWriter;
+import org.eclipse.jnosql.communication.keyvalue.Compression;
+import org.eclipse.jnosql.communication.keyvalue.ValueCodec;
+import org.eclipse.jnosql.communication.keyvalue.WireType;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@value KeyValueCodec#BINARY} {@link ValueCodec} of an entity, built from its {@link EntityMetadata}.
+ * The field id of each attribute comes from its {@link BinaryField}, or else from the hash of its column name, thus
+ * it does not change when other attributes are added or removed: a value written by another version of the entity is
+ * still read, the fields that the entity no longer has are skipped and the new attributes are left empty. Each value starts with a header byte,
+ * holding the format version and the {@link Compression} of the body.
+ * The entities with a constructor are created through {@link ConstructorBuilder}.
+ *
+ * @param <T> the entity type
+ */
+final class BinaryEntityCodec<T> implements ValueCodec<T> {
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER = 1;
+
+    private static final int MAXIMUM_FIELD_ID = (1 << 25) - 1;
+
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 16;
+
+    private static final Compression[] COMPRESSIONS = Compression.values();
+
+    private final EntityMetadata mapping;
+
+    private final Compression compression;
+
+    private final Slot[] slots;
+
+    private final int[] fieldIds;
+
+    private final int[] parameterSlots;
+
+    private volatile int capacity = 64;
+
+    private BinaryEntityCodec(EntityMetadata mapping, Compression compression, Slot[] slots) {
+        this.mapping = mapping;
+        this.compression = compression;
+        this.slots = slots;
+        this.fieldIds = new int[slots.length];
+        for (int index = 0; index < slots.length; index++) {
+            fieldIds[index] = slots[index].id();
+        }
+        if (mapping.constructor().isDefault()) {
+            this.parameterSlots = new int[0];
+        } else {
+            List<ParameterMetaData> parameters = mapping.constructor().parameters();
+            this.parameterSlots = new int[parameters.size()];
+            for (int position = 0; position < parameterSlots.length; position++) {
+                parameterSlots[position] = slot(parameters.get(position).name());
+            }
+        }
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        Objects.requireNonNull(value, "value is required");
+        BinaryWriter writer = new BinaryWriter(capacity);
+        writer.writeByte(VERSION << 2);
+        writeFields(writer, value);
+        int length = writer.size() - HEADER;
+        if (writer.size() > capacity) {
+            this.capacity = Math.min(writer.size(), MAXIMUM_CAPACITY);
+        }
+        byte[] bytes = writer.toByteArray();
+        if (!Compression.NONE.equals(compression) && length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = compression.compress(bytes, HEADER, length);
+            if (compressed.length < length) {
+                return new BinaryWriter(compressed.length + HEADER + 5)
+                        .writeByte(VERSION << 2 | compression.ordinal())
+                        .writeVarInt(length)
+                        .writeRaw(compressed, 0, compressed.length)
+                        .toByteArray();
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public T decode(ByteBuffer value) {
+        Objects.requireNonNull(value, "value is required");
+        try {
+            BinaryReader reader = BinaryReader.of(value);
+            int header = reader.readByte();
+            if (header >> 2 != VERSION) {
+                throw new MappingException("The binary value of the entity " + mapping.name()
+                        + " has the unknown format version " + (header >> 2));
+            }
+            int ordinal = header & 3;
+            if (ordinal >= COMPRESSIONS.length) {
+                throw new MappingException("The binary value of the entity " + mapping.name()
+                        + " has the unknown compression " + ordinal);
+            }
+            Compression used = COMPRESSIONS[ordinal];
+            if (Compression.NONE.equals(used)) {
+                return readFields(reader);
+            }
+            int length = reader.readVarInt();
+            if (length < 0) {
+                throw new MappingException("The binary value of the entity " + mapping.name()
+                        + " has the negative length " + length);
+            }
+            return readFields(BinaryReader.of(used.decompress(reader.readSlice(reader.remaining()), length)));
+        } catch (CommunicationException | IllegalArgumentException | ClassCastException
+                 | ArrayIndexOutOfBoundsException exception) {
+            throw new MappingException("The binary value of the entity " + mapping.name() + " is malformed", exception);
+        }
+    }
+
+    void writeFields(BinaryWriter writer, Object entity) {
+        for (int index = 0; index < slots.length; index++) {
+            Slot slot = slots[index];
+            Object value = slot.field().read(entity);
+            if (value != null && slot.converter() != null) {
+                value = slot.converter().convertToDatabaseColumn(value);
+            }
+            if (value != null) {
+                writer.writeTag(fieldIds[index], slot.type().wireType());
+                slot.type().write(writer, value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T readFields(BinaryReader reader) {
+        Object[] values = new Object[slots.length];
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            int index = Arrays.binarySearch(fieldIds, WireType.fieldId(tag));
+            WireType wireType = WireType.of(tag);
+            if (index < 0 || index >= slots.length || !slots[index].type().wireType().equals(wireType)) {
+                reader.skip(wireType);
+                continue;
+            }
+            Slot slot = slots[index];
+            Object value = slot.type().read(reader);
+            values[index] = slot.converter() == null ? value : slot.converter().convertToEntityAttribute(value);
+        }
+        if (mapping.constructor().isDefault()) {
+            T entity = mapping.newInstance();
+            for (int index = 0; index < slots.length; index++) {
+                if (values[index] != null) {
+                    slots[index].field().write(entity, values[index]);
+                }
+            }
+            return entity;
+        }
+        ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
+        for (int slot : parameterSlots) {
+            if (slot < 0 || values[slot] == null) {
+                builder.addEmptyParameter();
+            } else {
+                builder.add(values[slot]);
+            }
+        }
+        return (T) builder.build();
+    }
+
+    private int slot(String name) {
+        for (int index = 0; index < slots.length; index++) {
+            if (slots[index].field().name().equals(name)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    static int fieldId(String name) {
+        return Math.floorMod(name.hashCode(), MAXIMUM_FIELD_ID) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryEntityCodec{" +
+                "entity=" + mapping.name() +
+                ", compression=" + compression +
+                ", fields=" + slots.length +
+                '}';
+    }
+
+    /**
+     * Creates the codec of the entity.
+     *
+     * @param mapping     the entity metadata
+     * @param entities    the entities metadata, to the embedded entities
+     * @param converters  the converters, to the attributes with {@link jakarta.nosql.Convert}
+     * @param compression the compression of the values
+     * @param <T>         the entity type
+     * @return the codec
+     * @throws MappingException when an attribute type is not supported, a {@link BinaryField} is out of range, or two
+     *                          attributes have the same field id
+     */
+    static <T> BinaryEntityCodec<T> of(EntityMetadata mapping, EntitiesMetadata entities, Converters converters,
+                                       Compression compression) {
+        Objects.requireNonNull(mapping, "mapping is required");
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(converters, "converters is required");
+        Objects.requireNonNull(compression, "compression is required");
+        Slot[] slots = mapping.fields().stream()
+                .map(field -> Slot.of(field, entities, converters))
+                .sorted(Comparator.comparingInt(Slot::id))
+                .toArray(Slot[]::new);
+        for (int index = 1; index < slots.length; index++) {
+            if (slots[index].id() == slots[index - 1].id()) {
+                throw new MappingException("The columns " + slots[index - 1].field().name() + " and "
+                        + slots[index].field().name() + " of the entity " + mapping.name()
+                        + " have the same binary field id " + slots[index].id()
+                        + ", one of them should be given another one with @BinaryField");
+            }
+        }
+        return new BinaryEntityCodec<>(mapping, compression, slots);
+    }
+
+    private record Slot(int id, FieldMetadata field, BinaryType type, AttributeConverter<Object, Object> converter) {
+
+        static Slot of(FieldMetadata field, EntitiesMetadata entities, Converters converters) {
+            int id = id(field);
+            if (field.converter().isPresent()) {
+                return new Slot(id, field, BinaryTypes.column(field), converters.get(field));
+            }
+            return new Slot(id, field, BinaryTypes.of(field, entities, converters), null);
+        }
+
+        private static int id(FieldMetadata field) {
+            Optional<String> assigned = field.value(BinaryField.class);
+            if (assigned.isEmpty()) {
+                return fieldId(field.name());
+            }
+            int id = Integer.parseInt(assigned.get());
+            if (id < 1 || id > MAXIMUM_FIELD_ID) {
+                throw new MappingException("The binary field id of the attribute " + field.fieldName()
+                        + " must be between 1 and " + MAXIMUM_FIELD_ID + ", but it is " + id);
+            }
+            return id;
+        }
+    }
+}
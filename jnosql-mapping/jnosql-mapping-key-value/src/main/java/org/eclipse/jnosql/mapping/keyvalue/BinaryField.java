@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns the field id that the {@value KeyValueCodec#BINARY} codec writes before the value of an attribute. Without
+ * it, the id comes from the hash of the column name, which takes four bytes on every value and can clash with the id
+ * of another column. The ids from 1 to 15 take a single byte and those up to 2047 take two. The id must not change
+ * once values are written, while the column can be renamed freely.
+ *
+ * <pre>{@code
+ * @Entity
+ * @KeyValueCodec
+ * public record Session(@Id String id, @Column @BinaryField(1) String user, @Column @BinaryField(2) long expiresAt) {
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface BinaryField {
+
+    /**
+     * The field id, from 1 to 33554431.
+     *
+     * @return the field id
+     */
+    int value();
+}
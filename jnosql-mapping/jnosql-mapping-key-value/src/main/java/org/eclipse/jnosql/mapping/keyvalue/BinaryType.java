@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.keyvalue.BinaryReader;
+import org.eclipse.jnosql.communication.keyvalue.BinaryWriter;
+import org.eclipse.jnosql.communication.keyvalue.WireType;
+
+/**
+ * How {@link BinaryEntityCodec} writes and reads the value of an attribute.
+ *
+ * @see BinaryTypes
+ */
+interface BinaryType {
+
+    /**
+     * The wire type of the value.
+     *
+     * @return the wire type
+     */
+    WireType wireType();
+
+    /**
+     * Writes a non-null value.
+     *
+     * @param writer the writer
+     * @param value  the value
+     */
+    void write(BinaryWriter writer, Object value);
+
+    /**
+     * Reads a value.
+     *
+     * @param reader the reader
+     * @return the value
+     */
+    Object read(BinaryReader reader);
+}
@@ -0,0 +1,460 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.MappingException;
+import org.eclipse.jnosql.communication.keyvalue.BinaryReader;
+import org.eclipse.jnosql.communication.keyvalue.BinaryWriter;
+import org.eclipse.jnosql.communication.keyvalue.Compression;
+import org.eclipse.jnosql.communication.keyvalue.WireType;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.ArrayFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.CollectionFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MapFieldMetadata;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the {@link BinaryType} of each attribute once, when the {@link BinaryEntityCodec} is created.
+ * The texts, the bytes, the nested entities and the sequences are length-delimited; a sequence writes a presence
+ * byte before each element, so it keeps the null elements.
+ */
+final class BinaryTypes {
+
+    private static final Map<Class<?>, Function<String, Object>> TEXTS = Map.ofEntries(
+            Map.entry(BigDecimal.class, BigDecimal::new),
+            Map.entry(BigInteger.class, BigInteger::new),
+            Map.entry(UUID.class, UUID::fromString),
+            Map.entry(LocalDate.class, LocalDate::parse),
+            Map.entry(LocalDateTime.class, LocalDateTime::parse),
+            Map.entry(LocalTime.class, LocalTime::parse),
+            Map.entry(OffsetDateTime.class, OffsetDateTime::parse),
+            Map.entry(OffsetTime.class, OffsetTime::parse),
+            Map.entry(ZonedDateTime.class, ZonedDateTime::parse),
+            Map.entry(Instant.class, Instant::parse),
+            Map.entry(Year.class, Year::parse),
+            Map.entry(YearMonth.class, YearMonth::parse),
+            Map.entry(Duration.class, Duration::parse));
+
+    private BinaryTypes() {
+    }
+
+    /**
+     * Resolves the type of an attribute, ignoring its {@link AttributeConverter}.
+     *
+     * @param field      the attribute
+     * @param entities   the entities metadata, to the nested entities
+     * @param converters the converters, to the nested entities
+     * @return the type
+     * @throws MappingException when the attribute type is not supported
+     */
+    static BinaryType of(FieldMetadata field, EntitiesMetadata entities, Converters converters) {
+        return switch (field.mappingType()) {
+            case EMBEDDED, EMBEDDED_GROUP, ENTITY -> new Nested(field.type(), entities, converters);
+            case COLLECTION -> collection((CollectionFieldMetadata) field, entities, converters);
+            case ARRAY -> array((ArrayFieldMetadata) field, entities, converters);
+            case MAP -> map((MapFieldMetadata) field, entities, converters);
+            case DEFAULT -> scalar(field.type(), field);
+        };
+    }
+
+    /**
+     * Resolves the type of the database column of an {@link AttributeConverter}.
+     *
+     * @param field the attribute with the converter
+     * @return the type
+     * @throws MappingException when the column type cannot be found or is not supported
+     */
+    static BinaryType column(FieldMetadata field) {
+        Class<?> converter = field.converter().orElseThrow();
+        return scalar(columnType(converter, field), field);
+    }
+
+    private static BinaryType collection(CollectionFieldMetadata field, EntitiesMetadata entities, Converters converters) {
+        BinaryType element = field.isEmbeddable() ? new Nested(field.elementType(), entities, converters)
+                : scalar(field.elementType(), field);
+        return new Sequence(element, values -> {
+            @SuppressWarnings("unchecked")
+            Collection<Object> collection = (Collection<Object>) field.collectionInstance();
+            collection.addAll(values);
+            return collection;
+        });
+    }
+
+    private static BinaryType array(ArrayFieldMetadata field, EntitiesMetadata entities, Converters converters) {
+        if (byte.class.equals(field.elementType())) {
+            return Scalar.BYTES;
+        }
+        BinaryType element = field.isEmbeddable() ? new Nested(field.elementType(), entities, converters)
+                : scalar(field.elementType(), field);
+        return new Sequence(element, field::arrayInstance);
+    }
+
+    private static BinaryType map(MapFieldMetadata field, EntitiesMetadata entities, Converters converters) {
+        BinaryType key = scalar(field.keyType(), field);
+        BinaryType value = field.isEmbeddable() ? new Nested(field.valueType(), entities, converters)
+                : scalar(field.valueType(), field);
+        Supplier<Map<Object, Object>> supplier;
+        if (field.type().isAssignableFrom(LinkedHashMap.class)) {
+            supplier = LinkedHashMap::new;
+        } else if (field.type().isAssignableFrom(TreeMap.class)) {
+            supplier = TreeMap::new;
+        } else {
+            throw unsupported(field.type(), field);
+        }
+        return new Pairs(key, value, supplier);
+    }
+
+    private static BinaryType scalar(Class<?> type, FieldMetadata field) {
+        if (boolean.class.equals(type) || Boolean.class.equals(type)) {
+            return Scalar.BOOLEAN;
+        } else if (byte.class.equals(type) || Byte.class.equals(type)) {
+            return Scalar.BYTE;
+        } else if (short.class.equals(type) || Short.class.equals(type)) {
+            return Scalar.SHORT;
+        } else if (int.class.equals(type) || Integer.class.equals(type)) {
+            return Scalar.INTEGER;
+        } else if (long.class.equals(type) || Long.class.equals(type)) {
+            return Scalar.LONG;
+        } else if (char.class.equals(type) || Character.class.equals(type)) {
+            return Scalar.CHARACTER;
+        } else if (float.class.equals(type) || Float.class.equals(type)) {
+            return Scalar.FLOAT;
+        } else if (double.class.equals(type) || Double.class.equals(type)) {
+            return Scalar.DOUBLE;
+        } else if (String.class.equals(type)) {
+            return Scalar.STRING;
+        } else if (byte[].class.equals(type)) {
+            return Scalar.BYTES;
+        } else if (type.isEnum()) {
+            return new Text(value -> ((Enum<?>) value).name(), enumParser(type));
+        }
+        Function<String, Object> parser = TEXTS.get(type);
+        if (parser == null) {
+            throw unsupported(type, field);
+        }
+        return new Text(Object::toString, parser);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> enumParser(Class<?> type) {
+        return name -> Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+
+    private static Class<?> columnType(Class<?> converter, FieldMetadata field) {
+        for (Class<?> current = converter; current != null && !Object.class.equals(current);
+             current = current.getSuperclass()) {
+            for (Type type : current.getGenericInterfaces()) {
+                if (type instanceof ParameterizedType parameterized
+                        && AttributeConverter.class.equals(parameterized.getRawType())
+                        && parameterized.getActualTypeArguments()[1] instanceof Class<?> column) {
+                    return column;
+                }
+            }
+        }
+        throw new MappingException("The binary codec cannot find the column type of the converter "
+                + converter.getName() + " at the attribute " + field.name());
+    }
+
+    private static MappingException unsupported(Class<?> type, FieldMetadata field) {
+        return new MappingException("The binary codec does not support the type " + type.getName()
+                + " at the attribute " + field.name() + ", use an AttributeConverter to a supported type");
+    }
+
+    private static void writeItem(BinaryWriter writer, BinaryType type, Object value) {
+        if (value == null) {
+            writer.writeByte(0);
+        } else {
+            writer.writeByte(1);
+            type.write(writer, value);
+        }
+    }
+
+    private static Object readItem(BinaryReader reader, BinaryType type) {
+        return reader.readByte() == 0 ? null : type.read(reader);
+    }
+
+    private enum Scalar implements BinaryType {
+        BOOLEAN(WireType.VARINT) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeVarInt((Boolean) value ? 1 : 0);
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return reader.readVarLong() != 0;
+            }
+        },
+        BYTE(WireType.VARINT) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeSignedVarLong(((Number) value).longValue());
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return (byte) reader.readSignedVarLong();
+            }
+        },
+        SHORT(WireType.VARINT) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeSignedVarLong(((Number) value).longValue());
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return (short) reader.readSignedVarLong();
+            }
+        },
+        INTEGER(WireType.VARINT) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeSignedVarLong(((Number) value).longValue());
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return (int) reader.readSignedVarLong();
+            }
+        },
+        LONG(WireType.VARINT) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeSignedVarLong(((Number) value).longValue());
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return reader.readSignedVarLong();
+            }
+        },
+        CHARACTER(WireType.VARINT) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeVarInt((Character) value);
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return (char) reader.readVarInt();
+            }
+        },
+        FLOAT(WireType.FIXED32) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeFloat(((Number) value).floatValue());
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return reader.readFloat();
+            }
+        },
+        DOUBLE(WireType.FIXED64) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeDouble(((Number) value).doubleValue());
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return reader.readDouble();
+            }
+        },
+        STRING(WireType.LENGTH_DELIMITED) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeString((String) value);
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return reader.readString();
+            }
+        },
+        BYTES(WireType.LENGTH_DELIMITED) {
+            @Override
+            public void write(BinaryWriter writer, Object value) {
+                writer.writeBytes((byte[]) value);
+            }
+
+            @Override
+            public Object read(BinaryReader reader) {
+                return reader.readBytes();
+            }
+        };
+
+        private final WireType wireType;
+
+        Scalar(WireType wireType) {
+            this.wireType = wireType;
+        }
+
+        @Override
+        public WireType wireType() {
+            return wireType;
+        }
+    }
+
+    private record Text(Function<Object, String> formatter, Function<String, Object> parser) implements BinaryType {
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryWriter writer, Object value) {
+            writer.writeString(formatter.apply(value));
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            return parser.apply(reader.readString());
+        }
+    }
+
+    private static final class Nested implements BinaryType {
+
+        private final Class<?> type;
+
+        private final EntitiesMetadata entities;
+
+        private final Converters converters;
+
+        private volatile BinaryEntityCodec<Object> codec;
+
+        private Nested(Class<?> type, EntitiesMetadata entities, Converters converters) {
+            this.type = type;
+            this.entities = entities;
+            this.converters = converters;
+        }
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryWriter writer, Object value) {
+            BinaryWriter nested = new BinaryWriter();
+            codec().writeFields(nested, value);
+            writer.writeNested(nested);
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            return codec().readFields(reader.readNested());
+        }
+
+        private BinaryEntityCodec<Object> codec() {
+            BinaryEntityCodec<Object> current = this.codec;
+            if (current == null) {
+                current = BinaryEntityCodec.of(entities.get(type), entities, converters, Compression.NONE);
+                this.codec = current;
+            }
+            return current;
+        }
+    }
+
+    private record Sequence(BinaryType element, Function<List<Object>, Object> factory) implements BinaryType {
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryWriter writer, Object value) {
+            BinaryWriter nested = new BinaryWriter();
+            if (value instanceof Iterable<?> iterable) {
+                iterable.forEach(item -> writeItem(nested, element, item));
+            } else {
+                int length = Array.getLength(value);
+                for (int index = 0; index < length; index++) {
+                    writeItem(nested, element, Array.get(value, index));
+                }
+            }
+            writer.writeNested(nested);
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            BinaryReader nested = reader.readNested();
+            List<Object> values = new ArrayList<>();
+            while (nested.hasRemaining()) {
+                values.add(readItem(nested, element));
+            }
+            return factory.apply(values);
+        }
+    }
+
+    private record Pairs(BinaryType key, BinaryType value, Supplier<Map<Object, Object>> supplier) implements BinaryType {
+
+        @Override
+        public WireType wireType() {
+            return WireType.LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void write(BinaryWriter writer, Object map) {
+            BinaryWriter nested = new BinaryWriter();
+            ((Map<?, ?>) map).forEach((k, v) -> {
+                writeItem(nested, key, k);
+                writeItem(nested, value, v);
+            });
+            writer.writeNested(nested);
+        }
+
+        @Override
+        public Object read(BinaryReader reader) {
+            BinaryReader nested = reader.readNested();
+            Map<Object, Object> map = supplier.get();
+            while (nested.hasRemaining()) {
+                map.put(readItem(nested, key), readItem(nested, value));
+            }
+            return map;
+        }
+    }
+
+}
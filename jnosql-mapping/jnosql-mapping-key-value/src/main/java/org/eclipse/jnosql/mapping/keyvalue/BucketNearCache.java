@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * The near cache of a template: a {@link NearCacheRegion} for each entity type enabled by {@link NearCache} or
+ * {@link MappingConfigurations#NEAR_CACHE_ENTITIES}. The types are resolved on their first {@code get} or {@code put},
+ * and until a type is cached the deletes return at once, so the templates without cached entities only pay a lookup.
+ * Since a bucket does not know the type of a key, a write of a key removes it from the regions of the other types and
+ * a delete removes it from every region. Each region keys its values by the key that
+ * {@link KeyValueEntityConverter#toKey(Class, Object)} gives, thus a read and a write of the same entity meet even when
+ * the key is given in another type than the id.
+ */
+final class BucketNearCache {
+
+    private static final Logger LOGGER = Logger.getLogger(BucketNearCache.class.getName());
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Map<Class<?>, Optional<NearCacheRegion>> regions = new ConcurrentHashMap<>();
+
+    private final LongSupplier ticker;
+
+    private volatile boolean active;
+
+    BucketNearCache(LongSupplier ticker) {
+        this.ticker = ticker;
+    }
+
+    BucketNearCache() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Returns the region of the entity, or empty when the entity is not cached.
+     *
+     * @param type     the entity class
+     * @param entities the metadata, read only when the entities are configured by name
+     * @return the region
+     */
+    Optional<NearCacheRegion> region(Class<?> type, EntitiesMetadata entities) {
+        return regions.computeIfAbsent(type, key -> create(key, entities));
+    }
+
+    /**
+     * Updates the regions after the entity was written to the bucket: a value encoded by a {@link KeyValueCodec} is
+     * written through, any other value is invalidated.
+     *
+     * @param type      the written entity class
+     * @param converter the converter of the template, it gives the metadata and the key of each region
+     * @param entity    the key and the value written
+     * @param ttl       the TTL of the value in the bucket, or {@link Duration#ZERO} when it does not expire
+     */
+    void put(Class<?> type, KeyValueEntityConverter converter, KeyValueEntity entity, Duration ttl) {
+        Optional<NearCacheRegion> region = region(type, converter.getEntities());
+        if (!active) {
+            return;
+        }
+        regions.forEach((other, cache) -> {
+            if (!other.equals(type)) {
+                cache.ifPresent(r -> key(converter, other, entity.key()).ifPresent(r::evict));
+            }
+        });
+        region.ifPresent(r -> {
+            Object key = converter.toKey(type, entity.key());
+            Object value = entity.value();
+            if (value instanceof byte[]) {
+                r.put(key, Value.of(value), nanos(ttl));
+            } else {
+                r.invalidate(key, nanos(ttl));
+            }
+        });
+    }
+
+    /**
+     * Removes the value of the key from all the regions.
+     *
+     * @param converter the converter of the template, it gives the key of each region
+     * @param key       the deleted key
+     */
+    void evict(KeyValueEntityConverter converter, Object key) {
+        if (!active || key == null) {
+            return;
+        }
+        regions.forEach((type, region) -> region.ifPresent(r -> key(converter, type, key).ifPresent(r::evict)));
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    Optional<NearCacheStatistics> statistics(String bucket, Class<?> type) {
+        return regions.getOrDefault(type, Optional.empty()).map(r -> r.statistics(bucket));
+    }
+
+    NearCacheStatistics statistics(String bucket) {
+        return regions.values().stream()
+                .flatMap(Optional::stream)
+                .map(r -> r.statistics(bucket))
+                .reduce(new NearCacheStatistics(bucket, 0, 0, 0, 0), NearCacheStatistics::plus);
+    }
+
+    private Optional<NearCacheRegion> create(Class<?> type, EntitiesMetadata entities) {
+        NearCache nearCache = type.getAnnotation(NearCache.class);
+        NearCacheRegion region;
+        if (nearCache != null) {
+            region = new NearCacheRegion(nearCache.maximumSize(),
+                    nearCache.unit().toNanos(nearCache.expireAfterWrite()), ticker);
+        } else if (isConfigured(type, entities)) {
+            long maximumSize = MicroProfileSettings.INSTANCE.get(MappingConfigurations.NEAR_CACHE_MAXIMUM_SIZE,
+                    Long.class).orElse(DEFAULT_MAXIMUM_SIZE);
+            long expireAfterWrite = MicroProfileSettings.INSTANCE.get(MappingConfigurations.NEAR_CACHE_EXPIRE_AFTER_WRITE,
+                    Long.class).orElse(0L);
+            region = new NearCacheRegion(maximumSize, TimeUnit.SECONDS.toNanos(expireAfterWrite), ticker);
+        } else {
+            return Optional.empty();
+        }
+        LOGGER.fine(() -> "Keeping the values of the entity " + type.getName() + " in the near cache");
+        this.active = true;
+        return Optional.of(region);
+    }
+
+    private static Optional<Object> key(KeyValueEntityConverter converter, Class<?> type, Object key) {
+        try {
+            return Optional.of(converter.toKey(type, key));
+        } catch (RuntimeException exception) {
+            LOGGER.finest(() -> "The key " + key + " does not fit the id of the entity " + type.getName());
+            return Optional.empty();
+        }
+    }
+
+    private static long nanos(Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            return 0L;
+        }
+        try {
+            return ttl.toNanos();
+        } catch (ArithmeticException exception) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static boolean isConfigured(Class<?> type, EntitiesMetadata entities) {
+        Set<String> names = MicroProfileSettings.INSTANCE.get(MappingConfigurations.NEAR_CACHE_ENTITIES, String.class)
+                .map(value -> Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(entity -> !entity.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet()))
+                .orElse(Set.of());
+        if (names.isEmpty()) {
+            return false;
+        }
+        EntityMetadata metadata = entities.get(type);
+        return names.contains(metadata.name()) || names.contains(metadata.simpleName())
+                || names.contains(metadata.className());
+    }
+}
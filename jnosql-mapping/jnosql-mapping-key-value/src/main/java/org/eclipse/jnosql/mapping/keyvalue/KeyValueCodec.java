@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.keyvalue.Compression;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the {@link org.eclipse.jnosql.communication.keyvalue.ValueCodec} that {@link KeyValueTemplate} uses to
+ * encode an entity into a {@code byte[]} before handing it to the
+ * {@link org.eclipse.jnosql.communication.keyvalue.BucketManager}. Without it, the entity goes to the driver as it
+ * is, and the driver serializes it in its own way.
+ * <p>The {@value #BINARY} codec writes a compact binary format from the entity metadata: each non-null attribute is
+ * a field id followed by its value, the integral numbers are varints, and the embedded entities, collections and
+ * maps are nested. The id of a field is the one assigned with {@link BinaryField}, or else the hash of its column
+ * name, so adding or removing an attribute keeps the values already in the bucket readable: the fields the entity no
+ * longer has are skipped. Renaming a column without an assigned id changes its id, thus the values written before the
+ * rename lose that attribute. The assigned ids also take fewer bytes than the hashed ones. The attributes must be
+ * primitives, their wrappers, {@link String}, {@code byte[]}, enums, {@link java.math.BigDecimal},
+ * {@link java.math.BigInteger}, {@link java.util.UUID}, the {@code java.time} types, or use an
+ * {@link jakarta.nosql.AttributeConverter} to one of them.</p>
+ * <p>Any other name selects a {@link org.eclipse.jnosql.communication.keyvalue.ValueCodecProvider} from
+ * {@link java.util.ServiceLoader}.</p>
+ *
+ * <pre>{@code
+ * @Entity
+ * @KeyValueCodec(compression = Compression.DEFLATE)
+ * public class Session {
+ * }
+ * }</pre>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface KeyValueCodec {
+
+    /**
+     * The name of the built-in binary codec.
+     */
+    String BINARY = "binary";
+
+    /**
+     * The name of the codec.
+     *
+     * @return the codec name
+     */
+    String value() default BINARY;
+
+    /**
+     * The compression of the {@value #BINARY} codec, applied when the value reaches a few hundred bytes and shrinks.
+     *
+     * @return the compression
+     */
+    Compression compression() default Compression.NONE;
+}
@@ -15,23 +15,34 @@
 package org.eclipse.jnosql.mapping.keyvalue;
 
 import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.MappingException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.keyvalue.ValueCodec;
+import org.eclipse.jnosql.communication.keyvalue.ValueCodecProvider;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * This interface represents the converter between an entity and the {@link KeyValueEntity}
+ * This interface represents the converter between an entity and the {@link KeyValueEntity}.
+ * When the entity has a {@link KeyValueCodec}, the value is the {@code byte[]} of its {@link ValueCodec}.
  */
 public abstract class KeyValueEntityConverter {
 
+    private final Map<Class<?>, Optional<ValueCodec<Object>>> codecs = new ConcurrentHashMap<>();
+
     protected abstract EntitiesMetadata getEntities();
 
     protected abstract Converters getConverters();
@@ -43,15 +54,17 @@ public abstract class KeyValueEntityConverter {
      * @return a {@link KeyValueEntity} instance
      * @throws NullPointerException when the entity is null
      */
+    @SuppressWarnings("unchecked")
     public KeyValueEntity toKeyValue(Object entity) {
         requireNonNull(entity, "entity is required");
-        Class<?> type = entity.getClass();
+        Class<Object> type = (Class<Object>) entity.getClass();
 
         FieldMetadata key = getId(type);
         Object value = key.read(entity);
 
         requireNonNull(value, String.format("The key field %s is required", key.name()));
-        return KeyValueEntity.of(getKey(value, type, false), entity);
+        Optional<ValueCodec<Object>> codec = codec(type);
+        return KeyValueEntity.of(getKey(value, type, false), codec.isPresent() ? codec.get().encode(entity) : entity);
     }
 
     /**
@@ -66,7 +79,7 @@ public abstract class KeyValueEntityConverter {
     public <T> T toEntity(Class<T> type, KeyValueEntity entity) {
         requireNonNull(type, "type is required");
         requireNonNull(entity, "entity is required");
-        T bean = entity.value(type);
+        T bean = value(type, entity);
         if (Objects.isNull(bean)) {
             return null;
         }
@@ -77,6 +90,93 @@ public abstract class KeyValueEntityConverter {
         return bean;
     }
 
+    /**
+     * Returns the key as the bucket stores it for the entity type, the same key that {@link #toKeyValue(Object)}
+     * gives to the entity: without an {@link jakarta.nosql.Convert}, the key is coerced to the type of the id field.
+     *
+     * @param type the entity class
+     * @param key  the key
+     * @return the key of the bucket
+     * @throws NullPointerException when either the type or the key is null
+     */
+    public Object toKey(Class<?> type, Object key) {
+        requireNonNull(type, "type is required");
+        requireNonNull(key, "key is required");
+        Object value = key instanceof Value wrapper ? wrapper.get() : key;
+        FieldMetadata id = getId(type);
+        return id.converter().isPresent() ? value : Value.of(value).get(id.type());
+    }
+
+    /**
+     * Returns the key of the entity that the value holds, as the bucket stores it, or {@link Optional#empty()} when
+     * the value does not carry the id of the entity.
+     *
+     * @param type  the entity class
+     * @param value the value from the bucket
+     * @param <T>   the entity type
+     * @return the key of the bucket
+     * @throws NullPointerException when either the type or the value is null
+     */
+    public <T> Optional<Object> keyOf(Class<T> type, Value value) {
+        requireNonNull(type, "type is required");
+        requireNonNull(value, "value is required");
+        T bean = value(type, value);
+        if (Objects.isNull(bean)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getId(type).read(bean)).map(id -> getKey(id, type, false));
+    }
+
+    /**
+     * Returns the {@link ValueCodec} of the entity type, from its {@link KeyValueCodec}; it is resolved once per type.
+     * Without a codec, the entity is handed to the bucket as it is.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the {@link ValueCodec} or {@link Optional#empty()} to keep the entity as the value
+     * @throws MappingException when there is no codec with the name of the {@link KeyValueCodec}
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> Optional<ValueCodec<T>> codec(Class<T> type) {
+        requireNonNull(type, "type is required");
+        Optional<ValueCodec<Object>> codec = codecs.get(type);
+        if (codec == null) {
+            KeyValueCodec annotation = type.getAnnotation(KeyValueCodec.class);
+            codec = annotation == null ? Optional.empty() : Optional.of(newCodec(type, annotation));
+            codecs.putIfAbsent(type, codec);
+        }
+        return codec.map(c -> (ValueCodec<T>) c);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueCodec<Object> newCodec(Class<?> type, KeyValueCodec annotation) {
+        if (KeyValueCodec.BINARY.equals(annotation.value())) {
+            return BinaryEntityCodec.of(getEntities().get(type), getEntities(), getConverters(), annotation.compression());
+        }
+        return ValueCodecProvider.find(annotation.value())
+                .map(provider -> (ValueCodec<Object>) provider.apply(type))
+                .orElseThrow(() -> new MappingException("There is no ValueCodecProvider named " + annotation.value()
+                        + " to the entity " + type.getName()));
+    }
+
+    private <T> T value(Class<T> type, KeyValueEntity entity) {
+        return value(type, entity.value(), () -> entity.value(type));
+    }
+
+    private <T> T value(Class<T> type, Value value) {
+        return value(type, value.get(), () -> value.get(type));
+    }
+
+    private <T> T value(Class<T> type, Object value, Supplier<T> converted) {
+        if (value instanceof byte[] || value instanceof ByteBuffer) {
+            Optional<ValueCodec<T>> codec = codec(type);
+            if (codec.isPresent()) {
+                return value instanceof byte[] bytes ? codec.get().decode(bytes) : codec.get().decode((ByteBuffer) value);
+            }
+        }
+        return converted.get();
+    }
+
     private <T> Object getKey(Object key, Class<T> type, boolean toEntity) {
         FieldMetadata id = getId(type);
         if (id.converter().isPresent()) {
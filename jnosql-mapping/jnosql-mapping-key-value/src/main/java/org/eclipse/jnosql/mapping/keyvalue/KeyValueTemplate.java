@@ -129,4 +129,23 @@ public interface KeyValueTemplate extends Template {
      */
     <K> void deleteByKeys(Iterable<K> keys);
 
+    /**
+     * Returns the counters of the near cache of {@link #get(Object, Class)} for the entity, see {@link NearCache}.
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return the statistics, or empty when the entity is not cached or was not read or written yet
+     */
+    default <T> Optional<NearCacheStatistics> nearCacheStatistics(Class<T> type) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the counters of the near cache of every entity of the bucket, see {@link NearCache}.
+     *
+     * @return the statistics, or empty when the template has no near cache
+     */
+    default Optional<NearCacheStatistics> nearCacheStatistics() {
+        return Optional.empty();
+    }
 }
\ No newline at end of file
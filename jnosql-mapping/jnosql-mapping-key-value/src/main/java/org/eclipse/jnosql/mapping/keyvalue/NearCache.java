@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enables the near cache of {@link KeyValueTemplate#get(Object, Class)} for an entity: the template keeps the values
+ * it reads from the bucket on the heap, keyed by the key, so a hot key does not go to the
+ * {@link org.eclipse.jnosql.communication.keyvalue.BucketManager} on every call.
+ * <p>A value is kept until the least recently used one is evicted beyond {@link #maximumSize()}, until
+ * {@link #expireAfterWrite()} ends, or until the TTL given to {@link KeyValueTemplate#put(Object, java.time.Duration)}
+ * ends, whichever comes first. The {@code put}, {@code delete}, {@code deleteByKey} and {@code deleteByKeys} of the
+ * same template keep the cache up to date: the values encoded by a {@link KeyValueCodec} are written through, and the
+ * others are invalidated and read again on the next {@code get}. The changes made by another template or another
+ * process are only seen once the value expires.</p>
+ * <p>The cache can also be enabled without the annotation through
+ * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#NEAR_CACHE_ENTITIES}.</p>
+ *
+ * <pre>{@code
+ * @Entity
+ * @NearCache(maximumSize = 1_000, expireAfterWrite = 30, unit = TimeUnit.SECONDS)
+ * public class Session {
+ * }
+ * }</pre>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface NearCache {
+
+    /**
+     * The maximum number of values kept; once it is reached, the least recently used one is evicted.
+     *
+     * @return the maximum number of values
+     */
+    long maximumSize() default 10_000;
+
+    /**
+     * How long a value is kept after it is loaded from the bucket or written; zero keeps it until it is evicted or
+     * its TTL ends.
+     *
+     * @return the time to live in the {@link #unit()}
+     */
+    long expireAfterWrite() default 0;
+
+    /**
+     * The unit of {@link #expireAfterWrite()}.
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,307 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The cached values of a single entity type, keyed by the key in the bucket. It evicts the least recently used values
+ * beyond the maximum size, and every value expires at the end of the time to live of the region or of the TTL given
+ * to the {@code put} that wrote it, whichever comes first.
+ * An invalidated key keeps the end of its TTL, without a value, so the value read again from the bucket does not
+ * outlive the one stored there. A load that races with a write of the same type is returned but not cached, thus a
+ * write that happens while the bucket is read never leaves the previous value in the cache.
+ * A hit only reads a {@link ConcurrentHashMap} and stamps the value with a counter; the writes and the evictions
+ * share a lock, and once the maximum size is passed the least recently used sixteenth of the region goes at once.
+ */
+final class NearCacheRegion {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private static final long EVICTION_BATCH = 16;
+
+    private final long maximumSize;
+
+    private final long timeToLive;
+
+    private final LongSupplier ticker;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile long generation;
+
+    /**
+     * Creates a region.
+     *
+     * @param maximumSize the maximum number of keys
+     * @param timeToLive  the time to live in nanoseconds, zero or negative to keep the values until they are evicted
+     *                    or their TTL ends
+     * @param ticker      the source of {@link System#nanoTime()}
+     */
+    NearCacheRegion(long maximumSize, long timeToLive, LongSupplier ticker) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size cannot be negative: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive > 0 ? timeToLive : NEVER;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the cached value of the key, otherwise reads it with the loader and caches it when it is found.
+     *
+     * @param key    the key
+     * @param loader reads the value from the bucket
+     * @return the value
+     */
+    Optional<Value> get(Object key, Supplier<Optional<Value>> loader) {
+        long loadGeneration = generation;
+        Entry entry = lookup(key, ticker.getAsLong());
+        if (entry != null && entry.value != null) {
+            hits.increment();
+            touch(entry);
+            return Optional.of(entry.value);
+        }
+        long deadline = entry == null ? NEVER : entry.expiresAt;
+        misses.increment();
+        Optional<Value> loaded = loader.get();
+        if (loaded.isEmpty() || maximumSize == 0) {
+            return loaded;
+        }
+        lock.lock();
+        try {
+            if (loadGeneration == generation) {
+                store(key, loaded.orElseThrow(), earliest(deadline, expiresAt(NEVER)));
+                evictLeastRecentlyUsed();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the values of the keys, reading the ones that are not cached with a single call of the loader.
+     *
+     * @param keys   the keys
+     * @param loader reads the values of the missing keys from the bucket, returning them in the same order with
+     *               {@code null} for an absent key
+     * @return the values in the order of the keys, {@code null} for an absent key
+     */
+    List<Value> get(List<?> keys, Function<List<Object>, List<Value>> loader) {
+        Value[] values = new Value[keys.size()];
+        List<Object> missing = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        long[] deadlines = new long[keys.size()];
+        long loadGeneration = generation;
+        long now = ticker.getAsLong();
+        for (int index = 0; index < keys.size(); index++) {
+            Object key = keys.get(index);
+            Entry entry = lookup(key, now);
+            if (entry != null && entry.value != null) {
+                touch(entry);
+                values[index] = entry.value;
+            } else {
+                deadlines[positions.size()] = entry == null ? NEVER : entry.expiresAt;
+                missing.add(key);
+                positions.add(index);
+            }
+        }
+        hits.add(keys.size() - missing.size());
+        if (missing.isEmpty()) {
+            return Arrays.asList(values);
+        }
+        misses.add(missing.size());
+        List<Value> loaded = loader.apply(missing);
+        for (int index = 0; index < positions.size(); index++) {
+            values[positions.get(index)] = loaded.get(index);
+        }
+        if (maximumSize > 0) {
+            lock.lock();
+            try {
+                if (loadGeneration == generation) {
+                    long expiresAt = expiresAt(NEVER);
+                    for (int index = 0; index < missing.size(); index++) {
+                        Value value = loaded.get(index);
+                        if (value != null) {
+                            store(missing.get(index), value, earliest(deadlines[index], expiresAt));
+                        }
+                    }
+                    evictLeastRecentlyUsed();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    /**
+     * Caches the value written to the bucket.
+     *
+     * @param key   the key
+     * @param value the value written
+     * @param ttl   the TTL of the value in the bucket in nanoseconds, zero or negative when it does not expire
+     */
+    void put(Object key, Value value, long ttl) {
+        lock.lock();
+        try {
+            generation++;
+            if (maximumSize > 0) {
+                store(key, value, expiresAt(ttl));
+                evictLeastRecentlyUsed();
+            } else {
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value of the key written to the bucket, keeping the end of its TTL for the next load.
+     *
+     * @param key the key
+     * @param ttl the TTL of the value in the bucket in nanoseconds, zero or negative when it does not expire
+     */
+    void invalidate(Object key, long ttl) {
+        lock.lock();
+        try {
+            generation++;
+            if (ttl > 0 && maximumSize > 0) {
+                store(key, null, expiresAt(ttl));
+                evictLeastRecentlyUsed();
+            } else {
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value of the key.
+     *
+     * @param key the key
+     */
+    void evict(Object key) {
+        lock.lock();
+        try {
+            generation++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    NearCacheStatistics statistics(String bucket) {
+        long size = entries.values().stream().filter(entry -> entry.value != null).count();
+        return new NearCacheStatistics(bucket, hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Entry lookup(Object key, long now) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isExpired(now)) {
+            if (entries.remove(key, entry) && entry.value != null) {
+                evictions.increment();
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    private void store(Object key, Value value, long expiresAt) {
+        entries.put(key, new Entry(value, expiresAt, clock.incrementAndGet()));
+    }
+
+    private void touch(Entry entry) {
+        if (entry.accessed != clock.get()) {
+            entry.accessed = clock.incrementAndGet();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+        long excess = entries.size() - maximumSize + maximumSize / EVICTION_BATCH;
+        long[] stamps = entries.values().stream().mapToLong(entry -> entry.accessed).toArray();
+        Arrays.sort(stamps);
+        long threshold = stamps[(int) Math.min(excess, stamps.length) - 1];
+        entries.forEach((key, entry) -> {
+            if (entry.accessed <= threshold && entries.remove(key, entry) && entry.value != null) {
+                evictions.increment();
+            }
+        });
+    }
+
+    private long expiresAt(long ttl) {
+        long now = ticker.getAsLong();
+        long expiresAt = timeToLive == NEVER ? NEVER : now + timeToLive;
+        return ttl > 0 && ttl != NEVER ? earliest(expiresAt, now + ttl) : expiresAt;
+    }
+
+    private static long earliest(long expiresAt, long other) {
+        if (expiresAt == NEVER) {
+            return other;
+        }
+        if (other == NEVER) {
+            return expiresAt;
+        }
+        return other - expiresAt < 0 ? other : expiresAt;
+    }
+
+    private static final class Entry {
+
+        private final Value value;
+
+        private final long expiresAt;
+
+        private volatile long accessed;
+
+        private Entry(Value value, long expiresAt, long accessed) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.accessed = accessed;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != NEVER && now - expiresAt >= 0;
+        }
+    }
+}
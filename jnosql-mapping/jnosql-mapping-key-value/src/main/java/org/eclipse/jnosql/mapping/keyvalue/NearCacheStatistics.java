@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+/**
+ * A snapshot of the counters of the near cache of a bucket, for a single entity or for all of them, see
+ * {@link NearCache}.
+ *
+ * @param bucket    the name of the bucket
+ * @param hits      the number of keys answered by the cache
+ * @param misses    the number of keys read from the bucket
+ * @param evictions the number of values removed to honor the maximum size or the expiration
+ * @param size      the number of values currently cached
+ */
+public record NearCacheStatistics(String bucket, long hits, long misses, long evictions, long size) {
+
+    /**
+     * Returns the ratio of the keys answered by the cache, or {@code 1.0} when no key was read.
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    NearCacheStatistics plus(NearCacheStatistics other) {
+        return new NearCacheStatistics(bucket, hits + other.hits, misses + other.misses,
+                evictions + other.evictions, size + other.size);
+    }
+}
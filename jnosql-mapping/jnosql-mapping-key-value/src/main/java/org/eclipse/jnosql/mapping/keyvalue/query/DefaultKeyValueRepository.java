@@ -21,6 +21,8 @@ import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.repository.LifecycleEventHandler;
 
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Default implementation of a key-value repository for Java NoSQL databases.
@@ -65,6 +67,12 @@ class DefaultKeyValueRepository<T, K>  extends AbstractRepository<T, K> {
         return "The key-value type does not support %s method";
     }
 
+    @Override
+    public Stream<T> findByIdIn(Iterable<K> ids) {
+        Objects.requireNonNull(ids, "ids is required");
+        return StreamSupport.stream(repository.get(ids, type()).spliterator(), false);
+    }
+
 
     /**
      * Creates a new instance of DefaultKeyValueRepository with the provided KeyValueTemplate,
@@ -0,0 +1,347 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import jakarta.inject.Inject;
+import jakarta.nosql.MappingException;
+import org.eclipse.jnosql.communication.keyvalue.BinaryWriter;
+import org.eclipse.jnosql.communication.keyvalue.Compression;
+import org.eclipse.jnosql.communication.keyvalue.WireType;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Clash;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Gauge;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Job;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Money;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Profile;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Token;
+import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, KeyValueEntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class, KeyValueExtension.class})
+class BinaryEntityCodecTest {
+
+    private static final int HEADER = 1;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @Nested
+    @DisplayName("When the entity has a default constructor")
+    class WhenTheEntityHasDefaultConstructor {
+
+        @Test
+        @DisplayName("Should encode and decode every attribute")
+        void shouldEncodeAndDecode() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.NONE);
+            Profile profile = profile(List.of("java", "nosql"));
+
+            Profile decoded = codec.decode(codec.encode(profile));
+
+            assertSoftly(softly -> {
+                softly.assertThat(decoded.getId()).isEqualTo("ada");
+                softly.assertThat(decoded.getName()).isEqualTo("Ada Lovelace");
+                softly.assertThat(decoded.getAge()).isEqualTo(36);
+                softly.assertThat(decoded.getSince()).isEqualTo(LocalDate.of(1843, 9, 1));
+                softly.assertThat(decoded.getTags()).containsExactly("java", "nosql");
+                softly.assertThat(decoded.getJob()).isEqualTo(profile.getJob());
+                softly.assertThat(decoded.getSalary()).isEqualTo(profile.getSalary());
+            });
+        }
+
+        @Test
+        @DisplayName("Should skip the null attributes")
+        void shouldSkipNullAttributes() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.NONE);
+            Profile profile = new Profile();
+            profile.setId("ada");
+
+            byte[] value = codec.encode(profile);
+            Profile decoded = codec.decode(value);
+
+            assertSoftly(softly -> {
+                softly.assertThat(value).hasSizeLessThan(16);
+                softly.assertThat(decoded.getId()).isEqualTo("ada");
+                softly.assertThat(decoded.getName()).isNull();
+                softly.assertThat(decoded.getTags()).isNull();
+                softly.assertThat(decoded.getJob()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("Should decode from a direct buffer")
+        void shouldDecodeFromDirectBuffer() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.NONE);
+            byte[] value = codec.encode(profile(List.of("java")));
+            ByteBuffer buffer = ByteBuffer.allocateDirect(value.length).put(value).flip();
+
+            Profile decoded = codec.decode(buffer);
+
+            assertSoftly(softly -> {
+                softly.assertThat(decoded.getName()).isEqualTo("Ada Lovelace");
+                softly.assertThat(decoded.getTags()).containsExactly("java");
+                softly.assertThat(buffer.position()).isZero();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("When the entity is a record")
+    class WhenTheEntityIsRecord {
+
+        @Test
+        @DisplayName("Should create the entity through the constructor")
+        void shouldDecodeRecord() {
+            BinaryEntityCodec<Token> codec = codec(Token.class, Compression.NONE);
+            Token token = new Token("token", "ada", -1L);
+
+            assertThat(codec.decode(codec.encode(token))).isEqualTo(token);
+        }
+
+        @Test
+        @DisplayName("Should use the default value of a missing parameter")
+        void shouldUseDefaultValue() {
+            BinaryEntityCodec<Token> codec = codec(Token.class, Compression.NONE);
+
+            assertThat(codec.decode(codec.encode(new Token("token", null, 0L))))
+                    .isEqualTo(new Token("token", null, 0L));
+        }
+    }
+
+    @Nested
+    @DisplayName("When the value is compressed")
+    class WhenTheValueIsCompressed {
+
+        @Test
+        @DisplayName("Should compress a large value")
+        void shouldCompressLargeValue() {
+            List<String> tags = IntStream.range(0, 100).mapToObj(index -> "tag-" + index).toList();
+            Profile profile = profile(tags);
+
+            byte[] plain = codec(Profile.class, Compression.NONE).encode(profile);
+            byte[] compressed = codec(Profile.class, Compression.DEFLATE).encode(profile);
+
+            assertSoftly(softly -> {
+                softly.assertThat(compressed).hasSizeLessThan(plain.length);
+                softly.assertThat(codec(Profile.class, Compression.DEFLATE).decode(compressed).getTags())
+                        .isEqualTo(tags);
+                softly.assertThat(codec(Profile.class, Compression.NONE).decode(compressed).getTags())
+                        .as("the header tells how the value was compressed").isEqualTo(tags);
+            });
+        }
+
+        @Test
+        @DisplayName("Should not compress a small value")
+        void shouldNotCompressSmallValue() {
+            Profile profile = profile(List.of("java"));
+
+            assertThat(codec(Profile.class, Compression.DEFLATE).encode(profile))
+                    .isEqualTo(codec(Profile.class, Compression.NONE).encode(profile));
+        }
+    }
+
+    @Nested
+    @DisplayName("When the entity changes")
+    class WhenTheEntityChanges {
+
+        @Test
+        @DisplayName("Should skip the fields that the entity does not know")
+        void shouldSkipUnknownFields() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.NONE);
+            byte[] value = codec.encode(profile(List.of("java")));
+            byte[] changed = new BinaryWriter()
+                    .writeRaw(value, 0, value.length)
+                    .writeTag(BinaryEntityCodec.fieldId("nickname"), WireType.LENGTH_DELIMITED)
+                    .writeString("ada")
+                    .writeTag(BinaryEntityCodec.fieldId("logins"), WireType.VARINT)
+                    .writeVarInt(42)
+                    .toByteArray();
+
+            Profile decoded = codec.decode(changed);
+
+            assertSoftly(softly -> {
+                softly.assertThat(decoded.getName()).isEqualTo("Ada Lovelace");
+                softly.assertThat(decoded.getTags()).containsExactly("java");
+            });
+        }
+
+        @Test
+        @DisplayName("Should read a value written before the other attributes were added")
+        void shouldReadOlderValue() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.NONE);
+            byte[] value = new BinaryWriter()
+                    .writeByte(codec.encode(new Profile())[0])
+                    .writeTag(BinaryEntityCodec.fieldId("name"), WireType.LENGTH_DELIMITED)
+                    .writeString("Ada Lovelace")
+                    .toByteArray();
+
+            assertThat(codec.decode(value).getName()).isEqualTo("Ada Lovelace");
+        }
+
+        @Test
+        @DisplayName("Should read a value of another entity without failing")
+        void shouldReadAnotherEntity() {
+            byte[] value = codec(Token.class, Compression.NONE).encode(new Token("token", "ada", 1L));
+
+            assertThat(codec(Profile.class, Compression.NONE).decode(value).getId()).isEqualTo("token");
+        }
+    }
+
+    @Nested
+    @DisplayName("When the attributes have a binary field id")
+    class WhenTheAttributesHaveBinaryFieldId {
+
+        @Test
+        @DisplayName("Should write the assigned ids in a single byte")
+        void shouldWriteAssignedIds() {
+            BinaryEntityCodec<Gauge> codec = codec(Gauge.class, Compression.NONE);
+            Gauge gauge = new Gauge("cpu", "%", 0.5);
+            byte[] value = codec.encode(gauge);
+
+            assertSoftly(softly -> {
+                softly.assertThat(value[HEADER]).isEqualTo((byte) WireType.LENGTH_DELIMITED.tag(1));
+                softly.assertThat(value[HEADER + 5]).isEqualTo((byte) WireType.LENGTH_DELIMITED.tag(2));
+                softly.assertThat(codec.decode(value)).isEqualTo(gauge);
+            });
+        }
+
+        @Test
+        @DisplayName("Should fall back to the hash of the column name")
+        void shouldFallBackToHash() {
+            BinaryEntityCodec<Gauge> codec = codec(Gauge.class, Compression.NONE);
+            byte[] value = new BinaryWriter()
+                    .writeByte(1 << 2)
+                    .writeTag(1, WireType.LENGTH_DELIMITED)
+                    .writeString("cpu")
+                    .writeTag(BinaryEntityCodec.fieldId("value"), WireType.FIXED64)
+                    .writeDouble(0.5)
+                    .toByteArray();
+
+            assertThat(codec.decode(value)).isEqualTo(new Gauge("cpu", null, 0.5));
+        }
+
+        @Test
+        @DisplayName("Should reject two attributes with the same id")
+        void shouldRejectSameId() {
+            assertThatThrownBy(() -> codec(Clash.class, Compression.NONE))
+                    .isInstanceOf(MappingException.class)
+                    .hasMessageContaining("@BinaryField");
+        }
+    }
+
+    @Nested
+    @DisplayName("When the value is not valid")
+    class WhenTheValueIsNotValid {
+
+        @Test
+        @DisplayName("Should reject a truncated value")
+        void shouldRejectTruncatedValue() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.NONE);
+            byte[] value = codec.encode(profile(List.of("java")));
+
+            assertThatThrownBy(() -> codec.decode(Arrays.copyOf(value, value.length - 3)))
+                    .isInstanceOf(MappingException.class)
+                    .hasMessageContaining("malformed");
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown compression")
+        void shouldRejectUnknownCompression() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.NONE);
+            byte[] value = codec.encode(profile(List.of("java")));
+            value[0] |= 3;
+
+            assertThatThrownBy(() -> codec.decode(value))
+                    .isInstanceOf(MappingException.class)
+                    .hasMessageContaining("unknown compression");
+        }
+
+        @Test
+        @DisplayName("Should reject a length that the compressed value cannot hold")
+        void shouldRejectUntrustedLength() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.DEFLATE);
+            byte[] value = codec.encode(profile(IntStream.range(0, 100).mapToObj(index -> "tag-" + index).toList()));
+            byte[] forged = new BinaryWriter()
+                    .writeRaw(value, 0, HEADER)
+                    .writeVarInt(Integer.MAX_VALUE)
+                    .writeRaw(value, HEADER + 2, value.length - HEADER - 2)
+                    .toByteArray();
+
+            assertThatThrownBy(() -> codec.decode(forged))
+                    .isInstanceOf(MappingException.class)
+                    .hasMessageContaining("malformed");
+        }
+
+        @Test
+        @DisplayName("Should reject a negative length")
+        void shouldRejectNegativeLength() {
+            BinaryEntityCodec<Profile> codec = codec(Profile.class, Compression.DEFLATE);
+            byte[] value = codec.encode(profile(IntStream.range(0, 100).mapToObj(index -> "tag-" + index).toList()));
+            byte[] forged = new BinaryWriter()
+                    .writeRaw(value, 0, HEADER)
+                    .writeVarInt(-1)
+                    .writeRaw(value, HEADER + 2, value.length - HEADER - 2)
+                    .toByteArray();
+
+            assertThatThrownBy(() -> codec.decode(forged))
+                    .isInstanceOf(MappingException.class)
+                    .hasMessageContaining("negative length");
+        }
+    }
+
+    private <T> BinaryEntityCodec<T> codec(Class<T> type, Compression compression) {
+        return BinaryEntityCodec.of(entities.get(type), entities, converters, compression);
+    }
+
+    private static Profile profile(List<String> tags) {
+        Job job = new Job();
+        job.setDescription("Analyst");
+        job.setCity("London");
+        Profile profile = new Profile();
+        profile.setId("ada");
+        profile.setName("Ada Lovelace");
+        profile.setAge(36);
+        profile.setSince(LocalDate.of(1843, 9, 1));
+        profile.setTags(tags);
+        profile.setJob(job);
+        profile.setSalary(new Money("GBP", BigDecimal.TEN));
+        return profile;
+    }
+}
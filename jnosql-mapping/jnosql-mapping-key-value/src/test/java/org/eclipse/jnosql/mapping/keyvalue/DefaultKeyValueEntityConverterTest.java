@@ -23,6 +23,7 @@ import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.keyvalue.entities.Car;
 import org.eclipse.jnosql.mapping.keyvalue.entities.Person;
 import org.eclipse.jnosql.mapping.keyvalue.entities.Plate;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Profile;
 import org.eclipse.jnosql.mapping.keyvalue.entities.User;
 import org.eclipse.jnosql.mapping.keyvalue.entities.Worker;
 import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
@@ -35,6 +36,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -189,4 +192,59 @@ class DefaultKeyValueEntityConverterTest {
 
     }
 
+    @Nested
+    @DisplayName("When the entity has a codec")
+    class WhenTheEntityHasCodec {
+
+        @Test
+        @DisplayName("Should encode the value as binary")
+        void shouldEncodeValue() {
+            KeyValueEntity entity = converter.toKeyValue(profile());
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(entity.key()).isEqualTo("ada");
+                softly.assertThat(entity.value()).isInstanceOf(byte[].class);
+            });
+        }
+
+        @Test
+        @DisplayName("Should decode the binary value")
+        void shouldDecodeValue() {
+            byte[] value = (byte[]) converter.toKeyValue(profile()).value();
+
+            Profile fromBytes = converter.toEntity(Profile.class, KeyValueEntity.of("ada", value));
+            Profile fromBuffer = converter.toEntity(Profile.class, KeyValueEntity.of("ada", ByteBuffer.wrap(value)));
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(fromBytes.getId()).isEqualTo("ada");
+                softly.assertThat(fromBytes.getName()).isEqualTo("Ada Lovelace");
+                softly.assertThat(fromBytes.getAge()).isEqualTo(36);
+                softly.assertThat(fromBuffer.getName()).isEqualTo("Ada Lovelace");
+            });
+        }
+
+        @Test
+        @DisplayName("Should keep the previous conversion when the value is not binary")
+        void shouldKeepPreviousConversion() {
+            Profile profile = profile();
+
+            assertThat(converter.toEntity(Profile.class, KeyValueEntity.of("ada", profile))).isSameAs(profile);
+        }
+
+        @Test
+        @DisplayName("Should not encode the entity without a codec")
+        void shouldNotEncodeWithoutCodec() {
+            User user = new User("nickname", "name", 24);
+
+            assertThat(converter.toKeyValue(user).value()).isEqualTo(user);
+        }
+
+        private static Profile profile() {
+            Profile profile = new Profile();
+            profile.setId("ada");
+            profile.setName("Ada Lovelace");
+            profile.setAge(36);
+            return profile;
+        }
+    }
 }
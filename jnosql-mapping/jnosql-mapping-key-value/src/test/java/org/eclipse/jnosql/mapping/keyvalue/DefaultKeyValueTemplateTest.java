@@ -21,7 +21,10 @@ import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Badge;
 import org.eclipse.jnosql.mapping.keyvalue.entities.Person;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Session;
+import org.eclipse.jnosql.mapping.keyvalue.entities.Ticket;
 import org.eclipse.jnosql.mapping.keyvalue.entities.User;
 import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
@@ -270,7 +273,7 @@ class DefaultKeyValueTemplateTest {
         void shouldGetIterable() {
             User user = new User(KEY, "otavio", 27);
 
-            when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+            when(manager.get(singletonList(KEY))).thenReturn(singletonList(Value.of(user)));
             List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                     .toList();
 
@@ -278,6 +281,36 @@ class DefaultKeyValueTemplateTest {
                 softly.assertThat(userOptional.isEmpty()).isFalse();
                 softly.assertThat(userOptional.getFirst()).isEqualTo(user);
             });
+            Mockito.verify(manager, Mockito.never()).get(KEY);
+        }
+
+        @Test
+        @DisplayName("Should treat the keys the bucket skips as absent")
+        void shouldSkipMissingKeys() {
+            User user = new User(KEY, "otavio", 27);
+            List<String> keys = List.of("missing", KEY);
+
+            when(manager.get(keys)).thenReturn(singletonList(Value.of(user)));
+            List<User> users = stream(template.get(keys, User.class).spliterator(), false)
+                    .toList();
+
+            assertThat(users).containsExactly(user);
+            Mockito.verify(manager, Mockito.never()).get("missing");
+            Mockito.verify(manager, Mockito.never()).get(KEY);
+        }
+
+        @Test
+        @DisplayName("Should match the values to the keys by id when the bucket reorders them")
+        void shouldMatchReorderedValuesById() {
+            User otavio = new User(KEY, "otavio", 27);
+            User ada = new User("ada", "ada", 36);
+            List<String> keys = List.of(KEY, "ada");
+
+            when(manager.get(keys)).thenReturn(List.of(Value.of(ada), Value.of(otavio)));
+            List<User> users = stream(template.get(keys, User.class).spliterator(), false)
+                    .toList();
+
+            assertThat(users).containsExactly(otavio, ada);
         }
 
         @Test
@@ -285,7 +318,7 @@ class DefaultKeyValueTemplateTest {
         void shouldReturnEmptyIterable() {
             User user = new User(KEY, "otavio", 27);
 
-            when(manager.get(KEY)).thenReturn(Optional.empty());
+            when(manager.get(singletonList(KEY))).thenReturn(List.of());
             List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                     .toList();
 
@@ -335,4 +368,154 @@ class DefaultKeyValueTemplateTest {
 
     }
 
+    @Nested
+    @DisplayName("When the entity has a near cache")
+    class WhenTheEntityHasNearCache {
+
+        @BeforeEach
+        void setUp() {
+            when(manager.name()).thenReturn("sessions");
+        }
+
+        @Test
+        @DisplayName("Should read the bucket once for a hot key")
+        void shouldReadBucketOnce() {
+            Session session = new Session(KEY, "otavio");
+            when(manager.get(KEY)).thenReturn(Optional.of(Value.of(session)));
+
+            Optional<Session> first = template.get(KEY, Session.class);
+            Optional<Session> second = template.get(KEY, Session.class);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(first).contains(session);
+                softly.assertThat(second).contains(session);
+                softly.assertThat(template.nearCacheStatistics(Session.class))
+                        .contains(new NearCacheStatistics("sessions", 1, 1, 0, 1));
+            });
+            Mockito.verify(manager, Mockito.times(1)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("Should read only the keys that are not cached")
+        void shouldReadMissingKeys() {
+            Session session = new Session(KEY, "otavio");
+            Session other = new Session("other", "ada");
+            when(manager.get(KEY)).thenReturn(Optional.of(Value.of(session)));
+            when(manager.get(List.of("other"))).thenReturn(List.of(Value.of(other)));
+            template.get(KEY, Session.class);
+
+            Iterable<Session> sessions = template.get(List.of(KEY, "other"), Session.class);
+
+            assertThat(sessions).containsExactly(session, other);
+            Mockito.verify(manager).get(List.of("other"));
+        }
+
+        @Test
+        @DisplayName("Should invalidate the key on put")
+        void shouldInvalidateOnPut() {
+            Session session = new Session(KEY, "otavio");
+            when(manager.get(KEY)).thenReturn(Optional.of(Value.of(session)));
+            template.get(KEY, Session.class);
+
+            template.put(new Session(KEY, "ada"));
+            template.get(KEY, Session.class);
+
+            Mockito.verify(manager, Mockito.times(2)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("Should write the encoded value through on put")
+        void shouldWriteThroughOnPut() {
+            Badge badge = new Badge(KEY, "otavio", 3);
+
+            template.put(badge, Duration.ofMinutes(1));
+            Optional<Badge> cached = template.get(KEY, Badge.class);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(cached).contains(badge);
+                softly.assertThat(template.nearCacheStatistics(Badge.class).map(NearCacheStatistics::hits)).contains(1L);
+            });
+            Mockito.verify(manager).put(Mockito.any(KeyValueEntity.class), Mockito.eq(Duration.ofMinutes(1)));
+            Mockito.verify(manager, Mockito.never()).get(KEY);
+        }
+
+        @Test
+        @DisplayName("Should evict the key on deleteByKey")
+        void shouldEvictOnDeleteByKey() {
+            template.put(new Badge(KEY, "otavio", 3));
+
+            template.deleteByKey(KEY);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(template.get(KEY, Badge.class)).isEmpty();
+                softly.assertThat(template.nearCacheStatistics(Badge.class).map(NearCacheStatistics::size)).contains(0L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should evict the keys on deleteByKeys")
+        void shouldEvictOnDeleteByKeys() {
+            template.put(new Badge(KEY, "otavio", 3));
+            template.put(new Badge("other", "ada", 1));
+
+            template.deleteByKeys(List.of(KEY, "other"));
+
+            assertThat(template.get(List.of(KEY, "other"), Badge.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should find the written value by a key of another type than the id")
+        void shouldNormalizeTheKey() {
+            Ticket ticket = new Ticket(1L, "near cache");
+
+            template.put(ticket);
+            Optional<Ticket> cached = template.get("1", Ticket.class);
+            template.deleteByKey(Value.of("1"));
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(cached).contains(ticket);
+                softly.assertThat(template.nearCacheStatistics(Ticket.class).map(NearCacheStatistics::size)).contains(0L);
+            });
+            Mockito.verify(manager, Mockito.never()).get("1");
+        }
+
+        @Test
+        @DisplayName("Should evict the key from the other entities on put")
+        void shouldEvictOtherEntitiesOnPut() {
+            template.put(new Badge(KEY, "otavio", 3));
+
+            template.put(new Session(KEY, "otavio"));
+
+            assertThat(template.nearCacheStatistics(Badge.class).map(NearCacheStatistics::size)).contains(0L);
+        }
+
+        @Test
+        @DisplayName("Should sum the statistics of the bucket")
+        void shouldSumStatistics() {
+            Session session = new Session(KEY, "otavio");
+            when(manager.get(KEY)).thenReturn(Optional.of(Value.of(session)));
+            template.get(KEY, Session.class);
+            template.get(KEY, Session.class);
+            template.put(new Badge("badge", "otavio", 3));
+            template.get("badge", Badge.class);
+
+            assertThat(template.nearCacheStatistics()).contains(new NearCacheStatistics("sessions", 2, 1, 0, 2));
+        }
+
+        @Test
+        @DisplayName("Should not cache the entity without a near cache")
+        void shouldNotCacheWithoutNearCache() {
+            User user = new User(KEY, "otavio", 27);
+            when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+
+            template.get(KEY, User.class);
+            template.get(KEY, User.class);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(template.nearCacheStatistics(User.class)).isEmpty();
+                softly.assertThat(template.nearCacheStatistics()).isEmpty();
+            });
+            Mockito.verify(manager, Mockito.times(2)).get(KEY);
+        }
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NearCacheRegionTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private NearCacheRegion region;
+
+    @BeforeEach
+    void setUp() {
+        region = new NearCacheRegion(2, TimeUnit.SECONDS.toNanos(10), ticker::get);
+    }
+
+    @Test
+    @DisplayName("should load the value once and answer the next calls from the cache")
+    void shouldCacheLoadedValue() {
+        var first = region.get("a", loader("a"));
+        var second = region.get("a", loader("a"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first.map(Value::get)).contains("a");
+            soft.assertThat(second.map(Value::get)).contains("a");
+            soft.assertThat(loads).hasValue(1);
+            soft.assertThat(region.statistics("bucket")).isEqualTo(new NearCacheStatistics("bucket", 1, 1, 0, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("should not cache a missing value")
+    void shouldNotCacheAbsent() {
+        region.get("x", Optional::empty);
+        region.get("x", Optional::empty);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(region.statistics("bucket").misses()).isEqualTo(2);
+            soft.assertThat(region.statistics("bucket").size()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used value beyond the maximum size")
+    void shouldEvictLeastRecentlyUsed() {
+        region.get("a", loader("a"));
+        region.get("b", loader("b"));
+        region.get("a", loader("a"));
+        region.get("c", loader("c"));
+        region.get("a", loader("a"));
+        region.get("b", loader("b"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loads).hasValue(4);
+            soft.assertThat(region.statistics("bucket").evictions()).isEqualTo(2);
+            soft.assertThat(region.statistics("bucket").size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("should expire the value after the time to live of the region")
+    void shouldExpireAfterTimeToLive() {
+        region.get("a", loader("a"));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        region.get("a", loader("a"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loads).hasValue(2);
+            soft.assertThat(region.statistics("bucket").evictions()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("should write the value through and expire it with the TTL of the put")
+    void shouldWriteThroughWithTtl() {
+        region.put("a", Value.of("written"), TimeUnit.SECONDS.toNanos(2));
+        var cached = region.get("a", loader("a"));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        var expired = region.get("a", Optional::empty);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cached.map(Value::get)).contains("written");
+            soft.assertThat(expired).isEmpty();
+            soft.assertThat(loads).hasValue(0);
+        });
+    }
+
+    @Test
+    @DisplayName("should keep the TTL of an invalidated key for the value read again")
+    void shouldKeepTtlOfInvalidatedKey() {
+        region.invalidate("a", TimeUnit.SECONDS.toNanos(3));
+        region.get("a", loader("a"));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        region.get("a", loader("a"));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        region.get("a", loader("a"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loads).hasValue(2);
+            soft.assertThat(region.statistics("bucket").hits()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("should remove the value of an invalidated key without TTL")
+    void shouldInvalidate() {
+        region.get("a", loader("a"));
+        region.invalidate("a", 0);
+        region.get("a", loader("a"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not cache a value loaded while the key was written")
+    void shouldNotCacheRacingLoad() {
+        region.get("a", () -> {
+            region.evict("a");
+            return Optional.of(Value.of("stale"));
+        });
+
+        assertThat(region.statistics("bucket").size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should read only the missing keys in a single call")
+    void shouldLoadMissingKeys() {
+        region.get("a", loader("a"));
+        List<List<Object>> calls = new ArrayList<>();
+        Function<List<Object>, List<Value>> bulk = keys -> {
+            calls.add(keys);
+            return keys.stream().map(key -> "x".equals(key) ? null : Value.of(key)).toList();
+        };
+
+        List<Value> values = region.get(List.of("a", "x", "b"), bulk);
+        List<Value> again = region.get(List.of("b"), bulk);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(values).extracting(value -> value == null ? null : value.get())
+                    .containsExactly("a", null, "b");
+            soft.assertThat(again).extracting(Value::get).containsExactly("b");
+            soft.assertThat(calls).containsExactly(Arrays.asList("x", "b"));
+            soft.assertThat(region.statistics("bucket")).isEqualTo(new NearCacheStatistics("bucket", 2, 3, 0, 2));
+        });
+    }
+
+    @Test
+    @DisplayName("should not keep values when the maximum size is zero")
+    void shouldNotKeepValuesWithoutSize() {
+        var disabled = new NearCacheRegion(0, 0, ticker::get);
+        disabled.put("a", Value.of("a"), 0);
+        disabled.get("a", loader("a"));
+
+        assertThat(disabled.statistics("bucket").size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject a negative maximum size")
+    void shouldRejectNegativeMaximumSize() {
+        assertThatThrownBy(() -> new NearCacheRegion(-1, 0, ticker::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should return one as the hit ratio when nothing was read")
+    void shouldReturnHitRatio() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(region.statistics("bucket").hitRatio()).isEqualTo(1.0);
+            soft.assertThat(new NearCacheStatistics("bucket", 1, 3, 0, 1).hitRatio()).isEqualTo(0.25);
+        });
+    }
+
+    private Supplier<Optional<Value>> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(Value.of(value));
+        };
+    }
+}
@@ -252,8 +252,7 @@ class KeyValueRepositoryProxyTest {
             User user = new User("ada", "Ada", 10);
             User user2 = new User("ada", "Ada", 10);
             List<String> keys = Arrays.asList("key", "key2");
-            when(template.find(User.class, "key")).thenReturn(Optional.of(user));
-            when(template.find(User.class, "key2")).thenReturn(Optional.of(user2));
+            when(template.get(keys, User.class)).thenReturn(List.of(user, user2));
 
             assertThat(userRepository.findByIdIn(keys)).contains(user, user2);
         }
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor that writes, at compile time, the index of the classes that Eclipse JNoSQL
+ * would otherwise discover by scanning the whole classpath at startup: entities, embeddables, repositories,
+ * projections and auto-apply attribute converters.
+ * <p>
+ * The index is written to {@value #INDEX} as a properties file where the key is the binary class name
+ * and the value is a comma separated list of kinds, for example:
+ * <pre>{@code
+ * org.example.Person=entity
+ * org.example.PersonRepository=repository
+ * }</pre>
+ * When the index is present on the classpath, the reflection class scanner reads it instead of
+ * running the classpath scan. The index must therefore be complete: every module that contains
+ * mapped classes should run this processor.
+ */
+@SupportedAnnotationTypes({"jakarta.nosql.Entity", "jakarta.nosql.Embeddable", "jakarta.nosql.Projection",
+        "jakarta.nosql.Converter", "jakarta.data.repository.Repository"})
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The location of the class index in the class output.
+     */
+    public static final String INDEX = "META-INF/jnosql/class-index.properties";
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    private final Set<String> processed = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element root : roundEnv.getRootElements()) {
+            if (root instanceof TypeElement type) {
+                processed.add(binaryName(type));
+            }
+        }
+        for (TypeElement annotation : annotations) {
+            IndexKind.of(annotation.getQualifiedName().toString())
+                    .ifPresent(kind -> index(kind, annotation, roundEnv));
+        }
+        if (roundEnv.processingOver()) {
+            write();
+        }
+        return false;
+    }
+
+    private void index(IndexKind kind, TypeElement annotation, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element instanceof TypeElement type) {
+                AnnotationMirror mirror = mirror(type, annotation);
+                if (mirror != null && kind.accept(type, mirror, processingEnv.getElementUtils())) {
+                    index.computeIfAbsent(binaryName(type), k -> new TreeSet<>()).add(kind.value());
+                }
+            }
+        }
+    }
+
+    private AnnotationMirror mirror(TypeElement type, TypeElement annotation) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void write() {
+        Map<String, Set<String>> entries = new TreeMap<>(previous());
+        entries.putAll(index);
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Writer writer = file.openWriter()) {
+                writer.write("# Generated by Eclipse JNoSQL, do not edit\n");
+                for (Map.Entry<String, Set<String>> entry : entries.entrySet()) {
+                    writer.write(entry.getKey() + '=' + String.join(",", entry.getValue()) + '\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the Eclipse JNoSQL class index: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Reads the index left by a previous compilation, so an incremental build that compiles only a subset
+     * of the sources keeps the entries of the untouched classes. Entries of classes compiled in this
+     * build, or of classes that no longer exist, are dropped.
+     */
+    private Map<String, Set<String>> previous() {
+        Map<String, Set<String>> entries = new TreeMap<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            Properties properties = new Properties();
+            try (InputStream stream = file.openInputStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                properties.load(reader);
+            }
+            for (String name : properties.stringPropertyNames()) {
+                if (!processed.contains(name) && exists(name)) {
+                    entries.put(name, new TreeSet<>(Set.of(properties.getProperty(name).split(","))));
+                }
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            // there is no previous index to merge
+        }
+        return entries;
+    }
+
+    private boolean exists(String binaryName) {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.eclipse.jnosql.mapping.processor.EntityConverterProcessor.isPrivate;
+import static org.eclipse.jnosql.mapping.processor.EntityConverterProcessor.isStatic;
+
+/**
+ * Checks if a class can have a generated converter and, when it can, builds its {@link EntityConverterModel}.
+ * It follows the same mapping rules of the reflection metadata: the fields annotated with {@code @Id} or
+ * {@code @Column}, named by the annotation value or by the field name.
+ */
+final class EntityConverterAnalyzer {
+
+    private static final String ID = "jakarta.nosql.Id";
+    private static final String COLUMN = "jakarta.nosql.Column";
+    private static final String CONVERT = "jakarta.nosql.Convert";
+    private static final String INHERITANCE = "jakarta.nosql.Inheritance";
+    private static final String DISCRIMINATOR_VALUE = "jakarta.nosql.DiscriminatorValue";
+    private static final String VALUE = "value";
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private String reason;
+
+    EntityConverterAnalyzer(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * The reason of the last rejected class.
+     *
+     * @return the reason
+     */
+    String reason() {
+        return reason;
+    }
+
+    Optional<EntityConverterModel> analyze(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return reject("only concrete classes are supported");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return reject("generic classes are not supported");
+        }
+        if (!isAccessible(type)) {
+            return reject("the class must be visible from its package");
+        }
+        if (!isObject(type.getSuperclass()) || has(type, INHERITANCE) || has(type, DISCRIMINATOR_VALUE)) {
+            return reject("inheritance is not supported");
+        }
+        if (!hasNoArgConstructor(type)) {
+            return reject("there is no non-private no-arg constructor");
+        }
+        EntityConverterModel.FieldModel id = null;
+        List<EntityConverterModel.FieldModel> fields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (VariableElement field : EntityConverterProcessor.fields(type)) {
+            boolean isId = has(field, ID);
+            if (!isId && !has(field, COLUMN)) {
+                continue;
+            }
+            if (isStatic(field) || has(field, CONVERT) || !isBasic(field.asType(), type)) {
+                return reject("the field " + field.getSimpleName() + " requires the generic conversion");
+            }
+            String name = annotationValue(field, isId ? ID : COLUMN).orElse(field.getSimpleName().toString());
+            if (!names.add(name)) {
+                return reject("the name " + name + " is mapped twice");
+            }
+            Optional<String> read = read(type, field);
+            Optional<String> write = write(type, field);
+            if (read.isEmpty() || write.isEmpty()) {
+                return reject("the field " + field.getSimpleName() + " is neither visible nor has a getter and setter");
+            }
+            var model = new EntityConverterModel.FieldModel(name, types.erasure(field.asType()).toString(),
+                    read.get(), write.get());
+            if (isId) {
+                id = model;
+            } else {
+                fields.add(model);
+            }
+        }
+        String entityName = annotationValue(type, EntityConverterProcessor.ENTITY)
+                .orElse(type.getSimpleName().toString());
+        return Optional.of(new EntityConverterModel(entityName, type.getQualifiedName().toString(), id, fields));
+    }
+
+    private Optional<EntityConverterModel> reject(String reason) {
+        this.reason = reason;
+        return Optional.empty();
+    }
+
+    private Optional<String> read(TypeElement type, VariableElement field) {
+        if (!isPrivate(field)) {
+            return Optional.of("entity." + field.getSimpleName());
+        }
+        String property = capitalize(field.getSimpleName().toString());
+        List<String> getters = field.asType().getKind() == TypeKind.BOOLEAN
+                ? List.of("is" + property, "get" + property) : List.of("get" + property);
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(m -> getters.contains(m.getSimpleName().toString()))
+                .filter(m -> m.getParameters().isEmpty() && isVisibleMethod(m))
+                .filter(m -> types.isSameType(m.getReturnType(), field.asType()))
+                .findFirst()
+                .map(m -> "entity." + m.getSimpleName() + "()");
+    }
+
+    private Optional<String> write(TypeElement type, VariableElement field) {
+        if (!isPrivate(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return Optional.of("entity." + field.getSimpleName() + " = %s;");
+        }
+        String setter = "set" + capitalize(field.getSimpleName().toString());
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .filter(m -> setter.contentEquals(m.getSimpleName()))
+                .filter(m -> m.getParameters().size() == 1 && isVisibleMethod(m))
+                .filter(m -> types.isSameType(m.getParameters().get(0).asType(), field.asType()))
+                .findFirst()
+                .map(m -> "entity." + m.getSimpleName() + "(%s);");
+    }
+
+    private boolean isBasic(TypeMirror type, TypeElement entity) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return false;
+        }
+        TypeElement element = (TypeElement) types.asElement(type);
+        if (has(element, EntityConverterProcessor.ENTITY) || has(element, EntityConverterProcessor.EMBEDDABLE)
+                || isSubtype(type, "java.util.Collection") || isSubtype(type, "java.util.Map")) {
+            return false;
+        }
+        return isVisibleFrom(element, entity);
+    }
+
+    private boolean isSubtype(TypeMirror type, String name) {
+        TypeElement parent = elements.getTypeElement(name);
+        return parent != null && types.isAssignable(types.erasure(type), types.erasure(parent.asType()));
+    }
+
+    private boolean isObject(TypeMirror type) {
+        return type.getKind() == TypeKind.NONE
+                || ((TypeElement) types.asElement(type)).getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    private boolean hasNoArgConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !isPrivate(c));
+    }
+
+    private static boolean isVisibleMethod(ExecutableElement method) {
+        return !isPrivate(method) && !isStatic(method);
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement element) {
+            if (isPrivate(element)) {
+                return false;
+            }
+            Element enclosing = element.getEnclosingElement();
+            if (enclosing instanceof TypeElement && element.getKind() == ElementKind.CLASS && !isStatic(element)) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return true;
+    }
+
+    private boolean isVisibleFrom(TypeElement type, TypeElement entity) {
+        if (!isAccessible(type)) {
+            return false;
+        }
+        Element current = type;
+        while (current instanceof TypeElement element) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)
+                    && !elements.getPackageOf(element).equals(elements.getPackageOf(entity))) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static boolean has(Element element, String annotation) {
+        return mirror(element, annotation).isPresent();
+    }
+
+    private static Optional<? extends AnnotationMirror> mirror(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream()
+                .filter(m -> ((TypeElement) m.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+                .findFirst();
+    }
+
+    private Optional<String> annotationValue(Element element, String annotation) {
+        return mirror(element, annotation)
+                .flatMap(m -> elements.getElementValuesWithDefaults(m).entrySet().stream()
+                        .filter(e -> VALUE.contentEquals(e.getKey().getSimpleName()))
+                        .map(e -> String.valueOf(e.getValue().getValue()))
+                        .findFirst())
+                .filter(v -> !v.isBlank());
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import java.util.List;
+
+/**
+ * The source model of a generated {@code TypedEntityConverter}.
+ *
+ * @param entityName the name of the entity, written to the {@code CommunicationEntity}
+ * @param type       the canonical name of the entity class
+ * @param id         the id field, or {@code null} when the class has no id
+ * @param fields     the non-id fields
+ */
+record EntityConverterModel(String entityName, String type, FieldModel id, List<FieldModel> fields) {
+
+    private static final String COMMUNICATION_ENTITY = "org.eclipse.jnosql.communication.semistructured.CommunicationEntity";
+
+    private static final String ELEMENT = "org.eclipse.jnosql.communication.semistructured.Element";
+
+    /**
+     * A mapped field of the entity.
+     *
+     * @param name     the element name
+     * @param javaType the source of the erased field type, such as {@code int} or {@code java.lang.String}
+     * @param read     the expression that reads the field from the {@code entity} variable
+     * @param write    the statement that writes the field to the {@code entity} variable,
+     *                 with a {@code %s} placeholder to the value
+     */
+    record FieldModel(String name, String javaType, String read, String write) {
+
+        String writeStatement() {
+            return write.formatted("value.get(" + javaType + ".class)");
+        }
+    }
+
+    /**
+     * Writes the Java source of the converter.
+     *
+     * @param packageName the package of the converter, empty to the unnamed package
+     * @param simpleName  the simple name of the converter
+     * @return the Java source
+     */
+    String source(String packageName, String simpleName) {
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * The converter of {@link ").append(type).append("}, generated by the Eclipse JNoSQL\n")
+                .append(" * {@code org.eclipse.jnosql.mapping.processor.EntityConverterProcessor}. Do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(EntityConverterProcessor.CONVERTER).append('<').append(type).append("> {\n\n");
+
+        source.append("    @Override\n")
+                .append("    public Class<").append(type).append("> type() {\n")
+                .append("        return ").append(type).append(".class;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(COMMUNICATION_ENTITY).append(" toCommunication(")
+                .append(type).append(" entity, String idName) {\n")
+                .append("        var communication = ").append(COMMUNICATION_ENTITY).append(".of(")
+                .append(literal(entityName)).append(");\n");
+        if (id != null) {
+            source.append("        communication.add(idName, ").append(id.read()).append(");\n");
+        }
+        for (FieldModel field : fields) {
+            source.append("        communication.add(").append(literal(field.name())).append(", ")
+                    .append(field.read()).append(");\n");
+        }
+        source.append("        return communication;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(type).append(" toEntity(java.util.List<").append(ELEMENT)
+                .append("> elements, String idName) {\n")
+                .append("        var entity = new ").append(type).append("();\n")
+                .append("        for (var element : elements) {\n")
+                .append("            var value = element.value();\n")
+                .append("            if (value.isNull()) {\n")
+                .append("                continue;\n")
+                .append("            }\n")
+                .append("            var name = element.name();\n");
+        if (id != null) {
+            source.append("            if (name.equals(idName)) {\n")
+                    .append("                ").append(id.writeStatement()).append('\n')
+                    .append("                continue;\n")
+                    .append("            }\n");
+        }
+        source.append("            switch (name) {\n");
+        for (FieldModel field : fields) {
+            source.append("                case ").append(literal(field.name())).append(" -> ")
+                    .append(field.writeStatement()).append('\n');
+        }
+        source.append("                default -> {\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return entity;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static String literal(String value) {
+        var literal = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> literal.append(character);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
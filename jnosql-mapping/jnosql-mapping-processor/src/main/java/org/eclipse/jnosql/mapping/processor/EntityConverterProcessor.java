@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An optional annotation processor that generates, for each {@link #ENTITY} and {@link #EMBEDDABLE} class,
+ * a {@code TypedEntityConverter} with straight-line reads and writes of the fields, registered through
+ * {@link java.util.ServiceLoader}. The semistructured {@code EntityConverter} uses it instead of the
+ * generic conversion.
+ * <p>
+ * The generation is disabled by default; enable it with the {@code -A}{@value #OPTION}{@code =true} compiler
+ * option. It also requires the jnosql-mapping-semistructured module on the compile classpath.
+ * Only plain classes are generated: no inheritance, a non-private no-arg constructor and fields of basic
+ * types, without {@code @Convert}, reachable either directly or through a getter and setter pair.
+ * The other classes keep the generic conversion. The service file is rewritten on every build,
+ * so a class missing from it, for example after an incremental build, falls back to the generic conversion.
+ */
+@SupportedAnnotationTypes({EntityConverterProcessor.ENTITY, EntityConverterProcessor.EMBEDDABLE})
+@SupportedOptions(EntityConverterProcessor.OPTION)
+public class EntityConverterProcessor extends AbstractProcessor {
+
+    /**
+     * The compiler option that enables the converter generation.
+     */
+    public static final String OPTION = "jnosql.entity.converter";
+
+    static final String ENTITY = "jakarta.nosql.Entity";
+
+    static final String EMBEDDABLE = "jakarta.nosql.Embeddable";
+
+    static final String SUFFIX = "_EntityConverter";
+
+    static final String CONVERTER = "org.eclipse.jnosql.mapping.semistructured.TypedEntityConverter";
+
+    private static final String SERVICE = "META-INF/services/" + CONVERTER;
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!isEnabled()) {
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    generate(type);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeService();
+        }
+        return false;
+    }
+
+    private boolean isEnabled() {
+        return Boolean.parseBoolean(processingEnv.getOptions().get(OPTION))
+                && processingEnv.getElementUtils().getTypeElement(CONVERTER) != null;
+    }
+
+    private void generate(TypeElement type) {
+        var analyzer = new EntityConverterAnalyzer(processingEnv);
+        Optional<EntityConverterModel> model = analyzer.analyze(type);
+        if (model.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "The entity converter is not generated, it uses the generic conversion: " + analyzer.reason(), type);
+            return;
+        }
+        String name = converterName(type);
+        if (!generated.add(name)) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(model.get().source(packageName(type), simpleName(name)));
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the entity converter " + name + ": " + exception.getMessage(), type);
+        }
+    }
+
+    private void writeService() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (Writer writer = file.openWriter()) {
+                for (String name : generated) {
+                    writer.write(name + '\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the entity converter service file: " + exception.getMessage());
+        }
+    }
+
+    private String converterName(TypeElement type) {
+        String packageName = packageName(type);
+        List<String> names = new ArrayList<>();
+        Element current = type;
+        while (current.getKind() != ElementKind.PACKAGE) {
+            names.add(0, current.getSimpleName().toString());
+            current = current.getEnclosingElement();
+        }
+        String simpleName = String.join("_", names) + SUFFIX;
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    private String packageName(TypeElement type) {
+        PackageElement element = processingEnv.getElementUtils().getPackageOf(type);
+        return element.isUnnamed() ? "" : element.getQualifiedName().toString();
+    }
+
+    private static String simpleName(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    static boolean isPrivate(Element element) {
+        return element.getModifiers().contains(Modifier.PRIVATE);
+    }
+
+    static boolean isStatic(Element element) {
+        return element.getModifiers().contains(Modifier.STATIC);
+    }
+
+    static List<VariableElement> fields(TypeElement type) {
+        return ElementFilter.fieldsIn(type.getEnclosedElements());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The categories written to the class index, each one bound to the annotation that marks it
+ * and to the structural rule the annotated type must follow to be indexed.
+ */
+enum IndexKind {
+
+    ENTITY("entity", "jakarta.nosql.Entity") {
+        @Override
+        boolean accept(TypeElement type, AnnotationMirror annotation, Elements elements) {
+            return type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD;
+        }
+    },
+    EMBEDDABLE("embeddable", "jakarta.nosql.Embeddable") {
+        @Override
+        boolean accept(TypeElement type, AnnotationMirror annotation, Elements elements) {
+            return type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD;
+        }
+    },
+    REPOSITORY("repository", "jakarta.data.repository.Repository") {
+        @Override
+        boolean accept(TypeElement type, AnnotationMirror annotation, Elements elements) {
+            return type.getKind() == ElementKind.INTERFACE;
+        }
+    },
+    PROJECTION("projection", "jakarta.nosql.Projection") {
+        @Override
+        boolean accept(TypeElement type, AnnotationMirror annotation, Elements elements) {
+            return type.getKind() == ElementKind.RECORD;
+        }
+    },
+    CONVERTER("converter", "jakarta.nosql.Converter") {
+        @Override
+        boolean accept(TypeElement type, AnnotationMirror annotation, Elements elements) {
+            if (type.getKind() != ElementKind.CLASS) {
+                return false;
+            }
+            return elements.getElementValuesWithDefaults(annotation).entrySet().stream()
+                    .filter(e -> AUTO_APPLY.contentEquals(e.getKey().getSimpleName()))
+                    .anyMatch(e -> Boolean.TRUE.equals(e.getValue().getValue()));
+        }
+    };
+
+    private static final String AUTO_APPLY = "autoApply";
+
+    private final String value;
+
+    private final String annotation;
+
+    IndexKind(String value, String annotation) {
+        this.value = value;
+        this.annotation = annotation;
+    }
+
+    /**
+     * The value written to the index for this kind.
+     *
+     * @return the index value
+     */
+    String value() {
+        return value;
+    }
+
+    /**
+     * The fully qualified name of the annotation that marks this kind.
+     *
+     * @return the annotation name
+     */
+    String annotation() {
+        return annotation;
+    }
+
+    abstract boolean accept(TypeElement type, AnnotationMirror annotation, Elements elements);
+
+    /**
+     * Finds the kind bound to the given annotation name.
+     *
+     * @param annotation the fully qualified annotation name
+     * @return the kind or {@link Optional#empty()} when the annotation is not indexed
+     */
+    static Optional<IndexKind> of(String annotation) {
+        return Arrays.stream(values())
+                .filter(k -> k.annotation.equals(annotation))
+                .findFirst();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassIndexProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldIndexEntitiesAndEmbeddables() throws IOException {
+        Properties index = compile("""
+                package sample;
+                @jakarta.nosql.Entity
+                public class Person {
+                    @jakarta.nosql.Embeddable
+                    public static class Address {
+                    }
+                }
+                """);
+
+        assertThat(index).containsEntry("sample.Person", "entity")
+                .containsEntry("sample.Person$Address", "embeddable");
+    }
+
+    @Test
+    void shouldIndexRepositoryInterfaces() throws IOException {
+        Properties index = compile("""
+                package sample;
+                @jakarta.data.repository.Repository
+                public interface Garage {
+                }
+                """);
+
+        assertThat(index).containsEntry("sample.Garage", "repository");
+    }
+
+    @Test
+    void shouldIndexOnlyProjectionRecords() throws IOException {
+        Properties index = compile("""
+                package sample;
+                public class Views {
+                    @jakarta.nosql.Projection
+                    public record PersonView(String name) {
+                    }
+                    @jakarta.nosql.Projection
+                    public static class PersonDTO {
+                    }
+                }
+                """);
+
+        assertThat(index).containsEntry("sample.Views$PersonView", "projection")
+                .doesNotContainKey("sample.Views$PersonDTO");
+    }
+
+    @Test
+    void shouldIndexOnlyAutoApplyConverters() throws IOException {
+        Properties index = compile("""
+                package sample;
+                public class Converters {
+                    @jakarta.nosql.Converter(autoApply = true)
+                    public static class AutoApply {
+                    }
+                    @jakarta.nosql.Converter
+                    public static class Manual {
+                    }
+                }
+                """);
+
+        assertThat(index).containsEntry("sample.Converters$AutoApply", "converter")
+                .doesNotContainKey("sample.Converters$Manual");
+    }
+
+    @Test
+    void shouldNotWriteIndexWhenThereIsNoMappedClass() throws IOException {
+        compile("""
+                package sample;
+                public class Plain {
+                }
+                """);
+
+        assertThat(directory.resolve("classes").resolve(ClassIndexProcessor.INDEX)).doesNotExist();
+    }
+
+    private Properties compile(String source) throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("sources"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        String name = source.replaceFirst("(?s).*?public (class|interface) (\\w+).*", "$2");
+        Path file = Files.writeString(sources.resolve(name + ".java"), source);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = manager.getJavaFileObjects(file);
+            List<String> options = List.of("-d", classes.toString(),
+                    "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, options, null, units);
+            task.setProcessors(List.of(new ClassIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+
+        Properties properties = new Properties();
+        Path index = classes.resolve(ClassIndexProcessor.INDEX);
+        if (Files.exists(index)) {
+            try (Reader reader = Files.newBufferedReader(index)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityConverterProcessorTest {
+
+    private static final String SERVICE = "META-INF/services/org.eclipse.jnosql.mapping.semistructured.TypedEntityConverter";
+
+    private static final String PERSON = """
+            package sample;
+            import jakarta.nosql.Column;
+            import jakarta.nosql.Entity;
+            import jakarta.nosql.Id;
+            @Entity("people")
+            public class Person {
+                @Id
+                private long id;
+                @Column("full_name")
+                private String name;
+                @Column
+                int age;
+                public long getId() {
+                    return id;
+                }
+                public void setId(long id) {
+                    this.id = id;
+                }
+                public String getName() {
+                    return name;
+                }
+                public void setName(String name) {
+                    this.name = name;
+                }
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldNotGenerateWhenOptionIsDisabled() throws IOException {
+        compile(PERSON, false);
+
+        assertThat(directory.resolve("generated/sample/Person_EntityConverter.java")).doesNotExist();
+        assertThat(directory.resolve("classes").resolve(SERVICE)).doesNotExist();
+    }
+
+    @Test
+    void shouldGenerateConverter() throws IOException {
+        compile(PERSON, true);
+
+        Path source = directory.resolve("generated/sample/Person_EntityConverter.java");
+        assertThat(source).exists();
+        assertThat(Files.readString(source))
+                .contains("CommunicationEntity.of(\"people\")")
+                .contains("communication.add(idName, entity.getId());")
+                .contains("communication.add(\"full_name\", entity.getName());")
+                .contains("case \"age\" -> entity.age = value.get(int.class);");
+        assertThat(directory.resolve("classes").resolve(SERVICE))
+                .content().contains("sample.Person_EntityConverter");
+    }
+
+    @Test
+    void shouldNotGenerateWhenThereIsCollection() throws IOException {
+        compile("""
+                package sample;
+                @jakarta.nosql.Entity
+                public class Library {
+                    @jakarta.nosql.Column
+                    java.util.List<String> books;
+                }
+                """, true);
+
+        assertThat(directory.resolve("generated/sample/Library_EntityConverter.java")).doesNotExist();
+    }
+
+    @Test
+    void shouldNotGenerateWhenFieldHasNoSetter() throws IOException {
+        compile("""
+                package sample;
+                @jakarta.nosql.Entity
+                public class Book {
+                    @jakarta.nosql.Column
+                    private String title;
+                    public String getTitle() {
+                        return title;
+                    }
+                }
+                """, true);
+
+        assertThat(directory.resolve("generated/sample/Book_EntityConverter.java")).doesNotExist();
+    }
+
+    @Test
+    void shouldNotGenerateWhenThereIsNoDefaultConstructor() throws IOException {
+        compile("""
+                package sample;
+                @jakarta.nosql.Entity
+                public class Car {
+                    @jakarta.nosql.Id
+                    String plate;
+                    public Car(String plate) {
+                        this.plate = plate;
+                    }
+                }
+                """, true);
+
+        assertThat(directory.resolve("generated/sample/Car_EntityConverter.java")).doesNotExist();
+    }
+
+    private void compile(String source, boolean enabled) throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("sources"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path generated = Files.createDirectories(directory.resolve("generated"));
+        String name = source.replaceFirst("(?s).*?public class (\\w+).*", "$1");
+        Path file = Files.writeString(sources.resolve(name + ".java"), source);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = manager.getJavaFileObjects(file);
+            List<String> options = new ArrayList<>(List.of("-d", classes.toString(), "-s", generated.toString(),
+                    "-classpath", System.getProperty("java.class.path")));
+            if (enabled) {
+                options.add("-A" + EntityConverterProcessor.OPTION + "=true");
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, options, null, units);
+            task.setProcessors(List.of(new EntityConverterProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+    }
+}
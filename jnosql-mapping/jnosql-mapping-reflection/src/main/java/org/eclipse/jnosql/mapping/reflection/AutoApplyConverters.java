@@ -35,7 +35,7 @@ final class AutoApplyConverters {
     AutoApplyConverters() {
         this.converters = new HashMap<>();
 
-        for (Class<? extends AttributeConverter<?, ?>> converter : ClassGraphClassScanner.INSTANCE.autoApplyConverters()) {
+        for (Class<? extends AttributeConverter<?, ?>> converter : ReflectionClassScanner.scanner().autoApplyConverters()) {
             converters.put(attributeType(converter), converter);
         }
 
@@ -16,8 +16,6 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
-import jakarta.data.repository.BasicRepository;
-import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Repository;
 import jakarta.nosql.AttributeConverter;
@@ -25,28 +23,24 @@ import jakarta.nosql.Converter;
 import jakarta.nosql.Embeddable;
 import jakarta.nosql.Entity;
 import jakarta.nosql.Projection;
-import org.eclipse.jnosql.mapping.NoSQLRepository;
-import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import static java.util.Collections.unmodifiableSet;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 
 /**
  * Scanner classes that will load entities with both Entity and Embeddable
  * annotations and repositories: interfaces that extend DataRepository
  * and has the Repository annotation.
+ * It runs a classpath scan: the whole classpath when there is no build-time class index, otherwise only the
+ * packages configured in {@link ReflectionClassScanner#PACKAGES} of the classpath elements without an index,
+ * see {@link IndexClassScanner}.
  */
-enum ClassGraphClassScanner implements ClassScanner {
-
-    INSTANCE;
+final class ClassGraphClassScanner implements MappingClassScanner {
 
     private final Set<Class<?>> entities;
     private final Set<Class<?>> repositories;
@@ -55,7 +49,7 @@ enum ClassGraphClassScanner implements ClassScanner {
     private final Set<Class<?>> projections;
     private final Set<Class<? extends AttributeConverter<?,?>>> autoApplyConverters;
 
-    ClassGraphClassScanner() {
+    private ClassGraphClassScanner(ClassGraph classGraph) {
         entities = new HashSet<>();
         embeddables = new HashSet<>();
         repositories = new HashSet<>();
@@ -65,9 +59,11 @@ enum ClassGraphClassScanner implements ClassScanner {
 
         Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
+        try (ScanResult result = classGraph.scan()) {
             var notSupportedRepositories = loadNotSupportedRepositories(result);
-            logger.info("The following repositories are not supported: " + notSupportedRepositories);
+            if (!notSupportedRepositories.isEmpty()) {
+                logger.info("The following repositories are not supported: " + notSupportedRepositories);
+            }
             this.entities.addAll(loadEntities(result));
             this.embeddables.addAll(loadEmbeddable(result));
             this.repositories.addAll(loadRepositories(result));
@@ -82,6 +78,31 @@ enum ClassGraphClassScanner implements ClassScanner {
 
     }
 
+    /**
+     * Returns the scan of the whole classpath, run once.
+     *
+     * @return the scanner
+     */
+    static ClassGraphClassScanner classpath() {
+        return ClasspathHolder.SCANNER;
+    }
+
+    /**
+     * Scans the given packages of the classpath elements, jars or directories, that do not contain the given resource;
+     * used to scan the elements that the class index does not cover. Only the class and annotation information is read.
+     *
+     * @param resource the resource path, such as {@link IndexClassScanner#INDEX}
+     * @param packages the packages to scan
+     * @return the scanner
+     */
+    static ClassGraphClassScanner excluding(String resource, String... packages) {
+        return new ClassGraphClassScanner(new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .acceptPackages(packages)
+                .rejectClasspathElementsContainingResourcePath(resource));
+    }
+
     @Override
     public Set<Class<?>> entities() {
         return unmodifiableSet(entities);
@@ -97,33 +118,9 @@ enum ClassGraphClassScanner implements ClassScanner {
         return unmodifiableSet(embeddables);
     }
 
-    /**
-     * Returns auto-apply attribute converter classes discovered by the scanner.
-     *
-     * @return the auto-apply converter classes
-     */
-    Set<Class<? extends AttributeConverter<?, ?>>> autoApplyConverters() {
-        return unmodifiableSet(autoApplyConverters);
-    }
-
-    @Override
-    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        Objects.requireNonNull(filter, "filter is required");
-        return repositories.stream().filter(filter::isAssignableFrom)
-                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
-                .collect(toUnmodifiableSet());
-    }
-
     @Override
-    public Set<Class<?>> repositoriesStandard() {
-        return repositories.stream()
-                .filter(c -> {
-                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
-                    return interfaces.contains(CrudRepository.class)
-                            || interfaces.contains(BasicRepository.class)
-                            || interfaces.contains(NoSQLRepository.class)
-                            || interfaces.contains(DataRepository.class);
-                }).collect(toUnmodifiableSet());
+    public Set<Class<? extends AttributeConverter<?, ?>>> autoApplyConverters() {
+        return unmodifiableSet(autoApplyConverters);
     }
 
     @Override
@@ -190,4 +187,12 @@ enum ClassGraphClassScanner implements ClassScanner {
                 .filter(c -> c.getAnnotation(Converter.class).autoApply())
                 .toList();
     }
+
+    private static final class ClasspathHolder {
+
+        private static final ClassGraphClassScanner SCANNER = new ClassGraphClassScanner(new ClassGraph().enableAllInfo());
+
+        private ClasspathHolder() {
+        }
+    }
 }
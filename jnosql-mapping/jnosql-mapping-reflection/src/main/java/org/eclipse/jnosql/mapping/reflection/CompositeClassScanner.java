@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.nosql.AttributeConverter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Joins the classes found by several scanners, such as the class index of the indexed jars and the scan of the
+ * classpath elements that have no index.
+ */
+final class CompositeClassScanner implements MappingClassScanner {
+
+    private final Set<Class<?>> entities;
+    private final Set<Class<?>> repositories;
+    private final Set<Class<?>> embeddables;
+    private final Set<Class<?>> customRepositories;
+    private final Set<Class<?>> projections;
+    private final Set<Class<? extends AttributeConverter<?, ?>>> autoApplyConverters;
+
+    CompositeClassScanner(List<? extends MappingClassScanner> scanners) {
+        this.entities = join(scanners, MappingClassScanner::entities);
+        this.repositories = join(scanners, MappingClassScanner::repositories);
+        this.embeddables = join(scanners, MappingClassScanner::embeddables);
+        this.customRepositories = join(scanners, MappingClassScanner::customRepositories);
+        this.projections = join(scanners, MappingClassScanner::projections);
+        this.autoApplyConverters = join(scanners, MappingClassScanner::autoApplyConverters);
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return entities;
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return repositories;
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return embeddables;
+    }
+
+    @Override
+    public Set<Class<? extends AttributeConverter<?, ?>>> autoApplyConverters() {
+        return autoApplyConverters;
+    }
+
+    @Override
+    public Set<Class<?>> customRepositories() {
+        return customRepositories;
+    }
+
+    @Override
+    public Set<Class<?>> projections() {
+        return projections;
+    }
+
+    private static <T> Set<T> join(List<? extends MappingClassScanner> scanners,
+                                   Function<MappingClassScanner, Set<T>> classes) {
+        Set<T> joined = new HashSet<>();
+        scanners.forEach(scanner -> joined.addAll(classes.apply(scanner)));
+        return unmodifiableSet(joined);
+    }
+}
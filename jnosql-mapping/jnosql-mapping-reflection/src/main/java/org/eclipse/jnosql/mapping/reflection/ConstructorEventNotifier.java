@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.CDI;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fires the {@link ConstructorEvent} of the instances created by a constructor with parameters.
+ * The CDI extension of each container reports, once its deployment is validated, whether one of its observer methods
+ * might receive a {@link ConstructorEvent}; the {@link Event} is resolved then and kept by {@link BeanManager}.
+ * While a single container is running, building an entity does not touch the container unless it has such an observer;
+ * with several containers, the one of the current thread is resolved through {@link CDI#current()}.
+ */
+public enum ConstructorEventNotifier {
+
+    INSTANCE;
+
+    private final Map<BeanManager, Container> containers = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether an observer method of the given observed type might receive a {@link ConstructorEvent}.
+     *
+     * @param observedType the observed type
+     * @return true when the observer might receive the event
+     */
+    public static boolean receives(Type observedType) {
+        if (observedType instanceof Class<?> type) {
+            return type.isAssignableFrom(ConstructorEvent.class);
+        }
+        if (observedType instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> type) {
+            return type.isAssignableFrom(ConstructorEvent.class);
+        }
+        return true;
+    }
+
+    /**
+     * Registers a container once its deployment is validated, resolving the event when it has an observer.
+     *
+     * @param beanManager the bean manager of the container
+     * @param observed    whether an observer method of the container might receive a {@link ConstructorEvent}
+     */
+    public void start(BeanManager beanManager, boolean observed) {
+        Event<ConstructorEvent> event = observed ? beanManager.getEvent().select(ConstructorEvent.class) : null;
+        this.containers.put(beanManager, new Container(event));
+    }
+
+    /**
+     * Forgets a container, called when it shuts down.
+     *
+     * @param beanManager the bean manager of the container
+     */
+    public void stop(BeanManager beanManager) {
+        this.containers.remove(beanManager);
+    }
+
+    /**
+     * Fires the event when the current container has an observer.
+     *
+     * @param constructor the constructor
+     * @param params      the parameters
+     */
+    void fire(Constructor<?> constructor, Object[] params) {
+        Event<ConstructorEvent> event = event();
+        if (event != null) {
+            event.fire(ConstructorEvent.of(constructor, params));
+        }
+    }
+
+    private Event<ConstructorEvent> event() {
+        Iterator<Container> iterator = this.containers.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Container container = iterator.next();
+        if (!iterator.hasNext()) {
+            return container.event();
+        }
+        BeanManager beanManager = CDI.current().getBeanManager();
+        Container current = this.containers.get(beanManager);
+        return current == null ? beanManager.getEvent().select(ConstructorEvent.class) : current.event();
+    }
+
+    private record Container(Event<ConstructorEvent> event) {
+    }
+}
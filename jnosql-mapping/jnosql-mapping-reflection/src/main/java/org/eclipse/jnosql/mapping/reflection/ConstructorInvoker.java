@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates instances through a constructor with parameters, such as the canonical constructor of a record.
+ * The {@link MethodHandle} of the constructor and the default value of each parameter are resolved once, when the
+ * entity or projection metadata is built; thus, each row pays only for the call. When the handle cannot be created,
+ * for example because the package is not open to Eclipse JNoSQL, it falls back to {@link Constructor#newInstance}.
+ * Like the reflection, any failure of the constructor is reported as a {@link MappingException}.
+ */
+final class ConstructorInvoker {
+
+    private static final Logger LOGGER = Logger.getLogger(ConstructorInvoker.class.getName());
+
+    private final Constructor<?> constructor;
+
+    private final MethodHandle handle;
+
+    private final Object[] defaults;
+
+    private ConstructorInvoker(Constructor<?> constructor, MethodHandle handle, Object[] defaults) {
+        this.constructor = constructor;
+        this.handle = handle;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Returns the value of a parameter without value: zero or {@code false} for the primitive types,
+     * {@code null} otherwise.
+     *
+     * @param index the parameter position
+     * @return the default value
+     */
+    Object defaultValue(int index) {
+        return defaults[index];
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param params the values of every parameter
+     * @param <T>    the instance type
+     * @return the new instance
+     * @throws MappingException when the constructor fails
+     */
+    @SuppressWarnings("unchecked")
+    <T> T newInstance(Object[] params) {
+        if (handle == null) {
+            try {
+                return (T) constructor.newInstance(params);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw failure(exception);
+            }
+        }
+        try {
+            return (T) handle.invokeExact(params);
+        } catch (VirtualMachineError error) {
+            throw error;
+        } catch (Throwable throwable) {
+            throw failure(throwable);
+        }
+    }
+
+    private MappingException failure(Throwable cause) {
+        return new MappingException("There is an issue to create a new instance of this class" +
+                " using this constructor: " + constructor, cause);
+    }
+
+    /**
+     * Resolves the invoker of the constructor.
+     *
+     * @param constructor the constructor
+     * @return the invoker
+     */
+    static ConstructorInvoker of(Constructor<?> constructor) {
+        Class<?>[] types = constructor.getParameterTypes();
+        Object[] defaults = new Object[types.length];
+        for (int index = 0; index < types.length; index++) {
+            defaults[index] = types[index].isPrimitive() ? Array.get(Array.newInstance(types[index], 1), 0) : null;
+        }
+        return new ConstructorInvoker(constructor, handle(constructor), defaults);
+    }
+
+    private static MethodHandle handle(Constructor<?> constructor) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(constructor.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectConstructor(constructor).asFixedArity()
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to create instances from " + constructor, exception);
+            return null;
+        }
+    }
+}
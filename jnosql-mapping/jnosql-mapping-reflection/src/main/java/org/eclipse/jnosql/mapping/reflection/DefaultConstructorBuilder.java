@@ -14,17 +14,10 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
-import jakarta.data.exceptions.MappingException;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.spi.CDI;
-import jakarta.enterprise.util.TypeLiteral;
 import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -52,34 +45,15 @@ final class DefaultConstructorBuilder implements ConstructorBuilder {
 
     @Override
     public void addEmptyParameter() {
-        Constructor<?> constructor = ((DefaultConstructorMetadata) this.metadata).constructor();
-        Class<?> type = constructor.getParameterTypes()[this.values.size()];
-        if(boolean.class.equals(type)) {
-           this.values.add(Boolean.FALSE);
-        } else if(char.class.equals(type)) {
-            this.values.add((char) 0);
-        } else if(type.isPrimitive()) {
-            this.values.add((byte) 0);
-        } else {
-            this.values.add(null);
-        }
+        this.values.add(((DefaultConstructorMetadata) this.metadata).invoker().defaultValue(this.values.size()));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T> T build() {
-        Constructor<?> constructor = ((DefaultConstructorMetadata) metadata).constructor();
-
-        try {
-            Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
-            });
-            Event<ConstructorEvent> event = instance.get();
-            event.fire(ConstructorEvent.of(constructor, values.toArray()));
-            return (T) constructor.newInstance(values.toArray());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new MappingException("There is an issue to create a new instance of this class" +
-                    " using this constructor: " + constructor, e);
-        }
+        DefaultConstructorMetadata constructor = (DefaultConstructorMetadata) metadata;
+        Object[] params = values.toArray();
+        ConstructorEventNotifier.INSTANCE.fire(constructor.constructor(), params);
+        return constructor.invoker().newInstance(params);
     }
 
     @Override
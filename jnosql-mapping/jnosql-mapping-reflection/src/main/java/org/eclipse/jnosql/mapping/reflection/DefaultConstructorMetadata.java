@@ -19,12 +19,45 @@ import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
 import java.lang.reflect.Constructor;
 import java.util.List;
+import java.util.Objects;
+
+/**
+ * The constructor of an entity, the {@link ConstructorInvoker} is resolved with it and is not part of the equality.
+ */
 record DefaultConstructorMetadata(Constructor<?> constructor,
-                                  List<ParameterMetaData> parameters) implements ConstructorMetadata {
+                                  List<ParameterMetaData> parameters,
+                                  ConstructorInvoker invoker) implements ConstructorMetadata {
+
+    DefaultConstructorMetadata(Constructor<?> constructor, List<ParameterMetaData> parameters) {
+        this(constructor, parameters, ConstructorInvoker.of(constructor));
+    }
 
     @Override
     public boolean isDefault() {
         return parameters.isEmpty();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultConstructorMetadata that)) {
+            return false;
+        }
+        return Objects.equals(constructor, that.constructor) && Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(constructor, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultConstructorMetadata{" +
+                "constructor=" + constructor +
+                ", parameters=" + parameters +
+                '}';
+    }
 }
@@ -25,6 +25,7 @@ import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.InheritanceGroup;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.metadata.ProjectionMetadata;
 
@@ -35,11 +36,11 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * The default implementation of {@link EntityMetadata}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ConcurrentHashMap}, and the {@link InheritanceGroup} of each parent
+ * is built on its first lookup and kept until a new entity of that parent is loaded.
  */
 @ApplicationScoped
 class DefaultEntitiesMetadata implements EntitiesMetadata {
@@ -57,6 +58,8 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     private final  Map<String, EntityMetadata> findByMappingName;
 
+    private final Map<Class<?>, InheritanceGroup> inheritances;
+
     private final ClassConverter converter;
 
     @Inject
@@ -73,6 +76,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         this.converter = new ReflectionClassConverter();
         this.projections = new ConcurrentHashMap<>();
         this.findByMappingName = new ConcurrentHashMap<>();
+        this.inheritances = new ConcurrentHashMap<>();
     }
 
     /**
@@ -106,16 +110,26 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     @Override
     public EntityMetadata get(Class<?> entity) {
-        return classes.computeIfAbsent(entity, this::load);
+        EntityMetadata metadata = classes.get(entity);
+        if (metadata != null) {
+            return metadata;
+        }
+        metadata = classes.computeIfAbsent(entity, this::load);
+        metadata.inheritance().ifPresent(inheritance -> inheritances.remove(inheritance.parent()));
+        return metadata;
     }
 
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
+        return inheritanceGroup(parent).entities();
+    }
+
+    @Override
+    public InheritanceGroup inheritanceGroup(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
-        return this.classes.values().stream()
+        return this.inheritances.computeIfAbsent(parent, key -> InheritanceGroup.of(key, this.classes.values().stream()
                 .flatMap(c -> c.inheritance().stream())
-                .filter(p -> p.isParent(parent))
-                .collect(Collectors.toMap(InheritanceMetadata::discriminatorValue, Function.identity()));
+                .toList()));
     }
 
     @Override
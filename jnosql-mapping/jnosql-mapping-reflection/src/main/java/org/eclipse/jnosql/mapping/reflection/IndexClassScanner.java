@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.DataRepository;
+import jakarta.nosql.AttributeConverter;
+import jakarta.nosql.Converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * A scanner that reads the class index written at build time by the
+ * {@code org.eclipse.jnosql.mapping.processor.ClassIndexProcessor} annotation processor, instead of
+ * scanning the jars and directories that ship it; the other classpath elements are still scanned. The index is a properties file, at {@link #INDEX}, where the key
+ * is the binary class name and the value is a comma separated list of kinds. Every index found on
+ * the classpath is merged, so each jar can ship its own.
+ * <p>
+ * The same rules of {@link ClassGraphClassScanner} apply to the indexed classes: repositories go through
+ * {@link RepositoryFilter}, projections must be records and converters must be auto-apply
+ * {@link AttributeConverter} implementations.
+ */
+final class IndexClassScanner implements MappingClassScanner {
+
+    /**
+     * The location of the class index on the classpath.
+     */
+    static final String INDEX = "META-INF/jnosql/class-index.properties";
+
+    private static final Logger LOGGER = Logger.getLogger(IndexClassScanner.class.getName());
+
+    private static final String ENTITY = "entity";
+    private static final String EMBEDDABLE = "embeddable";
+    private static final String REPOSITORY = "repository";
+    private static final String PROJECTION = "projection";
+    private static final String CONVERTER = "converter";
+
+    private final Set<Class<?>> entities = new HashSet<>();
+    private final Set<Class<?>> repositories = new HashSet<>();
+    private final Set<Class<?>> embeddables = new HashSet<>();
+    private final Set<Class<?>> customRepositories = new HashSet<>();
+    private final Set<Class<?>> projections = new HashSet<>();
+    private final Set<Class<? extends AttributeConverter<?, ?>>> autoApplyConverters = new HashSet<>();
+
+    private IndexClassScanner(Map<String, Set<String>> index, ClassLoader loader) {
+        List<Class<?>> notSupportedRepositories = new ArrayList<>();
+        index.forEach((name, kinds) -> load(name, loader).ifPresent(type -> {
+            if (kinds.contains(ENTITY)) {
+                entities.add(type);
+            }
+            if (kinds.contains(EMBEDDABLE)) {
+                embeddables.add(type);
+            }
+            if (kinds.contains(PROJECTION) && type.isRecord()) {
+                projections.add(type);
+            }
+            if (kinds.contains(CONVERTER)) {
+                autoApplyConverter(type).ifPresent(autoApplyConverters::add);
+            }
+            if (kinds.contains(REPOSITORY) && type.isInterface()) {
+                boolean supported = RepositoryFilter.INSTANCE.test(type);
+                if (DataRepository.class.isAssignableFrom(type)) {
+                    if (supported) {
+                        repositories.add(type);
+                    } else {
+                        notSupportedRepositories.add(type);
+                    }
+                } else if (supported) {
+                    customRepositories.add(type);
+                }
+            }
+        }));
+        if (!notSupportedRepositories.isEmpty()) {
+            LOGGER.info("The following repositories are not supported: " + notSupportedRepositories);
+        }
+        LOGGER.fine(() -> String.format("Finished reading the class index with entities %d, embeddables %d and repositories: %d and projections: %d",
+                entities.size(), embeddables.size(), repositories.size(), projections.size()));
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return unmodifiableSet(entities);
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return unmodifiableSet(repositories);
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return unmodifiableSet(embeddables);
+    }
+
+    @Override
+    public Set<Class<? extends AttributeConverter<?, ?>>> autoApplyConverters() {
+        return unmodifiableSet(autoApplyConverters);
+    }
+
+    @Override
+    public Set<Class<?>> customRepositories() {
+        return unmodifiableSet(customRepositories);
+    }
+
+    @Override
+    public Set<Class<?>> projections() {
+        return unmodifiableSet(projections);
+    }
+
+    /**
+     * Reads every class index found at {@link #INDEX}.
+     *
+     * @param loader the class loader used to find the index and load its classes
+     * @return the scanner or {@link Optional#empty()} when there is no index on the classpath
+     */
+    static Optional<IndexClassScanner> load(ClassLoader loader) {
+        return load(loader, INDEX);
+    }
+
+    static Optional<IndexClassScanner> load(ClassLoader loader, String location) {
+        Map<String, Set<String>> index = read(loader, location);
+        if (index.isEmpty()) {
+            return Optional.empty();
+        }
+        LOGGER.fine(() -> "Using the class index at " + location + " with " + index.size() + " classes");
+        return Optional.of(new IndexClassScanner(index, loader));
+    }
+
+    private static Map<String, Set<String>> read(ClassLoader loader, String location) {
+        Map<String, Set<String>> index = new TreeMap<>();
+        try {
+            for (URL url : Collections.list(loader.getResources(location))) {
+                Properties properties = new Properties();
+                try (InputStream stream = url.openStream()) {
+                    properties.load(stream);
+                }
+                for (String name : properties.stringPropertyNames()) {
+                    Set<String> kinds = index.computeIfAbsent(name, k -> new HashSet<>());
+                    for (String kind : properties.getProperty(name).split(",")) {
+                        kinds.add(kind.trim());
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to read the class index at " + location, exception);
+        }
+        return index;
+    }
+
+    private static Optional<Class<?>> load(String name, ClassLoader loader) {
+        try {
+            return Optional.of(Class.forName(name, false, loader));
+        } catch (ClassNotFoundException | LinkageError exception) {
+            LOGGER.log(Level.WARNING, "The class " + name + " is in the class index but it could not be loaded, it will be ignored",
+                    exception);
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Class<? extends AttributeConverter<?, ?>>> autoApplyConverter(Class<?> type) {
+        Converter converter = type.getAnnotation(Converter.class);
+        if (AttributeConverter.class.isAssignableFrom(type) && converter != null && converter.autoApply()) {
+            return Optional.of((Class<? extends AttributeConverter<?, ?>>) type);
+        }
+        return Optional.empty();
+    }
+}
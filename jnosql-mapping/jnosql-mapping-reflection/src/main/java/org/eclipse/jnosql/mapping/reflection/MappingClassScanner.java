@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.DataRepository;
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * The {@link ClassScanner} contract shared by the reflection scanners, either the build-time class index
+ * or the classpath scan. Besides the mapped classes, it also exposes the auto-apply attribute converters.
+ */
+interface MappingClassScanner extends ClassScanner {
+
+    /**
+     * Returns auto-apply attribute converter classes discovered by the scanner.
+     *
+     * @return the auto-apply converter classes
+     */
+    Set<Class<? extends AttributeConverter<?, ?>>> autoApplyConverters();
+
+    @Override
+    default <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        return repositories().stream().filter(filter::isAssignableFrom)
+                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
+                .collect(toUnmodifiableSet());
+    }
+
+    @Override
+    default Set<Class<?>> repositoriesStandard() {
+        return repositories().stream()
+                .filter(c -> {
+                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
+                    return interfaces.contains(CrudRepository.class)
+                            || interfaces.contains(BasicRepository.class)
+                            || interfaces.contains(NoSQLRepository.class)
+                            || interfaces.contains(DataRepository.class);
+                }).collect(toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Builds the {@link FieldReader}, {@link FieldWriter} and {@link InstanceSupplier} of an entity from
+ * {@link MethodHandle}s resolved once through {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)},
+ * and, for the no-arg constructor, from a {@link LambdaMetafactory} generated class. It avoids the
+ * {@link Field#get(Object)}/{@link Field#set(Object, Object)} access checks on every read and write.
+ * <p>
+ * When a handle cannot be created, for example because the package is not open to Eclipse JNoSQL
+ * or the field is final, it falls back to the {@link Reflections} based access.
+ * The failure semantic is the same of the reflection: a read that fails returns {@code null}
+ * and a write that fails is ignored.
+ */
+final class MethodHandleAccessors {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleAccessors.class.getName());
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Reflections reflections;
+
+    MethodHandleAccessors(Reflections reflections) {
+        this.reflections = reflections;
+    }
+
+    /**
+     * Creates the reader of the field.
+     *
+     * @param field the field
+     * @return the {@link FieldReader} backed by a method handle or, as fallback, by reflection
+     */
+    FieldReader reader(Field field) {
+        try {
+            MethodHandle getter = lookup(field.getDeclaringClass()).unreflectGetter(field).asType(READER_TYPE);
+            return bean -> read(getter, bean);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to read the field " + field, exception);
+            return bean -> reflections.getValue(bean, field);
+        }
+    }
+
+    /**
+     * Creates the writer of the field.
+     *
+     * @param field the field
+     * @return the {@link FieldWriter} backed by a method handle or, as fallback, by reflection
+     */
+    FieldWriter writer(Field field) {
+        try {
+            MethodHandle setter = lookup(field.getDeclaringClass()).unreflectSetter(field).asType(WRITER_TYPE);
+            return (bean, value) -> write(setter, bean, value);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to write the field " + field, exception);
+            return (bean, value) -> reflections.setValue(bean, field, value);
+        }
+    }
+
+    /**
+     * Creates the instance supplier from the no-arg constructor.
+     *
+     * @param constructor the no-arg constructor
+     * @return the {@link InstanceSupplier} generated by {@link LambdaMetafactory} or, as fallback, by reflection
+     */
+    InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+        if (constructor.getParameterCount() > 0) {
+            return () -> Reflections.newInstance(constructor);
+        }
+        try {
+            Class<?> type = constructor.getDeclaringClass();
+            MethodHandles.Lookup lookup = lookup(type);
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(InstanceSupplier.class),
+                    MethodType.methodType(Object.class),
+                    handle, MethodType.methodType(type));
+            InstanceSupplier supplier = (InstanceSupplier) site.getTarget().invoke();
+            return () -> create(supplier, constructor);
+        } catch (VirtualMachineError error) {
+            throw error;
+        } catch (Throwable throwable) {
+            LOGGER.log(Level.FINEST, "Using reflection to create instances from " + constructor, throwable);
+            return () -> Reflections.newInstance(constructor);
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+
+    private static Object read(MethodHandle getter, Object bean) {
+        try {
+            return getter.invokeExact(bean);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with returning value from this field.", exception);
+            return null;
+        } catch (Throwable throwable) {
+            throw propagate(throwable);
+        }
+    }
+
+    private static void write(MethodHandle setter, Object bean, Object value) {
+        try {
+            setter.invokeExact(bean, value);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+        } catch (Throwable throwable) {
+            throw propagate(throwable);
+        }
+    }
+
+    private static Object create(InstanceSupplier supplier, Constructor<?> constructor) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "There is an issue to creating an entity from this constructor " + constructor,
+                    exception);
+            return null;
+        }
+    }
+
+    private static RuntimeException propagate(Throwable throwable) {
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(throwable);
+    }
+}
@@ -45,6 +45,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
     private final Reflections reflections;
     private final ConstructorMetadataBuilder constructorMetadataBuilder;
+    private final MethodHandleAccessors accessors;
 
     /**
      * Creates a reflection class converter.
@@ -52,6 +53,7 @@ public final class ReflectionClassConverter implements ClassConverter {
     public ReflectionClassConverter() {
         this.reflections = new Reflections();
         this.constructorMetadataBuilder = new ConstructorMetadataBuilder();
+        this.accessors = new MethodHandleAccessors(reflections);
     }
 
 
@@ -76,7 +78,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
 
         Constructor<?> constructor = Reflections.getConstructor(entity);
-        InstanceSupplier instanceSupplier = () -> Reflections.newInstance(constructor);
+        InstanceSupplier instanceSupplier = accessors.instanceSupplier(constructor);
         InheritanceMetadata inheritance = reflections.getInheritance(entity).orElse(null);
         boolean hasInheritanceAnnotation = reflections.hasInheritanceAnnotation(entity);
 
@@ -192,8 +194,8 @@ public final class ReflectionClassConverter implements ClassConverter {
                 .type(mappingType)
                 .id(id)
                 .udt(udt)
-                .reader(bean -> reflections.getValue(bean, field))
-                .writer((bean, value) -> reflections.setValue(bean, field, value));
+                .reader(accessors.reader(field))
+                .writer(accessors.writer(field));
 
        builder.converter(applyConverters.converter(convert, type));
         switch (mappingType) {
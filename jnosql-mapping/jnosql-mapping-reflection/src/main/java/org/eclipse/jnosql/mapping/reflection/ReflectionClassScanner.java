@@ -17,46 +17,105 @@ package org.eclipse.jnosql.mapping.reflection;
 import jakarta.data.repository.DataRepository;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 /**
- * A class that implements the {@link ClassScanner} interface using the ClassGraph library for class scanning.
+ * A class that implements the {@link ClassScanner} interface using reflection.
  * This class provides methods to scan for different types of classes such as entities, repositories, and embeddables.
+ * It reads the build-time class index of the jars and directories that have one, see {@link IndexClassScanner}.
+ * When there is no index at all, it scans the whole classpath with the ClassGraph library. Otherwise, the classpath
+ * elements without an index are only scanned for the packages listed in the {@value #PACKAGES} system property,
+ * thus the startup does not pay for a scan of every third-party jar.
  */
 public final class ReflectionClassScanner implements ClassScanner {
 
+    /**
+     * The system property with the comma separated packages scanned in the classpath elements without a class index,
+     * such as {@code -Djnosql.scan.packages=com.example.model,com.example.repository}. It is only read when a class
+     * index exists; the classes of those elements are otherwise not found.
+     */
+    public static final String PACKAGES = "jnosql.scan.packages";
+
+    private static final Logger LOGGER = Logger.getLogger(ReflectionClassScanner.class.getName());
+
+    private static final Pattern COMMA = Pattern.compile(",");
+
     @Override
     public Set<Class<?>> entities() {
-        return ClassGraphClassScanner.INSTANCE.entities();
+        return scanner().entities();
     }
 
     @Override
     public Set<Class<?>> repositories() {
-        return ClassGraphClassScanner.INSTANCE.repositories();
+        return scanner().repositories();
     }
 
     @Override
     public Set<Class<?>> embeddables() {
-        return ClassGraphClassScanner.INSTANCE.embeddables();
+        return scanner().embeddables();
     }
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        return ClassGraphClassScanner.INSTANCE.repositories(filter);
+        return scanner().repositories(filter);
     }
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return ClassGraphClassScanner.INSTANCE.repositoriesStandard();
+        return scanner().repositoriesStandard();
     }
 
     @Override
     public Set<Class<?>> customRepositories() {
-        return  ClassGraphClassScanner.INSTANCE.customRepositories();
+        return  scanner().customRepositories();
     }
 
     @Override
     public Set<Class<?>> projections() {
-        return  ClassGraphClassScanner.INSTANCE.projections();
+        return  scanner().projections();
+    }
+
+    /**
+     * Returns the scanner in use: the class index, joined with the scan of the configured packages of the unindexed
+     * classpath elements, or the classpath scan when there is no index.
+     *
+     * @return the scanner
+     */
+    static MappingClassScanner scanner() {
+        return ScannerHolder.SCANNER;
+    }
+
+    private static final class ScannerHolder {
+
+        private static final MappingClassScanner SCANNER = load();
+
+        private ScannerHolder() {
+        }
+
+        private static MappingClassScanner load() {
+            ClassLoader loader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                    .orElseGet(ReflectionClassScanner.class::getClassLoader);
+            Optional<IndexClassScanner> index = IndexClassScanner.load(loader);
+            if (index.isEmpty()) {
+                return ClassGraphClassScanner.classpath();
+            }
+            String[] packages = packages(System.getProperty(PACKAGES));
+            if (packages.length == 0) {
+                LOGGER.fine(() -> "Using the class index only, set " + PACKAGES + " to scan the classpath elements without it");
+                return index.get();
+            }
+            return new CompositeClassScanner(List.of(index.get(), ClassGraphClassScanner.excluding(IndexClassScanner.INDEX, packages)));
+        }
+    }
+
+    static String[] packages(String value) {
+        if (value == null) {
+            return new String[0];
+        }
+        return COMMA.splitAsStream(value).map(String::trim).filter(name -> !name.isEmpty()).toArray(String[]::new);
     }
 }
@@ -14,17 +14,10 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
-import jakarta.data.exceptions.MappingException;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.spi.CDI;
-import jakarta.enterprise.util.TypeLiteral;
 import org.eclipse.jnosql.mapping.metadata.ProjectionBuilder;
 import org.eclipse.jnosql.mapping.metadata.ProjectionConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.ProjectionParameterMetadata;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -51,32 +44,14 @@ class ReflectionProjectionBuilder implements ProjectionBuilder {
 
     @Override
     public void addEmptyParameter() {
-        Constructor<?> constructor = ((ReflectionProjectionConstructorMetadata) this.metadata).constructor();
-        Class<?> type = constructor.getParameterTypes()[this.values.size()];
-        if(boolean.class.equals(type)) {
-            this.values.add(Boolean.FALSE);
-        } else if(char.class.equals(type)) {
-            this.values.add((char) 0);
-        } else if(type.isPrimitive()) {
-            this.values.add((byte) 0);
-        } else {
-            this.values.add(null);
-        }
+        this.values.add(((ReflectionProjectionConstructorMetadata) this.metadata).invoker().defaultValue(this.values.size()));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T> T build() {
-        Constructor<?> constructor = ((ReflectionProjectionConstructorMetadata) this.metadata).constructor();
-        try {
-            Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
-            });
-            Event<ConstructorEvent> event = instance.get();
-            event.fire(ConstructorEvent.of(constructor, values.toArray()));
-            return (T) constructor.newInstance(values.toArray());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new MappingException("There is an issue to create a new instance of this class" +
-                    " using this constructor: " + constructor, e);
-        }
+        var constructor = (ReflectionProjectionConstructorMetadata) this.metadata;
+        Object[] params = values.toArray();
+        ConstructorEventNotifier.INSTANCE.fire(constructor.constructor(), params);
+        return constructor.invoker().newInstance(params);
     }
 }
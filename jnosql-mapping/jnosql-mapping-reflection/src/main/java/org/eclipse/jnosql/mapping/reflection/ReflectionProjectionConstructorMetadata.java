@@ -20,6 +20,39 @@ import org.eclipse.jnosql.mapping.metadata.ProjectionParameterMetadata;
 
 import java.lang.reflect.Constructor;
 import java.util.List;
+import java.util.Objects;
 
-record ReflectionProjectionConstructorMetadata(List<ProjectionParameterMetadata> parameters, Constructor<?> constructor) implements ProjectionConstructorMetadata {
+/**
+ * The constructor of a projection, the {@link ConstructorInvoker} is resolved with it and is not part of the equality.
+ */
+record ReflectionProjectionConstructorMetadata(List<ProjectionParameterMetadata> parameters, Constructor<?> constructor,
+                                               ConstructorInvoker invoker) implements ProjectionConstructorMetadata {
+
+    ReflectionProjectionConstructorMetadata(List<ProjectionParameterMetadata> parameters, Constructor<?> constructor) {
+        this(parameters, constructor, ConstructorInvoker.of(constructor));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReflectionProjectionConstructorMetadata that)) {
+            return false;
+        }
+        return Objects.equals(parameters, that.parameters) && Objects.equals(constructor, that.constructor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parameters, constructor);
+    }
+
+    @Override
+    public String toString() {
+        return "ReflectionProjectionConstructorMetadata{" +
+                "parameters=" + parameters +
+                ", constructor=" + constructor +
+                '}';
+    }
 }
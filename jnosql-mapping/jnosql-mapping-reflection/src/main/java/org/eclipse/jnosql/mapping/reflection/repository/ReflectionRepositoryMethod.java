@@ -34,7 +34,8 @@ record ReflectionRepositoryMethod(String name,
                                   List<RepositoryParam> params,
                                   List<Sort<?>> sorts,
                                   List<String> select,
-                                  List<RepositoryAnnotation> annotations) implements RepositoryMethod {
+                                  List<RepositoryAnnotation> annotations,
+                                  Class<?> asyncTypeValue) implements RepositoryMethod {
     @Override
     public Optional<String> query() {
         return Optional.ofNullable(queryValue);
@@ -63,4 +64,9 @@ record ReflectionRepositoryMethod(String name,
         return Optional.ofNullable(findValue);
     }
 
+    @Override
+    public Optional<Class<?>> asyncType() {
+        return Optional.ofNullable(asyncTypeValue);
+    }
+
 }
@@ -35,6 +35,7 @@ import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethodType;
 import org.eclipse.jnosql.mapping.metadata.repository.RepositoryParam;
 import org.eclipse.jnosql.mapping.reflection.ProjectionFound;
 
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
@@ -49,7 +50,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
@@ -146,8 +151,11 @@ public enum ReflectionRepositorySupplier {
                 .map(First::value).orElse(null);
         Class<?> findValue = ofNullable(method.getAnnotation(Find.class))
                 .map(Find::value).orElse(null);
-        Class<?> returnTypeValue = method.getReturnType();
-        Class<?> elementTypeValue = getElementTypeValue(method);
+        Class<?> asyncTypeValue = getAsyncTypeValue(method);
+        Type resultType = asyncTypeValue == null ? method.getGenericReturnType() : getAsyncResultType(method);
+        Class<?> returnTypeValue = asyncTypeValue == null ? method.getReturnType() : getAsyncReturnTypeValue(asyncTypeValue, resultType);
+        Class<?> elementTypeValue = Flow.Publisher.class.equals(asyncTypeValue) ? getPublisherElementTypeValue(resultType)
+                : getElementTypeValue(resultType, returnTypeValue);
         if (projectionFoundEvent != null) {
             checkProjectionFound(returnTypeValue, projectionFoundEvent);
             checkProjectionFound(elementTypeValue, projectionFoundEvent);
@@ -179,7 +187,8 @@ public enum ReflectionRepositorySupplier {
                 params,
                 sorts,
                 select,
-                annotations);
+                annotations,
+                asyncTypeValue);
     }
 
     /**
@@ -196,20 +205,60 @@ public enum ReflectionRepositorySupplier {
 
     }
 
-    private static Class<?> getElementTypeValue(Method method) {
-        if (method.getGenericReturnType() instanceof ParameterizedType parameterizedType) {
+    private static Class<?> getElementTypeValue(Type genericReturnType, Class<?> returnType) {
+        if (genericReturnType instanceof ParameterizedType parameterizedType) {
             Type[] arguments = parameterizedType.getActualTypeArguments();
             if (arguments.length > 0 && arguments[0] instanceof Class<?>) {
                 return (Class<?>) arguments[0];
             }
         }
-        Class<?> returnType = method.getReturnType();
         if (returnType.isArray()) {
             return returnType.getComponentType();
         }
         return null;
     }
 
+    private static Class<?> getAsyncTypeValue(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (CompletionStage.class.equals(returnType) || CompletableFuture.class.equals(returnType)) {
+            return CompletionStage.class;
+        } else if (Flow.Publisher.class.equals(returnType)) {
+            return Flow.Publisher.class;
+        }
+        return null;
+    }
+
+    private static Type getAsyncResultType(Method method) {
+        if (method.getGenericReturnType() instanceof ParameterizedType parameterizedType) {
+            return parameterizedType.getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static Class<?> getAsyncReturnTypeValue(Class<?> asyncType, Type resultType) {
+        if (Flow.Publisher.class.equals(asyncType)) {
+            return Stream.class;
+        } else if (Void.class.equals(resultType)) {
+            return void.class;
+        } else if (resultType instanceof Class<?> type) {
+            return type;
+        } else if (resultType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> type) {
+            return type;
+        } else if (resultType instanceof GenericArrayType arrayType
+                && arrayType.getGenericComponentType() instanceof Class<?> component) {
+            return component.arrayType();
+        }
+        return Object.class;
+    }
+
+    private static Class<?> getPublisherElementTypeValue(Type resultType) {
+        if (resultType instanceof Class<?> type) {
+            return type;
+        }
+        return null;
+    }
+
     private List<Sort<?>> to(OrderBy[] orderBys) {
         List<Sort<?>> sorts = new ArrayList<>(orderBys.length);
         for (OrderBy orderBy : orderBys) {
@@ -19,8 +19,11 @@ package org.eclipse.jnosql.mapping.reflection.spi;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
 import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
 import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessObserverMethod;
 import jakarta.interceptor.Interceptor;
 import jakarta.nosql.Entity;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
@@ -28,8 +31,10 @@ import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.ProjectionMetadata;
+import org.eclipse.jnosql.mapping.reflection.ConstructorEventNotifier;
 import org.eclipse.jnosql.mapping.reflection.ProjectionConverter;
 
+import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -49,6 +54,42 @@ public class ReflectionEntityMetadataExtension implements Extension {
     private static final Map<String, EntityMetadata> ENTITY_METADATA_BY_ENTITY_NAME = new ConcurrentHashMap<>();
     private static final Map<Class<?>, ProjectionMetadata> PROJECTOR_METADATA_BY_CLASS = new ConcurrentHashMap<>();
 
+    private boolean constructorEventObserved;
+
+    /**
+     * Reports each observer method, thus the {@link org.eclipse.jnosql.mapping.reflection.ConstructorEvent} is only
+     * fired when it has an observer in this container.
+     *
+     * @param event the CDI process-observer-method event
+     */
+    public void processObserverMethod(@Observes ProcessObserverMethod<?, ?> event) {
+        Type observedType = event.getObserverMethod().getObservedType();
+        if (!constructorEventObserved && ConstructorEventNotifier.receives(observedType)) {
+            LOGGER.fine(() -> "Firing the constructor event, observed as " + observedType);
+            this.constructorEventObserved = true;
+        }
+    }
+
+    /**
+     * Registers the constructor event of this container once the deployment is valid.
+     *
+     * @param event the CDI after-deployment-validation event
+     * @param bm    the bean manager
+     */
+    public void afterDeploymentValidation(@Observes AfterDeploymentValidation event, BeanManager bm) {
+        ConstructorEventNotifier.INSTANCE.start(bm, constructorEventObserved);
+    }
+
+    /**
+     * Releases the constructor event of this container.
+     *
+     * @param event the CDI before-shutdown event
+     * @param bm    the bean manager
+     */
+    public void beforeShutdown(@Observes BeforeShutdown event, BeanManager bm) {
+        ConstructorEventNotifier.INSTANCE.stop(bm);
+    }
+
     /**
      * Registers reflection entity metadata beans after CDI bean discovery.
      *
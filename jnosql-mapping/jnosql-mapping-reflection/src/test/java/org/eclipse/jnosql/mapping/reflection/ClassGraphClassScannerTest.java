@@ -43,7 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class ClassGraphClassScannerTest {
 
-    private ClassGraphClassScanner classScanner = ClassGraphClassScanner.INSTANCE;
+    private ClassGraphClassScanner classScanner = ClassGraphClassScanner.classpath();
 
     @Test
     void shouldReturnEntities() {
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.reflection.RepositoryFilterTest.Persons;
+import org.eclipse.jnosql.mapping.reflection.entities.Garage;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CompositeClassScannerTest {
+
+    private static final String INDEX = "META-INF/jnosql/test-class-index.properties";
+
+    private static final String PACKAGE = "org.eclipse.jnosql.mapping.reflection";
+
+    @Test
+    void shouldScanTheElementsWithoutIndex() {
+        ClassGraphClassScanner scanner = ClassGraphClassScanner.excluding("META-INF/jnosql/not-found.properties", PACKAGE);
+
+        assertThat(scanner.entities()).contains(Person.class, Garage.class);
+    }
+
+    @Test
+    void shouldNotScanTheIndexedElements() {
+        ClassGraphClassScanner scanner = ClassGraphClassScanner.excluding(INDEX, PACKAGE);
+
+        assertThat(scanner.entities()).doesNotContain(Person.class, Garage.class);
+    }
+
+    @Test
+    void shouldScanOnlyTheGivenPackages() {
+        ClassGraphClassScanner scanner = ClassGraphClassScanner.excluding("META-INF/jnosql/not-found.properties",
+                PACKAGE + ".entities");
+
+        assertSoftly(softly -> {
+            softly.assertThat(scanner.entities()).contains(Person.class, Garage.class);
+            softly.assertThat(scanner.repositories()).contains(PersonRepository.class).doesNotContain(Persons.class);
+        });
+    }
+
+    @Test
+    void shouldReadThePackages() {
+        assertSoftly(softly -> {
+            softly.assertThat(ReflectionClassScanner.packages(null)).isEmpty();
+            softly.assertThat(ReflectionClassScanner.packages(" ,")).isEmpty();
+            softly.assertThat(ReflectionClassScanner.packages("com.example.model, com.example.repository"))
+                    .containsExactly("com.example.model", "com.example.repository");
+        });
+    }
+
+    @Test
+    void shouldJoinTheIndexAndTheScan() {
+        IndexClassScanner index = IndexClassScanner.load(getClass().getClassLoader(), INDEX).orElseThrow();
+        ClassGraphClassScanner classpath = ClassGraphClassScanner.classpath();
+
+        CompositeClassScanner scanner = new CompositeClassScanner(List.of(index, classpath));
+
+        assertSoftly(softly -> {
+            softly.assertThat(scanner.entities()).contains(Person.class, Garage.class)
+                    .hasSameSizeAs(classpath.entities());
+            softly.assertThat(scanner.embeddables()).contains(Job.class);
+            softly.assertThat(scanner.repositories()).contains(PersonRepository.class, Persons.class);
+        });
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.CDI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConstructorEventNotifierTest {
+
+    private BeanManager beanManager;
+
+    private Event<ConstructorEvent> event;
+
+    private BeanManager otherBeanManager;
+
+    private Event<ConstructorEvent> otherEvent;
+
+    private Constructor<?> constructor;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        this.beanManager = Mockito.mock(BeanManager.class);
+        this.event = mockEvent(beanManager);
+        this.otherBeanManager = Mockito.mock(BeanManager.class);
+        this.otherEvent = mockEvent(otherBeanManager);
+        this.constructor = ConstructorEventNotifierTest.class.getDeclaredConstructor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ConstructorEventNotifier.INSTANCE.stop(beanManager);
+        ConstructorEventNotifier.INSTANCE.stop(otherBeanManager);
+    }
+
+    @Test
+    void shouldReceiveConstructorEvent() throws NoSuchFieldException {
+        Type type = Holder.class.getDeclaredField("values").getGenericType();
+
+        assertThat(ConstructorEventNotifier.receives(ConstructorEvent.class)).isTrue();
+        assertThat(ConstructorEventNotifier.receives(Object.class)).isTrue();
+        assertThat(ConstructorEventNotifier.receives(String.class)).isFalse();
+        assertThat(ConstructorEventNotifier.receives(type)).isFalse();
+    }
+
+    @Test
+    void shouldNotFireWithoutObserver() {
+        ConstructorEventNotifier.INSTANCE.start(beanManager, false);
+
+        ConstructorEventNotifier.INSTANCE.fire(constructor, new Object[0]);
+
+        verify(beanManager, never()).getEvent();
+        verify(event, never()).fire(any());
+    }
+
+    @Test
+    void shouldFireWhenObserved() {
+        ConstructorEventNotifier.INSTANCE.start(beanManager, true);
+
+        ConstructorEventNotifier.INSTANCE.fire(constructor, new Object[0]);
+
+        verify(event).fire(ConstructorEvent.of(constructor, new Object[0]));
+    }
+
+    @Test
+    void shouldNotFireWithoutContainer() {
+        ConstructorEventNotifier.INSTANCE.fire(constructor, new Object[0]);
+
+        verify(beanManager, never()).getEvent();
+        verify(event, never()).fire(any());
+    }
+
+    @Test
+    void shouldNotFireAfterStop() {
+        ConstructorEventNotifier.INSTANCE.start(beanManager, true);
+        ConstructorEventNotifier.INSTANCE.stop(beanManager);
+
+        ConstructorEventNotifier.INSTANCE.fire(constructor, new Object[0]);
+
+        verify(event, never()).fire(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFireOnTheCurrentContainer() {
+        ConstructorEventNotifier.INSTANCE.start(beanManager, true);
+        ConstructorEventNotifier.INSTANCE.start(otherBeanManager, false);
+
+        try (MockedStatic<CDI> cdiMock = mockStatic(CDI.class)) {
+            CDI<Object> cdi = mock(CDI.class);
+            cdiMock.when(CDI::current).thenReturn(cdi);
+            when(cdi.getBeanManager()).thenReturn(otherBeanManager);
+
+            ConstructorEventNotifier.INSTANCE.fire(constructor, new Object[0]);
+            verify(event, never()).fire(any());
+            verify(otherEvent, never()).fire(any());
+
+            when(cdi.getBeanManager()).thenReturn(beanManager);
+            ConstructorEventNotifier.INSTANCE.fire(constructor, new Object[0]);
+            verify(event).fire(ConstructorEvent.of(constructor, new Object[0]));
+        }
+    }
+
+    @Test
+    void shouldKeepTheOtherContainerWhenOneStops() {
+        ConstructorEventNotifier.INSTANCE.start(beanManager, false);
+        ConstructorEventNotifier.INSTANCE.start(otherBeanManager, true);
+        ConstructorEventNotifier.INSTANCE.stop(beanManager);
+
+        ConstructorEventNotifier.INSTANCE.fire(constructor, new Object[0]);
+
+        verify(otherEvent).fire(ConstructorEvent.of(constructor, new Object[0]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<ConstructorEvent> mockEvent(BeanManager beanManager) {
+        Event<Object> events = Mockito.mock(Event.class);
+        Event<ConstructorEvent> event = Mockito.mock(Event.class);
+        when(beanManager.getEvent()).thenReturn(events);
+        when(events.select(ConstructorEvent.class)).thenReturn(event);
+        return event;
+    }
+
+    private static final class Holder {
+
+        private List<String> values;
+    }
+}
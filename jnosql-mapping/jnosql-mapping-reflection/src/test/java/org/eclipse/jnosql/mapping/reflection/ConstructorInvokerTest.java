@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Counter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ConstructorInvokerTest {
+
+    @Test
+    void shouldResolvePrimitiveDefaults() {
+        ConstructorInvoker invoker = ConstructorInvoker.of(Counter.class.getDeclaredConstructors()[0]);
+
+        assertSoftly(soft -> {
+            soft.assertThat(invoker.defaultValue(0)).isEqualTo(0);
+            soft.assertThat(invoker.defaultValue(1)).isEqualTo(false);
+            soft.assertThat(invoker.defaultValue(2)).isEqualTo(0D);
+            soft.assertThat(invoker.defaultValue(3)).isEqualTo((char) 0);
+        });
+    }
+
+    @Test
+    void shouldResolveNullToObjects() throws NoSuchMethodException {
+        ConstructorInvoker invoker = ConstructorInvoker.of(Sample.class.getDeclaredConstructor(String.class, long.class));
+
+        assertThat(invoker.defaultValue(0)).isNull();
+        assertThat(invoker.defaultValue(1)).isEqualTo(0L);
+    }
+
+    @Test
+    void shouldCreateInstance() throws NoSuchMethodException {
+        ConstructorInvoker invoker = ConstructorInvoker.of(Sample.class.getDeclaredConstructor(String.class, long.class));
+
+        Sample sample = invoker.newInstance(new Object[]{"Ada", 36L});
+
+        assertSoftly(soft -> {
+            soft.assertThat(sample.name()).isEqualTo("Ada");
+            soft.assertThat(sample.age()).isEqualTo(36L);
+        });
+    }
+
+    @Test
+    void shouldCreateInstanceFromPrivateConstructor() throws NoSuchMethodException {
+        Constructor<Hidden> constructor = Hidden.class.getDeclaredConstructor(String.class);
+        ConstructorInvoker invoker = ConstructorInvoker.of(constructor);
+
+        Hidden hidden = invoker.newInstance(new Object[]{"value"});
+
+        assertThat(hidden.value).isEqualTo("value");
+    }
+
+    @Test
+    void shouldWrapConstructorFailure() throws NoSuchMethodException {
+        ConstructorInvoker invoker = ConstructorInvoker.of(Sample.class.getDeclaredConstructor(String.class, long.class));
+
+        assertThatThrownBy(() -> invoker.newInstance(new Object[]{null, 1L}))
+                .isInstanceOf(MappingException.class)
+                .hasRootCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldWrapWrongParameters() throws NoSuchMethodException {
+        ConstructorInvoker invoker = ConstructorInvoker.of(Sample.class.getDeclaredConstructor(String.class, long.class));
+
+        assertThatThrownBy(() -> invoker.newInstance(new Object[]{"Ada", "36"}))
+                .isInstanceOf(MappingException.class);
+    }
+
+    record Sample(String name, long age) {
+
+        Sample {
+            Objects.requireNonNull(name, "name is required");
+        }
+    }
+
+    static final class Hidden {
+
+        private final String value;
+
+        private Hidden(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import jakarta.inject.Inject;
 import jakarta.nosql.Convert;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.InheritanceGroup;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.metadata.ProjectionMetadata;
 import org.eclipse.jnosql.mapping.reflection.entities.BookDTO;
@@ -144,6 +145,42 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(group.get("Project"));
     }
 
+    @Test
+    void shouldReturnInheritanceGroup() {
+        InheritanceGroup group = this.mappings.inheritanceGroup(Project.class);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(group.parent()).isEqualTo(Project.class);
+            softly.assertThat(group.discriminatorColumn()).isEqualTo("size");
+            softly.assertThat(group.entities()).containsOnlyKeys("Small", "Large", "Project");
+            softly.assertThat(group.find("Small")).map(InheritanceMetadata::entity).contains(SmallProject.class);
+        });
+    }
+
+    @Test
+    void shouldReturnSameInheritanceGroup() {
+        assertThat(this.mappings.inheritanceGroup(Notification.class))
+                .isSameAs(this.mappings.inheritanceGroup(Notification.class));
+    }
+
+    @Test
+    void shouldReturnEmptyInheritanceGroup() {
+        InheritanceGroup group = this.mappings.inheritanceGroup(Person.class);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(group.isEmpty()).isTrue();
+            softly.assertThat(group.discriminatorColumn()).isNull();
+        });
+    }
+
+    @Test
+    void shouldReturnImmutableGroupByDiscriminatorValue() {
+        Map<String, InheritanceMetadata> group = this.mappings
+                .findByParentGroupByDiscriminatorValue(Notification.class);
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> group.remove("SMS"));
+    }
+
     @Test
     void shouldLoadUsingGet() {
         this.mappings.load(Movie.class);
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.BasicRepository;
+import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.reflection.RepositoryFilterTest.Persons;
+import org.eclipse.jnosql.mapping.reflection.entities.BookDTO;
+import org.eclipse.jnosql.mapping.reflection.entities.ComputerView;
+import org.eclipse.jnosql.mapping.reflection.entities.Garage;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.converters.UUIDConverter;
+import org.eclipse.jnosql.mapping.reflection.entities.converters.UUIDCustomConverter;
+import org.eclipse.jnosql.mapping.reflection.repository.InvalidEntityCustomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexClassScannerTest {
+
+    private static final String INDEX = "META-INF/jnosql/test-class-index.properties";
+
+    private IndexClassScanner classScanner;
+
+    @BeforeEach
+    void setUp() {
+        this.classScanner = IndexClassScanner.load(getClass().getClassLoader(), INDEX).orElseThrow();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoIndex() {
+        assertThat(IndexClassScanner.load(getClass().getClassLoader(), "META-INF/jnosql/not-found.properties"))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldNotFindIndexInTheDefaultLocation() {
+        assertThat(IndexClassScanner.load(getClass().getClassLoader())).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEntities() {
+        assertThat(classScanner.entities()).containsExactly(Person.class);
+    }
+
+    @Test
+    void shouldReturnEmbeddables() {
+        assertThat(classScanner.embeddables()).containsExactly(Job.class);
+    }
+
+    @Test
+    void shouldReturnRepositories() {
+        assertThat(classScanner.repositories())
+                .containsExactlyInAnyOrder(PersonRepository.class, Persons.class);
+    }
+
+    @Test
+    void shouldFilterRepositories() {
+        assertThat(classScanner.repositories(NoSQLRepository.class)).containsExactly(PersonRepository.class);
+        assertThat(classScanner.repositories(BasicRepository.class)).containsExactly(Persons.class);
+    }
+
+    @Test
+    void shouldReturnStandardRepositories() {
+        assertThat(classScanner.repositoriesStandard())
+                .containsExactlyInAnyOrder(PersonRepository.class, Persons.class);
+    }
+
+    @Test
+    void shouldReturnCustomRepositories() {
+        assertThat(classScanner.customRepositories()).containsExactly(Garage.class)
+                .doesNotContain(InvalidEntityCustomRepository.class);
+    }
+
+    @Test
+    void shouldReturnProjections() {
+        assertThat(classScanner.projections()).containsExactly(ComputerView.class)
+                .doesNotContain(BookDTO.class);
+    }
+
+    @Test
+    void shouldReturnAutoApplyConverters() {
+        assertThat(classScanner.autoApplyConverters()).containsExactly(UUIDConverter.class)
+                .doesNotContain(UUIDCustomConverter.class);
+    }
+
+    @Test
+    void shouldReturnUnmodifiableSets() {
+        assertThat(classScanner.entities()).isUnmodifiable();
+        assertThat(classScanner.repositories()).isUnmodifiable();
+        assertThat(classScanner.customRepositories()).isUnmodifiable();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Smartphone;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class MethodHandleAccessorsTest {
+
+    private final Reflections reflections = new Reflections();
+
+    private final MethodHandleAccessors accessors = new MethodHandleAccessors(reflections);
+
+    @Test
+    void shouldReadAndWritePrivateField() throws NoSuchFieldException {
+        Field field = field(Person.class, "name");
+        Person person = Person.builder().withName("Ada").build();
+
+        accessors.writer(field).write(person, "Grace");
+
+        assertSoftly(soft -> {
+            soft.assertThat(person.getName()).isEqualTo("Grace");
+            soft.assertThat(accessors.reader(field).read(person)).isEqualTo("Grace");
+        });
+    }
+
+    @Test
+    void shouldReadAndWritePrimitiveField() throws NoSuchFieldException {
+        Field field = field(Person.class, "age");
+        Person person = Person.builder().withAge(10).build();
+
+        accessors.writer(field).write(person, 42);
+
+        assertSoftly(soft -> {
+            soft.assertThat(person.getAge()).isEqualTo(42);
+            soft.assertThat(accessors.reader(field).read(person)).isEqualTo(42);
+        });
+    }
+
+    @Test
+    void shouldIgnoreInvalidValueOnWrite() throws NoSuchFieldException {
+        Field field = field(Person.class, "age");
+        Person person = Person.builder().withAge(10).build();
+
+        accessors.writer(field).write(person, null);
+        accessors.writer(field).write(person, "invalid");
+
+        assertThat(person.getAge()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldReturnNullWhenReadFromInvalidBean() throws NoSuchFieldException {
+        Field field = field(Person.class, "name");
+
+        assertThat(accessors.reader(field).read("not a person")).isNull();
+    }
+
+    @Test
+    void shouldCreateInstanceFromNoArgConstructor() {
+        Constructor<Person> constructor = Reflections.getConstructor(Person.class);
+
+        Object instance = accessors.instanceSupplier(constructor).get();
+
+        assertThat(instance).isNotNull().isInstanceOf(Person.class);
+        assertThat(accessors.instanceSupplier(constructor).get()).isNotSameAs(instance);
+    }
+
+    @Test
+    void shouldFallbackToReflectionWhenFieldIsFromRecord() throws NoSuchFieldException {
+        Field field = field(Smartphone.class, "owner");
+        Smartphone smartphone = new Smartphone("1", "Ada");
+
+        accessors.writer(field).write(smartphone, "Grace");
+
+        assertSoftly(soft -> {
+            soft.assertThat(smartphone.owner()).isEqualTo("Ada");
+            soft.assertThat(accessors.reader(field).read(smartphone)).isEqualTo("Ada");
+        });
+    }
+
+    private Field field(Class<?> type, String name) throws NoSuchFieldException {
+        Field field = type.getDeclaredField(name);
+        reflections.makeAccessible(field);
+        return field;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection.repository;
+
+import jakarta.data.repository.Delete;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+public interface PersonAsyncRepository {
+
+    CompletionStage<List<Person>> findByName(String name);
+
+    CompletableFuture<Person> findById(Long id);
+
+    CompletionStage<Long> countByName(String name);
+
+    @Delete
+    CompletionStage<Void> delete(Person person);
+
+    Flow.Publisher<Person> findByAge(Integer age);
+
+    List<Person> findByActive(boolean active);
+}
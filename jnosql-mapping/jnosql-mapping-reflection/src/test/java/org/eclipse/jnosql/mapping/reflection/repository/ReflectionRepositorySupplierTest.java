@@ -38,6 +38,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -653,4 +656,43 @@ class ReflectionRepositorySupplierTest {
         var method = metadata.find(new NameKey("insertAll")).orElseThrow();
         Assertions.assertThat(method.type()).isEqualTo(RepositoryMethodType.BUILT_IN_METHOD);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should describe the result wrapped by a CompletionStage")
+    void shouldUnwrapCompletionStage() {
+        RepositoryMetadata metadata = supplier.apply(PersonAsyncRepository.class);
+        var list = metadata.find(new NameKey("findByName")).orElseThrow();
+        var instance = metadata.find(new NameKey("findById")).orElseThrow();
+        var count = metadata.find(new NameKey("countByName")).orElseThrow();
+        var delete = metadata.find(new NameKey("delete")).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metadata.entity()).get().isEqualTo(Person.class);
+            soft.assertThat(list.asyncType()).get().isEqualTo(CompletionStage.class);
+            soft.assertThat(list.returnType()).get().isEqualTo(List.class);
+            soft.assertThat(list.elementType()).get().isEqualTo(Person.class);
+            soft.assertThat(instance.asyncType()).get().isEqualTo(CompletionStage.class);
+            soft.assertThat(instance.returnType()).get().isEqualTo(Person.class);
+            soft.assertThat(instance.elementType()).isEmpty();
+            soft.assertThat(count.returnType()).get().isEqualTo(Long.class);
+            soft.assertThat(delete.returnType()).get().isEqualTo(void.class);
+            soft.assertThat(delete.type()).isEqualTo(RepositoryMethodType.DELETE);
+        });
+    }
+
+    @Test
+    @DisplayName("should describe the elements of a Flow.Publisher as a stream")
+    void shouldUnwrapPublisher() {
+        RepositoryMetadata metadata = supplier.apply(PersonAsyncRepository.class);
+        var publisher = metadata.find(new NameKey("findByAge")).orElseThrow();
+        var blocking = metadata.find(new NameKey("findByActive")).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(publisher.asyncType()).get().isEqualTo(Flow.Publisher.class);
+            soft.assertThat(publisher.returnType()).get().isEqualTo(Stream.class);
+            soft.assertThat(publisher.elementType()).get().isEqualTo(Person.class);
+            soft.assertThat(blocking.asyncType()).isEmpty();
+            soft.assertThat(blocking.returnType()).get().isEqualTo(List.class);
+        });
+    }
+}
@@ -24,9 +24,12 @@ import jakarta.data.page.impl.CursoredPageRecord;
 import jakarta.nosql.Query;
 import jakarta.nosql.QueryMapper;
 import jakarta.nosql.TypedQuery;
+import org.eclipse.jnosql.communication.AsyncManager;
+import org.eclipse.jnosql.communication.query.QueryCaches;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.PreparedQuery;
 import org.eclipse.jnosql.communication.semistructured.QueryParser;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
@@ -42,33 +45,41 @@ import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.metadata.ProjectionMetadata;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
 import static org.eclipse.jnosql.communication.Configurations.CURSOR_PAGINATION_MULTIPLE_SORTING;
+import static org.eclipse.jnosql.communication.Configurations.DEFAULT_BATCH_SIZE;
 
 /**
  * An abstract implementation of the {@link SemiStructuredTemplate} interface providing
  * a template method for working with semi-structured NoSQL databases.
  * Concrete subclasses must implement methods to provide necessary dependencies and configuration.
+ * It is an {@link AsyncManager} with the executor of its {@link DatabaseManager}.
  *
  * @see SemiStructuredTemplate
  */
-public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTemplate {
+public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTemplate, AsyncManager {
 
     private static final Logger LOGGER = Logger.getLogger(AbstractSemiStructuredTemplate.class.getName());
 
     private static final QueryParser PARSER = new QueryParser();
 
+    private final EntityCache cache = new EntityCache();
+
     private final UnaryOperator<CommunicationEntity> insert = e -> manager().insert(e);
 
     private final UnaryOperator<CommunicationEntity> update = e -> manager().update(e);
@@ -108,6 +119,11 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
      */
     protected abstract Converters converters();
 
+    @Override
+    public Executor executor() {
+        return AsyncManager.executor(manager());
+    }
+
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
@@ -132,24 +148,20 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return persistAll(entities, batch -> manager().update(batch));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return persistAll(entities, batch -> manager().insert(batch));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return persistAll(entities, batch -> manager().insert(batch, ttl));
     }
 
     @Override
@@ -165,25 +177,40 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .where(converter().idFieldNameSupplier().defaultIdFieldName().orElseGet(idField::name))
                 .eq(idValue).build();
         manager().delete(query);
+        evict(metadata, idValue);
     }
 
     @Override
     public <T> void delete(Iterable<? extends T> iterable) {
         requireNonNull(iterable, "iterable is required");
-        StreamSupport.stream(iterable.spliterator(), false)
-                .forEach(this::delete);
+        Map<Class<?>, List<Object>> idsByType = new LinkedHashMap<>();
+        for (T entity : iterable) {
+            requireNonNull(entity, "entity is required");
+            EntityMetadata metadata = entities().get(entity.getClass());
+            FieldMetadata idField = metadata.id()
+                    .orElseThrow(() -> IdNotFoundException.newInstance(metadata.type()));
+            idsByType.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(idField.read(entity));
+        }
+        int batchSize = batchSize();
+        idsByType.forEach((type, ids) -> {
+            for (int index = 0; index < ids.size(); index += batchSize) {
+                deleteByIds(entities().get(type), new ArrayList<>(ids.subList(index, Math.min(index + batchSize, ids.size()))));
+            }
+        });
     }
 
     @Override
     public void delete(DeleteQuery query) {
         requireNonNull(query, "query is required");
         manager().delete(query);
+        cache.evictAll(query.name());
     }
 
     @Override
     public void update(UpdateQuery query) {
         requireNonNull(query, "query is required");
         manager().update(query);
+        cache.evictAll(query.name());
     }
 
     @Override
@@ -223,9 +250,12 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .orElseThrow(() -> IdNotFoundException.newInstance(type));
 
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), converters());
-        return this.select(type)
-                .where(converter().idFieldNameSupplier().defaultIdFieldName().orElseGet(idField::name))
-                .eq(value).singleResult();
+        Optional<EntityCacheRegion> region = cache.region(entityMetadata);
+        if (region.isEmpty()) {
+            return singleResult(findById(entityMetadata, idField, value));
+        }
+        return region.orElseThrow().get(value, () -> singleCommunication(findById(entityMetadata, idField, value)),
+                entity -> converter().toEntity(entity));
     }
 
     @Override
@@ -238,22 +268,26 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .orElseThrow(() -> IdNotFoundException.newInstance(type));
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), converters());
 
-        this.delete(type)
-                .where(converter().idFieldNameSupplier().defaultIdFieldName().orElseGet(idField::name))
-                .eq(value)
-                .execute();
+        var delete = new MapperDelete(entityMetadata, converters(), this);
+        delete.where(converter().idFieldNameSupplier().defaultIdFieldName().orElseGet(idField::name)).eq(value);
+        manager().delete(delete.build());
+        cache.evict(entityMetadata, value);
+    }
+
+    @Override
+    public <T> Optional<EntityCacheStatistics> cacheStatistics(Class<T> type) {
+        requireNonNull(type, "type is required");
+        return cache.statistics(type);
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query) {
-        var observer = observer();
-        return new PreparedStatement(PARSER.prepare(query, null, manager(), observer), converter(), observer, entities());
+        return preparedStatement(query, null);
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query, String entity) {
-        var observer = observer();
-        return new PreparedStatement(PARSER.prepare(query, entity, manager(), observer), converter(), observer, entities());
+        return preparedStatement(query, entity);
     }
 
     @Override
@@ -318,10 +352,12 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 manager().delete(DeleteQuery.delete().from(metadata.name())
                         .where(inheritanceMetadata.discriminatorColumn())
                         .eq(inheritanceMetadata.discriminatorValue()).build());
+                cache.evictAll(metadata.name());
                 return;
             }
         }
         manager().delete(DeleteQuery.delete().from(metadata.name()).build());
+        cache.evictAll(metadata.name());
     }
 
     @Override
@@ -329,13 +365,14 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         requireNonNull(query, "query is required");
         requireNonNull(pageRequest, "pageRequest is required");
         LOGGER.finest(() -> "Executing query: " + query);
-        var enableMultipleSorting = MicroProfileSettings.INSTANCE.get(CURSOR_PAGINATION_MULTIPLE_SORTING, Boolean.class)
-                .orElse(false);
-        LOGGER.finest(() -> "Cursor pagination with multiple sorting is enabled: " + enableMultipleSorting);
-
-        if (!enableMultipleSorting && query.sorts().size() > 1) {
-            throw new UnsupportedOperationException("Cursor pagination with multiple sorting is not supported, " +
-                    "enable it by setting the property " + CURSOR_PAGINATION_MULTIPLE_SORTING.get() + " to true");
+        if (query.sorts().size() > 1) {
+            var enableMultipleSorting = MicroProfileSettings.INSTANCE.get(CURSOR_PAGINATION_MULTIPLE_SORTING, Boolean.class)
+                    .orElse(false);
+            LOGGER.finest(() -> "Cursor pagination with multiple sorting is enabled: " + enableMultipleSorting);
+            if (!enableMultipleSorting) {
+                throw new UnsupportedOperationException("Cursor pagination with multiple sorting is not supported, " +
+                        "enable it by setting the property " + CURSOR_PAGINATION_MULTIPLE_SORTING.get() + " to true");
+            }
         }
         CursoredPage<CommunicationEntity> cursoredPage = this.manager().selectCursor(query, pageRequest);
         List<T> entities = cursoredPage.stream().<T>map(c -> converter().toEntity(c)).toList();
@@ -392,11 +429,106 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .map(converter()::toCommunication)
                 .map(persistAction)
                 .map(t -> converter().toEntity(entity, t))
+                .map(toUnary(this::evict))
                 .map(toUnary(eventManager()::firePostEntity))
                 .findFirst()
                 .orElseThrow();
     }
 
+    /**
+     * Persists the entities in batches of up to {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE}
+     * entities, firing the events of each entity and sending each batch to the database in a single call.
+     *
+     * @param entities      the entities
+     * @param persistAction the bulk operation of the manager, it returns the persisted entities in the same order
+     * @param <T>           the entity type
+     * @return the persisted entities
+     */
+    protected <T> Iterable<T> persistAll(Iterable<T> entities,
+                                         Function<List<CommunicationEntity>, Iterable<CommunicationEntity>> persistAction) {
+        int batchSize = batchSize();
+        List<T> result = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        for (T entity : entities) {
+            requireNonNull(entity, "entity is required");
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                persistBatch(batch, persistAction, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            persistBatch(batch, persistAction, result);
+        }
+        return result;
+    }
+
+    private <T> void persistBatch(List<T> batch,
+                                  Function<List<CommunicationEntity>, Iterable<CommunicationEntity>> persistAction,
+                                  List<T> result) {
+        List<CommunicationEntity> communications = new ArrayList<>(batch.size());
+        for (T entity : batch) {
+            eventManager().firePreEntity(entity);
+            communications.add(converter().toCommunication(entity));
+        }
+        Iterable<CommunicationEntity> persisted = persistAction.apply(communications);
+        Iterator<CommunicationEntity> iterator = persisted == null ? Collections.emptyIterator() : persisted.iterator();
+        for (int index = 0; index < batch.size(); index++) {
+            var communication = iterator.hasNext() ? iterator.next() : communications.get(index);
+            T entity = converter().toEntity(batch.get(index), communication);
+            evict(entity);
+            eventManager().firePostEntity(entity);
+            result.add(entity);
+        }
+    }
+
+    private void deleteByIds(EntityMetadata metadata, List<Object> ids) {
+        FieldMetadata idField = metadata.id().orElseThrow(() -> IdNotFoundException.newInstance(metadata.type()));
+        var idName = converter().idFieldNameSupplier().defaultIdFieldName().orElseGet(idField::name);
+        LOGGER.fine(() -> "Deleting " + ids.size() + " entities: " + metadata.type() + " with ids: " + ids);
+        var where = DeleteQuery.delete().from(metadata.name()).where(idName);
+        manager().delete(ids.size() == 1 ? where.eq(ids.get(0)).build() : where.in(ids).build());
+        ids.forEach(id -> evict(metadata, id));
+    }
+
+    private <T> void evict(T entity) {
+        if (cache.isActive()) {
+            EntityMetadata metadata = entities().get(entity.getClass());
+            metadata.id().ifPresent(idField -> evict(metadata, idField.read(entity)));
+        }
+    }
+
+    private void evict(EntityMetadata metadata, Object id) {
+        if (cache.isActive() && id != null) {
+            FieldMetadata idField = metadata.id().orElseThrow(() -> IdNotFoundException.newInstance(metadata.type()));
+            cache.evict(metadata, ConverterUtil.getValue(id, metadata, idField.fieldName(), converters()));
+        }
+    }
+
+    private SelectQuery findById(EntityMetadata entityMetadata, FieldMetadata idField, Object value) {
+        var select = new MapperSelect(entityMetadata, converters(), this);
+        select.where(converter().idFieldNameSupplier().defaultIdFieldName().orElseGet(idField::name)).eq(value);
+        return select.build();
+    }
+
+    private Optional<CommunicationEntity> singleCommunication(SelectQuery query) {
+        Iterator<CommunicationEntity> iterator = manager().select(query).iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+        CommunicationEntity entity = iterator.next();
+        if (!iterator.hasNext()) {
+            return Optional.of(entity);
+        }
+        throw new NonUniqueResultException("No Unique result found to the query: " + query);
+    }
+
+    private static int batchSize() {
+        int batchSize = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class)
+                .orElse(DEFAULT_BATCH_SIZE);
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -420,4 +552,20 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     private MapperObserver observer() {
         return new MapperObserver(entities());
     }
+
+    private PreparedStatement preparedStatement(String query, String entity) {
+        requireNonNull(query, "query is required");
+        var prepared = QueryCaches.get().get("mapping::" + entity + "::" + query, () -> {
+            var observer = observer();
+            return new MappedPreparedQuery(PARSER.prepare(query, entity, observer), observer);
+        });
+        return new PreparedStatement(prepared.query().statement(manager()), converter(), prepared.observer(), entities(),
+                cache::clear);
+    }
+
+    /**
+     * The parsed query with the observer that mapped it; the observer is only read once the query is parsed.
+     */
+    private record MappedPreparedQuery(PreparedQuery query, MapperObserver observer) {
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enables the second-level cache of {@link SemiStructuredTemplate#find(Class, Object)} for an entity. The template
+ * keeps the entities it reads by id in the {@link org.eclipse.jnosql.communication.semistructured.CommunicationEntity}
+ * form, keyed by the entity and the id, and drops them when the same template inserts, updates or deletes the entity.
+ * It fits data that is read far more often than it changes, such as reference data; the changes made by another
+ * template or another process are only seen once the entry expires. A hit skips the query, but still converts a copy
+ * of the cached entity into a new instance, unless the entity is a record, whose converted instance is cached too.
+ * <p>The cache can also be enabled without the annotation through
+ * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#CACHE_ENTITIES}.</p>
+ *
+ * <pre>{@code
+ * @Entity
+ * @Cacheable(maximumSize = 500, expireAfterWrite = 10, unit = TimeUnit.MINUTES)
+ * public class Country {
+ * }
+ * }</pre>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * The maximum number of entities kept; once it is reached, the least recently used one is evicted.
+     *
+     * @return the maximum number of entities
+     */
+    long maximumSize() default 10_000;
+
+    /**
+     * How long an entity is kept after it is loaded into the cache, reading it from the cache does not extend it; zero
+     * keeps it until it is evicted.
+     *
+     * @return the time to live in the {@link #unit()}
+     */
+    long expireAfterWrite() default 0;
+
+    /**
+     * The unit of {@link #expireAfterWrite()}.
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
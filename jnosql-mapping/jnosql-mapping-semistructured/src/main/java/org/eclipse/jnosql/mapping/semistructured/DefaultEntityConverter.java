@@ -20,6 +20,7 @@ import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.semistructured.IdFieldNameSupplier;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
 import java.util.Optional;
 
@@ -32,6 +33,7 @@ class DefaultEntityConverter extends EntityConverter {
     private final Converters converters;
     private final ProjectorConverter projectorConverter;
     private final IdFieldNameSupplier idFieldNameSupplier;
+    private final TypedEntityConverters typedConverters;
 
     @Inject
     DefaultEntityConverter(EntitiesMetadata entities, Converters converters, ProjectorConverter projectorConverter) {
@@ -43,6 +45,7 @@ class DefaultEntityConverter extends EntityConverter {
         this.converters = converters;
         this.projectorConverter = projectorConverter;
         this.idFieldNameSupplier = idFieldNameSupplier;
+        this.typedConverters = TypedEntityConverters.load();
     }
 
     DefaultEntityConverter() {
@@ -68,4 +71,9 @@ class DefaultEntityConverter extends EntityConverter {
     protected IdFieldNameSupplier idFieldNameSupplier() {
         return idFieldNameSupplier;
     }
+
+    @Override
+    protected <T> Optional<TypedEntityConverter<T>> typedConverter(EntityMetadata mapping) {
+        return typedConverters.get(mapping);
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.EntityShape;
+import org.eclipse.jnosql.communication.semistructured.ShapedCommunicationEntity;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldParameterMetadata;
+import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED_GROUP;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
+
+/**
+ * The binding of the {@link Element} instances to the fields or the constructor parameters of an entity,
+ * computed once per {@link EntityMetadata}. Each name is resolved to a slot up front, thus the conversion
+ * matches the elements in a single pass instead of scanning them once per field or parameter.
+ * A {@link ShapedCommunicationEntity} is read by slot instead: the slots of its {@link EntityShape} are resolved to
+ * the fields and parameters once per shape, and the basic attributes are taken from the slots without creating an
+ * {@link Element}. The entities with an embedded field or parameter are read from the elements, since those are
+ * flattened into the attributes of the parent.
+ */
+final class EntityBindingPlan {
+
+    private final Map<String, Integer> fieldSlots;
+
+    private final FieldMetadata[] fields;
+
+    private final FieldConverter[] fieldConverters;
+
+    private final ConstructorMetadata constructor;
+
+    private final Map<String, Integer> parameterSlots;
+
+    private final ParameterMetaData[] parameters;
+
+    private final ParameterConverter[] parameterConverters;
+
+    private final int[] parameterSlot;
+
+    private final boolean[] directFields;
+
+    private final boolean[] directParameters;
+
+    private final String idName;
+
+    private final boolean readsSlots;
+
+    private volatile ShapeSlots shapeSlots;
+
+    private EntityBindingPlan(EntityMetadata mapping, EntitiesMetadata entities) {
+        Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
+        this.fieldSlots = new HashMap<>(fieldsGroupByName.size() * 2);
+        this.fields = new FieldMetadata[fieldsGroupByName.size()];
+        this.fieldConverters = new FieldConverter[fields.length];
+        this.directFields = new boolean[fields.length];
+        boolean embedded = false;
+        int index = 0;
+        for (Map.Entry<String, FieldMetadata> entry : fieldsGroupByName.entrySet()) {
+            FieldMetadata field = entry.getValue();
+            fieldSlots.put(entry.getKey(), index);
+            fields[index] = field;
+            fieldConverters[index] = FieldConverter.get(field);
+            directFields[index] = FieldConverter.DEFAULT.equals(fieldConverters[index]) && field.converter().isEmpty();
+            embedded |= EMBEDDED.equals(field.mappingType()) || EMBEDDED_GROUP.equals(field.mappingType());
+            index++;
+        }
+
+        this.constructor = mapping.constructor();
+        List<ParameterMetaData> constructorParameters = constructor.isDefault() ? List.of() : constructor.parameters();
+        this.parameterSlots = new HashMap<>(constructorParameters.size() * 2);
+        this.parameters = constructorParameters.toArray(ParameterMetaData[]::new);
+        this.parameterConverters = new ParameterConverter[parameters.length];
+        this.parameterSlot = new int[parameters.length];
+        this.directParameters = new boolean[parameters.length];
+        for (int position = 0; position < parameters.length; position++) {
+            ParameterMetaData parameter = parameters[position];
+            parameterSlot[position] = parameterSlots.computeIfAbsent(parameter.name(), k -> parameterSlots.size());
+            parameterConverters[position] = ParameterConverter.of(parameter, entities);
+            directParameters[position] = ParameterConverter.DEFAULT.equals(parameterConverters[position])
+                    && parameter.converter().isEmpty();
+            embedded |= EMBEDDED.equals(parameter.mappingType());
+        }
+        this.idName = mapping.id().map(FieldParameterMetadata::name).orElse(null);
+        this.readsSlots = !embedded;
+    }
+
+    /**
+     * Whether an entity without attributes out of its shape can be read by slot.
+     */
+    boolean readsSlots() {
+        return readsSlots;
+    }
+
+    /**
+     * Feeds the fields of the instance from the elements.
+     * Per name, the first element with a non-null value wins.
+     */
+    <T> T bind(T instance, List<Element> elements, EntityConverter converter) {
+        Element[] matches = new Element[fields.length];
+        for (Element element : elements) {
+            Integer slot = fieldSlots.get(element.name());
+            if (slot != null && matches[slot] == null && !element.value().isNull()) {
+                matches[slot] = element;
+            }
+        }
+        for (int index = 0; index < fields.length; index++) {
+            FieldMetadata field = fields[index];
+            Element element = matches[index];
+            var mappingType = field.mappingType();
+            if (EMBEDDED.equals(mappingType) || EMBEDDED_GROUP.equals(mappingType)) {
+                fieldConverters[index].convert(instance, elements, element, field, converter);
+            } else if (element != null && ENTITY.equals(mappingType)) {
+                fieldConverters[index].convert(instance, element, field, converter);
+            } else if (element != null) {
+                fieldConverters[index].convert(instance, elements, element, field, converter);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Creates the instance through the constructor, taking the parameters from the elements.
+     * Per name, the first element wins; an element with a null value gives an empty parameter.
+     */
+    <T> T build(List<Element> elements, EntityConverter converter) {
+        Element[] matches = new Element[parameterSlots.size()];
+        for (Element element : elements) {
+            Integer slot = parameterSlots.get(element.name());
+            if (slot != null && matches[slot] == null) {
+                matches[slot] = element;
+            }
+        }
+        ConstructorBuilder builder = ConstructorBuilder.of(constructor);
+        for (int position = 0; position < parameters.length; position++) {
+            ParameterMetaData parameter = parameters[position];
+            if (EMBEDDED.equals(parameter.mappingType())) {
+                if (elements.isEmpty()) {
+                    builder.addEmptyParameter();
+                } else {
+                    parameterConverters[position].convert(converter, Element.of("_", elements), parameter, builder);
+                }
+                continue;
+            }
+            Element element = matches[parameterSlot[position]];
+            if (element == null || element.value().isNull()) {
+                builder.addEmptyParameter();
+            } else {
+                parameterConverters[position].convert(converter, element, parameter, builder);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Feeds the fields of the instance from the slots of the entity, which must have only attributes of its shape.
+     * The id is read from the {@code idAlias} attribute, when the database names it differently from the mapping.
+     */
+    <T> T bind(T instance, ShapedCommunicationEntity entity, String idAlias, EntityConverter converter) {
+        int[] slots = slots(entity.shape(), idAlias).fields();
+        for (int index = 0; index < fields.length; index++) {
+            Value value = slots[index] < 0 ? null : entity.value(slots[index]);
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            FieldMetadata field = fields[index];
+            if (directFields[index]) {
+                field.write(instance, field.value(value));
+            } else if (ENTITY.equals(field.mappingType())) {
+                fieldConverters[index].convert(instance, Element.of(field.name(), value), field, converter);
+            } else {
+                fieldConverters[index].convert(instance, List.of(), Element.of(field.name(), value), field, converter);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Creates the instance through the constructor, taking the parameters from the slots of the entity, which must
+     * have only attributes of its shape.
+     */
+    <T> T build(ShapedCommunicationEntity entity, String idAlias, EntityConverter converter) {
+        int[] slots = slots(entity.shape(), idAlias).parameters();
+        ConstructorBuilder builder = ConstructorBuilder.of(constructor);
+        for (int position = 0; position < parameters.length; position++) {
+            ParameterMetaData parameter = parameters[position];
+            Value value = slots[position] < 0 ? null : entity.value(slots[position]);
+            if (value == null || value.isNull()) {
+                builder.addEmptyParameter();
+            } else if (directParameters[position]) {
+                builder.add(value.get(parameter.type()));
+            } else {
+                parameterConverters[position].convert(converter, Element.of(parameter.name(), value), parameter, builder);
+            }
+        }
+        return builder.build();
+    }
+
+    private ShapeSlots slots(EntityShape shape, String idAlias) {
+        ShapeSlots current = this.shapeSlots;
+        if (current == null || current.shape() != shape || !Objects.equals(current.idAlias(), idAlias)) {
+            int[] fieldSlot = new int[fields.length];
+            for (int index = 0; index < fields.length; index++) {
+                fieldSlot[index] = shapeSlot(shape, fields[index].name(), idAlias);
+            }
+            int[] parameterShapeSlot = new int[parameters.length];
+            for (int position = 0; position < parameters.length; position++) {
+                parameterShapeSlot[position] = shapeSlot(shape, parameters[position].name(), idAlias);
+            }
+            current = new ShapeSlots(shape, idAlias, fieldSlot, parameterShapeSlot);
+            this.shapeSlots = current;
+        }
+        return current;
+    }
+
+    private int shapeSlot(EntityShape shape, String name, String idAlias) {
+        if (idAlias == null) {
+            return shape.slot(name);
+        }
+        if (name.equals(idName)) {
+            return shape.slot(idAlias);
+        }
+        return name.equals(idAlias) ? -1 : shape.slot(name);
+    }
+
+    static EntityBindingPlan of(EntityMetadata mapping, EntitiesMetadata entities) {
+        return new EntityBindingPlan(mapping, entities);
+    }
+
+    private record ShapeSlots(EntityShape shape, String idAlias, int[] fields, int[] parameters) {
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * The second-level cache of a template: a {@link EntityCacheRegion} for each entity type enabled by {@link Cacheable}
+ * or {@link MappingConfigurations#CACHE_ENTITIES}. The types are resolved on their first {@code find}, and until a type
+ * is cached the evictions return at once, so the templates without cached entities only pay a volatile read.
+ * Since the entities of an inheritance share the database entity, the evictions reach every type of the same name.
+ */
+final class EntityCache {
+
+    private static final Logger LOGGER = Logger.getLogger(EntityCache.class.getName());
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Map<Class<?>, Optional<Region>> regions = new ConcurrentHashMap<>();
+
+    private final LongSupplier ticker;
+
+    private volatile boolean active;
+
+    EntityCache(LongSupplier ticker) {
+        this.ticker = ticker;
+    }
+
+    EntityCache() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Returns the region of the entity, or empty when the entity is not cached.
+     *
+     * @param metadata the entity
+     * @return the region
+     */
+    Optional<EntityCacheRegion> region(EntityMetadata metadata) {
+        return regions.computeIfAbsent(metadata.type(), type -> create(metadata)).map(Region::cache);
+    }
+
+    /**
+     * Removes the entity of the id from the regions of the entity name.
+     *
+     * @param metadata the written entity
+     * @param id       the id in the database form
+     */
+    void evict(EntityMetadata metadata, Object id) {
+        if (!active || id == null) {
+            return;
+        }
+        String name = metadata.name();
+        regions.values().forEach(region -> region.filter(r -> r.name().equals(name))
+                .ifPresent(r -> r.cache().evict(id)));
+    }
+
+    /**
+     * Removes all the entities from the regions of the entity name, used when a query may write any entity.
+     *
+     * @param name the entity name
+     */
+    void evictAll(String name) {
+        if (!active) {
+            return;
+        }
+        regions.values().forEach(region -> region.filter(r -> r.name().equals(name))
+                .ifPresent(r -> r.cache().clear()));
+    }
+
+    /**
+     * Removes all the entities from all the regions.
+     */
+    void clear() {
+        if (active) {
+            regions.values().forEach(region -> region.ifPresent(r -> r.cache().clear()));
+        }
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    Optional<EntityCacheStatistics> statistics(Class<?> type) {
+        return regions.getOrDefault(type, Optional.empty()).map(r -> r.cache().statistics());
+    }
+
+    private Optional<Region> create(EntityMetadata metadata) {
+        Class<?> type = metadata.type();
+        Cacheable cacheable = type.getAnnotation(Cacheable.class);
+        EntityCacheRegion cache;
+        if (cacheable != null) {
+            cache = new EntityCacheRegion(cacheable.maximumSize(),
+                    cacheable.unit().toNanos(cacheable.expireAfterWrite()), ticker, type.isRecord());
+        } else if (isConfigured(metadata)) {
+            long maximumSize = MicroProfileSettings.INSTANCE.get(MappingConfigurations.CACHE_MAXIMUM_SIZE, Long.class)
+                    .orElse(DEFAULT_MAXIMUM_SIZE);
+            long expireAfterWrite = MicroProfileSettings.INSTANCE.get(MappingConfigurations.CACHE_EXPIRE_AFTER_WRITE,
+                    Long.class).orElse(0L);
+            cache = new EntityCacheRegion(maximumSize, TimeUnit.SECONDS.toNanos(expireAfterWrite), ticker, type.isRecord());
+        } else {
+            return Optional.empty();
+        }
+        LOGGER.fine(() -> "Caching the entity " + type.getName() + " by id");
+        this.active = true;
+        return Optional.of(new Region(metadata.name(), cache));
+    }
+
+    private static boolean isConfigured(EntityMetadata metadata) {
+        Set<String> entities = MicroProfileSettings.INSTANCE.get(MappingConfigurations.CACHE_ENTITIES, String.class)
+                .map(value -> Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(entity -> !entity.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet()))
+                .orElse(Set.of());
+        return entities.contains(metadata.name()) || entities.contains(metadata.simpleName())
+                || entities.contains(metadata.className());
+    }
+
+    private record Region(String name, EntityCacheRegion cache) {
+    }
+}
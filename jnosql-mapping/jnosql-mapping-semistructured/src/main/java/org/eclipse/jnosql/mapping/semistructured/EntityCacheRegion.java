@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The cached entities of a single entity type, keyed by the id in the database form. It evicts the least recently
+ * used entities beyond the maximum size and the entities older than the time to live, and it stores and returns
+ * copies, so neither the database result nor the caller can change a cached entity.
+ * A hit only reads a {@link ConcurrentHashMap} and stamps the entity with a counter; the writes and the evictions
+ * share a lock, and once the maximum size is passed the least recently used sixteenth of the region goes at once.
+ * A load that races with an eviction of the same type is returned but not cached, thus a write that happens while
+ * the database is read never leaves the previous state in the cache.
+ * When the entity type is immutable, such as a record, the region also keeps the converted entity, thus a hit returns it
+ * without converting the copy again; otherwise each hit converts a copy of the cached entity.
+ */
+final class EntityCacheRegion {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private static final long EVICTION_BATCH = 16;
+
+    private final long maximumSize;
+
+    private final long timeToLive;
+
+    private final LongSupplier ticker;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final boolean immutable;
+
+    private volatile long generation;
+
+    /**
+     * Creates a region.
+     *
+     * @param maximumSize the maximum number of entities
+     * @param timeToLive  the time to live in nanoseconds, zero or negative to keep the entities until they are evicted
+     * @param ticker      the source of {@link System#nanoTime()}
+     * @param immutable   whether the converted entities can be shared by the callers, thus kept in the region
+     */
+    EntityCacheRegion(long maximumSize, long timeToLive, LongSupplier ticker, boolean immutable) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size cannot be negative: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive > 0 ? timeToLive : NEVER;
+        this.ticker = ticker;
+        this.immutable = immutable;
+    }
+
+    EntityCacheRegion(long maximumSize, long timeToLive, LongSupplier ticker) {
+        this(maximumSize, timeToLive, ticker, false);
+    }
+
+    /**
+     * Returns the cached entity of the id, otherwise reads it with the loader and caches it when it is found.
+     *
+     * @param id     the id in the database form
+     * @param loader reads the entity from the database
+     * @return a copy of the entity
+     */
+    Optional<CommunicationEntity> get(Object id, Supplier<Optional<CommunicationEntity>> loader) {
+        return get(id, loader, Function.identity());
+    }
+
+    /**
+     * Returns the converted entity of the id, otherwise reads it with the loader, caches it when it is found and
+     * converts it.
+     *
+     * @param id        the id in the database form
+     * @param loader    reads the entity from the database
+     * @param converter converts a copy of the cached entity, or the loaded entity
+     * @param <T>       the converted type
+     * @return the converted entity
+     */
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> get(Object id, Supplier<Optional<CommunicationEntity>> loader, Function<CommunicationEntity, T> converter) {
+        long loadGeneration = generation;
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            if (!entry.isExpired(ticker.getAsLong())) {
+                hits.increment();
+                touch(entry);
+                return Optional.ofNullable(entry.converted != null ? (T) entry.converted : converter.apply(entry.entity.copy()));
+            }
+            if (entries.remove(id, entry)) {
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        Optional<CommunicationEntity> loaded = loader.get();
+        if (loaded.isEmpty() || maximumSize == 0) {
+            return loaded.map(converter);
+        }
+        CommunicationEntity entity = loaded.orElseThrow();
+        CommunicationEntity copy = entity.copy();
+        T converted = converter.apply(entity);
+        lock.lock();
+        try {
+            if (loadGeneration == generation) {
+                entries.put(id, new Entry(copy, immutable ? converted : null, expiresAt(), clock.incrementAndGet()));
+                evictLeastRecentlyUsed();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return Optional.ofNullable(converted);
+    }
+
+    /**
+     * Removes the entity of the id.
+     *
+     * @param id the id in the database form
+     */
+    void evict(Object id) {
+        lock.lock();
+        try {
+            generation++;
+            entries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the entities.
+     */
+    void clear() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    EntityCacheStatistics statistics() {
+        return new EntityCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void touch(Entry entry) {
+        if (entry.accessed != clock.get()) {
+            entry.accessed = clock.incrementAndGet();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+        long excess = entries.size() - maximumSize + maximumSize / EVICTION_BATCH;
+        long[] stamps = entries.values().stream().mapToLong(entry -> entry.accessed).toArray();
+        Arrays.sort(stamps);
+        long threshold = stamps[(int) Math.min(excess, stamps.length) - 1];
+        entries.forEach((id, entry) -> {
+            if (entry.accessed <= threshold && entries.remove(id, entry)) {
+                evictions.increment();
+            }
+        });
+    }
+
+    private long expiresAt() {
+        if (timeToLive == NEVER) {
+            return NEVER;
+        }
+        long now = ticker.getAsLong();
+        return now + timeToLive;
+    }
+
+    private static final class Entry {
+
+        private final CommunicationEntity entity;
+
+        private final Object converted;
+
+        private final long expiresAt;
+
+        private volatile long accessed;
+
+        private Entry(CommunicationEntity entity, Object converted, long expiresAt, long accessed) {
+            this.entity = entity;
+            this.converted = converted;
+            this.expiresAt = expiresAt;
+            this.accessed = accessed;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != NEVER && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+/**
+ * A snapshot of the counters of the second-level cache of an entity, see {@link Cacheable}.
+ *
+ * @param hits      the number of {@code find} calls answered by the cache
+ * @param misses    the number of {@code find} calls that read the database
+ * @param evictions the number of entities removed to honor the maximum size or the expiration
+ * @param size      the number of entities currently cached
+ */
+public record EntityCacheStatistics(long hits, long misses, long evictions, long size) {
+
+    /**
+     * Returns the ratio of the {@code find} calls answered by the cache, or {@code 1.0} when there was no call.
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -17,36 +17,44 @@ package org.eclipse.jnosql.mapping.semistructured;
 import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.EntityShape;
 import org.eclipse.jnosql.communication.semistructured.IdFieldNameSupplier;
+import org.eclipse.jnosql.communication.semistructured.ShapedCommunicationEntity;
 import org.eclipse.jnosql.mapping.core.Converters;
-import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldParameterMetadata;
+import org.eclipse.jnosql.mapping.metadata.InheritanceGroup;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
-import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
-import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED_GROUP;
 import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
 
 
 /**
  * This abstract class represents the converter between an entity and the {@link CommunicationEntity}.
  * Subclasses must implement methods to provide access to metadata about entities and converters.
+ * The entities are written into a {@link ShapedCommunicationEntity} of an {@link EntityShape} cached per entity,
+ * and a {@link ShapedCommunicationEntity}, either written here or created by a driver, is read by slot.
  */
 public abstract class EntityConverter {
 
+    private final Map<EntityMetadata, EntityBindingPlan> plans = new ConcurrentHashMap<>();
+
+    private final Map<EntityMetadata, EntityShape> shapes = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the metadata about entities.
      *
@@ -77,6 +85,18 @@ public abstract class EntityConverter {
         return Optional::empty;
     }
 
+    /**
+     * Retrieves the converter specialized to the entity, such as one generated at build time.
+     * When present, it replaces the generic, metadata-driven conversion of this class.
+     *
+     * @param mapping the entity metadata
+     * @param <T>     the entity type
+     * @return the {@link TypedEntityConverter} or {@link Optional#empty()} to use the generic conversion
+     */
+    protected <T> Optional<TypedEntityConverter<T>> typedConverter(EntityMetadata mapping) {
+        return Optional.empty();
+    }
+
     /**
      * Converts the provided entity instance to a {@link CommunicationEntity}.
      *
@@ -87,7 +107,11 @@ public abstract class EntityConverter {
     public CommunicationEntity toCommunication(Object entity) {
         requireNonNull(entity, "entity is required");
         EntityMetadata mapping = entities().get(entity.getClass());
-        CommunicationEntity communication = CommunicationEntity.of(mapping.name());
+        Optional<TypedEntityConverter<Object>> typedConverter = typedConverter(mapping);
+        if (typedConverter.isPresent()) {
+            return typedConverter.get().toCommunication(entity, idName(mapping));
+        }
+        CommunicationEntity communication = shape(mapping).newEntity();
         mapping.fields().stream()
                 .map(f -> to(f, entity))
                 .map(f -> f.toElements(this, converters()))
@@ -111,6 +135,10 @@ public abstract class EntityConverter {
     public <T> T toEntity(Class<T> type, CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
+        EntityMetadata mapping = entities().get(type);
+        if (readsSlots(mapping, entity)) {
+            return fromSlots((ShapedCommunicationEntity) entity, mapping);
+        }
         return toEntity(type, entity.elements());
     }
 
@@ -130,9 +158,12 @@ public abstract class EntityConverter {
         requireNonNull(type, "type is required");
 
         if (type.getClass().isRecord()) {
-            return (T) toEntity(type.getClass(), entity.elements());
+            return (T) toEntity(type.getClass(), entity);
         }
         EntityMetadata mapping = entities().get(type.getClass());
+        if (readsSlots(mapping, entity)) {
+            return plan(mapping).bind(type, (ShapedCommunicationEntity) entity, idAlias(mapping), this);
+        }
         return convertEntity(entity.elements(), mapping, type);
     }
 
@@ -150,6 +181,13 @@ public abstract class EntityConverter {
         if (mapping.isInheritance()) {
             return mapInheritanceEntity(entity, mapping.type());
         }
+        Optional<TypedEntityConverter<T>> typedConverter = typedConverter(mapping);
+        if (typedConverter.isPresent()) {
+            return typedConverter.get().toEntity(entity.elements(), idName(mapping));
+        }
+        if (readsSlots(mapping, entity)) {
+            return fromSlots((ShapedCommunicationEntity) entity, mapping);
+        }
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
@@ -188,6 +226,10 @@ public abstract class EntityConverter {
         if (mapping.isInheritance()) {
             return inheritanceToEntity(elements, mapping);
         }
+        Optional<TypedEntityConverter<T>> typedConverter = typedConverter(mapping);
+        if (typedConverter.isPresent()) {
+            return typedConverter.get().toEntity(elements, idName(mapping));
+        }
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
@@ -199,41 +241,55 @@ public abstract class EntityConverter {
 
     private <T> T convertEntityByConstructor(List<Element> elementList, EntityMetadata mapping) {
         List<Element> elements = mapIdName(elementList, mapping);
-        ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
-        for (ParameterMetaData parameter : builder.parameters()) {
-            Predicate<Element> matchName = c -> c.name().equals(parameter.name());
-            boolean isFlatEmbedded = EMBEDDED.equals(parameter.mappingType());
-            Optional<Element> element = elements.stream()
-                    .filter(matchName.or(e -> isFlatEmbedded))
-                    .findFirst();
-            element.ifPresentOrElse(c -> {
-                var converter = ParameterConverter.of(parameter, entities());
-                if (isFlatEmbedded) {
-                    converter.convert(this, Element.of("_", elements), parameter, builder);
-                } else if (c.value().isNull()) {
-                    builder.addEmptyParameter();
-                } else {
-                    converter.convert(this, c, parameter, builder);
-                }
-            }, builder::addEmptyParameter);
-        }
-        return builder.build();
+        return plan(mapping).build(elements, this);
     }
 
     private <T> T convertEntity(List<Element> elementList, EntityMetadata mapping, T instance) {
         List<Element> elements = mapIdName(elementList, mapping);
-        final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = elements.stream().map(Element::name).sorted().toList();
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            var type = fieldsGroupByName.get(k).mappingType();
-            return EMBEDDED.equals(type) || EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
+        return plan(mapping).bind(instance, elements, this);
+    }
+
+    private EntityBindingPlan plan(EntityMetadata mapping) {
+        return plans.computeIfAbsent(mapping, m -> EntityBindingPlan.of(m, entities()));
+    }
+
+    private EntityShape shape(EntityMetadata mapping) {
+        return shapes.computeIfAbsent(mapping, m -> {
+            Set<String> attributes = new LinkedHashSet<>();
+            m.fields().stream()
+                    .filter(field -> !EMBEDDED.equals(field.mappingType()))
+                    .forEach(field -> attributes.add(field.isId() ? idName(m) : field.name()));
+            m.inheritance().ifPresent(i -> attributes.add(i.discriminatorColumn()));
+            return EntityShape.of(m.name(), new ArrayList<>(attributes));
+        });
+    }
+
+    private boolean readsSlots(EntityMetadata mapping, CommunicationEntity entity) {
+        return entity instanceof ShapedCommunicationEntity shaped && shaped.isShapeOnly()
+                && !mapping.isInheritance() && typedConverter(mapping).isEmpty() && plan(mapping).readsSlots();
+    }
 
-        return instance;
+    private <T> T fromSlots(ShapedCommunicationEntity entity, EntityMetadata mapping) {
+        EntityBindingPlan plan = plan(mapping);
+        if (mapping.constructor().isDefault()) {
+            return plan.bind(mapping.newInstance(), entity, idAlias(mapping), this);
+        }
+        return plan.build(entity, idAlias(mapping), this);
+    }
+
+    private String idAlias(EntityMetadata mapping) {
+        Optional<String> communicationIdName = idFieldNameSupplier().defaultIdFieldName();
+        Optional<String> mappingIdName = mapping.id().map(FieldParameterMetadata::name);
+        if (communicationIdName.isEmpty() || mappingIdName.isEmpty() || communicationIdName.equals(mappingIdName)) {
+            return null;
+        }
+        return communicationIdName.get();
+    }
+
+    private String idName(EntityMetadata mapping) {
+        return idFieldNameSupplier().defaultIdFieldName()
+                .or(() -> mapping.id().map(FieldParameterMetadata::name))
+                .orElse(null);
     }
 
     private List<Element> mapIdName(List<Element> elements, EntityMetadata mapping) {
@@ -259,25 +315,20 @@ public abstract class EntityConverter {
     }
 
     private <T> T mapInheritanceEntity(CommunicationEntity entity, Class<?> type) {
-        Map<String, InheritanceMetadata> group = entities()
-                .findByParentGroupByDiscriminatorValue(type);
+        InheritanceGroup group = entities().inheritanceGroup(type);
 
         if (group.isEmpty()) {
             throw new MappingException("There is no discriminator inheritance to the document collection "
                     + entity.name());
         }
-        String column = group.values()
-                .stream()
-                .findFirst()
-                .map(InheritanceMetadata::discriminatorColumn)
-                .orElseThrow();
+        String column = group.discriminatorColumn();
 
         String discriminator = entity.find(column, String.class)
                 .orElseThrow(
                         () -> new MappingException("To inheritance there is the discriminator column missing" +
                                 " on the Document Collection, the document name: " + column));
 
-        InheritanceMetadata inheritance = Optional.ofNullable(group.get(discriminator))
+        InheritanceMetadata inheritance = group.find(discriminator)
                 .orElseThrow(() -> new MappingException("There is no inheritance map to the discriminator" +
                         " column value " + discriminator));
 
@@ -292,19 +343,14 @@ public abstract class EntityConverter {
     }
 
     private <T> T inheritanceToEntity(List<Element> elements, EntityMetadata mapping) {
-        Map<String, InheritanceMetadata> group = entities()
-                .findByParentGroupByDiscriminatorValue(mapping.type());
+        InheritanceGroup group = entities().inheritanceGroup(mapping.type());
 
         if (group.isEmpty()) {
             throw new MappingException("There is no discriminator inheritance to the structure "
                     + mapping.name());
         }
 
-        String column = group.values()
-                .stream()
-                .findFirst()
-                .map(InheritanceMetadata::discriminatorColumn)
-                .orElseThrow();
+        String column = group.discriminatorColumn();
 
         String discriminator = elements.stream()
                 .filter(d -> d.name().equals(column))
@@ -314,7 +360,7 @@ public abstract class EntityConverter {
                         () -> new MappingException("To inheritance there is the discriminator element missing" +
                                 " at the structure, the field's name: " + column));
 
-        InheritanceMetadata inheritance = Optional.ofNullable(group.get(discriminator))
+        InheritanceMetadata inheritance = group.find(discriminator)
                 .orElseThrow(() -> new MappingException("There is no inheritance map to the discriminator" +
                         " column value " + discriminator));
 
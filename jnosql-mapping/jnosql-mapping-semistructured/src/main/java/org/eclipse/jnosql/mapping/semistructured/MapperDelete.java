@@ -130,7 +130,7 @@ final class MapperDelete extends AbstractMapperQuery implements MapperDeleteFrom
     }
 
 
-    private DeleteQuery build() {
+    DeleteQuery build() {
         return new MappingDeleteQuery(entity, condition);
     }
 
@@ -172,7 +172,7 @@ final class MapperSelect extends AbstractMapperQuery implements MapperFrom, Mapp
         this.sorts.add(Sort.of(mapping.columnField(name), Direction.DESC, false));
         return this;
     }
-    private SelectQuery build() {
+    SelectQuery build() {
         return new MappingQuery(sorts, limit, start, condition, entity, List.of());
     }
 
@@ -29,6 +29,9 @@ import java.util.Optional;
  */
 public record MappingDeleteQuery(String entity, CriteriaCondition criteriaCondition) implements DeleteQuery {
 
+    public MappingDeleteQuery {
+        criteriaCondition = criteriaCondition == null ? null : criteriaCondition.normalize();
+    }
 
     @Override
     public String name() {
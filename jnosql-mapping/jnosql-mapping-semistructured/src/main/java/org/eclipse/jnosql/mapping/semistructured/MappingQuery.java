@@ -36,6 +36,9 @@ public record MappingQuery(List<Sort<?>> sorts,
                            List<String> columns)
         implements SelectQuery {
 
+    public MappingQuery {
+        criteriaCondition = criteriaCondition == null ? null : criteriaCondition.normalize();
+    }
 
     @Override
     public String name() {
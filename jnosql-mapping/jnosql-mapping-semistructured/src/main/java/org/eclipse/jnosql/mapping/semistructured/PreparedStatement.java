@@ -35,6 +35,7 @@ import java.util.stream.Stream;
  * {@link org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement} to integrate easily
  * with different JNoSQL components and provides a high-level abstraction to interact
  * with various databases in a semi-structured format.
+ * The parsed query is cached and shared by the template; each instance holds the values of a single execution.
  *
  * @see org.eclipse.jnosql.mapping.PreparedStatement
  */
@@ -48,14 +49,24 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
 
     private final EntitiesMetadata entitiesMetadata;
 
+    private final Runnable afterWrite;
+
     private boolean updated;
 
     PreparedStatement(CommunicationPreparedStatement preparedStatement,
                       EntityConverter converter, MapperObserver observer, EntitiesMetadata entitiesMetadata) {
+        this(preparedStatement, converter, observer, entitiesMetadata, () -> {
+            // nothing to invalidate
+        });
+    }
+
+    PreparedStatement(CommunicationPreparedStatement preparedStatement, EntityConverter converter,
+                      MapperObserver observer, EntitiesMetadata entitiesMetadata, Runnable afterWrite) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
         this.observer = observer;
         this.entitiesMetadata = entitiesMetadata;
+        this.afterWrite = afterWrite;
     }
 
     @Override
@@ -89,13 +100,16 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
     public <T> Stream<T> result() {
         updateQuery();
         Function<T, T> fieldMapper = SelectFieldMapper.INSTANCE.map(observer, entitiesMetadata);
-        return preparedStatement.result().<T>map(converter::toEntity).map(fieldMapper);
+        Stream<CommunicationEntity> entities = preparedStatement.result();
+        notifyWrite();
+        return entities.<T>map(converter::toEntity).map(fieldMapper);
     }
 
     @Override
     public <T> Optional<T> singleResult() {
         updateQuery();
         Optional<CommunicationEntity> singleResult = preparedStatement.singleResult();
+        notifyWrite();
         Optional<T> result = singleResult.map(converter::toEntity);
         return result.map(SelectFieldMapper.INSTANCE.map(observer, entitiesMetadata));
     }
@@ -103,7 +117,9 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
     @Override
     public long count() {
         updateQuery();
-        return preparedStatement.count();
+        long count = preparedStatement.count();
+        notifyWrite();
+        return count;
     }
 
     @Override
@@ -144,6 +160,14 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
     }
 
 
+    private void notifyWrite() {
+        var type = preparedStatement.getType();
+        if (type == CommunicationPreparedStatement.PreparedStatementType.DELETE
+                || type == CommunicationPreparedStatement.PreparedStatementType.UPDATE) {
+            afterWrite.run();
+        }
+    }
+
     private static CriteriaCondition appendCriteriaCondition(CriteriaCondition condition, CriteriaCondition newCondition) {
         if (condition != null) {
             return CriteriaCondition.and(condition, newCondition);
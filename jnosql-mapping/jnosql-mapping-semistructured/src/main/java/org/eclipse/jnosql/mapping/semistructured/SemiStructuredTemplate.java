@@ -208,4 +208,15 @@ public interface SemiStructuredTemplate extends Template {
      * @throws NullPointerException if the query or pageRequest is null
      */
     <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest);
+
+    /**
+     * Returns the counters of the second-level cache of {@link #find(Class, Object)} for the entity, see {@link Cacheable}.
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return the statistics, or empty when the entity is not cached or was not read by id yet
+     */
+    default <T> Optional<EntityCacheStatistics> cacheStatistics(Class<T> type) {
+        return Optional.empty();
+    }
 }
@@ -23,6 +23,10 @@ import static java.util.Collections.emptyList;
 
 record SemistructureUpdateQuery(String name, List<Element> sets, CriteriaCondition criteriaCondition) implements UpdateQuery {
 
+    SemistructureUpdateQuery {
+        criteriaCondition = criteriaCondition == null ? null : criteriaCondition.normalize();
+    }
+
     @Override
     public Optional<CriteriaCondition> where() {
         return Optional.ofNullable(criteriaCondition);
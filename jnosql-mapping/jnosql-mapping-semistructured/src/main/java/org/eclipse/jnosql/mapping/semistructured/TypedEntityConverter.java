@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.List;
+
+/**
+ * A converter specialized to a single entity or embeddable class, with straight-line reads and writes
+ * of its fields instead of the generic, metadata-driven conversion of {@link EntityConverter}.
+ * <p>
+ * The implementations are usually generated at build time by the
+ * {@code org.eclipse.jnosql.mapping.processor.EntityConverterProcessor} annotation processor and loaded
+ * through {@link java.util.ServiceLoader}. The {@link EntityConverter} only uses a typed converter when
+ * the runtime metadata of the class has no inheritance, attribute converter, embedded or collection field,
+ * so the result is the same of the generic conversion.
+ *
+ * @param <T> the entity type
+ */
+public interface TypedEntityConverter<T> {
+
+    /**
+     * The class this converter handles.
+     *
+     * @return the entity class
+     */
+    Class<T> type();
+
+    /**
+     * Converts the entity instance to a {@link CommunicationEntity}.
+     *
+     * @param entity the entity instance
+     * @param idName the name of the id element, or {@code null} when the class has no id
+     * @return the {@link CommunicationEntity} representing the entity
+     */
+    CommunicationEntity toCommunication(T entity, String idName);
+
+    /**
+     * Creates a new entity instance from the elements.
+     *
+     * @param elements the elements to be converted
+     * @param idName   the name of the id element, or {@code null} when the class has no id
+     * @return the entity instance
+     */
+    T toEntity(List<Element> elements, String idName);
+}
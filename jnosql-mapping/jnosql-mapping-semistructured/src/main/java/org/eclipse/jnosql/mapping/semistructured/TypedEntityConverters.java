@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * The registry of the {@link TypedEntityConverter} implementations found through {@link ServiceLoader}.
+ * A typed converter is only returned when the runtime metadata of the class is plain enough for
+ * the straight-line conversion to match the generic one; the decision is made once per class.
+ */
+final class TypedEntityConverters {
+
+    private static final Logger LOGGER = Logger.getLogger(TypedEntityConverters.class.getName());
+
+    private final Map<Class<?>, TypedEntityConverter<?>> converters;
+
+    private final Map<Class<?>, Optional<TypedEntityConverter<?>>> resolved = new ConcurrentHashMap<>();
+
+    TypedEntityConverters(Map<Class<?>, TypedEntityConverter<?>> converters) {
+        this.converters = converters;
+    }
+
+    /**
+     * Finds the typed converter to the entity.
+     *
+     * @param mapping the entity metadata
+     * @param <T>     the entity type
+     * @return the typed converter or {@link Optional#empty()} when there is none or it does not fit the metadata
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <T> Optional<TypedEntityConverter<T>> get(EntityMetadata mapping) {
+        if (converters.isEmpty()) {
+            return Optional.empty();
+        }
+        return (Optional) resolved.computeIfAbsent(mapping.type(), type -> Optional.ofNullable(converters.get(type))
+                .filter(converter -> isSupported(mapping)));
+    }
+
+    private static boolean isSupported(EntityMetadata mapping) {
+        boolean supported = mapping.inheritance().isEmpty()
+                && mapping.constructor().isDefault()
+                && mapping.fields().stream().allMatch(TypedEntityConverters::isPlain);
+        if (!supported) {
+            LOGGER.fine(() -> "The typed converter of " + mapping.type()
+                    + " is ignored because the entity metadata requires the generic conversion");
+        }
+        return supported;
+    }
+
+    private static boolean isPlain(FieldMetadata field) {
+        return MappingType.DEFAULT.equals(field.mappingType()) && field.converter().isEmpty();
+    }
+
+    /**
+     * Loads the typed converters from {@link ServiceLoader}.
+     *
+     * @return the registry
+     */
+    @SuppressWarnings("rawtypes")
+    static TypedEntityConverters load() {
+        Map<Class<?>, TypedEntityConverter<?>> converters = new HashMap<>();
+        ServiceLoader.load(TypedEntityConverter.class).forEach(converter -> converters.put(converter.type(), converter));
+        LOGGER.fine(() -> "Typed entity converters found: " + converters.size());
+        return new TypedEntityConverters(Map.copyOf(converters));
+    }
+}
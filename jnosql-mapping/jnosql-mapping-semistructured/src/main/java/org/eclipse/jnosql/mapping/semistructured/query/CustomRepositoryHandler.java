@@ -39,9 +39,10 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -74,6 +75,10 @@ public class CustomRepositoryHandler implements InvocationHandler {
 
     private final AbstractSemiStructuredRepositoryProxy<?, ?> defaultRepository;
 
+    private final Map<Method, MethodInvoker> invokers = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, AbstractRepository<?, ?>> repositories = new ConcurrentHashMap<>();
+
     protected CustomRepositoryHandler(EntitiesMetadata entitiesMetadata, SemiStructuredTemplate template,
                                       LifecycleEventHandler lifeCycle,
                             Class<?> customRepositoryType,
@@ -88,95 +93,119 @@ public class CustomRepositoryHandler implements InvocationHandler {
 
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
+        MethodInvoker invoker = invokers.get(method);
+        if (invoker == null) {
+            invoker = resolve(method);
+            MethodInvoker previous = invokers.putIfAbsent(method, invoker);
+            invoker = previous == null ? invoker : previous;
+        }
+        return invoker.invoke(instance, params);
+    }
 
+    /**
+     * Resolves the method once: the type, the repository proxy, the custom repository bean and the query are kept
+     * by the invoker, so each call only binds its arguments and runs the operation. It runs outside the map since
+     * the custom repository bean might call the repository while it is created; concurrent first calls might each
+     * resolve the method, and the first invoker is kept.
+     */
+    private MethodInvoker resolve(Method method) {
         RepositoryType type = RepositoryType.of(method, customRepositoryType);
-        LOGGER.fine(() -> "Executing the method " + method + " with the parameters " + Arrays.toString(params) + " and the type " + type);
-
-        switch (type) {
-            case SAVE -> {
-                return unwrapInvocationTargetException(() -> AnnotationOperation.SAVE.invoke(new AnnotationOperation.Operation(method, params, repository(params, method))));
-            }
-            case INSERT -> {
-                return unwrapInvocationTargetException(() -> AnnotationOperation.INSERT.invoke(new AnnotationOperation.Operation(method, params, repository(params, method))));
-            }
-            case DELETE -> {
-                return unwrapInvocationTargetException(() -> AnnotationOperation.DELETE.invoke(new AnnotationOperation.Operation(method, params, repository(params, method))));
-            }
-            case UPDATE -> {
-                return unwrapInvocationTargetException(() -> AnnotationOperation.UPDATE.invoke(new AnnotationOperation.Operation(method, params, repository(params, method))));
-            }
-            case DEFAULT_METHOD -> {
-                return unwrapInvocationTargetException(() -> InvocationHandler.invokeDefault(instance, method, params));
-            }
-            case OBJECT_METHOD -> {
-                return unwrapInvocationTargetException(() -> unwrapInvocationTargetException(() -> method.invoke(this, params)));
-            }
+        LOGGER.fine(() -> "Resolving the method " + method + " with the type " + type);
+
+        return switch (type) {
+            case SAVE -> annotationOperation(method, AnnotationOperation.SAVE);
+            case INSERT -> annotationOperation(method, AnnotationOperation.INSERT);
+            case DELETE -> annotationOperation(method, AnnotationOperation.DELETE);
+            case UPDATE -> annotationOperation(method, AnnotationOperation.UPDATE);
+            case DEFAULT_METHOD -> (instance, params) ->
+                    unwrapInvocationTargetException(() -> InvocationHandler.invokeDefault(instance, method, params));
+            case OBJECT_METHOD -> (instance, params) -> unwrapInvocationTargetException(() -> method.invoke(this, params));
             case PARAMETER_BASED -> {
-                return unwrapInvocationTargetException(() -> repository(method).executeParameterBased(instance, method, params));
+                var repository = repository(method);
+                yield (instance, params) -> unwrapInvocationTargetException(() -> repository.executeParameterBased(instance, method, params));
             }
             case CURSOR_PAGINATION -> {
-                return unwrapInvocationTargetException(() -> repository(method).executeCursorPagination(instance, method, params));
+                var repository = repository(method);
+                yield (instance, params) -> unwrapInvocationTargetException(() -> repository.executeCursorPagination(instance, method, params));
             }
             case FIND_ALL -> {
-                return unwrapInvocationTargetException(() -> repository(method).executeFindAll(instance, method, params));
+                var repository = repository(method);
+                yield (instance, params) -> unwrapInvocationTargetException(() -> repository.executeFindAll(instance, method, params));
             }
             case FIND_BY -> {
-                return unwrapInvocationTargetException(() -> repository(method).executeFindByQuery(instance, method, params));
+                var repository = repository(method);
+                yield (instance, params) -> unwrapInvocationTargetException(() -> repository.executeFindByQuery(instance, method, params));
             }
             case CUSTOM_REPOSITORY -> {
                 Object customRepository = CDI.current().select(method.getDeclaringClass()).get();
-                return unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
-            }
-            case QUERY -> {
-                var repositoryMetadata = repositoryMetadata(method);
-                if (repositoryMetadata.metadata().isEmpty() && this.defaultRepository == null) {
-                    var query = method.getAnnotation(Query.class);
-                    var queryType = QueryType.parse(query.value());
-                    var returnType = method.getReturnType();
-                    boolean namedParameters = queryContainsNamedParameters(query);
-                    LOGGER.fine(() -> "Executing the query " + query.value()
-                            + (namedParameters ? " with named parameters, " : "")
-                            + " with the type " + queryType + " and the return type " + returnType);
-                    Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getParams(method, params);
-                    LOGGER.fine(() -> "Parameters: " + parameters);
-                    var prepare = template.prepare(query.value());
-                    parameters.entrySet().stream()
-                        .filter(namedParameters ?
-                                        (parameter -> !isOrdinalParameter(parameter))
-                                        : parameter -> isOrdinalParameter(parameter))
-                        .forEach(param -> prepare.bind(param.getKey(), param.getValue()));
-                    if (prepare.isCount()) {
-                        return prepare.count();
-                    }
-                    if (QueryType.DELETE.equals(queryType)) {
-                        if (returnsLong(method)) {
-                            return prepare.count();
-                        }
-                        if (returnsInt(method)) {
-                            return (int) prepare.count();
-                        }
-                    }
-                    Stream<?> entities = prepare.result();
-                    return toResultOfQueryMethod(method, entities);
-                } else if (repositoryMetadata.metadata().isPresent()) {
-                    return unwrapInvocationTargetException(() -> repository(method).executeQuery(instance, method, params));
-                } else {
-                    return unwrapInvocationTargetException(() -> this.defaultRepository.executeQuery(instance, method, params));
-                }
-
+                yield (instance, params) -> unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
             }
+            case QUERY -> query(method);
             case COUNT_BY, COUNT_ALL -> {
-                return unwrapInvocationTargetException(() -> defaultRepository().executeCountByQuery(instance, method, params));
+                var repository = defaultRepository();
+                yield (instance, params) -> unwrapInvocationTargetException(() -> repository.executeCountByQuery(instance, method, params));
             }
             case EXISTS_BY -> {
-                return unwrapInvocationTargetException(() -> defaultRepository().executeExistByQuery(instance, method, params));
+                var repository = defaultRepository();
+                yield (instance, params) -> unwrapInvocationTargetException(() -> repository.executeExistByQuery(instance, method, params));
             }
             case DELETE_BY -> {
-                return unwrapInvocationTargetException(() -> defaultRepository().executeDeleteByAll(instance, method, params));
+                var repository = defaultRepository();
+                yield (instance, params) -> unwrapInvocationTargetException(() -> repository.executeDeleteByAll(instance, method, params));
             }
-            default ->
-                    throw new UnsupportedOperationException("The custom repository does not support the method " + method);
+            default -> throw new UnsupportedOperationException("The custom repository does not support the method " + method);
+        };
+    }
+
+    private MethodInvoker annotationOperation(Method method, AnnotationOperation operation) {
+        return (instance, params) -> unwrapInvocationTargetException(() ->
+                operation.invoke(new AnnotationOperation.Operation(method, params, repository(params, method))));
+    }
+
+    private MethodInvoker query(Method method) {
+        var repositoryMetadata = repositoryMetadata(method);
+        if (repositoryMetadata.metadata().isPresent()) {
+            var repository = repository(method);
+            return (instance, params) -> unwrapInvocationTargetException(() -> repository.executeQuery(instance, method, params));
+        }
+        if (this.defaultRepository != null) {
+            return (instance, params) -> unwrapInvocationTargetException(() -> this.defaultRepository.executeQuery(instance, method, params));
         }
+        var query = method.getAnnotation(Query.class);
+        var queryType = QueryType.parse(query.value());
+        boolean namedParameters = queryContainsNamedParameters(query);
+        boolean returnsLong = returnsLong(method);
+        boolean returnsInt = returnsInt(method);
+        List<Map.Entry<String, Integer>> parameters = RepositoryReflectionUtils.INSTANCE.getParamIndexes(method)
+                .entrySet().stream()
+                .filter(parameter -> namedParameters != isOrdinalParameter(parameter.getKey()))
+                .toList();
+        LOGGER.fine(() -> "Executing the query " + query.value()
+                + (namedParameters ? " with named parameters, " : "")
+                + " with the type " + queryType + " and the return type " + method.getReturnType()
+                + ", the parameters " + parameters);
+        return (instance, params) -> {
+            var prepare = template.prepare(query.value());
+            for (Map.Entry<String, Integer> parameter : parameters) {
+                prepare.bind(parameter.getKey(), params[parameter.getValue()]);
+            }
+            if (prepare.isCount()) {
+                return prepare.count();
+            }
+            if (queryType.isNotSelect() && (returnsLong || returnsInt)) {
+                long count = prepare.count();
+                if (count < 0) {
+                    throw new UnsupportedOperationException("The database cannot report the number of entities affected by the query: "
+                            + query.value());
+                }
+                if (returnsLong) {
+                    return count;
+                }
+                return (int) count;
+            }
+            Stream<?> entities = prepare.result();
+            return toResultOfQueryMethod(method, entities);
+        };
     }
 
     /**
@@ -198,8 +227,8 @@ public class CustomRepositoryHandler implements InvocationHandler {
         return Void.class;
     }
 
-    private static boolean isOrdinalParameter(Map.Entry<String, Object> parameter) {
-        return parameter.getKey().startsWith("?");
+    private static boolean isOrdinalParameter(String parameter) {
+        return parameter.startsWith("?");
     }
 
     protected Object unwrapInvocationTargetException(ThrowingSupplier<Object> supplier) throws Throwable {
@@ -284,6 +313,15 @@ public class CustomRepositoryHandler implements InvocationHandler {
     private record RepositoryMetadata(Class<?> typeClass, Optional<EntityMetadata> metadata) {
     }
 
+    /**
+     * The resolved execution of a custom repository method.
+     */
+    @FunctionalInterface
+    private interface MethodInvoker {
+
+        Object invoke(Object instance, Object[] params) throws Throwable;
+    }
+
     private AbstractRepository<?, ?> repository(Object[] params, Method method) {
         var typeClass = params == null || params.length == 0? null: params[0].getClass();
 
@@ -297,9 +335,15 @@ public class CustomRepositoryHandler implements InvocationHandler {
             typeClass = entity.getClass();
         }
 
-        return getEntityMetadataBy(typeClass)
+        AbstractRepository<?, ?> repository = repositories.get(typeClass);
+        if (repository != null) {
+            return repository;
+        }
+        repository = getEntityMetadataBy(typeClass)
                 .map(entityMetadata -> new SemiStructuredRepositoryProxy.SemiStructuredRepository<>(template, entityMetadata, lifeCycle))
                 .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method: " + method));
+        repositories.putIfAbsent(typeClass, repository);
+        return repository;
     }
 
     private AbstractSemiStructuredRepositoryProxy<?, ?> repository(Method method, Parameter[] params) {
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured.repository;
+
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.semistructured.ConditionTemplate;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DefaultDeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.DefaultSelectQuery;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The query of a repository method, such as findBy or deleteBy, compiled once: the method name is parsed, the
+ * column names are resolved, and each method argument is assigned to a parameter slot with its field converter.
+ * An invocation only converts the arguments into the slots and binds them to the immutable query template.
+ *
+ * @param <Q> the query type
+ */
+final class MethodQueryPlan<Q> {
+
+    private final Q query;
+
+    private final ConditionTemplate condition;
+
+    private final BiFunction<Q, CriteriaCondition, Q> factory;
+
+    private final String methodName;
+
+    private final int[] slots;
+
+    private final FieldMetadata[] fields;
+
+    private final Converters converters;
+
+    private MethodQueryPlan(Q query, CriteriaCondition condition, Params params,
+                            BiFunction<Q, CriteriaCondition, Q> factory,
+                            String methodName, EntityMetadata entityMetadata, Converters converters) {
+        this.query = query;
+        this.condition = ConditionTemplate.of(condition, params);
+        this.factory = factory;
+        this.methodName = methodName;
+        this.converters = converters;
+        List<String> names = params.getParametersNames();
+        this.slots = new int[names.size()];
+        this.fields = new FieldMetadata[names.size()];
+        for (int index = 0; index < names.size(); index++) {
+            String name = names.get(index);
+            int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
+            String fieldName = name.substring(0, lastIndex);
+            slots[index] = this.condition.slot(name);
+            fields[index] = entityMetadata.fields().stream()
+                    .filter(f -> f.name().equals(fieldName))
+                    .findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * Creates the query with the parameters bound to the method arguments.
+     *
+     * @param args the method arguments
+     * @return the query
+     * @throws DynamicQueryException when the query has more parameters than the method
+     */
+    Q apply(Object[] args) {
+        if (slots.length > args.length) {
+            throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
+                    "parameters in the method: " + methodName);
+        }
+        if (slots.length == 0) {
+            return query;
+        }
+        Object[] values = new Object[condition.size()];
+        for (int index = 0; index < slots.length; index++) {
+            values[slots[index]] = value(args[index], fields[index]);
+        }
+        return factory.apply(query, condition.bind(values).orElse(null));
+    }
+
+    private Object value(Object value, FieldMetadata field) {
+        if (field == null) {
+            return value;
+        }
+        if (value instanceof Iterable<?> iterable) {
+            List<Object> values = new ArrayList<>();
+            for (Object item : iterable) {
+                values.add(ConverterUtil.getValue(item, converters, field));
+            }
+            return values;
+        }
+        return ConverterUtil.getValue(value, converters, field);
+    }
+
+    static MethodQueryPlan<SelectQuery> select(SelectQuery query, Params params, String methodName,
+                                               EntityMetadata entityMetadata, Converters converters) {
+        return new MethodQueryPlan<>(query, query.condition().orElse(null), params,
+                (q, c) -> new DefaultSelectQuery(q.limit(), q.skip(), q.name(), q.columns(), q.sorts(), c, q.isCount()),
+                methodName, entityMetadata, converters);
+    }
+
+    static MethodQueryPlan<DeleteQuery> delete(DeleteQuery query, Params params, String methodName,
+                                               EntityMetadata entityMetadata, Converters converters) {
+        return new MethodQueryPlan<>(query, query.condition().orElse(null), params,
+                (q, c) -> new DefaultDeleteQuery(q.name(), c, q.columns()),
+                methodName, entityMetadata, converters);
+    }
+}
@@ -16,18 +16,13 @@ package org.eclipse.jnosql.mapping.semistructured.repository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
-import org.eclipse.jnosql.communication.semistructured.SelectQueryParser;
-import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMethod;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.FindByOperation;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
 
 @ApplicationScoped
 class SemistructuredFindByOperation implements FindByOperation {
 
-    private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
-
     private final SemistructuredQueryBuilder semistructuredQueryBuilder;
 
     private final SemistructuredReturnType semistructuredReturnType;
@@ -52,17 +47,7 @@ class SemistructuredFindByOperation implements FindByOperation {
     }
 
     private SelectQuery getSelectQuery(RepositoryInvocationContext context) {
-        RepositoryMethod method = context.method();
-        var entityMetadata = context.entityMetadata();
-        var parameters = context.parameters();
-        var provider = SelectMethodProvider.INSTANCE;
-        var selectQuery = provider.apply(method.name(), entityMetadata.name());
-        var observer = semistructuredQueryBuilder.observer(entityMetadata);
-        var paramsBinder = semistructuredQueryBuilder.paramsBinder(entityMetadata);
-        var queryParams = SELECT_PARSER.apply(selectQuery, observer);
-        var query = queryParams.query();
-        var params = queryParams.params();
-        paramsBinder.bind(params, parameters, method.name());
+        var query = semistructuredQueryBuilder.bindSelectQuery(context);
         return semistructuredQueryBuilder.updateDynamicQuery(query, context);
     }
 }
@@ -25,7 +25,6 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQueryParser;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQueryParser;
 import org.eclipse.jnosql.mapping.core.Converters;
-import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
 import org.eclipse.jnosql.mapping.semistructured.MappingDeleteQuery;
@@ -40,7 +39,8 @@ class SemistructuredQueryBuilder {
     private static final SelectQueryParser SELECT_PARSER = new SelectQueryParser();
     private static final DeleteQueryParser DELETE_PARSER = new DeleteQueryParser();
     private final Map<Class<?>, CommunicationObserverParser> parsers;
-    private final Map<Class<?>, ParamsBinder> paramsBinderMap;
+    private final Map<PlanKey, MethodQueryPlan<SelectQuery>> selectPlans = new ConcurrentHashMap<>();
+    private final Map<PlanKey, MethodQueryPlan<DeleteQuery>> deletePlans = new ConcurrentHashMap<>();
 
     private final Converters converters;
 
@@ -48,43 +48,40 @@ class SemistructuredQueryBuilder {
     SemistructuredQueryBuilder(Converters converters) {
         this.converters = converters;
         this.parsers = new ConcurrentHashMap<>();
-        this.paramsBinderMap = new ConcurrentHashMap<>();
     }
 
     SemistructuredQueryBuilder() {
         this.converters = null;
         this.parsers = new ConcurrentHashMap<>();
-        this.paramsBinderMap = new ConcurrentHashMap<>();
     }
 
 
     SelectQuery selectQuery(RepositoryInvocationContext context) {
+        return DynamicSelectQueryBuilder.includeInheritance(bindSelectQuery(context), context.entityMetadata());
+    }
+
+    SelectQuery bindSelectQuery(RepositoryInvocationContext context) {
         var method = context.method();
         var entityMetadata = context.entityMetadata();
-        var parameters = context.parameters();
-        var provider = SelectMethodProvider.INSTANCE;
-        var selectQuery = provider.apply(method.name(), entityMetadata.name());
-        var observer = this.observer(entityMetadata);
-        var queryParams = SELECT_PARSER.apply(selectQuery, observer);
-        var query = queryParams.query();
-        var params = queryParams.params();
-        var paramsBinder = this.paramsBinder(entityMetadata);
-        paramsBinder.bind(params, parameters, method.name());
-        return DynamicSelectQueryBuilder.includeInheritance(query, entityMetadata);
+        var plan = selectPlans.computeIfAbsent(new PlanKey(entityMetadata.type(), method.name()), key -> {
+            var selectQuery = SelectMethodProvider.INSTANCE.apply(method.name(), entityMetadata.name());
+            var queryParams = SELECT_PARSER.apply(selectQuery, observer(entityMetadata));
+            return MethodQueryPlan.select(queryParams.query(), queryParams.params(), method.name(),
+                    entityMetadata, converters);
+        });
+        return plan.apply(context.parameters());
     }
 
     DeleteQuery deleteQuery(RepositoryInvocationContext context) {
-        var entityMetadata = context.entityMetadata();
-        var provider = DeleteMethodProvider.INSTANCE;
         var method = context.method();
-        var deleteQuery = provider.apply(method.name(), entityMetadata.name());
-        var queryParams = DELETE_PARSER.apply(deleteQuery, observer(entityMetadata));
-        var params = queryParams.params();
-        var parameters = context.parameters();
-        var query = queryParams.query();
-        var paramsBinder = this.paramsBinder(entityMetadata);
-        paramsBinder.bind(params, parameters, method.name());
-        return includeInheritance(query, entityMetadata);
+        var entityMetadata = context.entityMetadata();
+        var plan = deletePlans.computeIfAbsent(new PlanKey(entityMetadata.type(), method.name()), key -> {
+            var deleteQuery = DeleteMethodProvider.INSTANCE.apply(method.name(), entityMetadata.name());
+            var queryParams = DELETE_PARSER.apply(deleteQuery, observer(entityMetadata));
+            return MethodQueryPlan.delete(queryParams.query(), queryParams.params(), method.name(),
+                    entityMetadata, converters);
+        });
+        return includeInheritance(plan.apply(context.parameters()), entityMetadata);
     }
 
     SelectQuery applyInheritance(SelectQuery query, RepositoryInvocationContext context) {
@@ -103,11 +100,6 @@ class SemistructuredQueryBuilder {
         return parsers.computeIfAbsent(entityType,key -> new RepositorySemiStructuredObserverParser(entityMetadata));
     }
 
-    ParamsBinder paramsBinder(EntityMetadata entityMetadata) {
-        Class<?> entityType = entityMetadata.type();
-        return paramsBinderMap.computeIfAbsent(entityType,key -> new ParamsBinder(entityMetadata, converters));
-    }
-
     DeleteQuery includeInheritance(DeleteQuery query, EntityMetadata metadata) {
         var condition = DynamicSelectQueryBuilder.includeInheritance(metadata);
         if (condition == null) {
@@ -120,4 +112,6 @@ class SemistructuredQueryBuilder {
         return new MappingDeleteQuery(query.name(), condition);
     }
 
+    private record PlanKey(Class<?> type, String method) {
+    }
 }
@@ -41,9 +41,11 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.entities.Country;
 import org.eclipse.jnosql.mapping.semistructured.entities.Job;
 import org.eclipse.jnosql.mapping.semistructured.entities.Person;
 import org.eclipse.jnosql.mapping.semistructured.entities.inheritance.LargeProject;
@@ -224,11 +226,12 @@ class DefaultSemiStructuredTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class), Mockito.eq(duration)))
-                .thenReturn(communicationEntity);
+                        .insert(Mockito.<Iterable<CommunicationEntity>>any(), Mockito.eq(duration)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class), any(Duration.class));
+        verify(managerMock).insert(Mockito.<Iterable<CommunicationEntity>>any(), any(Duration.class));
+        verify(managerMock, never()).insert(any(CommunicationEntity.class), any(Duration.class));
     }
 
     @DisplayName("Should insert entities")
@@ -238,11 +241,15 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .insert(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class));
+        var result = template.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(Mockito.<Iterable<CommunicationEntity>>any());
+        verify(managerMock, never()).insert(any(CommunicationEntity.class));
+        verify(eventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+        assertThat(result).hasSize(2);
     }
 
     @DisplayName("Should update entities")
@@ -252,11 +259,12 @@ class DefaultSemiStructuredTemplateTest {
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .update(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(CommunicationEntity.class));
+        verify(managerMock).update(Mockito.<Iterable<CommunicationEntity>>any());
+        verify(managerMock, never()).update(any(CommunicationEntity.class));
     }
 
     @DisplayName("Should delete")
@@ -676,6 +684,21 @@ class DefaultSemiStructuredTemplateTest {
         assertThat(condition).isEqualTo(CriteriaCondition.eq(Element.of("_id", 10L)));
     }
 
+    @DisplayName("Should delete entities by ids in a single query")
+    @Test
+    void shouldDeleteEntitiesInSingleQuery() {
+        template.delete(List.of(Person.builder().id(10).build(), Person.builder().id(20).build()));
+        ArgumentCaptor<DeleteQuery> queryCaptor = ArgumentCaptor.forClass(DeleteQuery.class);
+        verify(managerMock).delete(queryCaptor.capture());
+
+        DeleteQuery query = queryCaptor.getValue();
+
+        CriteriaCondition condition = query.condition().orElseThrow();
+        assertThat(query.name()).isEqualTo("Person");
+        assertThat(condition.condition()).isEqualTo(Condition.IN);
+        assertThat((List<?>) condition.element().get()).containsExactly(10L, 20L);
+    }
+
     @DisplayName("Should update query")
     @Test
     void shouldUpdateQuery() {
@@ -693,6 +716,192 @@ class DefaultSemiStructuredTemplateTest {
         return List.of(columnEntity);
     }
 
+    @Nested
+    @DisplayName("When the entity is cached by id")
+    class WhenTheEntityIsCachedById {
+
+        @BeforeEach
+        void setUp() {
+            Mockito.when(managerMock.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(brazil()));
+        }
+
+        @Test
+        @DisplayName("should read the database once")
+        void shouldReadDatabaseOnce() {
+            Optional<Country> first = template.find(Country.class, "BR");
+            Optional<Country> second = template.find(Country.class, "BR");
+
+            verify(managerMock).select(any(SelectQuery.class));
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(first).map(Country::getName).contains("Brazil");
+                soft.assertThat(second).map(Country::getName).contains("Brazil");
+                soft.assertThat(first.orElseThrow()).isNotSameAs(second.orElseThrow());
+                soft.assertThat(template.cacheStatistics(Country.class))
+                        .contains(new EntityCacheStatistics(1, 1, 0, 1));
+            });
+        }
+
+        @Test
+        @DisplayName("should keep the query of the find")
+        void shouldKeepFindQuery() {
+            template.find(Country.class, "BR");
+            ArgumentCaptor<SelectQuery> queryCaptor = ArgumentCaptor.forClass(SelectQuery.class);
+            verify(managerMock).select(queryCaptor.capture());
+
+            SelectQuery query = queryCaptor.getValue();
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(query.name()).isEqualTo("Country");
+                soft.assertThat(query.condition()).contains(CriteriaCondition.eq(Element.of("_id", "BR")));
+            });
+        }
+
+        @Test
+        @DisplayName("should not cache a missing entity")
+        void shouldNotCacheMissingEntity() {
+            Mockito.when(managerMock.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.empty());
+
+            template.find(Country.class, "XX");
+            template.find(Country.class, "XX");
+
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+        }
+
+        @Test
+        @DisplayName("should reject more than one entity with the id")
+        void shouldRejectNonUniqueResult() {
+            Mockito.when(managerMock.select(any(SelectQuery.class))).thenAnswer(invocation -> Stream.of(brazil(), brazil()));
+
+            assertThatThrownBy(() -> template.find(Country.class, "BR"))
+                    .isInstanceOf(NonUniqueResultException.class);
+        }
+
+        @Test
+        @DisplayName("should read the database again after the entity is updated")
+        void shouldEvictOnUpdate() {
+            Mockito.when(managerMock.update(any(CommunicationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            template.find(Country.class, "BR");
+            template.update(new Country("BR", "Brasil"));
+            template.find(Country.class, "BR");
+
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+        }
+
+        @Test
+        @DisplayName("should read the database again after the entity is inserted")
+        void shouldEvictOnInsert() {
+            Mockito.when(managerMock.insert(any(CommunicationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            template.find(Country.class, "BR");
+            template.insert(new Country("BR", "Brasil"), Duration.ofMinutes(1));
+            template.find(Country.class, "BR");
+
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+        }
+
+        @Test
+        @DisplayName("should keep the other entities when an entity is deleted")
+        void shouldEvictOnlyDeletedEntity() {
+            Mockito.when(managerMock.select(any(SelectQuery.class)))
+                    .thenAnswer(invocation -> Stream.of(country(invocation.<SelectQuery>getArgument(0))));
+
+            template.find(Country.class, "BR");
+            template.find(Country.class, "PT");
+            template.delete(new Country("BR", "Brazil"));
+            template.find(Country.class, "BR");
+            template.find(Country.class, "PT");
+
+            verify(managerMock, times(3)).select(any(SelectQuery.class));
+        }
+
+        @Test
+        @DisplayName("should read the database again after the entity is deleted by id")
+        void shouldEvictOnDeleteById() {
+            template.find(Country.class, "BR");
+            template.delete(Country.class, "BR");
+            template.find(Country.class, "BR");
+
+            ArgumentCaptor<DeleteQuery> queryCaptor = ArgumentCaptor.forClass(DeleteQuery.class);
+            verify(managerMock).delete(queryCaptor.capture());
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+            assertThat(queryCaptor.getValue().condition()).contains(CriteriaCondition.eq(Element.of("_id", "BR")));
+        }
+
+        @Test
+        @DisplayName("should read the database again after a delete query")
+        void shouldEvictOnDeleteQuery() {
+            template.find(Country.class, "BR");
+            template.delete(delete().from("Country").build());
+            template.find(Country.class, "BR");
+
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+        }
+
+        @Test
+        @DisplayName("should read the database again after a prepared delete")
+        void shouldEvictOnPreparedDelete() {
+            template.find(Country.class, "BR");
+            template.prepare("DELETE FROM Country").result();
+            template.find(Country.class, "BR");
+
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+        }
+
+        @Test
+        @DisplayName("should keep the entities after a prepared select")
+        void shouldKeepOnPreparedSelect() {
+            template.find(Country.class, "BR");
+            template.prepare("FROM Country").result().toList();
+            template.find(Country.class, "BR");
+
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+            assertThat(template.cacheStatistics(Country.class)).map(EntityCacheStatistics::hits).contains(1L);
+        }
+
+        @Test
+        @DisplayName("should not cache an entity without configuration")
+        void shouldNotCacheWithoutConfiguration() {
+            Mockito.when(managerMock.select(any(SelectQuery.class))).thenAnswer(invocation -> content().stream());
+
+            template.find(Person.class, "10");
+            template.find(Person.class, "10");
+
+            verify(managerMock, times(2)).select(any(SelectQuery.class));
+            assertThat(template.cacheStatistics(Person.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should cache an entity enabled by the configuration")
+        void shouldCacheByConfiguration() {
+            Mockito.when(managerMock.select(any(SelectQuery.class))).thenAnswer(invocation -> content().stream());
+            System.setProperty(MappingConfigurations.CACHE_ENTITIES.get(), "Job, Person");
+            try {
+                template.find(Person.class, "10");
+                template.find(Person.class, "10");
+
+                verify(managerMock).select(any(SelectQuery.class));
+                assertThat(template.cacheStatistics(Person.class)).map(EntityCacheStatistics::size).contains(1L);
+            } finally {
+                System.clearProperty(MappingConfigurations.CACHE_ENTITIES.get());
+            }
+        }
+
+        private CommunicationEntity brazil() {
+            var entity = CommunicationEntity.of("Country");
+            entity.add("_id", "BR");
+            entity.add("name", "Brazil");
+            return entity;
+        }
+
+        private CommunicationEntity country(SelectQuery query) {
+            var code = query.condition().orElseThrow().element().get(String.class);
+            var entity = CommunicationEntity.of("Country");
+            entity.add("_id", code);
+            entity.add("name", "Country " + code);
+            return entity;
+        }
+    }
+
     @Nested
     @DisplayName("When the default semi structured template is tested")
     class WhenTheDefaultSemiStructuredTemplateIsTested {
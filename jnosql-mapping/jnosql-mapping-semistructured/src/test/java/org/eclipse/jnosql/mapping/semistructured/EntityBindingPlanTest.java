@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.EntityShape;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.entities.Hero;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.semistructured.entities.Worker;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions(ReflectionEntityMetadataExtension.class)
+class EntityBindingPlanTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private EntityConverter converter;
+
+    @Test
+    void shouldBindFields() {
+        var mapping = entities.get(Person.class);
+        var plan = EntityBindingPlan.of(mapping, entities);
+        Person person = plan.bind(mapping.<Person>newInstance(), List.of(Element.of("_id", 10L),
+                Element.of("name", "Ada"), Element.of("age", 30),
+                Element.of("phones", List.of("123")), Element.of("unknown", "value")), converter);
+
+        assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(10L);
+            softly.assertThat(person.getName()).isEqualTo("Ada");
+            softly.assertThat(person.getAge()).isEqualTo(30);
+            softly.assertThat(person.getPhones()).containsExactly("123");
+            softly.assertThat(person.getMobiles()).isNull();
+        });
+    }
+
+    @Test
+    void shouldUseFirstNonNullValueToFields() {
+        var mapping = entities.get(Person.class);
+        var plan = EntityBindingPlan.of(mapping, entities);
+        Person person = plan.bind(mapping.<Person>newInstance(), List.of(Element.of("name", null),
+                Element.of("name", "Ada"), Element.of("name", "Grace")), converter);
+
+        assertSoftly(softly -> softly.assertThat(person.getName()).isEqualTo("Ada"));
+    }
+
+    @Test
+    void shouldBuildByConstructor() {
+        var plan = EntityBindingPlan.of(entities.get(Hero.class), entities);
+        Hero hero = plan.build(List.of(Element.of("name", "Batman"), Element.of("_id", "bruce")), converter);
+
+        assertSoftly(softly -> {
+            softly.assertThat(hero.id()).isEqualTo("bruce");
+            softly.assertThat(hero.name()).isEqualTo("Batman");
+        });
+    }
+
+    @Test
+    void shouldAddEmptyParameterWhenElementIsMissingOrNull() {
+        var plan = EntityBindingPlan.of(entities.get(Hero.class), entities);
+        Hero hero = plan.build(List.of(Element.of("name", null)), converter);
+
+        assertSoftly(softly -> {
+            softly.assertThat(hero.id()).isNull();
+            softly.assertThat(hero.name()).isNull();
+        });
+    }
+
+    @Test
+    void shouldBindFieldsFromSlots() {
+        var mapping = entities.get(Person.class);
+        var plan = EntityBindingPlan.of(mapping, entities);
+        var shape = EntityShape.of("Person", List.of("_id", "name", "age", "phones", "mobiles"));
+        var entity = shape.newEntity();
+        entity.set(0, 10L);
+        entity.set(1, "Ada");
+        entity.set(2, null);
+        entity.set(3, List.of("123"));
+        entity.set(4, List.of("456"));
+        Person person = plan.bind(mapping.<Person>newInstance(), entity, null, converter);
+
+        assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(10L);
+            softly.assertThat(person.getName()).isEqualTo("Ada");
+            softly.assertThat(person.getAge()).isZero();
+            softly.assertThat(person.getPhones()).containsExactly("123");
+            softly.assertThat(person.getMobiles()).containsExactly("456");
+        });
+    }
+
+    @Test
+    void shouldBuildByConstructorFromSlots() {
+        var plan = EntityBindingPlan.of(entities.get(Hero.class), entities);
+        var shape = EntityShape.of("Hero", List.of("name", "_id"));
+        var entity = shape.newEntity();
+        entity.set(0, "Batman");
+        Hero hero = plan.build(entity, null, converter);
+
+        assertSoftly(softly -> {
+            softly.assertThat(hero.id()).isNull();
+            softly.assertThat(hero.name()).isEqualTo("Batman");
+        });
+    }
+
+    @Test
+    void shouldReadIdFromAliasSlot() {
+        var plan = EntityBindingPlan.of(entities.get(Hero.class), entities);
+        var shape = EntityShape.of("Hero", List.of("key", "_id", "name"));
+        var entity = shape.newEntity();
+        entity.set(0, "bruce");
+        entity.set(1, "ignored");
+        entity.set(2, "Batman");
+        Hero hero = plan.build(entity, "key", converter);
+
+        assertSoftly(softly -> {
+            softly.assertThat(hero.id()).isEqualTo("bruce");
+            softly.assertThat(hero.name()).isEqualTo("Batman");
+        });
+    }
+
+    @Test
+    void shouldNotReadSlotsWithEmbeddedField() {
+        assertSoftly(softly -> {
+            softly.assertThat(EntityBindingPlan.of(entities.get(Worker.class), entities).readsSlots()).isFalse();
+            softly.assertThat(EntityBindingPlan.of(entities.get(Person.class), entities).readsSlots()).isTrue();
+        });
+    }
+}
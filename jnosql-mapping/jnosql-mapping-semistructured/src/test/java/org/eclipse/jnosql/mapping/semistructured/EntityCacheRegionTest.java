@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityCacheRegionTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EntityCacheRegion region;
+
+    @BeforeEach
+    void setUp() {
+        region = new EntityCacheRegion(2, TimeUnit.SECONDS.toNanos(10), ticker::get);
+    }
+
+    @Test
+    @DisplayName("should load the entity once and answer the next calls from the cache")
+    void shouldCacheLoadedEntity() {
+        var first = region.get("BR", loader("BR"));
+        var second = region.get("BR", loader("BR"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).contains(country("BR"));
+            soft.assertThat(second).contains(country("BR"));
+            soft.assertThat(loads).hasValue(1);
+            soft.assertThat(region.statistics()).isEqualTo(new EntityCacheStatistics(1, 1, 0, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("should not let the caller change the cached entity")
+    void shouldReturnCopies() {
+        region.get("BR", loader("BR")).orElseThrow().add("name", "changed");
+        var cached = region.get("BR", loader("BR")).orElseThrow();
+        cached.add("name", "changed");
+
+        assertThat(region.get("BR", loader("BR")).orElseThrow()).isEqualTo(country("BR"));
+    }
+
+    @Test
+    @DisplayName("should not cache a missing entity")
+    void shouldNotCacheAbsent() {
+        region.get("XX", Optional::empty);
+        region.get("XX", Optional::empty);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(region.statistics().misses()).isEqualTo(2);
+            soft.assertThat(region.statistics().size()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used entity beyond the maximum size")
+    void shouldEvictLeastRecentlyUsed() {
+        region.get("BR", loader("BR"));
+        region.get("PT", loader("PT"));
+        region.get("BR", loader("BR"));
+        region.get("AO", loader("AO"));
+        region.get("BR", loader("BR"));
+        region.get("PT", loader("PT"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loads).hasValue(4);
+            soft.assertThat(region.statistics().evictions()).isEqualTo(2);
+            soft.assertThat(region.statistics().size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("should reload the entity once it expires")
+    void shouldExpire() {
+        region.get("BR", loader("BR"));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        region.get("BR", loader("BR"));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        region.get("BR", loader("BR"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loads).hasValue(2);
+            soft.assertThat(region.statistics()).isEqualTo(new EntityCacheStatistics(1, 2, 1, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("should keep the entities without time to live until they are evicted")
+    void shouldKeepWithoutTimeToLive() {
+        var eternal = new EntityCacheRegion(10, 0, ticker::get);
+        eternal.get("BR", loader("BR"));
+        ticker.addAndGet(TimeUnit.DAYS.toNanos(365));
+        eternal.get("BR", loader("BR"));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should reload the entity after it is evicted")
+    void shouldEvict() {
+        region.get("BR", loader("BR"));
+        region.get("PT", loader("PT"));
+        region.evict("BR");
+        region.get("BR", loader("BR"));
+        region.get("PT", loader("PT"));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should reload all the entities after it is cleared")
+    void shouldClear() {
+        region.get("BR", loader("BR"));
+        region.get("PT", loader("PT"));
+        region.clear();
+
+        assertThat(region.statistics().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not cache an entity loaded while the region was written")
+    void shouldNotCacheStaleLoad() {
+        var loaded = region.get("BR", () -> {
+            region.evict("BR");
+            return Optional.of(country("BR"));
+        });
+        region.get("BR", loader("BR"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loaded).contains(country("BR"));
+            soft.assertThat(loads).hasValue(1);
+            soft.assertThat(region.statistics().misses()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("should not cache anything when the maximum size is zero")
+    void shouldNotCacheWithZeroSize() {
+        var disabled = new EntityCacheRegion(0, 0, ticker::get);
+        disabled.get("BR", loader("BR"));
+        disabled.get("BR", loader("BR"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should keep the converted entity of an immutable type")
+    void shouldKeepConvertedImmutable() {
+        var records = new EntityCacheRegion(2, 0, ticker::get, true);
+        AtomicInteger conversions = new AtomicInteger();
+        Function<CommunicationEntity, String> converter = e -> {
+            conversions.incrementAndGet();
+            return e.find("name", String.class).orElseThrow();
+        };
+
+        var first = records.get("BR", loader("BR"), converter).orElseThrow();
+        var second = records.get("BR", loader("BR"), converter).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(second).isSameAs(first);
+            soft.assertThat(conversions).hasValue(1);
+            soft.assertThat(loads).hasValue(1);
+        });
+    }
+
+    @Test
+    @DisplayName("should convert a copy on every hit of a mutable type")
+    void shouldConvertOnEveryHit() {
+        AtomicInteger conversions = new AtomicInteger();
+        Function<CommunicationEntity, CommunicationEntity> converter = e -> {
+            conversions.incrementAndGet();
+            return e;
+        };
+
+        var first = region.get("BR", loader("BR"), converter).orElseThrow();
+        var second = region.get("BR", loader("BR"), converter).orElseThrow();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(second).isNotSameAs(first).isEqualTo(first);
+            soft.assertThat(conversions).hasValue(2);
+            soft.assertThat(loads).hasValue(1);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject a negative maximum size")
+    void shouldRejectNegativeSize() {
+        assertThatThrownBy(() -> new EntityCacheRegion(-1, 0, ticker::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should return a hit ratio of one without calls")
+    void shouldReturnHitRatio() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(region.statistics().hitRatio()).isEqualTo(1.0);
+            soft.assertThat(new EntityCacheStatistics(3, 1, 0, 1).hitRatio()).isEqualTo(0.75);
+        });
+    }
+
+    private Supplier<Optional<CommunicationEntity>> loader(String code) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(country(code));
+        };
+    }
+
+    private static CommunicationEntity country(String code) {
+        var entity = CommunicationEntity.of("Country");
+        entity.add("_id", code);
+        entity.add("name", "Country " + code);
+        return entity;
+    }
+}
@@ -33,6 +33,8 @@ import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.EntityShape;
+import org.eclipse.jnosql.communication.semistructured.ShapedCommunicationEntity;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
@@ -1144,6 +1146,43 @@ class EntityConverterTest {
     }
 
 
+    @Test
+    @DisplayName("Should write into a shaped entity and read it back by slot")
+    void shouldConvertThroughShapedEntity() {
+        CommunicationEntity communication = converter.toCommunication(actor);
+        Actor entity = converter.toEntity(communication);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(communication).isInstanceOf(ShapedCommunicationEntity.class);
+            softly.assertThat(((ShapedCommunicationEntity) communication).isShapeOnly()).isTrue();
+            softly.assertThat(communication).isEqualTo(CommunicationEntity.of("Actor", communication.elements()));
+            softly.assertThat(entity.getId()).isEqualTo(actor.getId());
+            softly.assertThat(entity.getName()).isEqualTo(actor.getName());
+            softly.assertThat(entity.getAge()).isEqualTo(actor.getAge());
+            softly.assertThat(entity.getPhones()).isEqualTo(actor.getPhones());
+            softly.assertThat(entity.getMovieCharacter()).isEqualTo(actor.getMovieCharacter());
+            softly.assertThat(entity.getMovieRating()).isEqualTo(actor.getMovieRating());
+        });
+    }
+
+    @Test
+    @DisplayName("Should read a shaped entity with attributes out of the shape from its elements")
+    void shouldConvertShapedEntityWithExtraAttributes() {
+        var shape = EntityShape.of("Person", List.of("_id", "name"));
+        var communication = shape.newEntity();
+        communication.set(0, 12L);
+        communication.set(1, "Otavio");
+        communication.add("age", 10);
+        Person person = converter.toEntity(Person.class, communication);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(communication.isShapeOnly()).isFalse();
+            softly.assertThat(person.getId()).isEqualTo(12L);
+            softly.assertThat(person.getName()).isEqualTo("Otavio");
+            softly.assertThat(person.getAge()).isEqualTo(10);
+        });
+    }
+
     private Object getValue(Optional<Element> column) {
         return column.map(Element::value).map(Value::get).orElse(null);
     }
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.entities.Hero;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.semistructured.entities.ZipCode;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions(ReflectionEntityMetadataExtension.class)
+class TypedEntityConvertersTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private ZipCodeConverter zipCodeConverter;
+
+    private TypedEntityConverters typedConverters;
+
+    @BeforeEach
+    void setUp() {
+        this.zipCodeConverter = new ZipCodeConverter();
+        this.typedConverters = new TypedEntityConverters(Map.of(ZipCode.class, zipCodeConverter,
+                Person.class, new UnusedConverter<>(Person.class),
+                Hero.class, new UnusedConverter<>(Hero.class)));
+    }
+
+    @Test
+    void shouldReturnConverterWhenEntityIsPlain() {
+        Optional<TypedEntityConverter<ZipCode>> converter = typedConverters.get(entities.get(ZipCode.class));
+        assertThat(converter).containsSame(zipCodeConverter);
+    }
+
+    @Test
+    void shouldIgnoreConverterWhenEntityHasCollection() {
+        assertThat(typedConverters.get(entities.get(Person.class))).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreConverterWhenEntityUsesConstructor() {
+        assertThat(typedConverters.get(entities.get(Hero.class))).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoConverter() {
+        var empty = new TypedEntityConverters(Map.of());
+        assertThat(empty.get(entities.get(ZipCode.class))).isEmpty();
+    }
+
+    @Test
+    void shouldUseTypedConverterOnEntityConverter() {
+        var converter = new TypedEntityConverterTestConverter();
+        var zipCode = new ZipCode();
+        zipCode.setZip("12345");
+        zipCode.setPlusFour("6789");
+
+        CommunicationEntity communication = converter.toCommunication(zipCode);
+        ZipCode entity = converter.toEntity(ZipCode.class, communication);
+        ZipCode byName = converter.toEntity(communication);
+
+        assertSoftly(soft -> {
+            soft.assertThat(communication.find("zip", String.class)).contains("12345");
+            soft.assertThat(entity.getPlusFour()).isEqualTo("6789");
+            soft.assertThat(byName.getZip()).isEqualTo("12345");
+            soft.assertThat(zipCodeConverter.toCommunicationCalls).isEqualTo(1);
+            soft.assertThat(zipCodeConverter.toEntityCalls).isEqualTo(2);
+        });
+    }
+
+    private class TypedEntityConverterTestConverter extends EntityConverter {
+
+        @Override
+        protected EntitiesMetadata entities() {
+            return entities;
+        }
+
+        @Override
+        protected Converters converters() {
+            return converters;
+        }
+
+        @Override
+        protected ProjectorConverter projectorConverter() {
+            return new ProjectorConverter(entities);
+        }
+
+        @Override
+        protected <T> Optional<TypedEntityConverter<T>> typedConverter(EntityMetadata mapping) {
+            return typedConverters.get(mapping);
+        }
+    }
+
+    private static final class ZipCodeConverter implements TypedEntityConverter<ZipCode> {
+
+        private int toCommunicationCalls;
+
+        private int toEntityCalls;
+
+        @Override
+        public Class<ZipCode> type() {
+            return ZipCode.class;
+        }
+
+        @Override
+        public CommunicationEntity toCommunication(ZipCode entity, String idName) {
+            toCommunicationCalls++;
+            var communication = CommunicationEntity.of("ZipCode");
+            communication.add("zip", entity.getZip());
+            communication.add("plusFour", entity.getPlusFour());
+            return communication;
+        }
+
+        @Override
+        public ZipCode toEntity(List<Element> elements, String idName) {
+            toEntityCalls++;
+            var entity = new ZipCode();
+            for (Element element : elements) {
+                switch (element.name()) {
+                    case "zip" -> entity.setZip(element.get(String.class));
+                    case "plusFour" -> entity.setPlusFour(element.get(String.class));
+                    default -> {
+                    }
+                }
+            }
+            return entity;
+        }
+    }
+
+    private record UnusedConverter<T>(Class<T> type) implements TypedEntityConverter<T> {
+
+        @Override
+        public CommunicationEntity toCommunication(T entity, String idName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T toEntity(List<Element> elements, String idName) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
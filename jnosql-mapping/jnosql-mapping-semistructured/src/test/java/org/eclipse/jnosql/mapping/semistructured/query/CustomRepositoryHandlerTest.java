@@ -578,6 +578,28 @@ class CustomRepositoryHandlerTest {
         Mockito.verify(preparedStatement, Mockito.never()).count();
     }
 
+    @DisplayName("Should bind the arguments of each call to the resolved query")
+    @Test
+    void shouldBindArgumentsOfEachCall() {
+        var first = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
+        var second = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
+        Mockito.when(template.prepare(Mockito.anyString())).thenReturn(first, second);
+        Mockito.when(first.count()).thenReturn(1L);
+        Mockito.when(second.count()).thenReturn(2L);
+
+        var ada = deleteCountRepository.deleteByNameReturnLong("Ada");
+        var otavio = deleteCountRepository.deleteByNameReturnLong("Otavio");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ada).isEqualTo(1L);
+            soft.assertThat(otavio).isEqualTo(2L);
+        });
+        Mockito.verify(template, Mockito.times(2)).prepare("delete from Person where name = :name");
+        Mockito.verify(first).bind("name", "Ada");
+        Mockito.verify(second).bind("name", "Otavio");
+        Mockito.verify(first, Mockito.never()).bind("name", "Otavio");
+    }
+
     @DisplayName("Should return int number of deleted entities from delete query")
     @Test
     void shouldReturnIntNumberOfDeletedEntitiesFromDeleteQuery() {
@@ -611,11 +633,22 @@ class CustomRepositoryHandlerTest {
         Mockito.when(template.prepare(Mockito.anyString())).thenReturn(preparedStatement);
         Mockito.when(preparedStatement.isCount())
                 .thenReturn(false);
-        Mockito.when(preparedStatement.result())
-                .thenReturn(Stream.of(Person.builder().age(26).name("Ada").build()));
-        Assertions.assertThat(deleteCountRepository.updateReturnLong("Ada")).isEqualTo(1L);
-        Mockito.verify(preparedStatement).result();
-        Mockito.verify(preparedStatement, Mockito.never()).count();
+        Mockito.when(preparedStatement.count()).thenReturn(2L);
+        Assertions.assertThat(deleteCountRepository.updateReturnLong("Ada")).isEqualTo(2L);
+        Mockito.verify(preparedStatement).count();
+        Mockito.verify(preparedStatement, Mockito.never()).result();
+    }
+
+    @DisplayName("Should reject an unknown number of updated entities")
+    @Test
+    void shouldRejectUnknownNumberOfUpdatedEntities() {
+        var preparedStatement = Mockito.mock(org.eclipse.jnosql.mapping.semistructured.PreparedStatement.class);
+        Mockito.when(template.prepare(Mockito.anyString())).thenReturn(preparedStatement);
+        Mockito.when(preparedStatement.isCount())
+                .thenReturn(false);
+        Mockito.when(preparedStatement.count()).thenReturn(-1L);
+        Assertions.assertThatThrownBy(() -> deleteCountRepository.updateReturnLong("Ada"))
+                .isInstanceOf(UnsupportedOperationException.class);
     }
 
     @DisplayName("Should find all")
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured.repository;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.DeleteQueryParser;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQueryParser;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.eclipse.jnosql.mapping.semistructured.MockProducer;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.semistructured.query.RepositorySemiStructuredObserverParser;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class})
+class MethodQueryPlanTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private EntityMetadata metadata;
+
+    @BeforeEach
+    void setUp() {
+        this.metadata = entities.get(Person.class);
+    }
+
+    @Test
+    @DisplayName("Should bind each invocation to its own arguments")
+    void shouldBindEachInvocation() {
+        MethodQueryPlan<SelectQuery> plan = select("findByNameAndAge");
+
+        SelectQuery ada = plan.apply(new Object[]{"Ada", 10});
+        SelectQuery grace = plan.apply(new Object[]{"Grace", 20});
+
+        assertSoftly(softly -> {
+            softly.assertThat(ada.name()).isEqualTo("Person");
+            softly.assertThat(ada.condition().orElseThrow().condition()).isEqualTo(Condition.AND);
+            softly.assertThat(values(ada)).containsExactly("Ada", 10);
+            softly.assertThat(values(grace)).containsExactly("Grace", 20);
+        });
+    }
+
+    @Test
+    @DisplayName("Should convert the arguments with the field converters")
+    void shouldConvertArguments() {
+        MethodQueryPlan<SelectQuery> plan = select("findByAge");
+
+        SelectQuery query = plan.apply(new Object[]{"10"});
+
+        CriteriaCondition condition = query.condition().orElseThrow();
+        assertThat(condition.element().get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should return the parsed query when there are no parameters")
+    void shouldReturnQueryWithoutParameters() {
+        MethodQueryPlan<SelectQuery> plan = select("findByOrderByName");
+
+        assertThat(plan.apply(new Object[0])).isSameAs(plan.apply(new Object[]{"ignored"}));
+    }
+
+    @Test
+    @DisplayName("Should create delete queries")
+    void shouldCreateDeleteQuery() {
+        var queryParams = new DeleteQueryParser().apply(DeleteMethodProvider.INSTANCE.apply("deleteByName", "Person"),
+                new RepositorySemiStructuredObserverParser(metadata));
+        MethodQueryPlan<DeleteQuery> plan = MethodQueryPlan.delete(queryParams.query(), queryParams.params(),
+                "deleteByName", metadata, converters);
+
+        DeleteQuery query = plan.apply(new Object[]{"Ada"});
+
+        assertThat(query.condition().orElseThrow().element().get()).isEqualTo("Ada");
+    }
+
+    @Test
+    @DisplayName("Should fail when the method has fewer arguments than the query")
+    void shouldFailWhenThereAreMissingArguments() {
+        MethodQueryPlan<SelectQuery> plan = select("findByNameAndAge");
+
+        assertThatThrownBy(() -> plan.apply(new Object[]{"Ada"})).isInstanceOf(DynamicQueryException.class);
+    }
+
+    private MethodQueryPlan<SelectQuery> select(String method) {
+        var queryParams = new SelectQueryParser().apply(SelectMethodProvider.INSTANCE.apply(method, "Person"),
+                new RepositorySemiStructuredObserverParser(metadata));
+        return MethodQueryPlan.select(queryParams.query(), queryParams.params(), method, metadata, converters);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> values(SelectQuery query) {
+        var conditions = (List<CriteriaCondition>) query.condition().orElseThrow().element().get();
+        return conditions.stream().map(c -> c.element().get()).toList();
+    }
+}